@@ -0,0 +1,148 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+import com.transcendruins.world.AreaGrid;
+import com.transcendruins.world.AreaTile;
+import com.transcendruins.world.Player;
+import com.transcendruins.world.calls.AttackCall;
+import com.transcendruins.world.calls.InteractionCall;
+
+/**
+ * <code>AreaGridBenchmark</code>: A benchmark of the spatial queries of the
+ * area which the player of the shared world is in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaGridBenchmark {
+
+    /**
+     * <code>int</code>: The number of precomputed query positions.
+     */
+    private static final int POSITIONS = 1024;
+
+    /**
+     * <code>int</code>: The width and length of the region retrieved by the region
+     * query.
+     */
+    private static final int REGION_SIZE = 8;
+
+    /**
+     * <code>AreaGrid</code>: The area to query.
+     */
+    private AreaGrid area;
+
+    /**
+     * <code>Player</code>: The player whose interactions are queried.
+     */
+    private Player player;
+
+    /**
+     * <code>EntityInstance</code>: The entity whose targets are queried.
+     */
+    private EntityInstance entity;
+
+    /**
+     * <code>int[]</code>: The X coordinates of the query positions.
+     */
+    private int[] x;
+
+    /**
+     * <code>int[]</code>: The Z coordinates of the query positions.
+     */
+    private int[] z;
+
+    /**
+     * <code>int</code>: The index of the next query position.
+     */
+    private int next;
+
+    @Setup
+    public void setup() {
+
+        area = ScenarioFixture.getArea();
+        player = ScenarioFixture.getPlayer();
+        entity = player.getEntity();
+
+        // Positions are drawn up front so the queries do not measure the generator.
+        Random random = new Random(ScenarioFixture.SEED);
+        x = new int[POSITIONS];
+        z = new int[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+
+            x[i] = random.nextInt(Math.max(1, area.getWidth()));
+            z[i] = random.nextInt(Math.max(1, area.getLength()));
+        }
+    }
+
+    /**
+     * Advances to the next query position.
+     * 
+     * @return <code>int</code>: The index of the query position.
+     */
+    private int nextPosition() {
+
+        next = (next + 1) % POSITIONS;
+        return next;
+    }
+
+    @Benchmark
+    public AreaTile[] getRegion() {
+
+        int i = nextPosition();
+        return area.getArea(x[i] - REGION_SIZE / 2, z[i] - REGION_SIZE / 2, REGION_SIZE, REGION_SIZE);
+    }
+
+    @Benchmark
+    public boolean canAddAt() {
+
+        int i = nextPosition();
+        return area.canAddAt(entity, x[i], z[i]);
+    }
+
+    @Benchmark
+    public AttackCall getNearestTarget() {
+
+        return area.getNearestTarget(entity);
+    }
+
+    @Benchmark
+    public InteractionCall getNearestInteraction() {
+
+        return area.getNearestInteraction(player);
+    }
+}
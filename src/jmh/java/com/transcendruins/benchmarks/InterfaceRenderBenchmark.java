@@ -0,0 +1,95 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.world.Player;
+import com.transcendruins.world.World;
+
+/**
+ * <code>InterfaceRenderBenchmark</code>: A benchmark of rendering the
+ * interfaces displayed to the player of the shared world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterfaceRenderBenchmark {
+
+    /**
+     * <code>String</code>: The panels to display, either the location
+     * <code>overlay</code> or the <code>inventory</code> display.
+     */
+    @Param({ "overlay", "inventory" })
+    public String panels;
+
+    /**
+     * <code>String</code>: The size of the screen, formatted as
+     * <code>widthxheight</code>.
+     */
+    @Param({ "1280x720", "1920x1080" })
+    public String screen;
+
+    /**
+     * <code>Player</code>: The player whose interfaces are rendered.
+     */
+    private Player player;
+
+    @Setup
+    public void setup() {
+
+        World world = ScenarioFixture.getWorld();
+        player = ScenarioFixture.getPlayer();
+
+        if (panels.equals("inventory")) {
+
+            player.displayInventory(player.getEntity());
+        } else {
+
+            world.closeMenu(ScenarioFixture.PLAYER_ID);
+        }
+
+        String[] size = screen.split("x");
+        player.setScreenSize(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+
+        // Lay the panels out once, as the host would before the first frame.
+        player.update(world.getRuntimeSeconds());
+    }
+
+    @Benchmark
+    public BufferedImage renderUi() {
+
+        return player.renderUi();
+    }
+}
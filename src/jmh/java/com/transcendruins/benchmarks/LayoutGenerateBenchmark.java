@@ -0,0 +1,82 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.AssetType;
+import com.transcendruins.assets.assets.AssetPresets;
+import com.transcendruins.assets.catalogue.locations.GlobalLocationInstance;
+import com.transcendruins.assets.layouts.LayoutContext;
+import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.world.AreaGrid;
+
+/**
+ * <code>LayoutGenerateBenchmark</code>: A benchmark of instantiating and
+ * generating the bundled layouts, as a location does for each of its areas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayoutGenerateBenchmark {
+
+    /**
+     * <code>String</code>: The identifier of the layout to generate.
+     */
+    @Param({ "TranscendRuins:bunkerAlfaMain", "TranscendRuins:bunkerBravoMain", "Example:campfireCircle" })
+    public String layout;
+
+    /**
+     * <code>AssetPresets</code>: The presets of the layout to generate.
+     */
+    private AssetPresets presets;
+
+    /**
+     * <code>GlobalLocationInstance</code>: The location to generate the layout
+     * for.
+     */
+    private GlobalLocationInstance location;
+
+    @Setup
+    public void setup() {
+
+        location = ScenarioFixture.getLocation();
+        presets = new AssetPresets(Identifier.createTestIdentifier(layout, null), AssetType.LAYOUT);
+    }
+
+    @Benchmark
+    public AreaGrid generate() {
+
+        return new LayoutContext(presets, location).instantiate().generate();
+    }
+}
@@ -0,0 +1,95 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.modelassets.ModelAssetInstance;
+import com.transcendruins.assets.modelassets.primaryassets.PrimaryAssetInstance;
+import com.transcendruins.rendering.renderbuffer.RenderBuffer;
+import com.transcendruins.world.AreaGrid;
+
+/**
+ * <code>ModelPolygonsBenchmark</code>: A benchmark of skinning the models of
+ * the area which the player of the shared world is in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelPolygonsBenchmark {
+
+    /**
+     * <code>AreaGrid</code>: The area to skin.
+     */
+    private AreaGrid area;
+
+    /**
+     * <code>ModelAssetInstance</code>: The model of the player.
+     */
+    private ModelAssetInstance playerModel;
+
+    /**
+     * <code>List&lt;PrimaryAssetInstance&gt;</code>: Every asset in the area.
+     */
+    private List<PrimaryAssetInstance> assets;
+
+    @Setup
+    public void setup() {
+
+        area = ScenarioFixture.getArea();
+        playerModel = ScenarioFixture.getPlayer().getEntity();
+        assets = area.getAssets().toList();
+    }
+
+    @Benchmark
+    public RenderBuffer getPlayerPolygons() {
+
+        return playerModel.getPolygons();
+    }
+
+    @Benchmark
+    public void getAssetPolygons(Blackhole blackhole) {
+
+        for (PrimaryAssetInstance asset : assets) {
+
+            blackhole.consume(asset.getPolygons());
+        }
+    }
+
+    @Benchmark
+    public RenderBuffer getAreaPolygons() {
+
+        return area.getPolygons();
+    }
+}
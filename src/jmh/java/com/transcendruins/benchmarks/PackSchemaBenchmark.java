@@ -0,0 +1,72 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.packs.PackProcessor;
+import com.transcendruins.packs.content.PackSchema;
+import com.transcendruins.utilities.exceptions.LoggedException;
+import com.transcendruins.utilities.files.TracedPath;
+
+/**
+ * <code>PackSchemaBenchmark</code>: A benchmark of parsing the bundled content
+ * packs from their root directories.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackSchemaBenchmark {
+
+    /**
+     * <code>String</code>: The directory name of the pack to parse.
+     */
+    @Param({ "vanilla [1, 0, 0].contentpack", "example.contentpack" })
+    public String pack;
+
+    /**
+     * <code>TracedPath</code>: The root directory of the pack to parse.
+     */
+    private TracedPath root;
+
+    @Setup
+    public void setup() {
+
+        root = PackProcessor.INTERNAL_PACKS_DIRECTORY.extend("content", pack);
+    }
+
+    @Benchmark
+    public PackSchema load() throws LoggedException {
+
+        return new PackSchema(root);
+    }
+}
@@ -0,0 +1,165 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.resources.styles.ComponentProperties;
+import com.transcendruins.resources.styles.Style;
+import com.transcendruins.resources.styles.StyleSet;
+
+/**
+ * <code>StyleSetBenchmark</code>: A benchmark of matching the styles of the
+ * shared world against a tree of interface components.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StyleSetBenchmark {
+
+    /**
+     * <code>int</code>: The number of buttons in the component tree.
+     */
+    private static final int BUTTONS = 16;
+
+    /**
+     * <code>Component</code>: A class representing a component in a fixed
+     * component tree.
+     */
+    private static final class Component extends ComponentProperties {
+
+        /**
+         * <code>Component</code>: The parent of this <code>Component</code>
+         * instance, or <code>null</code> if it is the root.
+         */
+        private final Component parent;
+
+        /**
+         * <code>ArrayList&lt;ComponentProperties&gt;</code>: The children of this
+         * <code>Component</code> instance.
+         */
+        private final ArrayList<ComponentProperties> children = new ArrayList<>();
+
+        /**
+         * Creates a new instance of the <code>Component</code> class and attaches it
+         * to its parent.
+         * 
+         * @param parent  <code>Component</code>: The parent of the component, or
+         *                <code>null</code> if it is the root.
+         * @param type    <code>String</code>: The type of the component.
+         * @param classes <code>Set&lt;String&gt;</code>: The classes of the
+         *                component.
+         * @param states  <code>Set&lt;String&gt;</code>: The states of the
+         *                component.
+         */
+        private Component(Component parent, String type, Set<String> classes, Set<String> states) {
+
+            super(type, null, classes, states);
+            this.parent = parent;
+
+            if (parent != null) {
+
+                parent.children.add(this);
+            }
+        }
+
+        @Override
+        public ComponentProperties getParent() {
+
+            return parent;
+        }
+
+        @Override
+        public List<ComponentProperties> getChildren() {
+
+            return children;
+        }
+    }
+
+    /**
+     * <code>StyleSet</code>: The styles to match.
+     */
+    private StyleSet styles;
+
+    /**
+     * <code>Component</code>: The deepest component of the tree.
+     */
+    private Component leaf;
+
+    /**
+     * <code>ArrayList&lt;Component&gt;</code>: Every component of the tree.
+     */
+    private ArrayList<Component> components;
+
+    @Setup
+    public void setup() {
+
+        styles = ScenarioFixture.getWorld().getStyle();
+
+        // The tree mirrors the example menu, so the bundled selectors have matches.
+        components = new ArrayList<>();
+        Component root = new Component(null, "container", Set.of(), Set.of());
+        components.add(root);
+        components.add(new Component(root, "image", Set.of("trIcon"), Set.of()));
+
+        for (int i = 0; i < BUTTONS; i++) {
+
+            Component button = new Component(root, "button", Set.of("exampleButton"),
+                    i == 0 ? Set.of("hover") : Set.of());
+            leaf = new Component(button, "text", Set.of(), Set.of());
+
+            components.add(button);
+            components.add(leaf);
+        }
+
+        components.add(new Component(root, "text", Set.of("trademark"), Set.of()));
+    }
+
+    @Benchmark
+    public List<Style> matchLeaf() {
+
+        return styles.getStyle(leaf);
+    }
+
+    @Benchmark
+    public void matchTree(Blackhole blackhole) {
+
+        for (Component component : components) {
+
+            blackhole.consume(styles.getStyle(component));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.scripts.TRScript;
+import com.transcendruins.utilities.exceptions.LoggedException;
+import com.transcendruins.utilities.files.DataConstants;
+import com.transcendruins.utilities.json.JSONOperator;
+import com.transcendruins.utilities.json.TracedDictionary;
+import com.transcendruins.world.World;
+
+/**
+ * <code>TRScriptBenchmark</code>: A benchmark of the evaluation of parsed
+ * scripts against the shared world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TRScriptBenchmark {
+
+    /**
+     * <code>World</code>: The property holder which the scripts are evaluated
+     * against.
+     */
+    private World world;
+
+    /**
+     * <code>TRScript</code>: A nested arithmetic script.
+     */
+    private TRScript arithmetic;
+
+    /**
+     * <code>TRScript</code>: A conditional script which reads a property.
+     */
+    private TRScript conditional;
+
+    /**
+     * <code>TRScript</code>: A string concatenation script.
+     */
+    private TRScript concat;
+
+    @Setup
+    public void setup() throws ParseException, LoggedException {
+
+        world = ScenarioFixture.getWorld();
+        world.setPublicProperty("benchmark", 3.0);
+
+        arithmetic = parse("""
+                { "operator": "+", "args": [
+                    { "operator": "*", "args": [2, { "operator": "-", "args": [7, 3] }] },
+                    { "operator": "sqrt", "args": 16 },
+                    { "operator": "max", "args": [1, 4, 9] }
+                ] }
+                """);
+
+        conditional = parse("""
+                { "operator": "?", "args": [
+                    { "operator": "&&", "args": [
+                        { "operator": "<", "args": [{ "operator": "getProperty", "args": "benchmark" }, 5] },
+                        { "operator": "!=", "args": [{ "operator": "getProperty", "args": "benchmark" }, 0] }
+                    ] },
+                    "low",
+                    "high"
+                ] }
+                """);
+
+        concat = parse("""
+                { "operator": "concat", "args": ["tile", ".", { "operator": "floor", "args": 2.5 }] }
+                """);
+    }
+
+    /**
+     * Parses a script from a JSON string.
+     * 
+     * @param json <code>String</code>: The JSON of the script.
+     * @return <code>TRScript</code>: The parsed script.
+     * @throws ParseException  Thrown if the JSON is in an invalid format.
+     * @throws LoggedException Thrown if the JSON is not a valid script.
+     */
+    private static TRScript parse(String json) throws ParseException, LoggedException {
+
+        TracedDictionary dictionary = new TracedDictionary(Map.of("script", JSONOperator.parseJSON(json)),
+                DataConstants.INTERNAL_DATA_DIRECTORY);
+
+        return new TRScript(dictionary, "script");
+    }
+
+    @Benchmark
+    public double evaluateArithmetic() {
+
+        return arithmetic.evaluateDouble(world);
+    }
+
+    @Benchmark
+    public String evaluateConditional() {
+
+        return conditional.evaluateString(world);
+    }
+
+    @Benchmark
+    public String evaluateConcat() {
+
+        return concat.evaluateString(world);
+    }
+}
@@ -0,0 +1,91 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.utilities.random.DeterministicRandom;
+import com.transcendruins.utilities.selection.WeightedRoll;
+
+/**
+ * <code>WeightedRollBenchmark</code>: A benchmark of sampling from weighted
+ * rolls of varying sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedRollBenchmark {
+
+    /**
+     * <code>int</code>: The number of entries in the roll.
+     */
+    @Param({ "1", "8", "64", "1024" })
+    public int entries;
+
+    /**
+     * <code>WeightedRoll&lt;Integer&gt;</code>: The roll to sample from.
+     */
+    private WeightedRoll<Integer> roll;
+
+    /**
+     * <code>DeterministicRandom</code>: The random generator which drives the
+     * samples.
+     */
+    private DeterministicRandom random;
+
+    @Setup
+    public void setup() {
+
+        random = new DeterministicRandom(ScenarioFixture.SEED);
+
+        // The weights of a roll are cumulative, and are uneven to resemble loot tables.
+        ArrayList<Integer> values = new ArrayList<>(entries);
+        ArrayList<Double> weights = new ArrayList<>(entries);
+        double sum = 0;
+        for (int i = 0; i < entries; i++) {
+
+            values.add(i);
+            sum += 1 + (i % 7);
+            weights.add(sum);
+        }
+
+        roll = new WeightedRoll<>(values, weights);
+    }
+
+    @Benchmark
+    public Integer sample() {
+
+        return roll.get(random.next());
+    }
+}
@@ -20,6 +20,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.event.ComponentEvent;
@@ -30,14 +31,14 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.File;
-import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.stream.Collectors;
 
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -45,9 +46,15 @@ import javax.swing.JPanel;
 import com.transcendruins.packs.PackProcessor;
 import com.transcendruins.packs.content.ContentPack;
 import com.transcendruins.packs.resources.ResourcePack;
+import com.transcendruins.rendering.FrameCapture;
+import com.transcendruins.rendering.FramePacer;
+import com.transcendruins.rendering.FrameStats;
+import com.transcendruins.rendering.MetricsOverlay;
 import com.transcendruins.rendering.RenderInstance;
 import com.transcendruins.utilities.files.DataConstants;
 import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+import com.transcendruins.utilities.time.WorldClock;
 import com.transcendruins.world.World;
 
 /**
@@ -57,6 +64,41 @@ public final class App {
 
     public static final Object TIMER = new Object();
 
+    /**
+     * <code>int</code>: The maximum number of frames per second presented by the
+     * UI frame, or <code>0</code> to leave the frame rate uncapped.
+     */
+    private static final int FPS_CAP = Integer.getInteger("transcendruins.fps", 60);
+
+    /**
+     * <code>int</code>: The number of frame times used to calculate frame
+     * statistics.
+     */
+    private static final int STATS_FRAMES = 600;
+
+    /**
+     * <code>long</code>: The number of nanoseconds between frame statistic
+     * reports.
+     */
+    private static final long STATS_INTERVAL = 5_000_000_000L;
+
+    /**
+     * <code>int</code>: The number of recorded frames which may wait to be
+     * encoded before further frames are dropped.
+     */
+    private static final int CAPTURE_QUEUE_SIZE = 120;
+
+    /**
+     * <code>int</code>: The number of threads used to encode recorded frames.
+     */
+    private static final int CAPTURE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    /**
+     * <code>String</code>: The file to record the inputs of the session to, or
+     * <code>null</code> if inputs are not recorded.
+     */
+    private static final String JOURNAL = System.getProperty("transcendruins.journal");
+
     /**
      * Says hello to the world.
      * 
@@ -90,10 +132,18 @@ public final class App {
         long seed = (long) (Math.random() * 1000000000l);
         System.out.println("SEED: " + seed); // 645221640
 
-        World.createWorld(packs, resources, seed);
+        // A recorded session reads the clock once per tick, so that it can be replayed.
+        World.createWorld(packs, resources, seed,
+                JOURNAL != null ? new WorldClock.TickClock(WorldClock.SYSTEM) : WorldClock.SYSTEM);
         World world = World.getWorld();
         world.setLanguage(World.LanguageType.ENGLISH);
 
+        if (JOURNAL != null) {
+
+            world.startJournal(Path.of(JOURNAL), packs);
+            Runtime.getRuntime().addShutdownHook(new Thread(world::endJournal));
+        }
+
         // System.out.println(cache);
 
         // long size = 0;
@@ -151,7 +201,7 @@ public final class App {
         // }
 
         long playerId = 0;
-        boolean added = world.addPlayer(playerId);
+        boolean added = world.addPlayer(playerId).join();
         if (!added) {
 
             System.out.println("HOST COULD NOT START: PLAYER WAS NOT ADDED");
@@ -261,62 +311,44 @@ public final class App {
 
         int[] frame = { 1 };
         int[] mousePos = { -1000, -1000 };
-        boolean[] write = { false, false };
+        boolean[] write = { false, false, false };
 
-        JPanel panel = new JPanel() {
+        FramePacer pacer = new FramePacer(FPS_CAP);
+        FrameStats stats = new FrameStats(STATS_FRAMES);
 
-            @Override
-            public void paint(Graphics graphics) {
-
-                // World.StopWatch watch = new World.StopWatch();
-                // watch.start();
-
-                BufferedImage image = world.renderUi(playerId);
-                Graphics2D g2d = image.createGraphics();
-                if (!hideMouse[0]) {
+        boolean[] showMetrics = { false };
+        MetricsOverlay metricsOverlay = new MetricsOverlay(MetricsRegistry.getRegistry());
 
-                    g2d.drawImage(cursor.getImage(), mousePos[0] - 3, mousePos[1] - 3, cursorWidth, cursorHeight, null);
-                }
-                g2d.dispose();
-                // watch.stop("Render time: ");
+        // Recording drops frames rather than slowing the game, but screenshots are
+        // always kept.
+        FrameCapture recording = new FrameCapture(CAPTURE_QUEUE_SIZE, CAPTURE_THREADS,
+                FrameCapture.OverflowPolicy.DROP);
+        FrameCapture screenshots = new FrameCapture(4, 1, FrameCapture.OverflowPolicy.BLOCK);
 
-                float hue = (float) ((System.currentTimeMillis() * 0.00005) % 1.0f);
-                Color rainbow = Color.getHSBColor(hue, 0.6f, 0.6f);
-                graphics.setColor(rainbow);
-                // graphics.setColor(new Color(128, 32, 32));
-                graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        // Closing the window exits the process, which would stop the daemon encoders
+        // mid-queue, so the captures are drained before the process ends.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 
-                graphics.drawImage(image, 0, 0, null);
-                if (write[0]) {
+            recording.close();
+            screenshots.close();
+        }, "FrameCapture shutdown"));
 
-                    new File("frames").mkdirs();
+        VolatileImage[] backBuffer = { null };
 
-                    try {
-                        ImageIO.write(image, "png",
-                                new File("frames/frame_" + String.format("%04d", frame[0]) + ".png"));
-                        frame[0]++;
-                    } catch (IOException e) {
-
-                        System.out.println(e);
-                    }
-                }
-
-                if (write[1]) {
-
-                    write[1] = false;
+        JPanel panel = new JPanel() {
 
-                    new File("screenshots").mkdirs();
+            @Override
+            public void paint(Graphics graphics) {
 
-                    try {
-                        ImageIO.write(image, "png",
-                                new File("screenshots/screenshot_" + Math.abs(new Random().nextLong()) + ".png"));
-                    } catch (IOException e) {
+                // Repaints requested by the system show the most recently presented frame.
+                VolatileImage buffer = backBuffer[0];
+                if (buffer != null && !buffer.contentsLost()) {
 
-                        System.out.println(e);
-                    }
+                    graphics.drawImage(buffer, 0, 0, null);
                 }
             }
         };
+        panel.setIgnoreRepaint(true);
         uiFrame.add(panel);
 
         world.setScreenSize(playerId, panel.getWidth(), panel.getHeight());
@@ -352,13 +384,13 @@ public final class App {
             @Override
             public void mousePressed(MouseEvent e) {
 
-                world.playerConsumer(playerId, player -> player.setMousePress(true));
+                world.setMousePress(playerId, true);
             }
 
             @Override
             public void mouseReleased(MouseEvent e) {
 
-                world.playerConsumer(playerId, player -> player.setMousePress(false));
+                world.setMousePress(playerId, false);
             }
 
             @Override
@@ -400,7 +432,7 @@ public final class App {
         panel.addMouseWheelListener(e -> {
 
             int scroll = e.getUnitsToScroll();
-            world.playerConsumer(playerId, player -> player.mouseScroll(0, scroll * 3));
+            world.mouseScroll(playerId, 0, scroll * 3);
         });
 
         uiFrame.addKeyListener(new KeyListener() {
@@ -426,6 +458,17 @@ public final class App {
 
                     write[1] = true;
                 }
+
+                if (e.getKeyChar() == 'f') {
+
+                    write[2] = !write[2];
+                    stats.reset();
+                }
+
+                if (e.getKeyChar() == 'm') {
+
+                    showMetrics[0] = !showMetrics[0];
+                }
             }
 
             @Override
@@ -439,12 +482,120 @@ public final class App {
         uiFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         uiFrame.setVisible(true);
 
+        Random random = new Random();
+        long lastFrame = System.nanoTime();
+        long lastReport = lastFrame;
+
         while (true) {
 
-            panel.repaint();
+            long frameStart = System.nanoTime();
+            stats.record(frameStart - lastFrame);
+            lastFrame = frameStart;
+
+            BufferedImage image = world.renderUi(playerId);
+            if (image == null) {
+
+                pacer.await();
+                continue;
+            }
+
+            if (!hideMouse[0]) {
+
+                Graphics2D g2d = image.createGraphics();
+                g2d.drawImage(cursor.getImage(), mousePos[0] - 3, mousePos[1] - 3, cursorWidth, cursorHeight, null);
+                g2d.dispose();
+            }
+
+            if (showMetrics[0]) {
+
+                Graphics2D g2d = image.createGraphics();
+                metricsOverlay.draw(g2d);
+                g2d.dispose();
+            }
+
+            // A new image is rendered each frame, so it can be handed off without copying.
+            if (write[0]) {
+
+                recording.submit(image, new File("frames/frame_" + String.format("%04d", frame[0]) + ".png"));
+                frame[0]++;
+            }
+
+            if (write[1]) {
+
+                write[1] = false;
+                screenshots.submit(image,
+                        new File("screenshots/screenshot_" + Math.abs(random.nextLong()) + ".png"));
+            }
+
+            present(panel, backBuffer, image);
+
+            if (write[2] && frameStart - lastReport >= STATS_INTERVAL) {
+
+                System.out.println(stats + " | captured " + recording.getWritten() + ", dropped "
+                        + recording.getDropped());
+                lastReport = frameStart;
+            }
+
+            pacer.await();
         }
     }
 
+    /**
+     * Draws a frame into the back buffer and presents it to a panel. If the back
+     * buffer is lost while presenting, the frame is drawn again.
+     *
+     * @param panel      <code>JPanel</code>: The panel to present to.
+     * @param backBuffer <code>VolatileImage[]</code>: The back buffer of the
+     *                   panel, which is recreated if it is missing or no longer
+     *                   compatible with the panel.
+     * @param image      <code>BufferedImage</code>: The frame to present.
+     */
+    private static void present(JPanel panel, VolatileImage[] backBuffer, BufferedImage image) {
+
+        GraphicsConfiguration config = panel.getGraphicsConfiguration();
+        int width = panel.getWidth();
+        int height = panel.getHeight();
+
+        if (config == null || width <= 0 || height <= 0) {
+
+            return;
+        }
+
+        do {
+
+            VolatileImage buffer = backBuffer[0];
+            if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height
+                    || buffer.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+
+                if (buffer != null) {
+
+                    buffer.flush();
+                }
+
+                buffer = config.createCompatibleVolatileImage(width, height);
+                backBuffer[0] = buffer;
+            }
+
+            Graphics2D g2d = buffer.createGraphics();
+
+            float hue = (float) ((System.currentTimeMillis() * 0.00005) % 1.0f);
+            g2d.setColor(Color.getHSBColor(hue, 0.6f, 0.6f));
+            g2d.fillRect(0, 0, width, height);
+
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+
+            Graphics graphics = panel.getGraphics();
+            if (graphics != null) {
+
+                graphics.drawImage(buffer, 0, 0, null);
+                graphics.dispose();
+            }
+        } while (backBuffer[0].contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
     /**
      * Converts a snake-case string (ex_string) into camel-case (exString).
      * 
@@ -0,0 +1,417 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.management.ThreadMXBean;
+import com.transcendruins.packs.PackProcessor;
+import com.transcendruins.packs.content.ContentPack;
+import com.transcendruins.packs.resources.ResourcePack;
+import com.transcendruins.utilities.files.DataConstants;
+import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+import com.transcendruins.utilities.time.WorldClock;
+import com.transcendruins.world.Player;
+import com.transcendruins.world.World;
+
+/**
+ * <code>HeadlessServer</code>: An entry point which hosts a world without a
+ * display and drives it with synthetic players, reporting the tick times and
+ * memory behaviour of the host. It is configured through the
+ * <code>transcendruins.headless.*</code> system properties.
+ */
+public final class HeadlessServer {
+
+    /**
+     * <code>int</code>: The number of synthetic players to attach.
+     */
+    private static final int PLAYERS = Integer.getInteger("transcendruins.headless.players", 16);
+
+    /**
+     * <code>long</code>: The number of seconds to run for, or <code>0</code> to
+     * run until the process is stopped.
+     */
+    private static final long DURATION = Long.getLong("transcendruins.headless.seconds", 60);
+
+    /**
+     * <code>long</code>: The number of milliseconds between the actions of each
+     * synthetic player.
+     */
+    private static final long ACTION_INTERVAL = Long.getLong("transcendruins.headless.actionInterval", 500);
+
+    /**
+     * <code>long</code>: The number of milliseconds between reports.
+     */
+    private static final long REPORT_INTERVAL = Long.getLong("transcendruins.headless.reportInterval", 5000);
+
+    /**
+     * <code>String</code>: The file to record the inputs of the session to, or
+     * <code>null</code> if inputs are not recorded. A recorded session can be
+     * re-run with the <code>ReplayServer</code>.
+     */
+    private static final String JOURNAL = System.getProperty("transcendruins.journal");
+
+    /**
+     * <code>Behaviour</code>: An enum class representing the scripted actions of
+     * a synthetic player, alongside how often each is chosen.
+     */
+    private static enum Behaviour {
+
+        /**
+         * <code>Behaviour</code>: Travels to a random location and enters it.
+         */
+        TRAVEL(2),
+
+        /**
+         * <code>Behaviour</code>: Exits the current location to the global map.
+         */
+        LEAVE(1),
+
+        /**
+         * <code>Behaviour</code>: Interacts with the nearest interaction.
+         */
+        INTERACT(4),
+
+        /**
+         * <code>Behaviour</code>: Opens the inventory of the player.
+         */
+        INVENTORY(2),
+
+        /**
+         * <code>Behaviour</code>: Attacks the current target of the player.
+         */
+        ATTACK(4),
+
+        /**
+         * <code>Behaviour</code>: Does nothing.
+         */
+        IDLE(3);
+
+        /**
+         * <code>int</code>: The relative weight of this <code>Behaviour</code>
+         * instance.
+         */
+        private final int weight;
+
+        /**
+         * <code>int</code>: The sum of the weights of every behaviour.
+         */
+        private static final int TOTAL_WEIGHT = List.of(values()).stream().mapToInt(behaviour -> behaviour.weight)
+                .sum();
+
+        /**
+         * Creates a new instance of the <code>Behaviour</code> class.
+         * 
+         * @param weight <code>int</code>: The relative weight of the behaviour.
+         */
+        private Behaviour(int weight) {
+
+            this.weight = weight;
+        }
+
+        /**
+         * Chooses a random behaviour according to the weight of each behaviour.
+         * 
+         * @param random <code>Random</code>: The random generator to choose with.
+         * @return <code>Behaviour</code>: The chosen behaviour.
+         */
+        private static Behaviour choose(Random random) {
+
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Behaviour behaviour : values()) {
+
+                roll -= behaviour.weight;
+                if (roll < 0) {
+
+                    return behaviour;
+                }
+            }
+
+            return IDLE;
+        }
+    }
+
+    /**
+     * <code>SyntheticPlayer</code>: A class representing a player whose input is
+     * generated from a seeded script rather than a display.
+     */
+    private static final class SyntheticPlayer {
+
+        /**
+         * <code>long</code>: The ID of the player.
+         */
+        private final long playerId;
+
+        /**
+         * <code>Random</code>: The random generator which drives the script of the
+         * player.
+         */
+        private final Random random;
+
+        /**
+         * <code>boolean</code>: Whether or not the player has an open inventory
+         * which should be closed on its next action.
+         */
+        private boolean inventoryOpen = false;
+
+        /**
+         * <code>boolean</code>: Whether or not the player is attacking and should
+         * stop on its next action.
+         */
+        private boolean attacking = false;
+
+        /**
+         * Creates a new instance of the <code>SyntheticPlayer</code> class.
+         * 
+         * @param playerId <code>long</code>: The ID of the player.
+         * @param seed     <code>long</code>: The seed of the script of the player.
+         */
+        private SyntheticPlayer(long playerId, long seed) {
+
+            this.playerId = playerId;
+            random = new Random(seed);
+        }
+
+        /**
+         * Performs the next action of this <code>SyntheticPlayer</code> instance.
+         * 
+         * @param world     <code>World</code>: The world to act in.
+         * @param locations <code>List&lt;String&gt;</code>: The locations which may
+         *                  be travelled to.
+         * @return <code>Behaviour</code>: The performed behaviour.
+         */
+        private Behaviour act(World world, List<String> locations) {
+
+            // Held actions are released before a new one is chosen, as a player would.
+            if (inventoryOpen) {
+
+                world.closeMenu(playerId);
+                inventoryOpen = false;
+            }
+
+            if (attacking) {
+
+                world.attack(playerId, false);
+                attacking = false;
+            }
+
+            Behaviour behaviour = Behaviour.choose(random);
+            switch (behaviour) {
+
+            case TRAVEL -> {
+
+                if (!locations.isEmpty()) {
+
+                    world.travel(playerId, locations.get(random.nextInt(locations.size())));
+                    world.enterLocation(playerId);
+                }
+            }
+
+            case LEAVE -> world.exitLocation(playerId);
+
+            case INTERACT -> world.interact(playerId);
+
+            case INVENTORY -> {
+
+                if (Boolean.FALSE.equals(world.playerFunction(playerId, Player::onGlobalMap))) {
+
+                    world.openInventory(playerId);
+                    inventoryOpen = true;
+                }
+            }
+
+            case ATTACK -> {
+
+                if (Boolean.FALSE.equals(world.playerFunction(playerId, Player::onGlobalMap))) {
+
+                    world.attack(playerId, true);
+                    attacking = true;
+                }
+            }
+
+            case IDLE -> {
+            }
+            }
+
+            return behaviour;
+        }
+    }
+
+    /**
+     * Hosts a world without a display and drives it with synthetic players.
+     * 
+     * @param args <code>String[]</code> The arguments of the program.
+     */
+    public static void main(String[] args) throws Exception {
+
+        // No display is available on a server, so nothing may touch the screen.
+        System.setProperty("java.awt.headless", "true");
+
+        PackProcessor.getProcessor();
+
+        ArrayList<ContentPack> packs = new ArrayList<>();
+        packs.add(ContentPack.getPack(DataConstants.VANILLA_IDENTIFIER));
+
+        Identifier examplePackId = Identifier.createTestIdentifier("Example:examplePack", new int[] { 1, 0, 0 });
+        packs.add(ContentPack.getPack(examplePackId));
+
+        ArrayList<ResourcePack> resources = new ArrayList<>();
+
+        long seed = Long.getLong("transcendruins.headless.seed", (long) (Math.random() * 1000000000l));
+        System.out.println("SEED: " + seed + " | PLAYERS: " + PLAYERS);
+
+        // A recorded session reads the clock once per tick, so that it can be replayed.
+        World.createWorld(packs, resources, seed,
+                JOURNAL != null ? new WorldClock.TickClock(WorldClock.SYSTEM) : WorldClock.SYSTEM);
+        World world = World.getWorld();
+        world.setLanguage(World.LanguageType.ENGLISH);
+
+        if (JOURNAL != null) {
+
+            world.startJournal(Path.of(JOURNAL), packs);
+        }
+
+        List<String> locations = List.copyOf(world.getLocationRenders().keySet());
+
+        Random seeds = new Random(seed);
+        ArrayList<SyntheticPlayer> players = new ArrayList<>();
+        for (long playerId = 0; playerId < PLAYERS; playerId++) {
+
+            if (!world.addPlayer(playerId).join()) {
+
+                System.out.println("HOST COULD NOT START: PLAYER " + playerId + " WAS NOT ADDED");
+                return;
+            }
+
+            players.add(new SyntheticPlayer(playerId, seeds.nextLong()));
+        }
+
+        world.startHost();
+
+        AtomicLong actions = new AtomicLong();
+        ScheduledExecutorService scripts = Executors.newScheduledThreadPool(
+                Math.max(1, Math.min(PLAYERS, Runtime.getRuntime().availableProcessors() / 2)), runnable -> {
+
+                    Thread thread = new Thread(runnable, "SyntheticPlayer");
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+
+        for (SyntheticPlayer player : players) {
+
+            // Players are offset from one another so their actions do not all land on the
+            // same tick.
+            scripts.scheduleAtFixedRate(() -> {
+
+                try {
+
+                    // Actions are queued by the world and applied at the start of the next
+                    // tick, so scripts never wait on a tick in progress.
+                    player.act(world, locations);
+                    actions.incrementAndGet();
+                } catch (RuntimeException e) {
+
+                    System.out.println(e);
+                }
+            }, seeds.nextLong(ACTION_INTERVAL), ACTION_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+
+        report(world, actions, DURATION > 0 ? System.nanoTime() + DURATION * 1_000_000_000L : Long.MAX_VALUE);
+
+        scripts.shutdownNow();
+        scripts.awaitTermination(1, TimeUnit.MINUTES);
+
+        synchronized (world) {
+
+            world.endHost();
+            world.endJournal();
+        }
+
+        System.out.println("END");
+    }
+
+    /**
+     * Reports the tick times, allocation rate, heap usage and latency histograms
+     * of a world until a deadline has passed.
+     * 
+     * @param world    <code>World</code>: The world to report on.
+     * @param actions  <code>AtomicLong</code>: The number of actions performed by
+     *                 the synthetic players.
+     * @param deadline <code>long</code>: The time, in nanoseconds, at which to
+     *                 stop reporting.
+     */
+    private static void report(World world, AtomicLong actions, long deadline) throws InterruptedException {
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        MetricsRegistry metrics = MetricsRegistry.getRegistry();
+
+        long lastTime = System.nanoTime();
+        long lastAllocated = threads.getTotalThreadAllocatedBytes();
+        long lastActions = 0;
+
+        while (System.nanoTime() < deadline) {
+
+            Thread.sleep(REPORT_INTERVAL);
+
+            long time = System.nanoTime();
+            long allocated = threads.getTotalThreadAllocatedBytes();
+            long performed = actions.get();
+            double seconds = (time - lastTime) / 1e9;
+
+            long collections = 0;
+            long collectionMillis = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+
+                collections += Math.max(0, collector.getCollectionCount());
+                collectionMillis += Math.max(0, collector.getCollectionTime());
+            }
+
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+            System.out.println(String.format(
+                    "tick: %s | alloc %.1f MB/s | heap %d / %d MB | gc %d (%d ms) | actions %.1f/s", world.getTickStats(),
+                    (allocated - lastAllocated) / seconds / (1 << 20), heap.getUsed() >> 20, heap.getMax() >> 20,
+                    collections, collectionMillis, (performed - lastActions) / seconds));
+
+            world.getTickStats().reset();
+
+            for (Map.Entry<String, LatencyHistogram> phase : metrics.getHistograms().entrySet()) {
+
+                System.out.println("  " + phase.getKey() + ": " + phase.getValue().snapshot());
+            }
+
+            lastTime = time;
+            lastAllocated = allocated;
+            lastActions = performed;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.transcendruins.packs.PackProcessor;
+import com.transcendruins.packs.content.ContentPack;
+import com.transcendruins.packs.resources.ResourcePack;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+import com.transcendruins.utilities.time.WorldClock;
+import com.transcendruins.world.World;
+import com.transcendruins.world.journal.InputJournal;
+import com.transcendruins.world.journal.InputJournal.PackHash;
+import com.transcendruins.world.journal.JournalEntry;
+import com.transcendruins.world.journal.JournalReader;
+
+/**
+ * <code>ReplayServer</code>: An entry point which re-runs a recorded input
+ * journal without a display. The world is driven by a virtual clock and its
+ * ticks are run back to back, so a session reproduces exactly and can be
+ * profiled or benchmarked repeatedly. It is configured through the
+ * <code>transcendruins.replay.*</code> system properties.
+ */
+public final class ReplayServer {
+
+    /**
+     * <code>int</code>: The number of times to replay the journal.
+     */
+    private static final int ITERATIONS = Integer.getInteger("transcendruins.replay.iterations", 1);
+
+    /**
+     * Replays an input journal.
+     * 
+     * @param args <code>String[]</code> The arguments of the program. The first
+     *             argument, or the <code>transcendruins.replay.journal</code>
+     *             property, is the journal to replay.
+     */
+    public static void main(String[] args) throws Exception {
+
+        String journal = args.length > 0 ? args[0] : System.getProperty("transcendruins.replay.journal");
+        if (journal == null) {
+
+            System.out.println("REPLAY COULD NOT START: NO JOURNAL WAS GIVEN");
+            return;
+        }
+
+        // No display is available on a server, so nothing may touch the screen.
+        System.setProperty("java.awt.headless", "true");
+
+        PackProcessor.getProcessor();
+
+        for (int iteration = 1; iteration <= ITERATIONS; iteration++) {
+
+            System.out.println("REPLAY " + iteration + " / " + ITERATIONS);
+            if (!replay(Path.of(journal))) {
+
+                return;
+            }
+        }
+
+        System.out.println("END");
+    }
+
+    /**
+     * Replays an input journal once and reports how long it took.
+     * 
+     * @param file <code>Path</code>: The journal to replay.
+     * @return <code>boolean</code>: Whether or not the journal could be replayed.
+     */
+    private static boolean replay(Path file) throws Exception {
+
+        try (JournalReader reader = new JournalReader(file)) {
+
+            List<ContentPack> packs = resolvePacks(reader.getPacks());
+            if (packs == null) {
+
+                return false;
+            }
+
+            WorldClock.ManualClock clock = new WorldClock.ManualClock(reader.getOriginEpochMillis());
+            clock.advance(reader.getStartMillis());
+
+            World.createWorld(packs, new ArrayList<ResourcePack>(), reader.getSeed(), clock);
+            World world = World.getWorld();
+            world.setLanguage(World.LanguageType.ENGLISH);
+
+            long start = System.nanoTime();
+            boolean started = false;
+
+            // The number of ticks run before the state first differed from the journal,
+            // or -1 if it has not.
+            long diverged = -1;
+
+            JournalEntry entry = reader.next();
+            while (entry != null) {
+
+                switch (entry) {
+
+                case JournalEntry.Input input -> {
+
+                    input.apply(world);
+                    entry = reader.next();
+                }
+
+                case JournalEntry.Tick tick -> {
+
+                    if (!started) {
+
+                        world.startHost(false);
+                        started = true;
+                    }
+
+                    // The inputs recorded alongside a tick were applied at its start, so they
+                    // are queued before it runs, as are the areas which it applied.
+                    ArrayList<String> applied = new ArrayList<>();
+
+                    entry = reader.next();
+                    while (entry instanceof JournalEntry.AreasApplied || entry instanceof JournalEntry.Input) {
+
+                        if (entry instanceof JournalEntry.AreasApplied areas) {
+
+                            applied.add(areas.location());
+                        } else {
+
+                            ((JournalEntry.Input) entry).apply(world);
+                        }
+
+                        entry = reader.next();
+                    }
+
+                    clock.advance(tick.millis() - clock.millis());
+                    world.step(applied);
+                }
+
+                case JournalEntry.AreasApplied areas -> {
+
+                    System.out.println("Areas of " + areas.location() + " were applied outside of a tick.");
+                    entry = reader.next();
+                }
+
+                case JournalEntry.Checksum checksum -> {
+
+                    // The first checksummed tick whose state differs is reported, since every
+                    // later tick inherits the divergence. Checksums are only recorded every few
+                    // ticks, so the divergence happened at most one interval earlier.
+                    if (diverged < 0 && world.getChecksum() != checksum.checksum()) {
+
+                        diverged = world.getTicks();
+                        System.out.println("DIVERGED AT TICK " + diverged);
+                    }
+
+                    entry = reader.next();
+                }
+
+                case JournalEntry.End end -> {
+
+                    boolean reproduced = diverged < 0 && world.getTicks() == end.ticks()
+                            && world.getRandomState() == end.randomState() && world.getChecksum() == end.checksum();
+                    System.out.println(reproduced ? "REPRODUCED"
+                            : "DIVERGED AFTER " + world.getTicks() + " OF " + end.ticks() + " TICKS");
+                    entry = null;
+                }
+                }
+            }
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format("replayed %d ticks in %.2f s (%.1f ticks/s) | tick: %s", world.getTicks(),
+                    seconds, world.getTicks() / seconds, world.getTickStats()));
+
+            for (Map.Entry<String, LatencyHistogram> phase : MetricsRegistry.getRegistry().getHistograms().entrySet()) {
+
+                System.out.println("  " + phase.getKey() + ": " + phase.getValue().snapshot());
+            }
+
+            world.endHost();
+            return true;
+        }
+    }
+
+    /**
+     * Resolves the packs which a journal was recorded with, verifying that their
+     * content has not changed since.
+     * 
+     * @param hashes <code>List&lt;PackHash&gt;</code>: The recorded pack hashes.
+     * @return <code>List&lt;ContentPack&gt;</code>: The resolved packs, or
+     *         <code>null</code> if a pack is missing or has changed.
+     */
+    private static List<ContentPack> resolvePacks(List<PackHash> hashes) {
+
+        ArrayList<ContentPack> packs = new ArrayList<>();
+        for (PackHash hash : hashes) {
+
+            ContentPack pack = ContentPack.getPack(hash.pack());
+            if (pack == null) {
+
+                System.out.println("REPLAY COULD NOT START: PACK " + hash.pack() + " IS MISSING");
+                return null;
+            }
+
+            packs.add(pack);
+        }
+
+        if (!InputJournal.hashPacks(packs).equals(hashes)) {
+
+            System.out.println("REPLAY COULD NOT START: THE PACKS HAVE CHANGED SINCE THE JOURNAL WAS RECORDED");
+            return null;
+        }
+
+        return packs;
+    }
+}
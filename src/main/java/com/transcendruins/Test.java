@@ -8,7 +8,6 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.jme3.app.SimpleApplication;
 import com.jme3.input.KeyInput;
@@ -21,15 +20,11 @@ import com.jme3.input.controls.MouseButtonTrigger;
 import com.jme3.light.AmbientLight;
 import com.jme3.light.DirectionalLight;
 import com.jme3.light.Light;
-import com.jme3.material.Material;
-import com.jme3.material.RenderState;
 import com.jme3.math.ColorRGBA;
 import com.jme3.math.FastMath;
 import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
-import com.jme3.renderer.queue.RenderQueue;
 import com.jme3.scene.Geometry;
-import com.jme3.scene.shape.Quad;
 import com.jme3.system.AppSettings;
 import com.jme3.texture.Image;
 import com.jme3.texture.Texture2D;
@@ -40,6 +35,8 @@ import com.transcendruins.packs.PackProcessor;
 import com.transcendruins.packs.content.ContentPack;
 import com.transcendruins.packs.resources.ResourcePack;
 import com.transcendruins.rendering.RenderPacket;
+import com.transcendruins.rendering.UiOverlayState;
+import com.transcendruins.rendering.renderbuffer.SnapshotInterpolator;
 import com.transcendruins.utilities.files.DataConstants;
 import com.transcendruins.utilities.metadata.Identifier;
 import com.transcendruins.world.World;
@@ -62,6 +59,8 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
 
     private final HashMap<ModelAssetInstance, Light> lights = new HashMap<>();
 
+    private SnapshotInterpolator snapshots;
+
     public static void main(String[] args) {
 
         PackProcessor packProcessor = PackProcessor.getProcessor();
@@ -89,7 +88,7 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
 
         Test app = new Test();
 
-        boolean added = world.addPlayer(playerId);
+        boolean added = world.addPlayer(playerId).join();
         if (!added) {
 
             System.out.println("HOST COULD NOT START: PLAYER WAS NOT ADDED");
@@ -121,12 +120,6 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
         app.start();
     }
 
-    private Geometry uiQuad;
-    private final int uiWidth = 400, uiHeight = 200;
-
-    // Use AtomicReference for thread-safe image swapping
-    private final AtomicReference<BufferedImage> uiImageRef = new AtomicReference<>(generateUI("Initial UI"));
-
     @Override
     public void simpleInitApp() {
 
@@ -135,18 +128,11 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
 
         flyCam.setEnabled(false);
 
-        Quad quad = new Quad(uiWidth, uiHeight);
-        uiQuad = new Geometry("UIOverlay", quad);
-        Material mat = new Material(assetManager, "Common/MatDefs/Misc/Unshaded.j3md");
+        stateManager.attach(new UiOverlayState(world, playerId));
 
-        Texture2D tex = toTexture(uiImageRef.get());
-        mat.setTexture("ColorMap", tex);
-        mat.getAdditionalRenderState().setBlendMode(RenderState.BlendMode.Alpha);
-        uiQuad.setMaterial(mat);
-        uiQuad.setQueueBucket(RenderQueue.Bucket.Gui); // overlay
-
-        // uiQuad.setLocalTranslation(50, 50, 0);
-        // guiNode.attachChild(uiQuad);
+        // The scene is built from the snapshots published by the host, so frames never
+        // wait on a tick in progress.
+        snapshots = new SnapshotInterpolator(world.getRenderSnapshots(playerId));
 
         setUpKeys();
 
@@ -190,7 +176,7 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
 
     private void updateScene() {
 
-        RenderPacket packet = world.getPolygons(playerId).getRenderPacket(assetManager);
+        RenderPacket packet = snapshots.getPolygons().getRenderPacket(assetManager);
 
         for (Map.Entry<ModelAssetInstance, Geometry> entry : packet.opaque().entrySet()) {
 
@@ -245,46 +231,6 @@ public class Test extends SimpleApplication implements ActionListener, AnalogLis
         }
     }
 
-    // Host simulation loop updates the UI BufferedImage
-    private void hostSimulationLoop() {
-        int frame = 0;
-        while (true) {
-            // Generate new UI image (simulated dynamic content)
-            BufferedImage newUI = generateUI("Frame " + frame);
-            uiImageRef.set(newUI);
-
-            // Push update to jME render thread
-            enqueue(() -> {
-                // Texture2D tex = new Texture2D(new AWTLoader().load(uiImageRef.get(), true));
-                // uiQuad.getMaterial().setTexture("ColorMap", tex);
-            });
-
-            frame++;
-            try {
-                Thread.sleep(100); // simulate fixed timestep
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
-    }
-
-    // Simple dynamic UI generator
-    private BufferedImage generateUI(String text) {
-        BufferedImage img = new BufferedImage(uiWidth, uiHeight, BufferedImage.TYPE_INT_ARGB);
-        // Graphics2D g2d = (Graphics2D) img.getGraphics();
-        // g2d.rotate(Math.toRadians(180), uiWidth / 2, uiHeight / 2);
-        // g2d.translate(uiWidth / 2, uiHeight / 2);
-        // g2d.scale(-1, 1);
-        // g2d.translate(-uiWidth / 2, -uiHeight / 2);
-        // g2d.setColor(Color.RED);
-        // g2d.fillRect(0, 0, uiWidth, uiHeight);
-        // g2d.setColor(Color.WHITE);
-        // g2d.setFont(new Font("Arial", Font.BOLD, 20));
-        // g2d.drawString(text, 20, 100);
-        // g2d.dispose();
-        return img;
-    }
-
     // Input mappings for mouse, keyboard, vertical & horizontal scroll
     private void setupInputMappings() {
         inputManager.addMapping("LeftClick", new MouseButtonTrigger(MouseInput.BUTTON_LEFT));
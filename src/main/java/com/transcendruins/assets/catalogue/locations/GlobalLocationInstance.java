@@ -18,11 +18,18 @@ package com.transcendruins.assets.catalogue.locations;
 
 import java.awt.Point;
 import java.awt.geom.Point2D;
-import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import javax.swing.ImageIcon;
 
@@ -38,15 +45,39 @@ import com.transcendruins.resources.styles.Style.IconSize;
 import com.transcendruins.utilities.PropertyHolder;
 import com.transcendruins.utilities.immutable.ImmutableList;
 import com.transcendruins.utilities.immutable.ImmutableMap;
+import com.transcendruins.utilities.metrics.Counter;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.LocationGenerateEvent;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
 import com.transcendruins.utilities.random.DeterministicRandom;
 import com.transcendruins.utilities.selection.WeightedRoll;
+import com.transcendruins.utilities.time.TimerWheel.Timer;
 import com.transcendruins.world.AreaGrid;
 import com.transcendruins.world.Player;
 import com.transcendruins.world.PlayerSpawn;
+import com.transcendruins.world.SimulationLod;
 import com.transcendruins.world.World;
 
 public final class GlobalLocationInstance extends PropertyHolder {
 
+    /**
+     * <code>LatencyHistogram</code>: The time taken to generate the areas of a
+     * location.
+     */
+    private static final LatencyHistogram GENERATE_TIME = MetricsRegistry.getRegistry()
+            .histogram("location.generate");
+
+    /**
+     * <code>Counter</code>: The number of completed location generations.
+     */
+    private static final Counter GENERATIONS = MetricsRegistry.getRegistry().counter("location.generations");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken to extract the polygons of an
+     * area for rendering.
+     */
+    private static final LatencyHistogram RENDER_EXTRACT = MetricsRegistry.getRegistry().histogram("render.extract");
+
     /**
      * <code>World</code>: The world to use during generation.
      */
@@ -73,7 +104,25 @@ public final class GlobalLocationInstance extends PropertyHolder {
      * <code>DeterministicRandom</code>: The random number generator of this
      * <code>GlobalLocationInstance</code> instance.
      */
-    private final DeterministicRandom random;
+    private DeterministicRandom random;
+
+    /**
+     * <code>String</code>: The key of this <code>GlobalLocationInstance</code>
+     * instance in its world.
+     */
+    private final String key;
+
+    /**
+     * Retrieves the key of this <code>GlobalLocationInstance</code> instance in
+     * its world.
+     * 
+     * @return <code>String</code>: The <code>key</code> field of this
+     *         <code>GlobalLocationInstance</code> instance.
+     */
+    public final String getKey() {
+
+        return key;
+    }
 
     /**
      * <code>TRScript</code>: The name of this <code>GlobalLocationInstance</code>
@@ -210,15 +259,16 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final AreaGrid getArea(String area) {
 
-        ZonedDateTime now = ZonedDateTime.now();
+        synchronized (GENERATION_LOCK) {
 
-        if (regenerateConditional(now)) {
+            if (regenerateConditional()) {
 
-            generated = true;
-            active = false;
-        }
+                generated = true;
+                active = false;
+            }
 
-        return areas.get(area);
+            return areas.get(area);
+        }
     }
 
     /**
@@ -253,20 +303,21 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final AreaGrid getArea(Player player) {
 
-        if (!players.containsKey(player)) {
+        synchronized (GENERATION_LOCK) {
 
-            return null;
-        }
+            if (!players.containsKey(player)) {
 
-        ZonedDateTime now = ZonedDateTime.now();
+                return null;
+            }
 
-        if (regenerateConditional(now)) {
+            if (regenerateConditional()) {
 
-            generated = true;
-            active = false;
-        }
+                generated = true;
+                active = false;
+            }
 
-        return areas.get(players.get(player).area());
+            return areas.get(players.get(player).area());
+        }
     }
 
     /**
@@ -288,10 +339,11 @@ public final class GlobalLocationInstance extends PropertyHolder {
     }
 
     /**
-     * <code>ZonedDateTime</code>: The timestamp at which this
-     * <code>GlobalLocationInstance</code> was created.
+     * <code>long</code>: The time at which this
+     * <code>GlobalLocationInstance</code> was created, according to the clock of
+     * the world.
      */
-    private final ZonedDateTime locationCreatedTimestamp;
+    private final long locationCreatedTimestamp;
 
     /**
      * <code>LocationReset</code>: The reset behavior of this
@@ -324,16 +376,33 @@ public final class GlobalLocationInstance extends PropertyHolder {
     }
 
     /**
-     * <code>ZonedDateTime</code>: The timestamp of when this
-     * <code>GlobalLocationInstance</code> instance was last reset.
+     * <code>long</code>: The time at which this
+     * <code>GlobalLocationInstance</code> instance was last reset, or
+     * <code>-1</code> if it has never been reset.
      */
-    private ZonedDateTime locationResetTimestamp;
+    private long locationResetTimestamp = -1;
 
     /**
-     * <code>ZonedDateTime</code>: The timestamp of when the last player exited this
-     * <code>GlobalLocationInstance</code> instance.
+     * <code>long</code>: The time at which the first player entered this
+     * <code>GlobalLocationInstance</code> instance since it was last empty, or
+     * <code>-1</code> if it is empty.
+     */
+    private long prevEntranceTimestamp = -1;
+
+    /**
+     * <code>boolean</code>: Whether or not the reset duration of this
+     * <code>GlobalLocationInstance</code> instance has elapsed since it was last
+     * active. This is set by the reset timer rather than checked against the
+     * clock on every access.
      */
-    private ZonedDateTime prevEntranceTimestamp;
+    private boolean resetDue = false;
+
+    /**
+     * <code>Timer</code>: The timer which marks this
+     * <code>GlobalLocationInstance</code> instance as due for a reset, or
+     * <code>null</code> if none is scheduled.
+     */
+    private Timer resetTimer;
 
     /**
      * <code>HashMap&lt;Player, PlayerSpawn&gt;</code>: The set of players and their
@@ -341,6 +410,18 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     private final HashMap<Player, PlayerSpawn> players = new HashMap<>();
 
+    /**
+     * Retrieves the number of players placed in this
+     * <code>GlobalLocationInstance</code> instance.
+     * 
+     * @return <code>int</code>: The size of the <code>players</code> field of this
+     *         <code>GlobalLocationInstance</code> instance.
+     */
+    public final int getPlayerCount() {
+
+        return players.size();
+    }
+
     /**
      * Retrieves whether or not this <code>GlobalLocationInstance</code> instance
      * has no players in it.
@@ -350,7 +431,120 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final boolean isEmpty() {
 
-        return players.isEmpty();
+        return players.isEmpty() && loading.isEmpty();
+    }
+
+    /**
+     * <code>PendingPlayer</code>: A record representing a player who has been
+     * added to this <code>GlobalLocationInstance</code> instance while its areas
+     * are still being generated.
+     *
+     * @param spawn <code>PlayerSpawn</code>: The requested spawn location, or
+     *              <code>null</code> if the primary area should be used.
+     * @param enter <code>boolean</code>: Whether or not the player should enter
+     *              the location once it has been generated.
+     */
+    private static final record PendingPlayer(PlayerSpawn spawn, boolean enter) {
+    }
+
+    /**
+     * <code>AreaLayout</code>: A record representing the layout rolled for an area
+     * which has not yet been generated.
+     * 
+     * @param area    <code>String</code>: The name of the area.
+     * @param presets <code>AssetPresets</code>: The presets of the layout to
+     *                generate the area from.
+     * @param seed    <code>long</code>: The seed of the random stream to generate
+     *                the area from.
+     */
+    private static final record AreaLayout(String area, AssetPresets presets, long seed) {
+    }
+
+    /**
+     * <code>LinkedHashMap&lt;Player, PendingPlayer&gt;</code>: The players which
+     * are waiting for this <code>GlobalLocationInstance</code> instance to finish
+     * generating, in the order they were added.
+     */
+    private final LinkedHashMap<Player, PendingPlayer> loading = new LinkedHashMap<>();
+
+    /**
+     * Determines whether or not a player is waiting for this
+     * <code>GlobalLocationInstance</code> instance to finish generating.
+     * 
+     * @param player <code>Player</code>: The player to check.
+     * @return <code>boolean</code>: Whether or not the player is loading.
+     */
+    public final boolean isLoading(Player player) {
+
+        synchronized (GENERATION_LOCK) {
+
+            return loading.containsKey(player);
+        }
+    }
+
+    /**
+     * <code>Object</code>: The synchronization lock used when modifying the
+     * generation fields.
+     */
+    private final Object GENERATION_LOCK = new Object();
+
+    /**
+     * <code>CompletableFuture&lt;HashMap&lt;String, AreaGrid&gt;&gt;</code>: The
+     * areas which are currently being generated, or <code>null</code> if no
+     * generation is in progress.
+     */
+    private CompletableFuture<HashMap<String, AreaGrid>> generation;
+
+    /**
+     * <code>DeterministicRandom</code>: The random number generator which a
+     * speculative generation was rolled from, or <code>null</code> if the current
+     * generation is not speculative. It replaces the <code>random</code> field
+     * only once the generation is claimed, so cancelling a speculative generation
+     * does not affect later generations.
+     */
+    private DeterministicRandom speculativeRandom;
+
+    /**
+     * <code>ArrayList&lt;Runnable&gt;</code>: The tasks to run on the host thread
+     * once the current generation has been applied.
+     */
+    private final ArrayList<Runnable> generationTasks = new ArrayList<>();
+
+    /**
+     * Determines whether or not the areas of this
+     * <code>GlobalLocationInstance</code> instance are being generated for use.
+     * Speculative generations which have not been claimed are not included.
+     * 
+     * @return <code>boolean</code>: Whether or not the areas are unavailable
+     *         until generation finishes.
+     */
+    public final boolean isGenerating() {
+
+        synchronized (GENERATION_LOCK) {
+
+            return generation != null && speculativeRandom == null;
+        }
+    }
+
+    /**
+     * Runs a task on the host thread once the areas of this
+     * <code>GlobalLocationInstance</code> instance have been generated. If the
+     * areas are already available, the task is run immediately.
+     * 
+     * @param task <code>Runnable</code>: The task to run.
+     */
+    public final void whenGenerated(Runnable task) {
+
+        synchronized (GENERATION_LOCK) {
+
+            if (generation != null && speculativeRandom == null) {
+
+                generationTasks.add(task);
+                return;
+            }
+        }
+
+        task.run();
     }
 
     /**
@@ -381,12 +575,10 @@ public final class GlobalLocationInstance extends PropertyHolder {
      * awaiting a reset. If the location meets regeneration conditions, all areas
      * will be regenerated.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
-     * 
      * @return <code>boolean</code>: Whether or not regeneration logic should be
      *         applied.
      */
-    private boolean regenerateConditional(ZonedDateTime now) {
+    private boolean regenerateConditional() {
 
         // If the location was already regenerated, return true.
         if (generated) {
@@ -402,15 +594,70 @@ public final class GlobalLocationInstance extends PropertyHolder {
 
         // If the location is active and has not reached the reset duration, do not
         // regenerate.
-        if (active && (reset.getDuration() == -1 || getMinutesUntilReset(now) > 0)) {
+        if (active && !resetDue) {
 
             return false;
         }
 
-        generate();
+        // If the areas were already speculatively generated, claim them instead of
+        // generating them again.
+        if (speculativeRandom != null) {
+
+            random = speculativeRandom;
+            speculativeRandom = null;
+            areas.clear();
+        } else {
+
+            generate();
+        }
+
         return true;
     }
 
+    /**
+     * Starts generating the areas of this <code>GlobalLocationInstance</code>
+     * instance in the background if they would be regenerated when the next
+     * player enters. The generated areas are discarded if the prefetch is
+     * cancelled before a player claims them.
+     */
+    public final void prefetch() {
+
+        synchronized (GENERATION_LOCK) {
+
+            if (generation != null || generated || !isEmpty()) {
+
+                return;
+            }
+
+            if (active && !resetDue) {
+
+                return;
+            }
+
+            speculativeRandom = new DeterministicRandom(random.getState());
+            generation = startGeneration(speculativeRandom);
+        }
+    }
+
+    /**
+     * Cancels a prefetch of this <code>GlobalLocationInstance</code> instance
+     * which has not yet been claimed by a player.
+     */
+    public final void cancelPrefetch() {
+
+        synchronized (GENERATION_LOCK) {
+
+            if (speculativeRandom == null) {
+
+                return;
+            }
+
+            generation.cancel(false);
+            generation = null;
+            speculativeRandom = null;
+        }
+    }
+
     /**
      * Adds a player to this <code>GlobalLocationInstance</code> instance.
      * 
@@ -422,27 +669,67 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final boolean add(Player player, PlayerSpawn spawn) {
 
-        // If there are no players in the location, check if it needs to be generated.
-        if (isEmpty()) {
+        synchronized (GENERATION_LOCK) {
+
+            // If there are no players in the location, check if it needs to be generated.
+            if (isEmpty()) {
+
+                long now = world.getClock().millis();
+
+                // The reset countdown is paused while the location is occupied.
+                if (resetTimer != null) {
+
+                    resetTimer.cancel();
+                    resetTimer = null;
+                }
 
-            ZonedDateTime now = ZonedDateTime.now();
+                if (regenerateConditional()) {
 
-            if (regenerateConditional(now)) {
+                    active = true;
+                    resetDue = false;
 
-                active = true;
+                    locationResetTimestamp = now;
+                    resetOffsetCounter = 0;
+                }
 
-                locationResetTimestamp = now;
-                resetOffsetCounter = 0;
+                prevEntranceTimestamp = now;
+                generated = false;
             }
 
-            prevEntranceTimestamp = now;
-            generated = false;
+            // If the areas are still being generated, the player waits until they are
+            // ready.
+            if (generation != null) {
+
+                loading.put(player, new PendingPlayer(spawn, false));
+                return true;
+            }
+
+            return place(player, spawn);
         }
+    }
+
+    /**
+     * Places a player into the areas of this <code>GlobalLocationInstance</code>
+     * instance.
+     * 
+     * @param player <code>Player</code>: The player to place.
+     * @param spawn  <code>PlayerSpawn</code>: The spawn location to place at, or
+     *               <code>null</code> if the primary area should be used.
+     * @return <code>boolean</code>: Whether or not the player was successfully
+     *         placed.
+     */
+    private boolean place(Player player, PlayerSpawn spawn) {
 
         // If the area cannot be assigned, use the primary area.
         if (spawn == null) {
 
-            Point spawnPoint = getArea(primary).getSpawnPoint(player.getEntity(), player.getRandom());
+            AreaGrid primaryArea = areas.get(primary);
+            if (primaryArea == null) {
+
+                return false;
+            }
+
+            Point spawnPoint = primaryArea.getSpawnPoint(player.getEntity(), player.getRandom());
             if (spawnPoint == null) {
 
                 return false;
@@ -463,22 +750,43 @@ public final class GlobalLocationInstance extends PropertyHolder {
     public final void remove(Player player) {
 
         // If there is not a player in the location, the entrance timestamp will be
-        // null.
-        if (prevEntranceTimestamp == null) {
+        // unset.
+        if (prevEntranceTimestamp == -1) {
 
             return;
         }
 
-        players.remove(player);
-        if (players.isEmpty()) {
+        // The entity must leave its area before the player is forgotten, since the area
+        // is looked up through the player. An entity left behind would still be
+        // updated by this location while the player is in another.
+        exit(player);
 
-            ZonedDateTime now = ZonedDateTime.now();
-            resetOffsetCounter += minutesBetween(prevEntranceTimestamp, now);
+        synchronized (GENERATION_LOCK) {
 
-            prevEntranceTimestamp = null;
+            loading.remove(player);
+            players.remove(player);
         }
 
-        exit(player);
+        if (isEmpty()) {
+
+            long now = world.getClock().millis();
+            resetOffsetCounter += minutesBetween(prevEntranceTimestamp, now);
+
+            prevEntranceTimestamp = -1;
+
+            // The reset countdown resumes now that the location is empty.
+            if (reset.getDuration() != -1) {
+
+                long resetMillis = now + (long) Math.ceil(getMinutesUntilReset(now) * 60000);
+                synchronized (GENERATION_LOCK) {
+
+                    resetTimer = world.getTimers().schedule(resetMillis, this::onResetDue);
+                }
+            }
+
+            // The location may have ended while it was occupied, or may end on exit.
+            world.getTimers().schedule(now, () -> world.expireLocation(this));
+        }
     }
 
     /**
@@ -491,7 +799,20 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final boolean enter(Player player) {
 
-        PlayerSpawn spawn = players.get(player);
+        PlayerSpawn spawn;
+        synchronized (GENERATION_LOCK) {
+
+            // If the player is still loading, enter once the areas are ready.
+            PendingPlayer pending = loading.get(player);
+            if (pending != null) {
+
+                loading.put(player, new PendingPlayer(pending.spawn(), true));
+                return false;
+            }
+
+            spawn = players.get(player);
+        }
+
         if (spawn == null) {
 
             return false;
@@ -543,21 +864,39 @@ public final class GlobalLocationInstance extends PropertyHolder {
      */
     public final RenderBuffer getPolygons(Player player) {
 
-        if (!players.containsKey(player)) {
+        AreaGrid area = getArea(player);
+        if (area == null) {
 
             return new RenderBuffer();
         }
 
-        return getArea(player).getPolygons();
+        long start = System.nanoTime();
+        RenderBuffer polygons = area.getPolygons();
+        RENDER_EXTRACT.recordSince(start);
+
+        return polygons;
+    }
+
+    /**
+     * Marks this <code>GlobalLocationInstance</code> instance as due for a reset
+     * once its reset timer elapses.
+     */
+    private void onResetDue() {
+
+        synchronized (GENERATION_LOCK) {
+
+            resetTimer = null;
+            resetDue = true;
+        }
     }
 
     /**
      * Determines the length in minutes until the reset countdown will end.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
+     * @param now <code>long</code>: The current time of the world clock.
      * @return <code>double</code>: The duration in minutes.
      */
-    public final double getMinutesUntilReset(ZonedDateTime now) {
+    public final double getMinutesUntilReset(long now) {
 
         double minutes = minutesBetween(locationResetTimestamp, now);
         return reset.getDuration() - minutes + resetOffsetCounter;
@@ -568,14 +907,14 @@ public final class GlobalLocationInstance extends PropertyHolder {
      * the location does not have a reset countdown, if the countdown has finished,
      * or if the player is in the location.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
+     * @param now <code>long</code>: The current time of the world clock.
      * @return <code>String</code>: The minutes formatted as H:MM:SS or MM:SS, or
      *         <code>null</code> if the counter should not be displayed.
      */
-    public final String getResetCounter(ZonedDateTime now) {
+    public final String getResetCounter(long now) {
 
-        if (!reset.getDisplayCountdownTimer() || reset.getDuration() == -1 || locationResetTimestamp == null
-                || locationResetTimestamp == null || resetOffsetCounter == 0) {
+        if (!reset.getDisplayCountdownTimer() || reset.getDuration() == -1 || locationResetTimestamp == -1
+                || resetOffsetCounter == 0) {
 
             return null;
         }
@@ -600,18 +939,12 @@ public final class GlobalLocationInstance extends PropertyHolder {
     /**
      * Determines the length in minutes until the location will end.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
+     * @param now <code>long</code>: The current time of the world clock.
      * @return <code>double</code>: The duration in minutes.
      */
-    public final double getMinutesUntilEnd(ZonedDateTime now) {
-
-        ZonedDateTime start = duration.getStartTimestamp();
-        if (start == null) {
+    public final double getMinutesUntilEnd(long now) {
 
-            start = locationCreatedTimestamp;
-        }
-
-        double minutes = minutesBetween(start, now);
+        double minutes = minutesBetween(getStartTimestamp(), now);
 
         return duration.getDuration() - minutes;
     }
@@ -620,10 +953,10 @@ public final class GlobalLocationInstance extends PropertyHolder {
      * Outputs the end counter as a <code>String</code>, or <code>null</code> if the
      * location does not have a end countdown or if the countdown has finished.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
+     * @param now <code>long</code>: The current time of the world clock.
      * @return <code>String</code>: The minutes formatted as H:MM:SS or MM:SS.
      */
-    public final String getEndCounter(ZonedDateTime now) {
+    public final String getEndCounter(long now) {
 
         if (!duration.getDisplayCountdownTimer() || duration.getDuration() == -1) {
 
@@ -637,16 +970,19 @@ public final class GlobalLocationInstance extends PropertyHolder {
     /**
      * Creates a new instance of the <code>GlobalLocationInstance</code> class.
      * 
+     * @param key    <code>String</code>: The key of the location in its world.
      * @param schema <code>GlobalLocationSchema</code>: The schema to apply.
      * @param world  <code>World</code>: The world to use during generation.
      */
-    public GlobalLocationInstance(GlobalLocationSchema schema, World world) {
+    public GlobalLocationInstance(String key, GlobalLocationSchema schema, World world) {
 
+        this.key = key;
         this.world = world;
         setParent(world);
 
         randomId = world.getRandom().next();
         random = new DeterministicRandom(randomId);
+        simulationRandom = random.derive(0);
 
         name = schema.getName();
         description = schema.getDescription();
@@ -675,29 +1011,235 @@ public final class GlobalLocationInstance extends PropertyHolder {
         areaTemplates = schema.getAreas();
         primary = schema.getPrimary();
 
-        locationCreatedTimestamp = ZonedDateTime.now();
+        locationCreatedTimestamp = world.getClock().millis();
+
+        // Check for expiry once the duration has elapsed, rather than on every tick.
+        if (duration.getDuration() != -1) {
+
+            long endMillis = getStartTimestamp() + (long) Math.ceil(duration.getDuration() * 60000);
+            world.getTimers().schedule(endMillis, () -> world.expireLocation(this));
+        }
+    }
+
+    /**
+     * Retrieves the time at which the duration of this
+     * <code>GlobalLocationInstance</code> instance began.
+     * 
+     * @return <code>long</code>: The start time according to the world clock.
+     */
+    private long getStartTimestamp() {
+
+        ZonedDateTime start = duration.getStartTimestamp();
+        if (start == null) {
+
+            return locationCreatedTimestamp;
+        }
+
+        return world.getClock().toMillis(start);
+    }
+
+    /**
+     * Generates the contents of this <code>GlobalLocationInstance</code> instance
+     * in the background. This automatically resets each area in this
+     * <code>GlobalLocationInstance</code> instance in a deterministic pattern. The
+     * current areas are discarded immediately, and the generated areas are
+     * applied by the <code>poll()</code> method once they are ready.
+     * 
+     * @return <code>CompletableFuture&lt;HashMap&lt;String, AreaGrid&gt;&gt;</code>:
+     *         The areas being generated.
+     */
+    public final CompletableFuture<HashMap<String, AreaGrid>> generate() {
+
+        synchronized (GENERATION_LOCK) {
+
+            if (generation != null) {
+
+                generation.cancel(false);
+            }
+
+            speculativeRandom = null;
+            areas.clear();
+
+            generation = startGeneration(random);
+            return generation;
+        }
     }
 
     /**
-     * Generates the contents of this <code>GlobalLocationInstance</code> instance.
-     * This automatically resets each area in this
-     * <code>GlobalLocationInstance</code> instance in a deterministic pattern.
+     * Starts generating a set of areas on the generation pool of the world.
+     * 
+     * @param random <code>DeterministicRandom</code>: The random number generator
+     *               to roll the area layouts from.
+     * @return <code>CompletableFuture&lt;HashMap&lt;String, AreaGrid&gt;&gt;</code>:
+     *         The areas being generated.
      */
-    public final void generate() {
+    private CompletableFuture<HashMap<String, AreaGrid>> startGeneration(DeterministicRandom random) {
 
-        areas.clear();
+        long seed = random.getState();
 
+        // Roll the layouts and a seed for each area up front, so the random state does
+        // not depend on the pool and each area is generated from its own stream.
+        ArrayList<AreaLayout> layouts = new ArrayList<>();
         for (Map.Entry<String, WeightedRoll<AssetPresets>> areaEntry : areaTemplates.entrySet()) {
 
-            String areaName = areaEntry.getKey();
-            WeightedRoll<AssetPresets> presetsRoll = areaEntry.getValue();
-            AssetPresets areaPresets = presetsRoll.get(random.next());
+            layouts.add(new AreaLayout(areaEntry.getKey(), areaEntry.getValue().get(random.next()), random.next()));
+        }
+
+        CompletableFuture<HashMap<String, AreaGrid>> future = new CompletableFuture<>();
+        world.getGenerationExecutor().execute(() -> {
+
+            long start = System.nanoTime();
+
+            LocationGenerateEvent event = new LocationGenerateEvent();
+            event.begin();
+
+            try {
+
+                List<AreaGrid> areaGrids = layouts.parallelStream().map(layout -> {
+
+                    // Stop early if the generation has been cancelled.
+                    if (future.isDone()) {
+
+                        return null;
+                    }
+
+                    DeterministicRandom layoutRandom = new DeterministicRandom(layout.seed());
+                    return world.withRandom(layoutRandom, () -> {
+
+                        LayoutContext areaContext = new LayoutContext(layout.presets(), this);
+                        LayoutInstance areaLayout = areaContext.instantiate();
 
-            LayoutContext areaContext = new LayoutContext(areaPresets, this);
-            LayoutInstance areaLayout = areaContext.instantiate();
+                        return areaLayout.generate();
+                    });
+                }).toList();
 
-            AreaGrid area = areaLayout.generate();
-            areas.put(areaName, area);
+                if (future.isDone()) {
+
+                    return;
+                }
+
+                HashMap<String, AreaGrid> generatedAreas = new HashMap<>();
+                for (int i = 0; i < layouts.size(); i++) {
+
+                    generatedAreas.put(layouts.get(i).area(), areaGrids.get(i));
+                }
+
+                future.complete(generatedAreas);
+
+                GENERATE_TIME.recordSince(start);
+                GENERATIONS.increment();
+
+                event.commit(this.key, seed, generatedAreas.size());
+            } catch (Throwable e) {
+
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Applies the areas of this <code>GlobalLocationInstance</code> instance if
+     * their generation has finished, then places the players which were waiting
+     * for them. If the generation failed, the location is marked to be generated
+     * again by the next player to travel to it, and the waiting players are
+     * returned to the global map without a location. This should be called from
+     * the host thread.
+     * 
+     * @return <code>boolean</code>: Whether or not any areas were applied.
+     */
+    public final boolean poll() {
+
+        ArrayList<Player> entering = new ArrayList<>();
+        ArrayList<Player> failed = new ArrayList<>();
+        List<Runnable> tasks;
+
+        synchronized (GENERATION_LOCK) {
+
+            if (generation == null || speculativeRandom != null || !generation.isDone()) {
+
+                return false;
+            }
+
+            try {
+
+                areas.putAll(generation.join());
+            } catch (CompletionException | CancellationException e) {
+
+                System.out.println("Location " + key + " could not be generated: " + e.getCause());
+
+                // The next player to travel here generates the location again.
+                active = false;
+            }
+            generation = null;
+
+            for (Map.Entry<Player, PendingPlayer> loadingEntry : loading.entrySet()) {
+
+                Player player = loadingEntry.getKey();
+                PendingPlayer pending = loadingEntry.getValue();
+
+                if (!place(player, pending.spawn())) {
+
+                    failed.add(player);
+                } else if (pending.enter()) {
+
+                    entering.add(player);
+                }
+            }
+            loading.clear();
+
+            tasks = List.copyOf(generationTasks);
+            generationTasks.clear();
+        }
+
+        // A player who could not be placed would otherwise wait on this location
+        // forever, so they are removed from it and may travel again.
+        for (Player player : failed) {
+
+            System.out.println("Player could not be placed in location " + key + ".");
+
+            remove(player);
+            if (key.equals(player.getLocation())) {
+
+                player.setLocation(null);
+            }
+        }
+
+        // Entering changes the UI of the player, so it must not be done under the lock.
+        for (Player player : entering) {
+
+            world.enterLocation(player, this);
+        }
+
+        tasks.forEach(Runnable::run);
+        return true;
+    }
+
+    /**
+     * Waits until the areas which are being generated for use by this
+     * <code>GlobalLocationInstance</code> instance have finished generating. A
+     * prefetch which has not been claimed is not waited for.
+     */
+    public final void awaitGeneration() {
+
+        CompletableFuture<HashMap<String, AreaGrid>> pending;
+        synchronized (GENERATION_LOCK) {
+
+            pending = speculativeRandom == null ? generation : null;
+        }
+
+        if (pending == null) {
+
+            return;
+        }
+
+        try {
+
+            pending.join();
+        } catch (CompletionException | CancellationException _) {
+
+            // Failed generations are reported when they are applied.
         }
     }
 
@@ -705,11 +1247,11 @@ public final class GlobalLocationInstance extends PropertyHolder {
      * Determine whether or not this code>GlobalLocationInstance</code> instance has
      * expired.
      * 
-     * @param now <code>ZonedDateTime</code>: The current moment in time.
+     * @param now <code>long</code>: The current time of the world clock.
      * 
      * @return <code>boolean</code>: Whether or not the location has expired.
      */
-    public final boolean expired(ZonedDateTime now) {
+    public final boolean expired(long now) {
 
         // The location cannot expire while occupied.
         if (!isEmpty()) {
@@ -727,28 +1269,173 @@ public final class GlobalLocationInstance extends PropertyHolder {
     }
 
     /**
-     * Updates all areas in this <code>GlobalLocationInstance</code> instance.
+     * Updates all areas in this <code>GlobalLocationInstance</code> instance. Each
+     * area is simulated in detail only near the players inside of it.
      * 
      * @param time <code>double</code>: The current time in seconds.
      */
     public final void update(double time) {
 
-        if (generated || active) {
+        if (!generated && !active) {
+
+            return;
+        }
+
+        HashMap<String, List<EntityInstance>> observers = new HashMap<>();
+        for (Map.Entry<Player, PlayerSpawn> player : players.entrySet()) {
+
+            observers.computeIfAbsent(player.getValue().area(), _ -> new ArrayList<>())
+                    .add(player.getKey().getEntity());
+        }
+
+        SimulationLod lod = world.getSimulationLod();
+        for (Map.Entry<String, AreaGrid> area : areas.entrySet()) {
+
+            if (area.getValue() != null) {
+
+                area.getValue().update(time, observers.getOrDefault(area.getKey(), List.of()), lod);
+            }
+        }
+    }
+
+    /**
+     * <code>ThreadLocal&lt;GlobalLocationInstance&gt;</code>: The location whose
+     * turn is running on the current thread.
+     */
+    private static final ThreadLocal<GlobalLocationInstance> ACTOR = new ThreadLocal<>();
+
+    /**
+     * Retrieves the location whose turn is running on the current thread.
+     * 
+     * @return <code>GlobalLocationInstance</code>: The running location, or
+     *         <code>null</code> if the current thread is not running a turn.
+     */
+    public static final GlobalLocationInstance getActor() {
+
+        return ACTOR.get();
+    }
+
+    /**
+     * <code>DeterministicRandom</code>: The random number generator which is bound
+     * while this <code>GlobalLocationInstance</code> instance takes its turn, so
+     * that locations updating in parallel never share a random number generator.
+     * It is a separate stream from the <code>random</code> field, so simulation
+     * does not affect the layouts which are rolled for later generations.
+     */
+    private final DeterministicRandom simulationRandom;
+
+    /**
+     * Retrieves a checksum of the simulation state of this
+     * <code>GlobalLocationInstance</code> instance, made up of the checksum of
+     * each of its areas and the spawn of each of its players.
+     * 
+     * @return <code>long</code>: The checksum of this
+     *         <code>GlobalLocationInstance</code> instance.
+     */
+    public final long getChecksum() {
+
+        synchronized (GENERATION_LOCK) {
+
+            long checksum = getKey().hashCode();
+            for (Map.Entry<String, AreaGrid> area : new TreeMap<>(areas).entrySet()) {
+
+                checksum = checksum * 31 + area.getKey().hashCode();
+                checksum = checksum * 31 + area.getValue().getChecksum();
+            }
+
+            // Players are unordered, so their spawns are summed.
+            long playerChecksum = 0;
+            for (Map.Entry<Player, PlayerSpawn> player : players.entrySet()) {
 
-            areas.values().stream().filter(Objects::nonNull).forEach(area -> area.update(time));
+                playerChecksum += player.getKey().getEntity().getRandomId() * 31 + Objects.hashCode(player.getValue());
+            }
+
+            return checksum * 31 + playerChecksum;
         }
     }
 
+    /**
+     * Retrieves the random number generator which is bound while this
+     * <code>GlobalLocationInstance</code> instance takes its turn.
+     * 
+     * @return <code>DeterministicRandom</code>: The <code>simulationRandom</code>
+     *         field of this <code>GlobalLocationInstance</code> instance.
+     */
+    public final DeterministicRandom getSimulationRandom() {
+
+        return simulationRandom;
+    }
+
+    /**
+     * <code>ArrayList&lt;Consumer&lt;World&gt;&gt;</code>: The messages posted to
+     * the world during the current turn of this
+     * <code>GlobalLocationInstance</code> instance.
+     */
+    private final ArrayList<Consumer<World>> outbox = new ArrayList<>();
+
+    /**
+     * Posts a message to the world during the turn of this
+     * <code>GlobalLocationInstance</code> instance. Operations which reach beyond
+     * this location, such as travelling to another location, must be posted
+     * rather than performed, as other locations may be taking their turns at the
+     * same time.
+     * 
+     * @param message <code>Consumer&lt;World&gt;</code>: The message to post.
+     */
+    public final void post(Consumer<World> message) {
+
+        outbox.add(message);
+    }
+
+    /**
+     * Takes a turn of this <code>GlobalLocationInstance</code> instance, updating
+     * its areas. The thread running the
+     * turn is the only thread which may modify the areas and players of this
+     * location until the turn ends.
+     * 
+     * @param time <code>double</code>: The current time in seconds.
+     */
+    public final void turn(double time) {
+
+        ACTOR.set(this);
+        try {
+
+            world.withRandom(simulationRandom, () -> {
+
+                update(time);
+                return null;
+            });
+        } finally {
+
+            ACTOR.remove();
+        }
+    }
+
+    /**
+     * Delivers the messages posted to the world during the last turn of this
+     * <code>GlobalLocationInstance</code> instance. This must be called by the
+     * host once every location has finished its turn.
+     */
+    public final void deliver() {
+
+        for (Consumer<World> message : outbox) {
+
+            message.accept(world);
+        }
+
+        outbox.clear();
+    }
+
     /**
      * Formats the time (in minutes) between 2 date times.
      * 
-     * @param start <code>ZonedDateTime</code>: The start time of the duration.
-     * @param end   <code>ZonedDateTime</code>: The end time of the duration.
+     * @param start <code>long</code>: The start time of the duration.
+     * @param end   <code>long</code>: The end time of the duration.
      * @return <code>double</code>: The absolute value of the duration in minutes.
      */
-    private double minutesBetween(ZonedDateTime start, ZonedDateTime end) {
+    private double minutesBetween(long start, long end) {
 
-        return Duration.between(start, end).abs().toMillis() / 60000.0;
+        return Math.abs(end - start) / 60000.0;
     }
 
     /**
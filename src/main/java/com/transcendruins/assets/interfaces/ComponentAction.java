@@ -341,7 +341,7 @@ public abstract class ComponentAction {
         @Override
         protected void onCall(InterfaceInstance asset, long playerId, TRScript value) {
 
-            asset.getWorld().playerConsumer(playerId, player -> player.interact());
+            asset.getWorld().interact(playerId);
         }
     }
 
@@ -360,7 +360,7 @@ public abstract class ComponentAction {
         @Override
         protected void onCall(InterfaceInstance asset, long playerId, TRScript value) {
 
-            asset.getWorld().playerConsumer(playerId, player -> player.attack(attack));
+            asset.getWorld().attack(playerId, attack);
         }
     }
 
@@ -374,7 +374,7 @@ public abstract class ComponentAction {
         @Override
         protected void onCall(InterfaceInstance asset, long playerId, TRScript value) {
 
-            asset.getWorld().playerConsumer(playerId, player -> player.displayInventory(player.getEntity()));
+            asset.getWorld().openInventory(playerId);
         }
     }
 }
@@ -16,6 +16,7 @@
 
 package com.transcendruins.assets.interfaces;
 
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -30,7 +31,6 @@ import java.awt.geom.Arc2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -39,7 +39,10 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
@@ -66,7 +69,10 @@ import com.transcendruins.assets.interfaces.InterfaceAttributes.LocationDisplayC
 import com.transcendruins.assets.interfaces.InterfaceAttributes.RotateComponentSchema;
 import com.transcendruins.assets.interfaces.InterfaceAttributes.TextComponentSchema;
 import com.transcendruins.assets.interfaces.InterfaceInstance.GlobalMapComponentInstance.LocationDisplay;
+import com.transcendruins.assets.interfaces.map.LocationIndex;
 import com.transcendruins.assets.interfaces.map.LocationRender;
+import com.transcendruins.assets.interfaces.map.TerrainPyramid;
+import com.transcendruins.assets.interfaces.map.TerrainPyramid.TerrainPlacement;
 import com.transcendruins.assets.interfaces.map.TerrainRender;
 import com.transcendruins.assets.modelassets.items.ItemInstance;
 import com.transcendruins.assets.modelassets.primaryassets.inventory.InventoryInstance;
@@ -442,13 +448,12 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return height + paddingTop + paddingBottom + marginTop + marginBottom + (borderTop + borderBottom);
         }
 
-        private Font font = null;
-        private FontMetrics fm = null;
+        /**
+         * <code>TextStyle</code>: The text properties of this
+         * <code>ComponentInstance</code> instance at its most recent layout.
+         */
+        protected TextStyle textStyle = null;
 
-        private TextAlign textAlign = null;
-        private WhiteSpace whiteSpace = null;
-        private OverflowWrap overflowWrap = null;
-        private TextOverflow textOverflow = null;
         private Overflow overflowX = null;
         private Overflow overflowY = null;
 
@@ -588,19 +593,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             // the font.
             lineHeight = style.lineHeight().getSize(fontSize, fontSize);
 
-            textAlign = style.textAlign();
-
             origin = style.origin();
 
             // Create the font.
-            font = new Font(style.fontFamily(), style.fontStyle() | style.fontWeight(), fontSize);
+            Font font = new Font(style.fontFamily(), style.fontStyle() | style.fontWeight(), fontSize);
             BufferedImage fontImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
             Graphics2D g2d = fontImage.createGraphics();
-            fm = g2d.getFontMetrics(font);
+            FontMetrics fm = g2d.getFontMetrics(font);
 
-            whiteSpace = style.whiteSpace();
-            overflowWrap = style.overflowWrap();
-            textOverflow = style.textOverflow();
+            textStyle = new TextStyle(font, fm, fontSize, lineHeight, style.textAlign(), style.whiteSpace(),
+                    style.overflowWrap(), style.textOverflow());
             overflowX = style.overflowX();
             overflowY = style.overflowY();
 
@@ -617,6 +619,24 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         public static final record ImageClip(int x, int y, BufferedImage image) {
         }
 
+        /**
+         * <code>ContentPainter</code>: An interface representing the content of a
+         * component captured by its <code>createContent</code> method, which is
+         * painted once its children have been painted.
+         */
+        @FunctionalInterface
+        public static interface ContentPainter {
+
+            /**
+             * Paints the captured content.
+             * 
+             * @param g2d      <code>Graphics2D</code>: The graphics to paint using.
+             * @param children <code>List&lt;ImageClip&gt;</code>: The painted children
+             *                 of the component.
+             */
+            public void paint(Graphics2D g2d, List<ImageClip> children);
+        }
+
         public abstract Dimension calculateContentSize(Style style, List<Rectangle> children);
 
         public abstract Dimension rescaleContent(int targetWidth, int targetHeight, Style style,
@@ -638,14 +658,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         /**
-         * Generates the content of this <code>ComponentInstance</code> instance.
+         * Captures the content of this <code>ComponentInstance</code> instance. The
+         * returned painter must only read the values captured by this method, as it
+         * is painted after the layout of the interface has been released.
          * 
-         * @param g2d      <code>Graphics2D</code>: The graphics to render using.
          * @param style    <code>Style</code>: The style to draw using.
-         * @param children <code>List&lt;ImageClip&gt;</code>: The drawn children of
-         *                 this <code>ComponentInstance</code> instance.
+         * @param viewport <code>Rectangle</code>: The visible region of the content,
+         *                 in content coordinates.
+         * @return <code>ContentPainter</code>: The captured content.
          */
-        public abstract void createContent(Graphics2D g2d, Style style, List<ImageClip> children);
+        public abstract ContentPainter createContent(Style style, Rectangle viewport);
 
         private Style s;
 
@@ -812,148 +834,329 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return new Rectangle(x, y, getTotalWidth(), getTotalHeight());
         }
 
-        @Override
-        public final BufferedImage render() {
+        /**
+         * <code>BufferedImage</code>: The most recent render of this
+         * <code>ComponentInstance</code> instance, which is recycled between frames
+         * while its dimensions do not change.
+         */
+        private BufferedImage componentRender;
 
-            // Draw the children.
-            ArrayList<ImageClip> childrenRenders = new ArrayList<>();
-            for (ComponentInstance child : children) {
+        /**
+         * <code>BufferedImage</code>: The most recent content render of this
+         * <code>ComponentInstance</code> instance, which is recycled between frames
+         * while the dimensions of the viewport do not change.
+         */
+        private BufferedImage contentRender;
 
-                BufferedImage childRender = child.render();
-                childrenRenders.add(new ImageClip(child.x, child.y, childRender));
+        /**
+         * Retrieves a blank image of a specific size, reusing a previous image if its
+         * dimensions match.
+         * 
+         * @param image  <code>BufferedImage</code>: The previous image to recycle, or
+         *               <code>null</code> if there is none.
+         * @param width  <code>int</code>: The width of the image to retrieve.
+         * @param height <code>int</code>: The height of the image to retrieve.
+         * @return <code>BufferedImage</code>: The cleared or newly created image.
+         */
+        private BufferedImage recycleImage(BufferedImage image, int width, int height) {
+
+            if (image == null || image.getWidth() != width || image.getHeight() != height) {
+
+                return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
             }
 
-            BufferedImage content = null;
-            if (contentSize.width != 0 && contentSize.height != 0) {
+            Graphics2D g2d = image.createGraphics();
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, height);
+            g2d.dispose();
+
+            return image;
+        }
+
+        /**
+         * Retrieves the region of the content of this <code>ComponentInstance</code>
+         * instance which is visible through its padding box at the current scroll
+         * position.
+         * 
+         * @return <code>Rectangle</code>: The visible region, in content coordinates.
+         */
+        protected final Rectangle getViewport() {
 
-                // Create all internal content and perform resizing.
-                content = new BufferedImage(contentSize.width, contentSize.height, BufferedImage.TYPE_INT_ARGB);
+            Rectangle viewport = new Rectangle(scrollX - paddingLeft, scrollY - paddingTop,
+                    width + paddingLeft + paddingRight, height + paddingTop + paddingBottom);
 
-                Graphics2D contentG2d = content.createGraphics();
-                createContent(contentG2d, s, childrenRenders);
-                contentG2d.dispose();
+            return viewport.intersection(new Rectangle(contentSize));
+        }
+
+        /**
+         * Determines whether or not the children of this
+         * <code>ComponentInstance</code> instance are virtualized. Virtualized
+         * children which lie entirely outside of the viewport are not rendered, and
+         * will not be passed to the <code>createContent</code> method. Layout and
+         * event propagation are not affected: children are created once from the
+         * schema and kept between frames, so only their renders are recycled, and
+         * every child is still measured on each layout since any of them may change
+         * size.
+         * 
+         * @return <code>boolean</code>: Whether or not to cull hidden children.
+         */
+        protected boolean isVirtualized() {
+
+            return false;
+        }
+
+        /**
+         * Captures the layout and content of this <code>ComponentInstance</code>
+         * instance and its children, so that they can be painted without reading the
+         * component again. This should be called while the layout of the interface
+         * cannot change.
+         * 
+         * @return <code>ComponentPaint</code>: The captured paint of this
+         *         <code>ComponentInstance</code> instance.
+         */
+        public final ComponentPaint snapshot() {
+
+            // Only the region of the content visible through the padding box is drawn.
+            Rectangle viewport = getViewport();
+
+            // Capture the children.
+            ArrayList<ComponentPaint> childPaints = new ArrayList<>();
+            for (ComponentInstance child : children) {
+
+                // Virtualized children which cannot be seen do not need to be drawn.
+                if (isVirtualized() && !viewport
+                        .intersects(new Rectangle(child.x, child.y, child.getTotalWidth(), child.getTotalHeight()))) {
+
+                    continue;
+                }
+
+                childPaints.add(child.snapshot());
             }
 
-            // Create the component border and background.
-            int totalWidth = getTotalWidth();
-            int totalHeight = getTotalHeight();
-            if (totalWidth == 0 || totalHeight == 0) {
+            // If the background icon has changed, recompute it.
+            String newBackgroundIconPath = s.backgroundIcon();
+            if (newBackgroundIconPath != null
+                    && (backgroundIconPath == null || !backgroundIconPath.equals(newBackgroundIconPath))) {
 
-                return null;
+                backgroundIcon = getWorld().getTexture(newBackgroundIconPath, getRandomComponentId());
+            } else if (newBackgroundIconPath == null) {
+
+                backgroundIcon = null;
             }
+            backgroundIconPath = newBackgroundIconPath;
 
-            BufferedImage component = new BufferedImage(totalWidth, totalHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = component.createGraphics();
+            ContentPainter content = viewport.width > 0 && viewport.height > 0 ? createContent(s, viewport) : null;
+            return new ComponentPaint(viewport, childPaints, content);
+        }
 
-            // Adjust the origin to the top left corner of the component.
-            g2d.translate(marginLeft, marginTop);
+        /**
+         * <code>ComponentPaint</code>: A class representing the layout and content of
+         * a component captured by its <code>snapshot</code> method. Painting only
+         * reads the captured values, so it may run while the component is laid out
+         * again. The surfaces of the component are recycled by each paint, so the
+         * paints of a single interface must not run concurrently.
+         */
+        public final class ComponentPaint {
+
+            private final int x, y, width, height, borderLeft, borderRight, borderTop, borderBottom, marginLeft,
+                    marginTop, rxTL, ryTL, rxTR, ryTR, rxBL, ryBL, rxBR, ryBR, paddingLeft, paddingRight, paddingTop,
+                    paddingBottom, scrollX, scrollY, totalWidth, totalHeight;
+
+            private final Style s;
+
+            private final ImageIcon backgroundIcon;
+
+            private final Rectangle viewport;
+
+            private final List<ComponentPaint> children;
+
+            private final ContentPainter content;
+
+            /**
+             * Creates a new instance of the <code>ComponentPaint</code> class from the
+             * current layout of its component.
+             * 
+             * @param viewport <code>Rectangle</code>: The visible region of the
+             *                 content, in content coordinates.
+             * @param children <code>List&lt;ComponentPaint&gt;</code>: The captured
+             *                 paints of the visible children.
+             * @param content  <code>ContentPainter</code>: The captured content, or
+             *                 <code>null</code> if no content is visible.
+             */
+            private ComponentPaint(Rectangle viewport, List<ComponentPaint> children, ContentPainter content) {
+
+                ComponentInstance component = ComponentInstance.this;
+
+                x = component.x;
+                y = component.y;
+                width = component.width;
+                height = component.height;
+                borderLeft = component.borderLeft;
+                borderRight = component.borderRight;
+                borderTop = component.borderTop;
+                borderBottom = component.borderBottom;
+                marginLeft = component.marginLeft;
+                marginTop = component.marginTop;
+                rxTL = component.rxTL;
+                ryTL = component.ryTL;
+                rxTR = component.rxTR;
+                ryTR = component.ryTR;
+                rxBL = component.rxBL;
+                ryBL = component.ryBL;
+                rxBR = component.rxBR;
+                ryBR = component.ryBR;
+                paddingLeft = component.paddingLeft;
+                paddingRight = component.paddingRight;
+                paddingTop = component.paddingTop;
+                paddingBottom = component.paddingBottom;
+                scrollX = component.scrollX;
+                scrollY = component.scrollY;
+                totalWidth = component.getTotalWidth();
+                totalHeight = component.getTotalHeight();
+
+                s = component.s;
+                backgroundIcon = component.backgroundIcon;
+
+                this.viewport = viewport;
+                this.children = children;
+                this.content = content;
+            }
+
+            /**
+             * Paints this <code>ComponentPaint</code> instance and its children.
+             * 
+             * @return <code>BufferedImage</code>: The painted component, or
+             *         <code>null</code> if the component has no area.
+             */
+            public final BufferedImage paint() {
+
+                BufferedImage contentImage = null;
+                if (content != null) {
+
+                    // Draw the children.
+                    ArrayList<ImageClip> childrenRenders = new ArrayList<>();
+                    for (ComponentPaint child : children) {
+
+                        childrenRenders.add(new ImageClip(child.x, child.y, child.paint()));
+                    }
 
-            Graphics2D g2 = (Graphics2D) g2d.create();
+                    // Create all internal content and perform resizing.
+                    contentImage = contentRender = recycleImage(contentRender, viewport.width, viewport.height);
 
-            // Find the exact center of the component.
-            int internalWidth = width + paddingLeft + paddingRight;
-            int internalHeight = height + paddingTop + paddingBottom;
+                    Graphics2D contentG2d = contentImage.createGraphics();
+                    contentG2d.translate(-viewport.x, -viewport.y);
+                    contentG2d.clipRect(viewport.x, viewport.y, viewport.width, viewport.height);
+                    content.paint(contentG2d, childrenRenders);
+                    contentG2d.dispose();
+                }
 
-            int centerX = internalWidth / 2 + borderLeft;
-            int centerY = internalHeight / 2 + borderTop;
+                // Create the component border and background.
+                if (totalWidth == 0 || totalHeight == 0) {
 
-            // Start the border.
-            BorderStyle borderRightStyle = s.borderRightStyle();
-            Color borderRightColor = s.borderRightColor();
+                    return null;
+                }
 
-            // Draw the right side.
-            if (borderRightStyle != BorderStyle.NONE && borderRight > 0) {
+                BufferedImage component = componentRender = recycleImage(componentRender, totalWidth, totalHeight);
+                Graphics2D g2d = component.createGraphics();
 
-                g2.setColor(borderRightColor);
-                g2.setStroke(new BasicStroke(borderRight * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
-                Shape right = createSide(centerX, centerY, internalWidth, internalHeight, rxTR, ryTR, rxBR, ryBR);
-                g2.draw(right);
-            }
+                // Adjust the origin to the top left corner of the component.
+                g2d.translate(marginLeft, marginTop);
 
-            g2.rotate(Math.PI / 2, centerX, centerY);
+                Graphics2D g2 = (Graphics2D) g2d.create();
 
-            BorderStyle borderBottomStyle = s.borderBottomStyle();
-            Color borderBottomColor = s.borderBottomColor();
+                // Find the exact center of the component.
+                int internalWidth = width + paddingLeft + paddingRight;
+                int internalHeight = height + paddingTop + paddingBottom;
 
-            // Draw the bottom side.
-            if (borderBottomStyle != BorderStyle.NONE && borderBottom > 0) {
+                int centerX = internalWidth / 2 + borderLeft;
+                int centerY = internalHeight / 2 + borderTop;
 
-                g2.setColor(borderBottomColor);
-                g2.setStroke(new BasicStroke(borderBottom * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
-                Shape bottom = createSide(centerX, centerY, internalHeight, internalWidth, ryBR, rxBR, ryBL, rxBL);
-                g2.draw(bottom);
-            }
+                // Start the border.
+                BorderStyle borderRightStyle = s.borderRightStyle();
+                Color borderRightColor = s.borderRightColor();
 
-            g2.rotate(Math.PI / 2, centerX, centerY);
+                // Draw the right side.
+                if (borderRightStyle != BorderStyle.NONE && borderRight > 0) {
 
-            BorderStyle borderLeftStyle = s.borderLeftStyle();
-            Color borderLeftColor = s.borderLeftColor();
+                    g2.setColor(borderRightColor);
+                    g2.setStroke(new BasicStroke(borderRight * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                    Shape right = createSide(centerX, centerY, internalWidth, internalHeight, rxTR, ryTR, rxBR, ryBR);
+                    g2.draw(right);
+                }
 
-            // Draw the left side.
-            if (borderLeftStyle != BorderStyle.NONE && borderLeft > 0) {
+                g2.rotate(Math.PI / 2, centerX, centerY);
 
-                g2.setColor(borderLeftColor);
-                g2.setStroke(new BasicStroke(borderLeft * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
-                Shape left = createSide(centerX, centerY, internalWidth, internalHeight, rxBL, ryBL, rxTL, ryTL);
-                g2.draw(left);
-            }
+                BorderStyle borderBottomStyle = s.borderBottomStyle();
+                Color borderBottomColor = s.borderBottomColor();
 
-            g2.rotate(Math.PI / 2, centerX, centerY);
+                // Draw the bottom side.
+                if (borderBottomStyle != BorderStyle.NONE && borderBottom > 0) {
 
-            BorderStyle borderTopStyle = s.borderTopStyle();
-            Color borderTopColor = s.borderTopColor();
+                    g2.setColor(borderBottomColor);
+                    g2.setStroke(new BasicStroke(borderBottom * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                    Shape bottom = createSide(centerX, centerY, internalHeight, internalWidth, ryBR, rxBR, ryBL, rxBL);
+                    g2.draw(bottom);
+                }
 
-            // Draw the top side.
-            if (borderTopStyle != BorderStyle.NONE && borderTop > 0) {
+                g2.rotate(Math.PI / 2, centerX, centerY);
 
-                g2.setColor(borderTopColor);
-                g2.setStroke(new BasicStroke(borderTop * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
-                Shape top = createSide(centerX, centerY, internalHeight, internalWidth, ryTL, rxTL, ryTR, rxTR);
-                g2.draw(top);
-            }
+                BorderStyle borderLeftStyle = s.borderLeftStyle();
+                Color borderLeftColor = s.borderLeftColor();
 
-            // End the border.
-            g2.dispose();
+                // Draw the left side.
+                if (borderLeftStyle != BorderStyle.NONE && borderLeft > 0) {
 
-            g2d.translate(borderLeft, borderTop);
+                    g2.setColor(borderLeftColor);
+                    g2.setStroke(new BasicStroke(borderLeft * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                    Shape left = createSide(centerX, centerY, internalWidth, internalHeight, rxBL, ryBL, rxTL, ryTL);
+                    g2.draw(left);
+                }
 
-            // Draw the content after the border and the remaining half of the padding.
-            int contentX = paddingLeft;
-            int contentY = paddingTop;
+                g2.rotate(Math.PI / 2, centerX, centerY);
 
-            // Creates the content bounds.
-            Shape contentBounds = createBounds(width + paddingLeft + paddingRight, height + paddingTop + paddingBottom,
-                    rxTR, ryTR, rxTL, ryTL, rxBL, ryBL, rxBR, ryBR);
+                BorderStyle borderTopStyle = s.borderTopStyle();
+                Color borderTopColor = s.borderTopColor();
 
-            // Process the background color and image.
-            Color backgroundColor = s.backgroundColor();
-            String newBackgroundIconPath = s.backgroundIcon();
+                // Draw the top side.
+                if (borderTopStyle != BorderStyle.NONE && borderTop > 0) {
 
-            // If the background icon has changed, recompute it.
-            if (newBackgroundIconPath != null
-                    && (backgroundIconPath == null || !backgroundIconPath.equals(newBackgroundIconPath))) {
+                    g2.setColor(borderTopColor);
+                    g2.setStroke(new BasicStroke(borderTop * 2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                    Shape top = createSide(centerX, centerY, internalHeight, internalWidth, ryTL, rxTL, ryTR, rxTR);
+                    g2.draw(top);
+                }
 
-                backgroundIcon = getWorld().getTexture(newBackgroundIconPath, getRandomComponentId());
-            } else if (newBackgroundIconPath == null) {
+                // End the border.
+                g2.dispose();
 
-                backgroundIcon = null;
-            }
-            backgroundIconPath = newBackgroundIconPath;
+                g2d.translate(borderLeft, borderTop);
 
-            IconSize backgroundSize = s.backgroundSize();
+                // Draw the content after the border and the remaining half of the padding.
+                int contentX = paddingLeft;
+                int contentY = paddingTop;
 
-            // Ensure the shape is self-contained, draw the content and background.
-            g2d.clip(contentBounds);
-            drawBackground(g2d, backgroundColor, backgroundIcon, backgroundSize, contentBounds);
+                // Creates the content bounds.
+                Shape contentBounds = createBounds(internalWidth, internalHeight, rxTR, ryTR, rxTL, ryTL, rxBL, ryBL,
+                        rxBR, ryBR);
 
-            if (content != null) {
+                // Process the background color and image.
+                Color backgroundColor = s.backgroundColor();
+                IconSize backgroundSize = s.backgroundSize();
 
-                g2d.drawImage(content, contentX - scrollX, contentY - scrollY, null);
-            }
+                // Ensure the shape is self-contained, draw the content and background.
+                g2d.clip(contentBounds);
+                drawBackground(g2d, backgroundColor, backgroundIcon, backgroundSize, contentBounds, internalWidth,
+                        internalHeight);
 
-            g2d.dispose();
+                if (contentImage != null) {
 
-            return component;
+                    g2d.drawImage(contentImage, contentX - scrollX + viewport.x, contentY - scrollY + viewport.y, null);
+                }
+
+                g2d.dispose();
+
+                return component;
+            }
         }
 
         private Shape createBounds(int width, int height, int rxTR, int ryTR, int rxTL, int ryTL, int rxBL, int ryBL,
@@ -1011,7 +1214,8 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return path;
         }
 
-        protected final void drawBackground(Graphics2D g2d, Color color, ImageIcon icon, IconSize size, Shape bounds) {
+        protected static final void drawBackground(Graphics2D g2d, Color color, ImageIcon icon, IconSize size,
+                Shape bounds, int width, int height) {
 
             if (color != Style.TRANSPARENT) {
 
@@ -1022,18 +1226,17 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             // Process the background icon, if it has one.
             if (icon != null) {
 
-                drawIcon(g2d, icon, 0, 0, width + paddingLeft + paddingRight, height + paddingTop + paddingBottom,
-                        size);
+                drawIcon(g2d, icon, 0, 0, width, height, size);
             }
         }
 
-        protected final void drawImage(Graphics2D g2d, BufferedImage image, int x, int y) {
+        protected static final void drawImage(Graphics2D g2d, BufferedImage image, int x, int y) {
 
             g2d.drawImage(image, x, y, null);
         }
 
-        protected final void drawImage(Graphics2D g2d, BufferedImage image, int x, int y, int centerX, int centerY,
-                double angle) {
+        protected static final void drawImage(Graphics2D g2d, BufferedImage image, int x, int y, int centerX,
+                int centerY, double angle) {
 
             AffineTransform old = g2d.getTransform();
             AffineTransform tx = new AffineTransform();
@@ -1046,7 +1249,7 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             g2d.setTransform(old);
         }
 
-        protected final void drawIcon(Graphics2D g2d, ImageIcon icon, int x, int y, int width, int height,
+        protected static final void drawIcon(Graphics2D g2d, ImageIcon icon, int x, int y, int width, int height,
                 IconSize size) {
 
             int iconWidth = icon.getIconWidth();
@@ -1063,189 +1266,216 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             g2d.drawImage(icon.getImage(), x, y, backgroundWidth, backgroundHeight, null);
         }
 
-        protected final void drawText(Graphics2D g2d, String text, int x, int y, int width, Color color) {
-
-            g2d.setColor(color);
-            g2d.setFont(font);
+        protected final Dimension calculateIconSize(ImageIcon icon, int x, int y, IconSize size) {
 
-            Stream<String> initLines = Stream.of(text.split("\n"));
+            int iconWidth = icon.getIconWidth();
+            int iconHeight = icon.getIconHeight();
 
-            List<String> lines = (whiteSpace == WhiteSpace.NOWRAP ? initLines
-                    : initLines.flatMap(line -> wrapText(line, fm, width - x).stream()))
-                            .map(line -> textOverflow(fm, line, width - x)).toList();
+            if (iconWidth == 0 || iconHeight == 0) {
 
-            for (int i = 0; i < lines.size(); i++) {
+                return new Dimension(0, 0);
+            }
 
-                text = lines.get(i);
-                int lineWidth = fm.stringWidth(text);
+            int backgroundWidth = size.getWidth(iconWidth, iconHeight, width, height);
+            int backgroundHeight = size.getHeight(iconWidth, iconHeight, width, height);
 
-                // Handle the left align case.
-                if (textAlign == TextAlign.LEFT || lineWidth > width) {
+            return new Dimension(backgroundWidth, backgroundHeight);
+        }
 
-                    g2d.drawString(text, x, y + fontSize + lineHeight * i);
-                    continue;
-                }
+        protected final Dimension calculateTextSize(String text, int x, int y, int width) {
 
-                // Handle the right align case.
-                if (textAlign == TextAlign.RIGHT) {
+            return textStyle.measure(text, x, y, width);
+        }
 
-                    g2d.drawString(text, x + width - lineWidth, y + fontSize + lineHeight * i);
-                    continue;
-                }
+        /**
+         * <code>TextStyle</code>: A record representing the text properties of a
+         * component at its most recent layout, which its text is measured and drawn
+         * using.
+         * 
+         * @param font         <code>Font</code>: The font of the text.
+         * @param fm           <code>FontMetrics</code>: The metrics of the font.
+         * @param fontSize     <code>int</code>: The size of the font.
+         * @param lineHeight   <code>int</code>: The height of each line of text.
+         * @param textAlign    <code>TextAlign</code>: The horizontal alignment of
+         *                     the text.
+         * @param whiteSpace   <code>WhiteSpace</code>: Whether or not the text may
+         *                     wrap.
+         * @param overflowWrap <code>OverflowWrap</code>: Whether or not words may be
+         *                     broken to wrap the text.
+         * @param textOverflow <code>TextOverflow</code>: How lines which overflow are
+         *                     cut off.
+         */
+        public static final record TextStyle(Font font, FontMetrics fm, int fontSize, int lineHeight,
+                TextAlign textAlign, WhiteSpace whiteSpace, OverflowWrap overflowWrap, TextOverflow textOverflow) {
 
-                // Handle the center align case.
-                if (textAlign == TextAlign.CENTER) {
+            public void draw(Graphics2D g2d, String text, int x, int y, int width, Color color) {
 
-                    g2d.drawString(text, x + (width - lineWidth) / 2, y + fontSize + lineHeight * i);
-                    continue;
-                }
+                g2d.setColor(color);
+                g2d.setFont(font);
 
-                // Handle the justify align case.
-                if (i == lines.size() - 1) {
+                Stream<String> initLines = Stream.of(text.split("\n"));
 
-                    g2d.drawString(text, x, y + fontSize + lineHeight * i);
-                    continue;
-                }
+                List<String> lines = (whiteSpace == WhiteSpace.NOWRAP ? initLines
+                        : initLines.flatMap(line -> wrap(line, width - x).stream()))
+                                .map(line -> overflow(line, width - x)).toList();
 
-                String[] tokens = text.split(" ");
-                if (tokens.length <= 1) {
+                for (int i = 0; i < lines.size(); i++) {
 
-                    g2d.drawString(text, x, y + fontSize + lineHeight * i);
-                    continue;
-                }
+                    text = lines.get(i);
+                    int lineWidth = fm.stringWidth(text);
 
-                double splitLength = Arrays.stream(tokens).mapToInt(fm::stringWidth).sum();
-                double spaceWidth = (width - x - splitLength) / (tokens.length - 1);
+                    // Handle the left align case.
+                    if (textAlign == TextAlign.LEFT || lineWidth > width) {
 
-                int offset = 0;
-                for (String token : tokens) {
+                        g2d.drawString(text, x, y + fontSize + lineHeight * i);
+                        continue;
+                    }
 
-                    g2d.drawString(token, x + offset, y + fontSize + lineHeight * i);
-                    offset += spaceWidth + fm.stringWidth(token);
-                }
-            }
-        }
+                    // Handle the right align case.
+                    if (textAlign == TextAlign.RIGHT) {
 
-        protected final Dimension calculateIconSize(ImageIcon icon, int x, int y, IconSize size) {
+                        g2d.drawString(text, x + width - lineWidth, y + fontSize + lineHeight * i);
+                        continue;
+                    }
 
-            int iconWidth = icon.getIconWidth();
-            int iconHeight = icon.getIconHeight();
+                    // Handle the center align case.
+                    if (textAlign == TextAlign.CENTER) {
 
-            if (iconWidth == 0 || iconHeight == 0) {
+                        g2d.drawString(text, x + (width - lineWidth) / 2, y + fontSize + lineHeight * i);
+                        continue;
+                    }
 
-                return new Dimension(0, 0);
-            }
+                    // Handle the justify align case.
+                    if (i == lines.size() - 1) {
 
-            int backgroundWidth = size.getWidth(iconWidth, iconHeight, width, height);
-            int backgroundHeight = size.getHeight(iconWidth, iconHeight, width, height);
+                        g2d.drawString(text, x, y + fontSize + lineHeight * i);
+                        continue;
+                    }
 
-            return new Dimension(backgroundWidth, backgroundHeight);
-        }
+                    String[] tokens = text.split(" ");
+                    if (tokens.length <= 1) {
 
-        protected final Dimension calculateTextSize(String text, int x, int y, int width) {
+                        g2d.drawString(text, x, y + fontSize + lineHeight * i);
+                        continue;
+                    }
 
-            String[] initLines = text.split("\n");
-            List<String> lines = whiteSpace == WhiteSpace.NOWRAP ? List.of(initLines)
-                    : Stream.of(initLines).flatMap(line -> wrapText(line, fm, width - x).stream()).toList();
-            int lineWidth = 0;
+                    double splitLength = Arrays.stream(tokens).mapToInt(fm::stringWidth).sum();
+                    double spaceWidth = (width - x - splitLength) / (tokens.length - 1);
 
-            for (int i = 0; i < lines.size(); i++) {
+                    int offset = 0;
+                    for (String token : tokens) {
 
-                text = textOverflow(fm, lines.get(i), width - x);
-                lineWidth = Math.max(lineWidth, fm.stringWidth(text));
+                        g2d.drawString(token, x + offset, y + fontSize + lineHeight * i);
+                        offset += spaceWidth + fm.stringWidth(token);
+                    }
+                }
             }
 
-            if (textAlign != TextAlign.LEFT) {
+            public Dimension measure(String text, int x, int y, int width) {
 
-                return new Dimension(width, lineHeight * lines.size());
-            }
+                String[] initLines = text.split("\n");
+                List<String> lines = whiteSpace == WhiteSpace.NOWRAP ? List.of(initLines)
+                        : Stream.of(initLines).flatMap(line -> wrap(line, width - x).stream()).toList();
+                int lineWidth = 0;
 
-            return new Dimension(lineWidth, lineHeight * lines.size());
-        }
+                for (int i = 0; i < lines.size(); i++) {
 
-        private ArrayList<String> wrapText(String text, FontMetrics fm, int maxWidth) {
+                    text = overflow(lines.get(i), width - x);
+                    lineWidth = Math.max(lineWidth, fm.stringWidth(text));
+                }
 
-            ArrayList<String> lines = new ArrayList<>();
-            String line = "";
+                if (textAlign != TextAlign.LEFT) {
 
-            int lineStart = 0;
-            int prevBreak = -1;
-            boolean whitespaceBreak = false;
-            for (int i = 0; i < text.length(); i++) {
+                    return new Dimension(width, lineHeight * lines.size());
+                }
 
-                line = text.substring(lineStart, i + 1);
+                return new Dimension(lineWidth, lineHeight * lines.size());
+            }
 
-                char c = text.charAt(i);
-                if (c == '\n') {
+            private ArrayList<String> wrap(String text, int maxWidth) {
 
-                    String prevLine = text.substring(lineStart, i);
-                    lines.add(prevLine);
+                ArrayList<String> lines = new ArrayList<>();
+                String line = "";
 
-                    // Start the new line.
-                    lineStart = i + 1;
-                    line = "";
-                }
+                int lineStart = 0;
+                int prevBreak = -1;
+                boolean whitespaceBreak = false;
+                for (int i = 0; i < text.length(); i++) {
 
-                if (c == ' ' || c == '-') {
+                    line = text.substring(lineStart, i + 1);
 
-                    prevBreak = i;
-                    whitespaceBreak = c == ' ';
-                }
+                    char c = text.charAt(i);
+                    if (c == '\n') {
 
-                int lineLength = fm.stringWidth(line);
+                        String prevLine = text.substring(lineStart, i);
+                        lines.add(prevLine);
 
-                // If the line is too long and can be broken, split into 2 new lines.
-                if (lineLength > maxWidth) {
+                        // Start the new line.
+                        lineStart = i + 1;
+                        line = "";
+                    }
 
-                    if (prevBreak != -1) {
+                    if (c == ' ' || c == '-') {
 
-                        // Cap the old line off with the space/hyphen.
-                        String prevLine = text.substring(lineStart, prevBreak + (whitespaceBreak ? 0 : 1));
-                        lines.add(prevLine);
+                        prevBreak = i;
+                        whitespaceBreak = c == ' ';
+                    }
 
-                        // Start the new line.
-                        lineStart = prevBreak + 1;
-                        prevBreak = -1;
-                        line = text.substring(lineStart, i + 1);
-                    } else if (overflowWrap == OverflowWrap.BREAK_WORD) {
+                    int lineLength = fm.stringWidth(line);
 
-                        String prevLine = text.substring(lineStart, i);
-                        lines.add(prevLine);
+                    // If the line is too long and can be broken, split into 2 new lines.
+                    if (lineLength > maxWidth) {
 
-                        // Start the new line.
-                        lineStart = i;
-                        line = text.substring(lineStart, i + 1);
+                        if (prevBreak != -1) {
+
+                            // Cap the old line off with the space/hyphen.
+                            String prevLine = text.substring(lineStart, prevBreak + (whitespaceBreak ? 0 : 1));
+                            lines.add(prevLine);
+
+                            // Start the new line.
+                            lineStart = prevBreak + 1;
+                            prevBreak = -1;
+                            line = text.substring(lineStart, i + 1);
+                        } else if (overflowWrap == OverflowWrap.BREAK_WORD) {
+
+                            String prevLine = text.substring(lineStart, i);
+                            lines.add(prevLine);
+
+                            // Start the new line.
+                            lineStart = i;
+                            line = text.substring(lineStart, i + 1);
+                        }
                     }
                 }
-            }
 
-            // If the last line is not empty, add it as well.
-            if (!line.isEmpty()) {
+                // If the last line is not empty, add it as well.
+                if (!line.isEmpty()) {
 
-                lines.add(line);
-            }
+                    lines.add(line);
+                }
 
-            return lines;
-        }
+                return lines;
+            }
 
-        private String textOverflow(FontMetrics fm, String line, int maxWidth) {
+            private String overflow(String line, int maxWidth) {
 
-            if (textOverflow != TextOverflow.CLIP && fm.stringWidth(line) > maxWidth) {
+                if (textOverflow != TextOverflow.CLIP && fm.stringWidth(line) > maxWidth) {
 
-                String overflow = textOverflow.overflow();
+                    String overflow = textOverflow.overflow();
 
-                while (line.length() > 1) {
+                    while (line.length() > 1) {
 
-                    line = line.substring(0, line.length() - 1);
-                    if (fm.stringWidth(line + overflow) <= maxWidth) {
+                        line = line.substring(0, line.length() - 1);
+                        if (fm.stringWidth(line + overflow) <= maxWidth) {
 
-                        line += overflow;
-                        break;
+                            line += overflow;
+                            break;
+                        }
                     }
                 }
-            }
 
-            return line;
+                return line;
+            }
         }
 
         @Override
@@ -1393,9 +1623,14 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
+
+            TextStyle text = textStyle;
+            String value = stringVal;
+            int textWidth = width;
+            Color color = style.color();
 
-            drawText(g2d, stringVal, 0, 0, width, style.color());
+            return (g2d, _) -> text.draw(g2d, value, 0, 0, textWidth, color);
         }
     }
 
@@ -1477,12 +1712,20 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
 
-            if (icon != null) {
+            ImageIcon image = icon;
+            int iconWidth = width;
+            int iconHeight = height;
+            IconSize fit = style.iconFit();
 
-                drawIcon(g2d, icon, 0, 0, width, height, style.iconFit());
-            }
+            return (g2d, _) -> {
+
+                if (image != null) {
+
+                    drawIcon(g2d, image, 0, 0, iconWidth, iconHeight, fit);
+                }
+            };
         }
     }
 
@@ -1540,17 +1783,20 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
 
-            // Buttons are not required to have a child.
-            if (children.isEmpty()) {
+            return (g2d, children) -> {
 
-                return;
-            }
+                // Buttons are not required to have a child.
+                if (children.isEmpty()) {
+
+                    return;
+                }
 
-            ImageClip child = children.getFirst();
-            BufferedImage childRender = child.image();
-            drawImage(g2d, childRender, child.x(), child.y());
+                ImageClip child = children.getFirst();
+                BufferedImage childRender = child.image();
+                drawImage(g2d, childRender, child.x(), child.y());
+            };
         }
 
         @Override
@@ -1646,10 +1892,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
+
+            int rotateX = centerX;
+            int rotateY = centerY;
+
+            return (g2d, children) -> {
 
-            ImageClip child = children.getFirst();
-            drawImage(g2d, child.image(), child.x(), child.y(), centerX, centerY, angle);
+                ImageClip child = children.getFirst();
+                drawImage(g2d, child.image(), child.x(), child.y(), rotateX, rotateY, angle);
+            };
         }
     }
 
@@ -1691,11 +1943,11 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
 
-            BufferedImage body = asset.render();
+            Supplier<BufferedImage> body = asset.snapshot();
 
-            drawImage(g2d, body, 0, 0);
+            return (g2d, _) -> drawImage(g2d, body.get(), 0, 0);
         }
     }
 
@@ -1741,13 +1993,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public ContentPainter createContent(Style style, Rectangle viewport) {
 
-            for (ImageClip child : children) {
+            return (g2d, children) -> {
 
-                BufferedImage childRender = child.image();
-                g2d.drawImage(childRender, child.x(), child.y(), null);
-            }
+                for (ImageClip child : children) {
+
+                    BufferedImage childRender = child.image();
+                    g2d.drawImage(childRender, child.x(), child.y(), null);
+                }
+            };
         }
     }
 
@@ -1758,6 +2013,12 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             super(schema, parent, true, random);
         }
 
+        @Override
+        protected final boolean isVirtualized() {
+
+            return true;
+        }
+
         @Override
         public final Dimension calculateContentSize(Style style, List<Rectangle> children) {
 
@@ -1884,13 +2145,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public ContentPainter createContent(Style style, Rectangle viewport) {
 
-            for (ImageClip child : children) {
+            return (g2d, children) -> {
 
-                BufferedImage childRender = child.image();
-                g2d.drawImage(childRender, child.x(), child.y(), null);
-            }
+                for (ImageClip child : children) {
+
+                    BufferedImage childRender = child.image();
+                    g2d.drawImage(childRender, child.x(), child.y(), null);
+                }
+            };
         }
     }
 
@@ -1911,7 +2175,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return 1.0 / (1.7 + Math.atan(zoom / 80));
         }
 
-        private LinkedHashMap<ImageIcon, Rectangle> terrainRenders;
+        /**
+         * <code>int</code>: The distance, in pixels, past the edge of the viewport
+         * within which locations are still laid out, so that pins and counters which
+         * extend beyond their icons are not culled early.
+         */
+        private static final int CULL_MARGIN = 96;
+
+        private final TerrainPyramid terrain = new TerrainPyramid();
+
+        private final LocationIndex locationIndex = new LocationIndex();
 
         private final HashMap<String, ImageIcon> renderIcons = new HashMap<>();
 
@@ -1923,6 +2196,12 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
 
         private String pressedLocation;
 
+        /**
+         * <code>String</code>: The key of the location under the mouse, which is
+         * prefetched while hovered.
+         */
+        private String hoveredLocation;
+
         private String currentLocation;
 
         private long prevPress;
@@ -1959,37 +2238,54 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             DeterministicRandom random = new DeterministicRandom(getRandomComponentId());
             H = height();
 
-            terrainRenders = new LinkedHashMap<>();
+            // The terrain is only re-rasterized if the resolved icons have changed.
+            ArrayList<TerrainPlacement> placements = new ArrayList<>();
             for (TerrainRender render : world.getTerrainRenders()) {
 
-                double h = render.height();
-                if (h >= H) {
-
-                    continue;
-                }
-
                 String iconPath = render.icon().evaluateString(InterfaceInstance.this);
                 ImageIcon icon = renderIcons.computeIfAbsent(iconPath,
                         path -> world.getTexture(iconPath, random.next()));
 
-                double cX = render.x();
-                double cY = render.y();
-                double scale = 1 / (H - h);
+                placements.add(new TerrainPlacement(icon, render.x(), render.y(), render.height()));
+            }
+            terrain.update(placements, style.iconFit());
+
+            currentLocation = world.playerFunction(playerId, Player::getLocation);
 
-                int left = (int) ((cX - centerX) * scale + centerX);
-                int top = (int) ((cY - centerY) * scale + centerY);
-                int iconW = (int) (icon.getIconWidth() * scale);
-                int iconH = (int) (icon.getIconHeight() * scale);
-                Rectangle bounds = new Rectangle(left, top, iconW, iconH);
+            locationRenders = new LinkedHashMap<>();
+            locationIndex.update(world.getLocationRenders());
+
+            double minHeight = locationIndex.getMinHeight();
+            if (minHeight >= H) {
 
-                terrainRenders.put(icon, bounds);
+                return new Dimension(width, height);
             }
 
-            locationRenders = new LinkedHashMap<>();
-            for (Map.Entry<String, LocationRender> renderEntry : world.getLocationRenders().entrySet()) {
+            // Every visible location lies within the viewport at the lowest scale.
+            double minScale = 1 / (H - minHeight);
+            double queryWidth = (width / 2.0 + CULL_MARGIN) / minScale + locationIndex.getMaxExtent();
+            double queryHeight = (height / 2.0 + CULL_MARGIN) / minScale + locationIndex.getMaxExtent();
+
+            LinkedHashSet<String> candidates = new LinkedHashSet<>(locationIndex.query(centerX - queryWidth,
+                    centerY - queryHeight, centerX + queryWidth, centerY + queryHeight));
 
-                String locationId = renderEntry.getKey();
-                LocationRender render = renderEntry.getValue();
+            // The current and selected locations are always laid out, as their buttons
+            // and animations depend on them.
+            if (currentLocation != null && locationIndex.getRender(currentLocation) != null) {
+
+                candidates.add(currentLocation);
+            }
+            if (pressedLocation != null && locationIndex.getRender(pressedLocation) != null) {
+
+                candidates.add(pressedLocation);
+            }
+
+            Rectangle viewport = new Rectangle((int) centerX - width / 2 - CULL_MARGIN,
+                    (int) centerY - height / 2 - CULL_MARGIN, width + 2 * CULL_MARGIN, height + 2 * CULL_MARGIN);
+
+            for (String locationId : candidates) {
+
+                LocationRender render = locationIndex.getRender(locationId);
 
                 double h = render.height();
                 if (h >= H) {
@@ -2031,12 +2327,16 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
                     pinBounds = new Rectangle(pinLeft, pinTop, pinBoundsW, pinBoundsH);
                 }
 
+                boolean visible = viewport.intersects(bounds) || pinBounds != null && viewport.intersects(pinBounds);
+                if (!visible && !locationId.equals(currentLocation) && !locationId.equals(pressedLocation)) {
+
+                    continue;
+                }
+
                 locationRenders.put(locationId, new LocationDisplay(render.name(), render.description(), icon, bounds,
                         render.pin(), pinBounds));
             }
 
-            currentLocation = world.playerFunction(playerId, Player::getLocation);
-
             return new Dimension(width, height);
         }
 
@@ -2078,10 +2378,22 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return new Dimension(width, height);
         }
 
-        @Override
-        public final void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        /**
+         * <code>LocationPaint</code>: A record representing a location on the map as
+         * captured for painting.
+         * 
+         * @param display      <code>LocationDisplay</code>: The display of the
+         *                     location.
+         * @param endCounter   <code>String</code>: The time until the location ends,
+         *                     or <code>null</code> if it does not end.
+         * @param resetCounter <code>String</code>: The time until the location
+         *                     resets, or <code>null</code> if it does not reset.
+         */
+        private static final record LocationPaint(LocationDisplay display, String endCounter, String resetCounter) {
+        }
 
-            Graphics2D init = (Graphics2D) g2d.create();
+        @Override
+        public final ContentPainter createContent(Style style, Rectangle viewport) {
 
             if (pressedLocation != null && System.currentTimeMillis() < prevPress + 2500) {
 
@@ -2096,119 +2408,139 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
                 centerY = adjust * (centerY - targetY) + targetY;
             }
 
-            g2d.translate(width / 2 - centerX, height / 2 - centerY);
+            long now = getWorld().getClock().millis();
 
-            IconSize size = style.iconFit();
+            ArrayList<LocationPaint> locationPaints = new ArrayList<>();
+            for (Map.Entry<String, LocationDisplay> locationRender : locationRenders.sequencedEntrySet()) {
 
-            for (Map.Entry<ImageIcon, Rectangle> terrainRender : terrainRenders.sequencedEntrySet()) {
+                GlobalLocationInstance location = getWorld().getLocation(locationRender.getKey());
+                if (location == null) {
 
-                Rectangle renderBounds = terrainRender.getValue();
-                drawIcon(g2d, terrainRender.getKey(), renderBounds.x, renderBounds.y, renderBounds.width,
-                        renderBounds.height, size);
+                    locationPaints.add(new LocationPaint(locationRender.getValue(), null, null));
+                    continue;
+                }
+
+                locationPaints.add(new LocationPaint(locationRender.getValue(), location.getEndCounter(now),
+                        location.getResetCounter(now)));
             }
 
-            ZonedDateTime now = ZonedDateTime.now();
+            String resetLabel = getWorld().getText("global.resetLabel");
 
-            for (Map.Entry<String, LocationDisplay> locationRender : locationRenders.sequencedEntrySet()) {
+            Rectangle currentBounds = locationRenders.containsKey(currentLocation)
+                    ? locationRenders.get(currentLocation).bounds()
+                    : null;
+            boolean showTravel = pressedLocation != null && locationRenders.containsKey(pressedLocation)
+                    && !pressedLocation.equals(currentLocation);
 
-                String locationKey = locationRender.getKey();
+            TextStyle text = textStyle;
+            IconSize size = style.iconFit();
+            Color color = style.color();
+            ImageIcon pinIcon = playerPin;
 
-                LocationDisplay locationDisplay = locationRender.getValue();
+            double cameraHeight = H;
+            double mapX = centerX;
+            double mapY = centerY;
+            int mapWidth = width;
+            int mapHeight = height;
+            int gap = gapHeight;
 
-                ImageIcon icon = locationDisplay.icon();
-                Rectangle bounds = locationDisplay.bounds();
-                drawIcon(g2d, icon, bounds.x, bounds.y, bounds.width, bounds.height, size);
+            return (g2d, children) -> {
 
-                int boundsCenterX = (int) bounds.getCenterX();
-                int top = bounds.y;
+                Graphics2D init = (Graphics2D) g2d.create();
 
-                ImageIcon pin = locationDisplay.pin();
-                if (pin != null) {
+                terrain.draw(g2d, cameraHeight, mapX, mapY, mapWidth, mapHeight);
 
-                    Rectangle pinBounds = locationDisplay.pinBounds();
-                    drawIcon(g2d, pin, pinBounds.x, pinBounds.y, pinBounds.width, pinBounds.height, size);
+                g2d.translate(mapWidth / 2 - mapX, mapHeight / 2 - mapY);
 
-                    top = pinBounds.y;
-                }
+                for (LocationPaint locationPaint : locationPaints) {
 
-                GlobalLocationInstance location = getWorld().getLocation(locationKey);
-                if (location == null) {
+                    LocationDisplay locationDisplay = locationPaint.display();
 
-                    continue;
-                }
+                    ImageIcon icon = locationDisplay.icon();
+                    Rectangle bounds = locationDisplay.bounds();
+                    drawIcon(g2d, icon, bounds.x, bounds.y, bounds.width, bounds.height, size);
 
-                String endCounter = location.getEndCounter(now);
-                if (endCounter != null) {
+                    int boundsCenterX = (int) bounds.getCenterX();
+                    int top = bounds.y;
 
-                    Dimension endCounterSize = calculateTextSize(endCounter, 0, 0, width);
+                    ImageIcon pin = locationDisplay.pin();
+                    if (pin != null) {
 
-                    int endCounterX = boundsCenterX - endCounterSize.width / 2;
-                    int endCounterY = top - endCounterSize.height - gapHeight;
+                        Rectangle pinBounds = locationDisplay.pinBounds();
+                        drawIcon(g2d, pin, pinBounds.x, pinBounds.y, pinBounds.width, pinBounds.height, size);
 
-                    g2d.setColor(new Color(128, 128, 128, 128));
-                    g2d.fillRect(endCounterX - 5, endCounterY - 2, endCounterSize.width + 10,
-                            endCounterSize.height + 4);
+                        top = pinBounds.y;
+                    }
 
-                    drawText(g2d, endCounter, endCounterX, endCounterY, width, style.color());
+                    String endCounter = locationPaint.endCounter();
+                    if (endCounter != null) {
 
-                    top = endCounterY - 2;
-                }
+                        Dimension endCounterSize = text.measure(endCounter, 0, 0, mapWidth);
 
-                String resetCounter = location.getResetCounter(now);
-                if (resetCounter != null) {
+                        int endCounterX = boundsCenterX - endCounterSize.width / 2;
+                        int endCounterY = top - endCounterSize.height - gap;
 
-                    Dimension resetCounterSize = calculateTextSize(resetCounter, 0, 0, width);
+                        g2d.setColor(new Color(128, 128, 128, 128));
+                        g2d.fillRect(endCounterX - 5, endCounterY - 2, endCounterSize.width + 10,
+                                endCounterSize.height + 4);
 
-                    int resetCounterX = boundsCenterX - resetCounterSize.width / 2;
-                    int resetCounterY = top - resetCounterSize.height - gapHeight;
-                    top = resetCounterY;
+                        text.draw(g2d, endCounter, endCounterX, endCounterY, mapWidth, color);
 
-                    String resetLabel = getWorld().getText("global.resetLabel");
-                    Dimension resetLabelSize = calculateTextSize(resetLabel, 0, 0, width);
+                        top = endCounterY - 2;
+                    }
 
-                    int resetLabelX = boundsCenterX - resetLabelSize.width / 2;
-                    int resetLabelY = top - resetLabelSize.height;
+                    String resetCounter = locationPaint.resetCounter();
+                    if (resetCounter != null) {
 
-                    g2d.setColor(new Color(80, 200, 220));
-                    g2d.fillRect(Math.min(resetCounterX, resetLabelX) - 35, resetLabelY - 2,
-                            Math.max(resetCounterSize.width, resetLabelSize.width) + 70,
-                            resetCounterSize.height + resetLabelSize.height + 4);
+                        Dimension resetCounterSize = text.measure(resetCounter, 0, 0, mapWidth);
 
-                    drawText(g2d, resetCounter, resetCounterX, resetCounterY, width, style.color());
-                    drawText(g2d, resetLabel, resetLabelX, resetLabelY, width, style.color());
-                }
-            }
+                        int resetCounterX = boundsCenterX - resetCounterSize.width / 2;
+                        int resetCounterY = top - resetCounterSize.height - gap;
+                        top = resetCounterY;
 
-            g2d.dispose();
-            g2d = init;
+                        Dimension resetLabelSize = text.measure(resetLabel, 0, 0, mapWidth);
 
-            if (locationRenders.containsKey(currentLocation)) {
+                        int resetLabelX = boundsCenterX - resetLabelSize.width / 2;
+                        int resetLabelY = top - resetLabelSize.height;
 
-                Rectangle locationBounds = locationRenders.get(currentLocation).bounds();
+                        g2d.setColor(new Color(80, 200, 220));
+                        g2d.fillRect(Math.min(resetCounterX, resetLabelX) - 35, resetLabelY - 2,
+                                Math.max(resetCounterSize.width, resetLabelSize.width) + 70,
+                                resetCounterSize.height + resetLabelSize.height + 4);
 
-                double scale = 0.1 / (H + 0.35);
-                int playerPinWidth = (int) (playerPin.getIconWidth() * scale);
-                int playerPinHeight = (int) (playerPin.getIconHeight() * scale);
-                int playerPinX = (int) (locationBounds.getCenterX() + width / 2.0 - centerX) - playerPinWidth / 2;
-                int playerPinY = (int) (locationBounds.getCenterY() + locationBounds.height / 3.25 + height / 2.0
-                        - centerY) - playerPinHeight;
+                        text.draw(g2d, resetCounter, resetCounterX, resetCounterY, mapWidth, color);
+                        text.draw(g2d, resetLabel, resetLabelX, resetLabelY, mapWidth, color);
+                    }
+                }
 
-                drawIcon(g2d, playerPin, playerPinX, playerPinY, playerPinWidth, playerPinHeight, IconSize.COVER);
+                g2d.dispose();
+                g2d = init;
 
-                ImageClip enterButton = children.get(0);
-                BufferedImage enterButtonImage = enterButton.image();
+                if (currentBounds != null) {
 
-                drawImage(g2d, enterButtonImage, enterButton.x(), enterButton.y());
-            }
+                    double scale = 0.1 / (cameraHeight + 0.35);
+                    int playerPinWidth = (int) (pinIcon.getIconWidth() * scale);
+                    int playerPinHeight = (int) (pinIcon.getIconHeight() * scale);
+                    int playerPinX = (int) (currentBounds.getCenterX() + mapWidth / 2.0 - mapX) - playerPinWidth / 2;
+                    int playerPinY = (int) (currentBounds.getCenterY() + currentBounds.height / 3.25
+                            + mapHeight / 2.0 - mapY) - playerPinHeight;
 
-            if (pressedLocation != null && locationRenders.containsKey(pressedLocation)
-                    && !pressedLocation.equals(currentLocation)) {
+                    drawIcon(g2d, pinIcon, playerPinX, playerPinY, playerPinWidth, playerPinHeight, IconSize.COVER);
 
-                ImageClip travelButton = children.get(1);
-                BufferedImage travelButtonImage = travelButton.image();
+                    ImageClip enterButton = children.get(0);
+                    BufferedImage enterButtonImage = enterButton.image();
 
-                drawImage(g2d, travelButtonImage, travelButton.x(), travelButton.y());
-            }
+                    drawImage(g2d, enterButtonImage, enterButton.x(), enterButton.y());
+                }
+
+                if (showTravel) {
+
+                    ImageClip travelButton = children.get(1);
+                    BufferedImage travelButtonImage = travelButton.image();
+
+                    drawImage(g2d, travelButtonImage, travelButton.x(), travelButton.y());
+                }
+            };
         }
 
         @Override
@@ -2259,30 +2591,89 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
 
                 unselectLocation();
             }
+
+            pressedLocation = getLocationAt(mouseX, mouseY);
+
+            if (pressedLocation != null) {
+
+                selectLocation();
+            }
+        }
+
+        @Override
+        public final void onHover(int mouseX, int mouseY) {
+
+            super.onHover(mouseX, mouseY);
+            setHoveredLocation(getLocationAt(mouseX, mouseY));
+        }
+
+        @Override
+        public final void onExit(int mouseX, int mouseY) {
+
+            super.onExit(mouseX, mouseY);
+            setHoveredLocation(null);
+        }
+
+        /**
+         * Retrieves the topmost location under the mouse.
+         * 
+         * @param mouseX <code>int</code>: The X coordinate of the mouse.
+         * @param mouseY <code>int</code>: The Y coordinate of the mouse.
+         * @return <code>String</code>: The key of the location, or <code>null</code>
+         *         if there is no location under the mouse.
+         */
+        private String getLocationAt(int mouseX, int mouseY) {
+
+            if (locationRenders == null) {
+
+                return null;
+            }
+
             mouseX -= width / 2;
             mouseY -= height / 2;
 
             for (Map.Entry<String, LocationDisplay> locationRender : locationRenders.sequencedEntrySet().reversed()) {
 
-                String location = locationRender.getKey();
-                LocationDisplay locationDisplay = locationRender.getValue();
-                Rectangle bounds = locationDisplay.bounds();
+                Rectangle bounds = locationRender.getValue().bounds();
                 if (bounds.contains(mouseX + centerX, mouseY + centerY)) {
 
-                    pressedLocation = location;
-                    break;
+                    return locationRender.getKey();
                 }
             }
 
-            if (pressedLocation != null) {
+            return null;
+        }
 
-                selectLocation();
+        /**
+         * Updates the hovered location, prefetching the new location and cancelling
+         * the prefetch of the previous location unless it is selected.
+         * 
+         * @param location <code>String</code>: The key of the hovered location, or
+         *                 <code>null</code> if no location is hovered.
+         */
+        private void setHoveredLocation(String location) {
+
+            if (Objects.equals(location, hoveredLocation)) {
+
+                return;
+            }
+
+            if (hoveredLocation != null && !hoveredLocation.equals(pressedLocation)) {
+
+                getWorld().cancelPrefetch(hoveredLocation);
+            }
+
+            hoveredLocation = location;
+            if (location != null) {
+
+                getWorld().prefetchLocation(location);
             }
         }
 
         private void selectLocation() {
 
             LocationDisplay location = locationRenders.get(pressedLocation);
+            getWorld().prefetchLocation(pressedLocation);
             getWorld().playerConsumer(playerId, player -> {
 
                 player.displayLocation(location);
@@ -2291,6 +2682,11 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
 
         private void unselectLocation() {
 
+            if (!pressedLocation.equals(hoveredLocation)) {
+
+                getWorld().cancelPrefetch(pressedLocation);
+            }
+
             pressedLocation = null;
             getWorld().closeMenu(playerId);
         }
@@ -2340,12 +2736,15 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
+        public ContentPainter createContent(Style style, Rectangle viewport) {
 
-            for (ImageClip child : children) {
+            return (g2d, children) -> {
 
-                drawImage(g2d, child.image(), child.x(), child.y());
-            }
+                for (ImageClip child : children) {
+
+                    drawImage(g2d, child.image(), child.x(), child.y());
+                }
+            };
         }
     }
 
@@ -2374,7 +2773,29 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
 
         }
 
-        private boolean displayTransfer(ItemTransfer transfer, Graphics2D g2d, long time) {
+        /**
+         * <code>TransferPaint</code>: A record representing the position of an item
+         * transfer as captured for painting.
+         * 
+         * @param item <code>ImageIcon</code>: The icon of the transferred item.
+         * @param x    <code>int</code>: The X coordinate of the item.
+         * @param y    <code>int</code>: The Y coordinate of the item.
+         * @param size <code>int</code>: The width and height of the item.
+         */
+        private static final record TransferPaint(ImageIcon item, int x, int y, int size) {
+        }
+
+        /**
+         * Captures the current position of an item transfer.
+         * 
+         * @param transfer <code>ItemTransfer</code>: The transfer to capture.
+         * @param time     <code>long</code>: The current time in milliseconds.
+         * @param paints   <code>List&lt;TransferPaint&gt;</code>: The captured
+         *                 transfers to add to.
+         * @return <code>boolean</code>: Whether or not the transfer should be kept
+         *         for the next frame.
+         */
+        private boolean captureTransfer(ItemTransfer transfer, long time, List<TransferPaint> paints) {
 
             InventoryComponentInstance firstUi = transfer.startIsPrimary() ? primaryUi : secondaryUi;
             InventoryComponentInstance.SlotDisplay first = firstUi.slots.get(transfer.start());
@@ -2420,7 +2841,7 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
                 slotY = p1.y + (int) ((p2.y - p1.y) * dt * speed / distance);
             }
 
-            drawIcon(g2d, item, slotX, slotY, slotWidth, slotWidth, Style.IconSize.CONTAIN);
+            paints.add(new TransferPaint(item, slotX, slotY, slotWidth));
 
             return !end;
         }
@@ -2492,25 +2913,35 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         }
 
         @Override
-        public void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
-
-            for (ImageClip child : children) {
-
-                drawImage(g2d, child.image(), child.x(), child.y());
-            }
+        public ContentPainter createContent(Style style, Rectangle viewport) {
 
             long time = System.currentTimeMillis();
 
+            ArrayList<TransferPaint> transferPaints = new ArrayList<>();
             for (int i = 0; i < transfers.size(); i++) {
 
                 ItemTransfer transfer = transfers.get(i);
-                boolean keep = displayTransfer(transfer, g2d, time);
+                boolean keep = captureTransfer(transfer, time, transferPaints);
                 if (!keep) {
 
                     transfers.remove(i);
                     i--;
                 }
             }
+
+            return (g2d, children) -> {
+
+                for (ImageClip child : children) {
+
+                    drawImage(g2d, child.image(), child.x(), child.y());
+                }
+
+                for (TransferPaint transfer : transferPaints) {
+
+                    drawIcon(g2d, transfer.item(), transfer.x(), transfer.y(), transfer.size(), transfer.size(),
+                            Style.IconSize.CONTAIN);
+                }
+            };
         }
 
         private boolean primaryInventorySelected = true;
@@ -2804,17 +3235,49 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         public final class SlotDisplay {
 
             private int x, y;
+            private final int layoutX, layoutY;
             private final ImageIcon slotIcon, selectedSlotIcon;
 
             private SlotDisplay(int x, int y, ImageIcon slotIcon, ImageIcon selectedSlotIcon) {
 
-                this.x = x;
-                this.y = y;
+                this.x = layoutX = x;
+                this.y = layoutY = y;
                 this.slotIcon = slotIcon;
                 this.selectedSlotIcon = selectedSlotIcon;
             }
+
+            /**
+             * Returns this <code>SlotDisplay</code> instance to the position it was laid
+             * out at, before the content was offset by the header.
+             */
+            private void reset() {
+
+                x = layoutX;
+                y = layoutY;
+            }
         }
 
+        /**
+         * <code>SlotLayout</code>: A record representing the measurements which the
+         * slot displays of an inventory component were laid out with.
+         * 
+         * @param gridSize  <code>int</code>: The number of grid slots.
+         * @param slotWidth <code>int</code>: The width of each slot.
+         * @param gapWidth  <code>int</code>: The horizontal gap between slots.
+         * @param gapHeight <code>int</code>: The vertical gap between slots.
+         * @param named     <code>Set&lt;String&gt;</code>: The named slots which are
+         *                  displayed.
+         */
+        private static final record SlotLayout(int gridSize, int slotWidth, int gapWidth, int gapHeight,
+                Set<String> named) {
+        }
+
+        /**
+         * <code>SlotLayout</code>: The measurements which the <code>slots</code>
+         * field was last laid out with, or <code>null</code> if it has not been.
+         */
+        private SlotLayout slotLayout;
+
         private int maxSlotWidth;
         private int maxSlotHeight;
 
@@ -2869,6 +3332,12 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             named = schema.getNamed();
         }
 
+        @Override
+        protected final boolean isVirtualized() {
+
+            return true;
+        }
+
         @Override
         public final Dimension calculateContentSize(Style style, List<Rectangle> children) {
 
@@ -2882,10 +3351,28 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             }
 
             gridSize = inventory.getGridSize();
-            slots.clear();
-
             slotWidth = slotSize.getSize(width, 0);
 
+            namedOverlap.clear();
+            namedOverlap.addAll(named.keySet());
+            namedOverlap.retainAll(inventory.getNamedSlots());
+
+            // The slot instances of an inventory only change when it is resized, so while
+            // the measurements match the displays are recycled rather than rebuilt.
+            SlotLayout layout = new SlotLayout(gridSize, slotWidth, gapWidth, gapHeight, Set.copyOf(namedOverlap));
+            if (layout.equals(slotLayout)) {
+
+                for (SlotDisplay slot : slots.values()) {
+
+                    slot.reset();
+                }
+
+                return new Dimension(Math.max(headerWidth, maxSlotWidth), headerHeight + maxSlotHeight);
+            }
+
+            slotLayout = layout;
+            slots.clear();
+
             DeterministicRandom random = new DeterministicRandom(getRandomComponentId());
             World world = getWorld();
 
@@ -2921,10 +3408,6 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
                 }
             }
 
-            namedOverlap.clear();
-            namedOverlap.addAll(named.keySet());
-            namedOverlap.retainAll(inventory.getNamedSlots());
-
             for (String namedSlot : namedOverlap) {
 
                 NamedDisplay p = named.get(namedSlot);
@@ -2975,26 +3458,38 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
             return new Dimension(Math.max(headerWidth, maxSlotWidth), headerHeight + maxSlotHeight);
         }
 
-        @Override
-        public void createContent(Graphics2D g2d, Style style, List<ImageClip> children) {
-
-            if (!children.isEmpty()) {
-
-                ImageClip header = children.getFirst();
-                BufferedImage headerImage = header.image();
-                drawImage(g2d, headerImage, header.x(), header.y());
-            }
+        /**
+         * <code>SlotPaint</code>: A record representing an inventory slot as captured
+         * for painting.
+         * 
+         * @param slotIcon  <code>ImageIcon</code>: The icon of the slot.
+         * @param itemIcon  <code>ImageIcon</code>: The icon of the item in the slot,
+         *                  or <code>null</code> if the slot is empty.
+         * @param stackSize <code>int</code>: The stack size of the item in the slot.
+         * @param x         <code>int</code>: The X coordinate of the slot.
+         * @param y         <code>int</code>: The Y coordinate of the slot.
+         */
+        private static final record SlotPaint(ImageIcon slotIcon, ImageIcon itemIcon, int stackSize, int x, int y) {
+        }
 
-            IconSize slotFit = Style.IconSize.CONTAIN;
+        @Override
+        public ContentPainter createContent(Style style, Rectangle viewport) {
 
             World world = getWorld();
             ImageIcon defaultSlotIcon = getSlotIcon(world, DataConstants.INVENTORY_SLOT_ICON, getRandomComponentId());
             ImageIcon defaultSelectedSlotIcon = getSlotIcon(world, DataConstants.INVENTORY_SLOT_SELECTED_ICON,
                     getRandomComponentId());
 
+            ArrayList<SlotPaint> slotPaints = new ArrayList<>();
             for (InventorySlotInstance slot : slots.sequencedKeySet()) {
 
+                // Slots outside of the visible region do not need to be drawn.
                 SlotDisplay p = slots.get(slot);
+                if (!viewport.intersects(p.x, p.y, slotWidth, slotWidth)) {
+
+                    continue;
+                }
+
                 ItemInstance item = slot.getItem();
 
                 boolean slotSelected = slot == selectedSlot;
@@ -3004,22 +3499,44 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
                     slotIcon = slotSelected ? defaultSelectedSlotIcon : defaultSlotIcon;
                 }
 
-                drawIcon(g2d, slotIcon, p.x, p.y, slotWidth, slotWidth, slotFit);
+                slotPaints.add(item == null ? new SlotPaint(slotIcon, null, 0, p.x, p.y)
+                        : new SlotPaint(slotIcon, item.getIcon(), item.getStackSize(), p.x, p.y));
+            }
 
-                if (item == null) {
+            int slotSize = slotWidth;
+            TextStyle text = textStyle;
+            Color color = style.color();
 
-                    continue;
+            return (g2d, children) -> {
+
+                if (!children.isEmpty()) {
+
+                    ImageClip header = children.getFirst();
+                    BufferedImage headerImage = header.image();
+                    drawImage(g2d, headerImage, header.x(), header.y());
                 }
 
-                drawIcon(g2d, item.getIcon(), p.x, p.y, slotWidth, slotWidth, slotFit);
+                IconSize slotFit = Style.IconSize.CONTAIN;
+
+                for (SlotPaint slot : slotPaints) {
 
-                int stackSize = item.getStackSize();
-                if (stackSize > 1) {
+                    drawIcon(g2d, slot.slotIcon(), slot.x(), slot.y(), slotSize, slotSize, slotFit);
+
+                    if (slot.itemIcon() == null) {
+
+                        continue;
+                    }
 
-                    drawText(g2d, String.valueOf(stackSize), p.x, p.y + slotWidth - lineHeight,
-                            slotWidth + fontSize - lineHeight, style.color());
+                    drawIcon(g2d, slot.itemIcon(), slot.x(), slot.y(), slotSize, slotSize, slotFit);
+
+                    if (slot.stackSize() > 1) {
+
+                        text.draw(g2d, String.valueOf(slot.stackSize()), slot.x(),
+                                slot.y() + slotSize - text.lineHeight(), slotSize + text.fontSize() - text.lineHeight(),
+                                color);
+                    }
                 }
-            }
+            };
         }
     }
 
@@ -3119,19 +3636,31 @@ public final class InterfaceInstance extends AssetInstance implements UIComponen
         return body.rescale(targetWidth, targetHeight);
     }
 
-    @Override
-    public final BufferedImage render() {
+    /**
+     * Captures the layout and content of this <code>InterfaceInstance</code>
+     * instance, so that it can be painted without reading the interface again.
+     * This should be called while the layout of the interface cannot change.
+     * 
+     * @return <code>Supplier&lt;BufferedImage&gt;</code>: The captured interface,
+     *         which paints it when called.
+     */
+    public final Supplier<BufferedImage> snapshot() {
 
-        BufferedImage bodyRender = body.render();
+        ComponentInstance.ComponentPaint bodyPaint = body.snapshot();
         int bodyOffsetX = body.getX();
         int bodyOffsetY = body.getY();
 
-        BufferedImage render = new BufferedImage(bodyOffsetX + bodyRender.getWidth(),
-                bodyOffsetY + bodyRender.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = render.createGraphics();
-        g2d.drawImage(bodyRender, bodyOffsetX, bodyOffsetY, null);
+        return () -> {
 
-        return render;
+            BufferedImage bodyRender = bodyPaint.paint();
+
+            BufferedImage render = new BufferedImage(bodyOffsetX + bodyRender.getWidth(),
+                    bodyOffsetY + bodyRender.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = render.createGraphics();
+            g2d.drawImage(bodyRender, bodyOffsetX, bodyOffsetY, null);
+
+            return render;
+        };
     }
 
     @Override
@@ -19,7 +19,6 @@ package com.transcendruins.assets.interfaces;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Rectangle;
-import java.awt.image.BufferedImage;
 import java.util.List;
 
 import com.transcendruins.assets.scripts.TRScript;
@@ -373,10 +372,5 @@ public interface UIComponent {
 
     public Rectangle rescale(int targetWidth, int targetHeight);
 
-    /**
-     * Draws this <code>UIComponent</code> instance.
-     */
-    public BufferedImage render();
-
     public void updateContent(double time);
 }
@@ -0,0 +1,293 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.interfaces.map;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.ImageIcon;
+
+/**
+ * <code>LocationIndex</code>: A class representing a uniform grid of global
+ * map locations, used to cull locations which are outside of the viewport.
+ */
+public final class LocationIndex {
+
+    /**
+     * <code>double</code>: The width and height, in map units, of a single cell.
+     */
+    private static final double CELL_SIZE = 256;
+
+    /**
+     * <code>ArrayList&lt;String&gt;</code>: The keys of the indexed locations, in
+     * the order they were provided.
+     */
+    private final ArrayList<String> keys = new ArrayList<>();
+
+    /**
+     * <code>ArrayList&lt;LocationRender&gt;</code>: The renders of the indexed
+     * locations, in the same order as the <code>keys</code> field.
+     */
+    private final ArrayList<LocationRender> renders = new ArrayList<>();
+
+    /**
+     * <code>HashMap&lt;String, Integer&gt;</code>: The index of each indexed
+     * location within the <code>keys</code> and <code>renders</code> fields.
+     */
+    private final HashMap<String, Integer> indices = new HashMap<>();
+
+    /**
+     * <code>HashMap&lt;Long, ArrayList&lt;Integer&gt;&gt;</code>: The indices of
+     * the locations in each occupied cell.
+     */
+    private final HashMap<Long, ArrayList<Integer>> cells = new HashMap<>();
+
+    /**
+     * <code>double</code>: The lowest height of any indexed location.
+     */
+    private double minHeight;
+
+    /**
+     * Retrieves the lowest height of any location in this
+     * <code>LocationIndex</code> instance.
+     *
+     * @return <code>double</code>: The <code>minHeight</code> field of this
+     *         <code>LocationIndex</code> instance.
+     */
+    public final double getMinHeight() {
+
+        return minHeight;
+    }
+
+    /**
+     * <code>double</code>: The largest distance, in map units, which any indexed
+     * location extends past its coordinates.
+     */
+    private double maxExtent;
+
+    /**
+     * Retrieves the largest distance which any location in this
+     * <code>LocationIndex</code> instance extends past its coordinates.
+     *
+     * @return <code>double</code>: The <code>maxExtent</code> field of this
+     *         <code>LocationIndex</code> instance.
+     */
+    public final double getMaxExtent() {
+
+        return maxExtent;
+    }
+
+    /**
+     * Updates the locations of this <code>LocationIndex</code> instance. The grid
+     * is only rebuilt if the set of locations has changed; otherwise, each
+     * location whose render has moved into another cell is moved between cells.
+     *
+     * @param locations <code>Map&lt;String, LocationRender&gt;</code>: The
+     *                  locations to index.
+     * @return <code>boolean</code>: Whether or not the cells of the grid changed.
+     */
+    public final boolean update(Map<String, LocationRender> locations) {
+
+        minHeight = Double.POSITIVE_INFINITY;
+        maxExtent = 0;
+
+        if (keys.size() == locations.size() && locations.keySet().containsAll(keys)) {
+
+            boolean moved = false;
+
+            // Refresh the renders so display information and positions stay current.
+            for (int i = 0; i < keys.size(); i++) {
+
+                LocationRender previous = renders.get(i);
+                LocationRender render = locations.get(keys.get(i));
+                renders.set(i, render);
+
+                minHeight = Math.min(minHeight, render.height());
+                maxExtent = Math.max(maxExtent, getExtent(render));
+
+                long previousCell = getCell(previous);
+                long cell = getCell(render);
+                if (previousCell == cell) {
+
+                    continue;
+                }
+
+                ArrayList<Integer> previousEntries = cells.get(previousCell);
+                previousEntries.remove(Integer.valueOf(i));
+                if (previousEntries.isEmpty()) {
+
+                    cells.remove(previousCell);
+                }
+
+                cells.computeIfAbsent(cell, _ -> new ArrayList<>()).add(i);
+                moved = true;
+            }
+
+            return moved;
+        }
+
+        keys.clear();
+        renders.clear();
+        indices.clear();
+        cells.clear();
+
+        for (Map.Entry<String, LocationRender> locationEntry : locations.entrySet()) {
+
+            LocationRender render = locationEntry.getValue();
+            int index = keys.size();
+
+            keys.add(locationEntry.getKey());
+            renders.add(render);
+            indices.put(locationEntry.getKey(), index);
+
+            minHeight = Math.min(minHeight, render.height());
+            maxExtent = Math.max(maxExtent, getExtent(render));
+
+            cells.computeIfAbsent(getCell(render), _ -> new ArrayList<>()).add(index);
+        }
+
+        return true;
+    }
+
+    /**
+     * Retrieves the keys of all locations whose coordinates lie within a region.
+     *
+     * @param minX <code>double</code>: The left edge of the region.
+     * @param minY <code>double</code>: The top edge of the region.
+     * @param maxX <code>double</code>: The right edge of the region.
+     * @param maxY <code>double</code>: The bottom edge of the region.
+     * @return <code>List&lt;String&gt;</code>: The keys of the matching
+     *         locations, in the order they were indexed.
+     */
+    public final List<String> query(double minX, double minY, double maxX, double maxY) {
+
+        BitSet matches = new BitSet(keys.size());
+
+        long startX = getCellIndex(minX);
+        long startY = getCellIndex(minY);
+        long endX = getCellIndex(maxX);
+        long endY = getCellIndex(maxY);
+
+        // If the region covers more cells than are occupied, check each location.
+        if ((endX - startX + 1) * (endY - startY + 1) > cells.size()) {
+
+            for (int i = 0; i < renders.size(); i++) {
+
+                LocationRender render = renders.get(i);
+                if (minX <= render.x() && render.x() <= maxX && minY <= render.y() && render.y() <= maxY) {
+
+                    matches.set(i);
+                }
+            }
+        } else {
+
+            for (long cellY = startY; cellY <= endY; cellY++) {
+
+                for (long cellX = startX; cellX <= endX; cellX++) {
+
+                    ArrayList<Integer> cell = cells.get(getCell(cellX, cellY));
+                    if (cell == null) {
+
+                        continue;
+                    }
+
+                    for (int i : cell) {
+
+                        LocationRender render = renders.get(i);
+                        if (minX <= render.x() && render.x() <= maxX && minY <= render.y() && render.y() <= maxY) {
+
+                            matches.set(i);
+                        }
+                    }
+                }
+            }
+        }
+
+        return matches.stream().mapToObj(keys::get).toList();
+    }
+
+    /**
+     * Retrieves the render of an indexed location.
+     *
+     * @param key <code>String</code>: The key of the location to retrieve.
+     * @return <code>LocationRender</code>: The retrieved render, or
+     *         <code>null</code> if the location is not indexed.
+     */
+    public final LocationRender getRender(String key) {
+
+        Integer index = indices.get(key);
+        return index == null ? null : renders.get(index);
+    }
+
+    /**
+     * Calculates the largest distance which a location extends past its
+     * coordinates, accounting for both its icon and its pin.
+     *
+     * @param render <code>LocationRender</code>: The location to measure.
+     * @return <code>double</code>: The calculated distance in map units.
+     */
+    private static double getExtent(LocationRender render) {
+
+        ImageIcon icon = render.icon();
+        double extent = Math.max(icon.getIconWidth(), icon.getIconHeight()) / 2.0;
+
+        ImageIcon pin = render.pin();
+        if (pin != null) {
+
+            extent += pin.getIconHeight() + 8;
+        }
+
+        return extent;
+    }
+
+    /**
+     * Calculates the cell index of a coordinate.
+     *
+     * @param coordinate <code>double</code>: The coordinate to convert.
+     * @return <code>long</code>: The index of the cell containing the coordinate.
+     */
+    private static long getCellIndex(double coordinate) {
+
+        return (long) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    /**
+     * Retrieves the key of the cell containing a location.
+     *
+     * @param render <code>LocationRender</code>: The location to check.
+     * @return <code>long</code>: The packed key of the cell.
+     */
+    private static long getCell(LocationRender render) {
+
+        return getCell(getCellIndex(render.x()), getCellIndex(render.y()));
+    }
+
+    /**
+     * Packs the indices of a cell into a single key.
+     *
+     * @param cellX <code>long</code>: The X index of the cell.
+     * @param cellY <code>long</code>: The Y index of the cell.
+     * @return <code>long</code>: The packed cell key.
+     */
+    private static long getCell(long cellX, long cellY) {
+
+        return (cellX << 32) ^ (cellY & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,341 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.interfaces.map;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.ImageIcon;
+
+import com.transcendruins.resources.styles.Style.IconSize;
+
+/**
+ * <code>TerrainPyramid</code>: A class representing the global map terrain
+ * rasterized into a cache of tiles at multiple power-of-two resolutions. Each
+ * run of terrain sharing the same height is rasterized as its own layer, so the
+ * parallax between heights is preserved while panning and zooming. The terrain
+ * may be drawn from a painting thread while it is updated from the layout of its
+ * map, so updating and drawing are synchronized.
+ */
+public final class TerrainPyramid {
+
+    /**
+     * <code>int</code>: The width and height, in pixels, of a single tile.
+     */
+    public static final int TILE_SIZE = 256;
+
+    /**
+     * <code>int</code>: The lowest resolution level, which is rasterized at
+     * <code>2^MIN_LEVEL</code> pixels per map unit.
+     */
+    private static final int MIN_LEVEL = -4;
+
+    /**
+     * <code>int</code>: The highest resolution level, which is rasterized at
+     * <code>2^MAX_LEVEL</code> pixels per map unit. Zooming beyond this level
+     * will upscale the highest resolution tiles.
+     */
+    private static final int MAX_LEVEL = 3;
+
+    /**
+     * <code>int</code>: The maximum number of tiles to retain before the least
+     * recently drawn tiles are discarded.
+     */
+    private static final int MAX_TILES = 192;
+
+    /**
+     * <code>BufferedImage</code>: The marker cached for tiles which do not contain
+     * any terrain.
+     */
+    private static final BufferedImage EMPTY_TILE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    /**
+     * <code>TerrainPlacement</code>: A record representing a single terrain icon
+     * which has been resolved from its script.
+     *
+     * @param icon   <code>ImageIcon</code>: The icon to draw.
+     * @param x      <code>double</code>: The X coordinate of the top left corner
+     *               of the icon.
+     * @param y      <code>double</code>: The Y coordinate of the top left corner
+     *               of the icon.
+     * @param height <code>double</code>: The height of the icon above the map.
+     */
+    public static final record TerrainPlacement(ImageIcon icon, double x, double y, double height) {
+    }
+
+    /**
+     * <code>TerrainLayer</code>: A record representing a run of terrain sharing
+     * the same height.
+     *
+     * @param height  <code>double</code>: The height of the layer.
+     * @param terrain <code>List&lt;TerrainPlacement&gt;</code>: The terrain in
+     *                the layer, in draw order.
+     * @param bounds  <code>Rectangle2D</code>: The bounds of the layer in map
+     *                units.
+     */
+    private static final record TerrainLayer(double height, List<TerrainPlacement> terrain, Rectangle2D bounds) {
+    }
+
+    /**
+     * <code>TileKey</code>: A record representing the address of a tile in this
+     * pyramid.
+     *
+     * @param layer <code>int</code>: The index of the layer.
+     * @param level <code>int</code>: The resolution level.
+     * @param x     <code>int</code>: The X index of the tile.
+     * @param y     <code>int</code>: The Y index of the tile.
+     */
+    private static final record TileKey(int layer, int level, int x, int y) {
+    }
+
+    /**
+     * <code>List&lt;TerrainPlacement&gt;</code>: The terrain which the current
+     * tiles were rasterized from.
+     */
+    private List<TerrainPlacement> terrain = List.of();
+
+    /**
+     * <code>IconSize</code>: The icon fit which the current tiles were rasterized
+     * using.
+     */
+    private IconSize size;
+
+    /**
+     * <code>ArrayList&lt;TerrainLayer&gt;</code>: The layers of this
+     * <code>TerrainPyramid</code> instance, in draw order.
+     */
+    private final ArrayList<TerrainLayer> layers = new ArrayList<>();
+
+    /**
+     * <code>LinkedHashMap&lt;TileKey, BufferedImage&gt;</code>: The rasterized
+     * tiles of this <code>TerrainPyramid</code> instance, ordered from least to
+     * most recently drawn.
+     */
+    private final LinkedHashMap<TileKey, BufferedImage> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+
+            return size() > MAX_TILES;
+        }
+    };
+
+    /**
+     * Updates the terrain of this <code>TerrainPyramid</code> instance. The cached
+     * tiles are only discarded if the terrain or the icon fit has changed.
+     *
+     * @param terrain <code>List&lt;TerrainPlacement&gt;</code>: The terrain to
+     *                apply, in draw order.
+     * @param size    <code>IconSize</code>: The icon fit to draw the terrain
+     *                using.
+     * @return <code>boolean</code>: Whether or not the tiles were invalidated.
+     */
+    public final synchronized boolean update(List<TerrainPlacement> terrain, IconSize size) {
+
+        if (size == this.size && terrain.equals(this.terrain)) {
+
+            return false;
+        }
+
+        this.terrain = terrain;
+        this.size = size;
+
+        tiles.clear();
+        layers.clear();
+
+        // Group consecutive terrain of the same height so the draw order is kept.
+        int start = 0;
+        for (int i = 1; i <= terrain.size(); i++) {
+
+            if (i < terrain.size() && terrain.get(i).height() == terrain.get(start).height()) {
+
+                continue;
+            }
+
+            List<TerrainPlacement> run = terrain.subList(start, i);
+            Rectangle2D bounds = null;
+            for (TerrainPlacement placement : run) {
+
+                ImageIcon icon = placement.icon();
+                Rectangle2D iconBounds = new Rectangle2D.Double(placement.x(), placement.y(), icon.getIconWidth(),
+                        icon.getIconHeight());
+                bounds = bounds == null ? iconBounds : bounds.createUnion(iconBounds);
+            }
+
+            layers.add(new TerrainLayer(terrain.get(start).height(), run, bounds));
+            start = i;
+        }
+
+        return true;
+    }
+
+    /**
+     * Draws the visible tiles of this <code>TerrainPyramid</code> instance.
+     *
+     * @param g2d          <code>Graphics2D</code>: The graphics to draw using,
+     *                     whose origin is the top left corner of the viewport.
+     * @param cameraHeight <code>double</code>: The height of the camera above the
+     *                     map. Layers at or above this height are not drawn.
+     * @param centerX      <code>double</code>: The X coordinate of the map at the
+     *                     center of the viewport.
+     * @param centerY      <code>double</code>: The Y coordinate of the map at the
+     *                     center of the viewport.
+     * @param width        <code>int</code>: The width of the viewport.
+     * @param height       <code>int</code>: The height of the viewport.
+     */
+    public final synchronized void draw(Graphics2D g2d, double cameraHeight, double centerX, double centerY,
+            int width, int height) {
+
+        for (int i = 0; i < layers.size(); i++) {
+
+            TerrainLayer layer = layers.get(i);
+            if (layer.height() >= cameraHeight) {
+
+                continue;
+            }
+
+            double scale = 1 / (cameraHeight - layer.height());
+
+            // Use the smallest level which does not need to be upscaled.
+            int level = Math.clamp((long) Math.ceil(Math.log(scale) / Math.log(2)), MIN_LEVEL, MAX_LEVEL);
+            double tileSpan = TILE_SIZE / Math.scalb(1.0, level);
+
+            // Only the tiles which overlap both the viewport and the layer are drawn.
+            double left = Math.max(centerX - width / 2.0 / scale, layer.bounds().getMinX());
+            double top = Math.max(centerY - height / 2.0 / scale, layer.bounds().getMinY());
+            double right = Math.min(centerX + width / 2.0 / scale, layer.bounds().getMaxX());
+            double bottom = Math.min(centerY + height / 2.0 / scale, layer.bounds().getMaxY());
+
+            if (left >= right || top >= bottom) {
+
+                continue;
+            }
+
+            int startX = (int) Math.floor(left / tileSpan);
+            int startY = (int) Math.floor(top / tileSpan);
+            int endX = (int) Math.floor(right / tileSpan);
+            int endY = (int) Math.floor(bottom / tileSpan);
+
+            for (int tileY = startY; tileY <= endY; tileY++) {
+
+                int y0 = (int) Math.floor((tileY * tileSpan - centerY) * scale + height / 2.0);
+                int y1 = (int) Math.floor(((tileY + 1) * tileSpan - centerY) * scale + height / 2.0);
+
+                for (int tileX = startX; tileX <= endX; tileX++) {
+
+                    BufferedImage tile = getTile(i, level, tileX, tileY);
+                    if (tile == EMPTY_TILE) {
+
+                        continue;
+                    }
+
+                    int x0 = (int) Math.floor((tileX * tileSpan - centerX) * scale + width / 2.0);
+                    int x1 = (int) Math.floor(((tileX + 1) * tileSpan - centerX) * scale + width / 2.0);
+
+                    g2d.drawImage(tile, x0, y0, x1 - x0, y1 - y0, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves a tile from this <code>TerrainPyramid</code> instance, rasterizing
+     * it if it is not already cached.
+     *
+     * @param layer <code>int</code>: The index of the layer.
+     * @param level <code>int</code>: The resolution level.
+     * @param x     <code>int</code>: The X index of the tile.
+     * @param y     <code>int</code>: The Y index of the tile.
+     * @return <code>BufferedImage</code>: The retrieved tile, or
+     *         <code>EMPTY_TILE</code> if the tile does not contain any terrain.
+     */
+    private BufferedImage getTile(int layer, int level, int x, int y) {
+
+        return tiles.computeIfAbsent(new TileKey(layer, level, x, y),
+                key -> rasterize(layers.get(key.layer()), key.level(), key.x(), key.y()));
+    }
+
+    /**
+     * Rasterizes a single tile of a layer.
+     *
+     * @param layer <code>TerrainLayer</code>: The layer to rasterize.
+     * @param level <code>int</code>: The resolution level.
+     * @param x     <code>int</code>: The X index of the tile.
+     * @param y     <code>int</code>: The Y index of the tile.
+     * @return <code>BufferedImage</code>: The rasterized tile, or
+     *         <code>EMPTY_TILE</code> if the tile does not contain any terrain.
+     */
+    private BufferedImage rasterize(TerrainLayer layer, int level, int x, int y) {
+
+        double levelScale = Math.scalb(1.0, level);
+        Rectangle tileBounds = new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+
+        BufferedImage tile = null;
+        Graphics2D g2d = null;
+
+        for (TerrainPlacement placement : layer.terrain()) {
+
+            ImageIcon icon = placement.icon();
+            int iconWidth = icon.getIconWidth();
+            int iconHeight = icon.getIconHeight();
+
+            if (iconWidth == 0 || iconHeight == 0) {
+
+                continue;
+            }
+
+            int boundsWidth = (int) (iconWidth * levelScale);
+            int boundsHeight = (int) (iconHeight * levelScale);
+
+            Rectangle bounds = new Rectangle((int) Math.floor(placement.x() * levelScale),
+                    (int) Math.floor(placement.y() * levelScale), size.getWidth(iconWidth, iconHeight, boundsWidth,
+                            boundsHeight),
+                    size.getHeight(iconWidth, iconHeight, boundsWidth, boundsHeight));
+
+            if (!bounds.intersects(tileBounds)) {
+
+                continue;
+            }
+
+            // Only allocate the tile once there is something to draw on it.
+            if (tile == null) {
+
+                tile = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+                g2d = tile.createGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.translate(-tileBounds.x, -tileBounds.y);
+            }
+
+            g2d.drawImage(icon.getImage(), bounds.x, bounds.y, bounds.width, bounds.height, null);
+        }
+
+        if (tile == null) {
+
+            return EMPTY_TILE;
+        }
+
+        g2d.dispose();
+        return tile;
+    }
+}
@@ -17,13 +17,13 @@
 package com.transcendruins.assets.layouts;
 
 import java.awt.Dimension;
-import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import com.jme3.math.Vector3f;
 import com.transcendruins.assets.AssetType;
@@ -242,9 +242,27 @@ public final class LayoutAttributes extends AssetAttributes {
             int num = count.get(random.next());
             int failures = 0;
 
-            for (int i = 0; i < num; i++) {
+            // Each instance is generated from its own derived stream, so its contents do not
+            // depend on the order or the thread it was generated on.
+            DeterministicRandom streams = new DeterministicRandom(random.next());
+            World world = location.getWorld();
+
+            IntStream instances = IntStream.range(0, num);
+            if (num > 1 && isIndependent()) {
+
+                instances = instances.parallel();
+            }
+
+            List<AreaGrid> areas = instances.mapToObj(i -> {
+
+                DeterministicRandom stream = streams.derive(i);
+                return world.withRandom(stream, () -> generateContent(parent, stream, location, null));
+            }).toList();
+
+            // Instances are placed in order, so conflicts over the occupancy of the parent
+            // always resolve the same way.
+            for (AreaGrid area : areas) {
 
-                AreaGrid area = generateContent(parent, random, location, null);
                 if (area == null) {
 
                     continue;
@@ -257,14 +275,14 @@ public final class LayoutAttributes extends AssetAttributes {
                 GenerationShapeInstance shape = placementOption.generateShape(parent, area.getWidth(), area.getLength(),
                         random);
 
-                Point point = shape.getPoint(p -> parent.canAddAt(area, p.x, p.y), random);
-                if (point == null) {
+                long point = shape.getPoint((x, z) -> parent.canAddAt(area, x, z), random);
+                if (point == GenerationShapeInstance.NONE) {
 
                     failures++;
                     continue;
                 }
 
-                parent.addArea(area, point.x, point.y);
+                parent.addArea(area, GenerationShapeInstance.getX(point), GenerationShapeInstance.getZ(point));
             }
 
             return new int[] { num, failures };
@@ -272,6 +290,20 @@ public final class LayoutAttributes extends AssetAttributes {
 
         public abstract AreaGrid generateContent(AreaGrid parent, DeterministicRandom random,
                 GlobalLocationInstance location, GenerationPlacement spawn);
+
+        /**
+         * Determines whether or not the content of this
+         * <code>GenerationLayout</code> instance can be generated without reading
+         * or modifying its parent, allowing multiple instances to be generated in
+         * parallel.
+         * 
+         * @return <code>boolean</code>: Whether or not the content is independent
+         *         of its parent.
+         */
+        protected boolean isIndependent() {
+
+            return true;
+        }
     }
 
     public static final record AssetConnection(AssetType type, Identifier identifier, WeightedRoll<String> connection) {
@@ -504,6 +536,13 @@ public final class LayoutAttributes extends AssetAttributes {
 
             return null;
         }
+
+        @Override
+        protected final boolean isIndependent() {
+
+            // Connected assets are attached to the assets already in the parent.
+            return connection == null;
+        }
     }
 
     public final class LayoutGenerationLayout extends GenerationLayout {
@@ -688,6 +727,15 @@ public final class LayoutAttributes extends AssetAttributes {
             }
         }
 
+        /**
+         * <code>PendingComponent</code>: A record representing a grid component
+         * whose cells have been reserved but whose content has not yet been
+         * generated.
+         */
+        private static final record PendingComponent(GridComponent component, Dimension size,
+                DeterministicRandom random, int x, int z) {
+        }
+
         private GridComponent createGridComponent(TracedDictionary json) throws LoggedException {
 
             TracedEntry<TracedDictionary> componentEntry = json.getAsDict("component", false);
@@ -754,6 +802,8 @@ public final class LayoutAttributes extends AssetAttributes {
 
             private final HashMap<String, ArrayList<Rectangle>> tagged = new HashMap<>();
 
+            private final ArrayList<PendingComponent> pending = new ArrayList<>();
+
             @Override
             public final List<Rectangle> getMatches(String tag) {
 
@@ -768,19 +818,23 @@ public final class LayoutAttributes extends AssetAttributes {
                 GenerationPlacement placement = component.placement.get(random.next());
                 GenerationShapeInstance placementShape = placement.generateShape(this, componentSize.width,
                         componentSize.height, random);
-                Point point = placementShape.getPoint(p -> {
+                int width = componentSize.width;
+                int length = componentSize.height;
 
-                    Rectangle bounds = new Rectangle(p, componentSize);
-                    if (!gridBounds.contains(bounds)) {
+                long point = placementShape.getPoint((pointX, pointZ) -> {
+
+                    if (pointX < 0 || pointZ < 0 || pointX + width > gridBounds.width
+                            || pointZ + length > gridBounds.height) {
 
                         return false;
                     }
 
-                    if (bounds.width * bounds.height > components.size()) {
+                    if (width * length > components.size()) {
 
                         for (Rectangle rect : components) {
 
-                            if (rect.intersects(bounds)) {
+                            if (rect.x < pointX + width && pointX < rect.x + rect.width && rect.y < pointZ + length
+                                    && pointZ < rect.y + rect.height) {
 
                                 return false;
                             }
@@ -789,10 +843,10 @@ public final class LayoutAttributes extends AssetAttributes {
                         return true;
                     }
 
-                    for (int j = 0; j < bounds.width * bounds.height; j++) {
+                    for (int j = 0; j < width * length; j++) {
 
-                        int x = bounds.x + j % bounds.width;
-                        int z = bounds.y + j / bounds.width;
+                        int x = pointX + j % width;
+                        int z = pointZ + j / width;
 
                         if (cells[x + z * gridBounds.width]) {
 
@@ -802,12 +856,13 @@ public final class LayoutAttributes extends AssetAttributes {
 
                     return true;
                 }, random);
-                if (point == null) {
+                if (point == GenerationShapeInstance.NONE) {
 
                     return false;
                 }
 
-                Rectangle bounds = new Rectangle(point, componentSize);
+                Rectangle bounds = new Rectangle(GenerationShapeInstance.getX(point),
+                        GenerationShapeInstance.getZ(point), width, length);
                 components.add(bounds);
 
                 for (int j = 0; j < bounds.width * bounds.height; j++) {
@@ -818,13 +873,13 @@ public final class LayoutAttributes extends AssetAttributes {
                     cells[x + z * gridBounds.width] = true;
                 }
 
-                AreaGrid componentArea = component.generateContent(componentSize, cellSize, borderWidth, random,
-                        location);
-
+                // The cells are reserved now, but the content is generated once every
+                // component has been placed so that the components can be generated in parallel.
                 int x = componentSize.width * (cellSize.width + borderWidth);
                 int z = componentSize.height * (cellSize.height + borderWidth);
 
-                area.addArea(componentArea, x, z);
+                pending.add(new PendingComponent(component, componentSize, new DeterministicRandom(random.next()), x,
+                        z));
 
                 if (component.tag != null) {
 
@@ -837,6 +892,32 @@ public final class LayoutAttributes extends AssetAttributes {
                 return true;
             }
 
+            /**
+             * Generates the content of every placed component in parallel, then adds
+             * the components to the area in the order they were placed.
+             * 
+             * @param location <code>GlobalLocationInstance</code>: The location to
+             *                 generate the components in.
+             */
+            public final void generatePending(GlobalLocationInstance location) {
+
+                World world = location.getWorld();
+
+                List<AreaGrid> componentAreas = pending.parallelStream()
+                        .map(component -> world.withRandom(component.random(),
+                                () -> component.component().generateContent(component.size(), cellSize, borderWidth,
+                                        component.random(), location)))
+                        .toList();
+
+                for (int i = 0; i < pending.size(); i++) {
+
+                    PendingComponent component = pending.get(i);
+                    area.addArea(componentAreas.get(i), component.x(), component.z());
+                }
+
+                pending.clear();
+            }
+
             public GridPlacementArea(Dimension gridSize, Dimension cellSize, int borderWidth,
                     GenerationPlacement spawn) {
 
@@ -868,6 +949,8 @@ public final class LayoutAttributes extends AssetAttributes {
                             component -> component.count().get(random.next())),
                     GridComponent::chance, component -> component.limit().get(random.next()), random, 0.5, 5);
 
+            area.generatePending(location);
+
             return area.area;
         }
     }
@@ -64,16 +64,21 @@ public final class LayoutInstance extends AssetInstance {
 
         DeterministicRandom random = getRandom();
 
-        AreaGrid parent = new AreaGrid(new Dimension(), null);
-        GenerationPlacement spawnPoint = spawn.get(random.next());
-        AreaGrid area = generation.generateContent(parent, random, location, spawnPoint);
+        // Any assets created during generation draw from this layout rather than the
+        // world, so the result depends only on the layout.
+        return getWorld().withRandom(random, () -> {
 
-        if (area == null) {
+            AreaGrid parent = new AreaGrid(new Dimension(), null);
+            GenerationPlacement spawnPoint = spawn.get(random.next());
+            AreaGrid area = generation.generateContent(parent, random, location, spawnPoint);
 
-            return parent;
-        }
+            if (area == null) {
 
-        return area;
+                return parent;
+            }
+
+            return area;
+        });
     }
 
     /**
@@ -22,10 +22,38 @@ public abstract class GenerationDistribution {
 
             return 1.0;
         }
+
+        @Override
+        public final double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            return 1.0;
+        }
     };
 
     public abstract double getChance(int x, int z, DeterministicRandom random);
 
+    /**
+     * Calculates an upper bound of the chance of any point within a rectangular
+     * region.
+     * 
+     * @param minX <code>int</code>: The minimum X coordinate of the region.
+     * @param minZ <code>int</code>: The minimum Z coordinate of the region.
+     * @param maxX <code>int</code>: The maximum X coordinate of the region.
+     * @param maxZ <code>int</code>: The maximum Z coordinate of the region.
+     * @return <code>double</code>: The upper bound of the chance.
+     */
+    public abstract double getMaxChance(int minX, int minZ, int maxX, int maxZ);
+
+    private static int nearest(int min, int max) {
+
+        return Math.clamp(0, min, max);
+    }
+
+    private static int farthest(int min, int max) {
+
+        return Math.max(Math.abs(min), Math.abs(max));
+    }
+
     public static final GenerationDistribution createDistribution(TracedDictionary json) throws LoggedException {
 
         TracedEntry<String> typeEntry = json.getAsString("type", false, null);
@@ -67,6 +95,12 @@ public abstract class GenerationDistribution {
 
             return Math.exp(-(x * x + z * z) / (2 * spread * spread));
         }
+
+        @Override
+        public double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            return getChance(nearest(minX, maxX), nearest(minZ, maxZ), null);
+        }
     }
 
     public static final class PeripheralGenerationDistribution extends GenerationDistribution {
@@ -84,6 +118,12 @@ public abstract class GenerationDistribution {
 
             return Math.exp((x * x + z * z) / (50 * spread * spread));
         }
+
+        @Override
+        public double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            return getChance(farthest(minX, maxX), farthest(minZ, maxZ), null);
+        }
     }
 
     public static final class RingGenerationDistribution extends GenerationDistribution {
@@ -108,6 +148,13 @@ public abstract class GenerationDistribution {
 
             return Math.exp(-(r_sqr + radius * radius - 2 * radius * Math.sqrt(r_sqr)) / (2 * spread * spread));
         }
+
+        @Override
+        public double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            // The chance peaks at the radius of the ring.
+            return 1.0;
+        }
     }
 
     public static final class SumGenerationDistribution extends GenerationDistribution {
@@ -141,5 +188,12 @@ public abstract class GenerationDistribution {
 
             return distributions.stream().mapToDouble(distribution -> distribution.getChance(x, z, random)).sum();
         }
+
+        @Override
+        public double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            return distributions.stream()
+                    .mapToDouble(distribution -> distribution.getMaxChance(minX, minZ, maxX, maxZ)).sum();
+        }
     }
 }
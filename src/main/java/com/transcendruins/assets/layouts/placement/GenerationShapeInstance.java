@@ -16,10 +16,7 @@
 
 package com.transcendruins.assets.layouts.placement;
 
-import java.awt.Point;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.function.Function;
+import java.util.Arrays;
 
 import com.transcendruins.assets.layouts.placement.GenerationShapeSchema.CircleGenerationShapeSchema;
 import com.transcendruins.assets.layouts.placement.GenerationShapeSchema.PointGenerationShapeSchema;
@@ -28,18 +25,48 @@ import com.transcendruins.assets.layouts.placement.GenerationShapeSchema.RingGen
 import com.transcendruins.assets.layouts.placement.GenerationShapeSchema.SpanGenerationShapeSchema;
 import com.transcendruins.assets.layouts.placement.GenerationShapeSchema.SquareGenerationShapeSchema;
 import com.transcendruins.utilities.random.DeterministicRandom;
-import com.transcendruins.utilities.selection.WeightedRoll;
 
 public abstract class GenerationShapeInstance {
 
-    public static final GenerationShapeInstance DEFAULT = new GenerationShapeInstance(GenerationDistribution.UNIFORM, 0,
-            0, 0, 0) {
+    /**
+     * <code>long</code>: The value returned by the <code>getPoint</code> method
+     * when no point could be found.
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * <code>int</code>: The number of candidates which are drawn at random before
+     * the candidates are searched exhaustively.
+     */
+    private static final int SAMPLE_ATTEMPTS = 64;
+
+    /**
+     * <code>PointFilter</code>: An interface representing a test of whether a
+     * point can be placed at.
+     */
+    @FunctionalInterface
+    public static interface PointFilter {
+
+        public boolean test(int x, int z);
+    }
 
-        @Override
-        public final Iterator<Point> createIterator() {
+    public static final long pack(int x, int z) {
 
-            return new ArrayList<Point>().iterator();
-        }
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static final int getX(long point) {
+
+        return (int) (point >> 32);
+    }
+
+    public static final int getZ(long point) {
+
+        return (int) point;
+    }
+
+    public static final GenerationShapeInstance DEFAULT = new GenerationShapeInstance(GenerationDistribution.UNIFORM, 0,
+            0, 0, 0) {
     };
 
     public static final GenerationShapeInstance createShape(GenerationShapeSchema schema, DeterministicRandom random,
@@ -85,402 +112,296 @@ public abstract class GenerationShapeInstance {
 
     private final int childLength;
 
-    public GenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ, int childWidth,
-            int childLength) {
+    // The candidates of the shape are stored as rows of consecutive X coordinates.
+    private int[] rowX = new int[8];
 
-        this.distribution = distribution;
-        this.centerX = centerX;
-        this.centerZ = centerZ;
-        this.childWidth = childWidth;
-        this.childLength = childLength;
-    }
+    private int[] rowZ = new int[8];
 
-    public final Point getPoint(Function<Point, Boolean> filter, DeterministicRandom random) {
+    // The number of candidates in each row and every row before it.
+    private int[] rowEnd = new int[8];
 
-        ArrayList<Point> options = new ArrayList<>();
+    private int rows = 0;
 
-        Iterator<Point> it = createIterator();
-        while (it.hasNext()) {
+    private int count = 0;
 
-            Point p = it.next();
+    private int minX = Integer.MAX_VALUE;
 
-            if (filter.apply(p)) {
+    private int minZ = Integer.MAX_VALUE;
 
-                options.add(p);
-            }
-        }
+    private int maxX = Integer.MIN_VALUE;
 
-        if (options.isEmpty()) {
+    private int maxZ = Integer.MIN_VALUE;
 
-            return null;
-        }
+    public GenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ, int childWidth,
+            int childLength) {
 
-        WeightedRoll<Point> roll = new WeightedRoll<>(options.stream(),
-                p -> distribution.getChance(p.x + childWidth / 2 - centerX, p.y + childLength / 2 - centerZ, random));
-        return roll.get(random.next());
+        this.distribution = distribution;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.childWidth = childWidth;
+        this.childLength = childLength;
     }
 
-    protected abstract Iterator<Point> createIterator();
+    protected final void addRow(int startX, int z, int length) {
 
-    public static final class SpanGenerationShapeInstance extends GenerationShapeInstance {
+        if (length <= 0) {
 
-        private final int parentWidth;
-
-        private final int parentLength;
-
-        public SpanGenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ,
-                int parentWidth, int parentLength, int childWidth, int childLength) {
+            return;
+        }
 
-            super(distribution, centerX, centerZ, childWidth, childLength);
+        if (rows == rowX.length) {
 
-            this.parentWidth = parentWidth;
-            this.parentLength = parentLength;
+            rowX = Arrays.copyOf(rowX, rows * 2);
+            rowZ = Arrays.copyOf(rowZ, rows * 2);
+            rowEnd = Arrays.copyOf(rowEnd, rows * 2);
         }
 
-        @Override
-        public final Iterator<Point> createIterator() {
-
-            return new Iterator<>() {
+        count += length;
 
-                private int x = 0;
-                private int z = 0;
+        rowX[rows] = startX;
+        rowZ[rows] = z;
+        rowEnd[rows] = count;
+        rows++;
 
-                @Override
-                public final boolean hasNext() {
+        minX = Math.min(minX, startX);
+        maxX = Math.max(maxX, startX + length - 1);
+        minZ = Math.min(minZ, z);
+        maxZ = Math.max(maxZ, z);
+    }
 
-                    return z < parentLength;
-                }
+    private long getCandidate(int index) {
 
-                @Override
-                public final Point next() {
+        // Find the first row which ends after the index.
+        int row = Arrays.binarySearch(rowEnd, 0, rows, index);
+        row = row < 0 ? -row - 1 : row + 1;
 
-                    Point p = new Point(x, z);
+        int rowStart = row == 0 ? 0 : rowEnd[row - 1];
+        return pack(rowX[row] + index - rowStart, rowZ[row]);
+    }
 
-                    x++;
-                    if (x >= parentWidth) {
+    public final long getPoint(PointFilter filter, DeterministicRandom random) {
 
-                        x = 0;
-                        z++;
-                    }
+        if (count == 0) {
 
-                    return p;
-                }
-            };
+            return NONE;
         }
-    };
 
-    public static final class PointGenerationShapeInstance extends GenerationShapeInstance {
+        int offsetX = childWidth / 2 - centerX;
+        int offsetZ = childLength / 2 - centerZ;
 
-        public PointGenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ,
-                int childWidth, int childLength) {
+        double maxChance = distribution.getMaxChance(minX + offsetX, minZ + offsetZ, maxX + offsetX,
+                maxZ + offsetZ);
 
-            super(distribution, centerX, centerZ, childWidth, childLength);
-        }
+        // Draw candidates lazily, accepting each in proportion to its chance. This only
+        // succeeds quickly while most of the shape is open, so after a fixed number of
+        // attempts the candidates are searched exhaustively instead.
+        if (Double.isFinite(maxChance) && maxChance > 0) {
 
-        @Override
-        public final Iterator<Point> createIterator() {
+            for (int attempt = 0; attempt < SAMPLE_ATTEMPTS; attempt++) {
 
-            return new Iterator<>() {
+                long point = getCandidate((int) (DeterministicRandom.toDouble(random.next()) * count));
+                int x = getX(point);
+                int z = getZ(point);
 
-                private boolean consumed = false;
+                double chance = distribution.getChance(x + offsetX, z + offsetZ, random);
+                if (chance < maxChance && DeterministicRandom.toDouble(random.next()) * maxChance >= chance) {
 
-                @Override
-                public final boolean hasNext() {
-
-                    return !consumed;
+                    continue;
                 }
 
-                @Override
-                public final Point next() {
+                if (filter.test(x, z)) {
 
-                    consumed = true;
-                    return new Point(centerX, centerZ);
+                    return point;
                 }
-            };
+            }
         }
-    }
 
-    public static final class SquareGenerationShapeInstance extends GenerationShapeInstance {
+        return searchPoint(filter, random, offsetX, offsetZ);
+    }
 
-        private final int width;
+    private long searchPoint(PointFilter filter, DeterministicRandom random, int offsetX, int offsetZ) {
 
-        private final int startX;
+        long[] open = new long[(count + 63) >>> 6];
+        int openCount = 0;
+        double total = 0;
 
-        private final int startZ;
+        for (int row = 0, index = 0; row < rows; row++) {
 
-        private final int ceilX;
+            int z = rowZ[row];
+            for (int x = rowX[row]; index < rowEnd[row]; x++, index++) {
 
-        private final int ceilZ;
+                if (!filter.test(x, z)) {
 
-        public SquareGenerationShapeInstance(GenerationShapeSchema.SquareGenerationShapeSchema schema,
-                DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
-                int childWidth, int childLength) {
-
-            super(distribution, centerX, centerZ, childWidth, childLength);
+                    continue;
+                }
 
-            width = schema.getWidth().get(random.next());
+                open[index >>> 6] |= 1L << index;
+                openCount++;
+                total += distribution.getChance(x + offsetX, z + offsetZ, random);
+            }
+        }
 
-            startX = centerX - width / 2;
-            startZ = centerZ - width / 2;
+        if (openCount == 0) {
 
-            ceilX = centerX + (int) (Math.ceil(width / 2.0));
-            ceilZ = centerZ + (int) Math.ceil(width / 2.0);
+            return NONE;
         }
 
-        @Override
-        public final Iterator<Point> createIterator() {
+        // If the chances cannot be summed, every open candidate is equally likely.
+        boolean weighted = Double.isFinite(total) && total > 0;
+        double target = DeterministicRandom.toDouble(random.next()) * (weighted ? total : openCount);
 
-            return new Iterator<>() {
+        long point = NONE;
+        for (int row = 0, index = 0; row < rows; row++) {
 
-                private int x = startX;
+            int z = rowZ[row];
+            for (int x = rowX[row]; index < rowEnd[row]; x++, index++) {
 
-                private int z = startZ;
+                if ((open[index >>> 6] & (1L << index)) == 0) {
 
-                @Override
-                public final boolean hasNext() {
-
-                    return z < ceilZ;
+                    continue;
                 }
 
-                @Override
-                public final Point next() {
-
-                    Point p = new Point(x, z);
+                point = pack(x, z);
 
-                    x++;
-                    if (x >= ceilX) {
+                target -= weighted ? distribution.getChance(x + offsetX, z + offsetZ, random) : 1;
+                if (target < 0) {
 
-                        x = centerX - width / 2;
-                        z++;
-                    }
-
-                    return p;
+                    return point;
                 }
-            };
+            }
         }
 
+        // Rounding may leave a remainder, in which case the last open candidate is used.
+        return point;
     }
 
-    public static final class RectangleGenerationShapeInstance extends GenerationShapeInstance {
-
-        private final int width;
+    public static final class SpanGenerationShapeInstance extends GenerationShapeInstance {
 
-        private final int length;
+        public SpanGenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ,
+                int parentWidth, int parentLength, int childWidth, int childLength) {
 
-        private final int startX;
+            super(distribution, centerX, centerZ, childWidth, childLength);
 
-        private final int startZ;
+            for (int z = 0; z < parentLength; z++) {
 
-        private final int ceilX;
+                addRow(0, z, parentWidth);
+            }
+        }
+    };
 
-        private final int ceilZ;
+    public static final class PointGenerationShapeInstance extends GenerationShapeInstance {
 
-        protected RectangleGenerationShapeInstance(GenerationShapeSchema.RectangleGenerationShapeSchema schema,
-                DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
+        public PointGenerationShapeInstance(GenerationDistribution distribution, int centerX, int centerZ,
                 int childWidth, int childLength) {
 
             super(distribution, centerX, centerZ, childWidth, childLength);
 
-            width = schema.getWidth().get(random.next());
-            length = schema.getLength().get(random.next());
-
-            startX = centerX - width / 2;
-            startZ = centerZ - length / 2;
-
-            ceilX = centerX + (int) (Math.ceil(width / 2.0));
-            ceilZ = centerZ + (int) Math.ceil(length / 2.0);
+            addRow(centerX, centerZ, 1);
         }
+    }
 
-        @Override
-        public final Iterator<Point> createIterator() {
-
-            return new Iterator<>() {
-
-                private int x = startX;
-
-                private int z = startZ;
+    public static final class SquareGenerationShapeInstance extends GenerationShapeInstance {
 
-                @Override
-                public final boolean hasNext() {
+        public SquareGenerationShapeInstance(GenerationShapeSchema.SquareGenerationShapeSchema schema,
+                DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
+                int childWidth, int childLength) {
 
-                    return z < ceilZ;
-                }
+            super(distribution, centerX, centerZ, childWidth, childLength);
 
-                @Override
-                public final Point next() {
+            int width = schema.getWidth().get(random.next());
 
-                    Point p = new Point(x, z);
+            int startX = centerX - width / 2;
+            int startZ = centerZ - width / 2;
 
-                    x++;
-                    if (x >= ceilX) {
+            int ceilX = centerX + (int) (Math.ceil(width / 2.0));
+            int ceilZ = centerZ + (int) Math.ceil(width / 2.0);
 
-                        x = centerX - width / 2;
-                        z++;
-                    }
+            for (int z = startZ; z < ceilZ; z++) {
 
-                    return p;
-                }
-
-            };
+                addRow(startX, z, ceilX - startX);
+            }
         }
     }
 
-    public static final class CircleGenerationShapeInstance extends GenerationShapeInstance {
-
-        private final int radius;
-
-        private final int startX;
-
-        private final int startZ;
-
-        private final int startCeilX;
+    public static final class RectangleGenerationShapeInstance extends GenerationShapeInstance {
 
-        protected CircleGenerationShapeInstance(GenerationShapeSchema.CircleGenerationShapeSchema schema,
+        protected RectangleGenerationShapeInstance(GenerationShapeSchema.RectangleGenerationShapeSchema schema,
                 DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
                 int childWidth, int childLength) {
 
             super(distribution, centerX, centerZ, childWidth, childLength);
 
-            radius = schema.getRadius().get(random.next());
-
-            startX = centerX;
-            startCeilX = centerX;
-
-            startZ = centerZ - radius;
-        }
-
-        @Override
-        public final Iterator<Point> createIterator() {
+            int width = schema.getWidth().get(random.next());
+            int length = schema.getLength().get(random.next());
 
-            return new Iterator<>() {
+            int startX = centerX - width / 2;
+            int startZ = centerZ - length / 2;
 
-                private int x = startX;
+            int ceilX = centerX + (int) (Math.ceil(width / 2.0));
+            int ceilZ = centerZ + (int) Math.ceil(length / 2.0);
 
-                private int ceilX = startCeilX;
+            for (int z = startZ; z < ceilZ; z++) {
 
-                private int z = startZ;
+                addRow(startX, z, ceilX - startX);
+            }
+        }
+    }
 
-                @Override
-                public final boolean hasNext() {
+    private static int getHalfWidth(int radius, int dz) {
 
-                    return z <= centerZ + radius;
-                }
+        int desc = radius * radius - dz * dz;
+        if (desc < 0) {
 
-                @Override
-                public final Point next() {
+            return -1;
+        }
 
-                    Point p = new Point(x, z);
+        return (int) Math.round(Math.sqrt(desc));
+    }
 
-                    x++;
-                    if (x > ceilX) {
+    public static final class CircleGenerationShapeInstance extends GenerationShapeInstance {
 
-                        z++;
-                        int desc = radius * radius - (z - centerZ) * (z - centerZ);
-                        if (desc < 0) {
+        protected CircleGenerationShapeInstance(GenerationShapeSchema.CircleGenerationShapeSchema schema,
+                DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
+                int childWidth, int childLength) {
 
-                            desc = 0;
-                        }
+            super(distribution, centerX, centerZ, childWidth, childLength);
 
-                        int r = (int) Math.round(Math.sqrt(desc));
+            int radius = schema.getRadius().get(random.next());
 
-                        x = centerX - r;
-                        ceilX = centerX + r;
-                    }
+            for (int dz = -radius; dz <= radius; dz++) {
 
-                    return p;
-                }
-            };
+                int r = getHalfWidth(radius, dz);
+                addRow(centerX - r, centerZ + dz, 2 * r + 1);
+            }
         }
     }
 
     public static final class RingGenerationShapeInstance extends GenerationShapeInstance {
 
-        private final int inner;
-
-        private final int outer;
-
-        private final int startX;
-
-        private final int startZ;
-
-        private final int startCeilX;
-
-        private final int startSkipX;
-
         protected RingGenerationShapeInstance(GenerationShapeSchema.RingGenerationShapeSchema schema,
                 DeterministicRandom random, GenerationDistribution distribution, int centerX, int centerZ,
                 int childWidth, int childLength) {
 
             super(distribution, centerX, centerZ, childWidth, childLength);
 
-            inner = schema.getInner().get(random.next());
-            outer = schema.getInner().get(random.next());
-
-            startX = centerX;
-            startZ = centerZ - outer;
-
-            startCeilX = centerX;
-            startSkipX = -1;
-        }
-
-        @Override
-        public final Iterator<Point> createIterator() {
-
-            return new Iterator<>() {
-
-                private int x = startX;
+            int inner = schema.getInner().get(random.next());
+            int outer = schema.getOuter().get(random.next());
 
-                private int ceilX = startCeilX;
+            for (int dz = -outer; dz <= outer; dz++) {
 
-                private int skipX = startSkipX;
+                int rOut = getHalfWidth(outer, dz);
+                int rIn = getHalfWidth(inner, dz);
 
-                private int z = startZ;
+                if (rIn < 0) {
 
-                @Override
-                public final boolean hasNext() {
-
-                    return z <= centerZ + outer;
+                    addRow(centerX - rOut, centerZ + dz, 2 * rOut + 1);
+                    continue;
                 }
 
-                @Override
-                public final Point next() {
-
-                    Point p = new Point(x, z);
-
-                    x++;
-                    if (skipX > -1 && centerX - skipX == x) {
-
-                        x = centerX + skipX + 1;
-                    }
-
-                    if (x > ceilX) {
-
-                        z++;
-                        int descOut = outer * outer - (z - centerZ) * (z - centerZ);
-                        if (descOut < 0) {
-
-                            descOut = 0;
-                        }
-
-                        int rOut = (int) Math.round(Math.sqrt(descOut));
-
-                        x = centerX - rOut;
-                        ceilX = centerX + rOut;
-
-                        int descIn = inner * inner - (z - centerZ) * (z - centerZ);
-                        if (descIn < 0) {
-
-                            skipX = -1;
-                        } else {
-
-                            int rIn = (int) Math.round(Math.sqrt(descIn));
-                            skipX = rIn;
-                        }
-                    }
-
-                    return p;
-                }
-            };
+                // Skip the tiles inside of the inner radius.
+                addRow(centerX - rOut, centerZ + dz, rOut - rIn);
+                addRow(centerX + rIn + 1, centerZ + dz, rOut - rIn);
+            }
         }
     }
 }
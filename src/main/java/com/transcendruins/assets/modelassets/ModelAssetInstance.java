@@ -90,6 +90,20 @@ public abstract class ModelAssetInstance extends AssetInstance implements Render
      */
     private StateControllerInstance stateController;
 
+    /**
+     * Retrieves the animation controller of this <code>ModelAssetInstance</code>
+     * instance.
+     *
+     * @return <code>StateControllerInstance</code>: The
+     *         <code>stateController</code> field of this
+     *         <code>ModelAssetInstance</code> instance, or <code>null</code> if
+     *         this asset is not animated.
+     */
+    public final StateControllerInstance getStateController() {
+
+        return stateController;
+    }
+
     /**
      * <code>ImmutableList&lt;String&gt;</code>: The asset category types of this
      * <code>ModelAssetInstance</code> instance.
@@ -266,16 +280,38 @@ public abstract class ModelAssetInstance extends AssetInstance implements Render
      */
     public abstract void applyModelAssetAttributes(ModelAssetAttributes attributeSet);
 
+    /**
+     * <code>boolean</code>: Whether or not the animations of this
+     * <code>ModelAssetInstance</code> instance are evaluated when it updates.
+     * Since animations are evaluated against the time since the world was created,
+     * an asset resumes at the correct pose once this is re-enabled.
+     */
+    private boolean animated = true;
+
+    /**
+     * Sets whether or not the animations of this <code>ModelAssetInstance</code>
+     * instance are evaluated when it updates.
+     * 
+     * @param animated <code>boolean</code>: Whether or not to evaluate animations.
+     */
+    public final void setAnimated(boolean animated) {
+
+        this.animated = animated;
+    }
+
     @Override
     protected final void onUpdate(double time) {
 
-        if (stateController != null) {
+        if (animated) {
 
-            stateController.update(time);
-        }
+            if (stateController != null) {
+
+                stateController.update(time);
+            }
 
-        model.update(time);
-        renderMaterial.update(time);
+            model.update(time);
+            renderMaterial.update(time);
+        }
 
         onModelAssetUpdate(time);
     }
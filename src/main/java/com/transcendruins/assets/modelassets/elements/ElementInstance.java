@@ -168,6 +168,17 @@ public final class ElementInstance extends PrimaryAssetInstance {
         setTiles(Arrays.stream(areaTiles).toList());
     }
 
+    @Override
+    protected final void onInteractionUpdate() {
+
+        // Elements do not move on their own, so their area must be told when their
+        // interaction anchors change.
+        if (area != null) {
+
+            area.updateInteraction(this);
+        }
+    }
+
     public final void clearTiles() {
 
         if (tiles.isEmpty()) {
@@ -255,6 +255,65 @@ public final class EntityInstance extends PrimaryAssetInstance {
     public final void setAttack(AttackCall attackCall) {
 
         this.attackCall = attackCall;
+        retargetRequested = false;
+    }
+
+    /**
+     * Retrieves the current attack context.
+     * 
+     * @return <code>AttackCall</code>: The <code>attackCall</code> field of this
+     *         <code>EntityInstance</code> instance, or <code>null</code> if it has
+     *         no target.
+     */
+    public final AttackCall getAttackCall() {
+
+        return attackCall;
+    }
+
+    /**
+     * <code>boolean</code>: Whether or not an event has requested for this
+     * <code>EntityInstance</code> instance to be retargeted.
+     */
+    private boolean retargetRequested = false;
+
+    /**
+     * Requests for this <code>EntityInstance</code> instance to be retargeted
+     * ahead of its scheduled turn.
+     */
+    public final void requestRetarget() {
+
+        retargetRequested = true;
+    }
+
+    /**
+     * Determines whether or not this <code>EntityInstance</code> instance should
+     * be retargeted ahead of its scheduled turn, either because an event requested
+     * it or because its current target has died or left its detection range.
+     * 
+     * @return <code>boolean</code>: Whether or not to retarget this
+     *         <code>EntityInstance</code> instance.
+     */
+    public final boolean needsRetarget() {
+
+        if (retargetRequested) {
+
+            return true;
+        }
+
+        if (attackCall == null) {
+
+            return false;
+        }
+
+        if (!attackCall.isValid()) {
+
+            return true;
+        }
+
+        float range = getDetectionRange() * World.UNIT_TILE;
+
+        Vector3f displacement = getPosition().subtract(attackCall.target().getPosition());
+        return displacement.dot(displacement) > range * range;
     }
 
     private boolean attemptAttack;
@@ -291,6 +350,14 @@ public final class EntityInstance extends PrimaryAssetInstance {
         attackStart = time;
         attacked = false;
 
+        // The attack lands and ends on later ticks, which must still be simulated if
+        // the chunk of this entity falls asleep before then.
+        AttackInstance attackInstance = attackCall.attack();
+        double speed = attackInstance.getSpeed();
+        double duration = speed > 0 ? 1.0 / speed : 0;
+        wakeAfter((1 - attackInstance.getCooldown()) * duration);
+        wakeAfter(duration);
+
         // TODO play attack animation
     }
 
@@ -359,6 +426,11 @@ public final class EntityInstance extends PrimaryAssetInstance {
 
     public final void inflict(AttackInstance attack) {
 
+        // Taking damage prompts the entity to reconsider its target, which it can
+        // only do while its chunk is fully updated.
+        requestRetarget();
+        wake();
+
         // TODO write damage code
     }
 
@@ -172,6 +172,60 @@ public abstract class PrimaryAssetInstance extends ModelAssetInstance {
 
     public abstract void updateArea(AreaGrid area);
 
+    /**
+     * <code>AreaGrid</code>: The area which this <code>PrimaryAssetInstance</code>
+     * instance has been added to, or <code>null</code> if it is not in an area.
+     */
+    private AreaGrid areaGrid;
+
+    /**
+     * Sets the area which this <code>PrimaryAssetInstance</code> instance has been
+     * added to. This is called by the area as the asset is added or removed.
+     * 
+     * @param areaGrid <code>AreaGrid</code>: The area, or <code>null</code> if the
+     *                 asset has been removed from its area.
+     */
+    public final void setAreaGrid(AreaGrid areaGrid) {
+
+        this.areaGrid = areaGrid;
+    }
+
+    /**
+     * Wakes the chunk containing this <code>PrimaryAssetInstance</code> instance,
+     * so that it is fully updated on the next tick regardless of its distance
+     * from players.
+     */
+    public final void wake() {
+
+        if (areaGrid != null) {
+
+            areaGrid.wake(this);
+        }
+    }
+
+    /**
+     * Schedules the chunk containing this <code>PrimaryAssetInstance</code>
+     * instance to be woken once a delay has passed, so that anything due at that
+     * time is simulated even if the chunk has fallen asleep in the meantime.
+     * 
+     * @param seconds <code>double</code>: The delay, in seconds, after which to
+     *                wake the asset.
+     */
+    public final void wakeAfter(double seconds) {
+
+        if (areaGrid != null) {
+
+            areaGrid.wakeAt(this, getWorld().getClock().millis() + (long) Math.ceil(seconds * 1000));
+        }
+    }
+
+    /**
+     * Performs any updates required after the interactions of this
+     * <code>PrimaryAssetInstance</code> instance have changed.
+     */
+    protected void onInteractionUpdate() {
+    }
+
     public abstract void setPosition(int tileX, int tileZ);
 
     public abstract void translate(int dx, int dz);
@@ -403,12 +457,18 @@ public abstract class PrimaryAssetInstance extends ModelAssetInstance {
         inventoryContents = calculateAttribute(attributes.getInventoryContents(), inventoryContents, attributes, null);
 
         // Update the interaction.
+        ImmutableList<AssetInteractionInstance> prevInteraction = interaction;
         interaction = calculateAttribute(attributes.getInteraction(),
                 schemas -> interactionCache.computeIfAbsent(attributes,
                         _ -> new ImmutableList<>(
                                 schemas.stream().map(AssetInteractionInstance::createInteraction).toList())),
                 interaction, attributes, new ImmutableList<>());
 
+        if (interaction != prevInteraction) {
+
+            onInteractionUpdate();
+        }
+
         applyPrimaryAssetAttributes(attributes);
     }
 
@@ -46,6 +46,20 @@ public abstract class AssetInteractionInstance {
         return cooldown;
     }
 
+    private final double range;
+
+    public final double getRange() {
+
+        return range;
+    }
+
+    private final double detectionRange;
+
+    public final double getDetectionRange() {
+
+        return detectionRange;
+    }
+
     private final ImmutableList<TRScript> conditions;
 
     public final boolean passes(AssetInstance asset) {
@@ -68,12 +82,18 @@ public abstract class AssetInteractionInstance {
         position = schema.getPosition();
         duration = schema.getDuration();
         cooldown = schema.getCooldown();
+        range = schema.getRange();
+        detectionRange = schema.getDetectionRange();
         conditions = schema.getConditions();
         event = schema.getEvent();
     }
 
     public final void call(PrimaryAssetInstance self, double time, Player caller) {
 
+        // The asset reacts to being interacted with, so it is fully updated on the
+        // next tick even if it is far from every player.
+        self.wake();
+
         self.executeEvent(AssetEvent.ON_INTERACT);
 
         for (String eventKey : event) {
@@ -187,6 +207,12 @@ public abstract class AssetInteractionInstance {
             // Return if the specified area does not exist.
             if (area == null) {
 
+                // If the location is still being generated, retry once it is ready.
+                if (location.isGenerating()) {
+
+                    location.whenGenerated(() -> onCall(self, time, caller));
+                }
+
                 return;
             }
 
@@ -18,6 +18,10 @@ public abstract class AssetInteractionSchema {
     public static final String INVENTORY = "inventory";
     public static final String PASSAGEWAY = "passageway";
 
+    public static final double DEFAULT_RANGE = 2.5;
+
+    public static final double DEFAULT_DETECTION_RANGE = 4.5;
+
     public static final AssetInteractionSchema NONE = new AssetInteractionSchema() {
     };
 
@@ -42,6 +46,20 @@ public abstract class AssetInteractionSchema {
         return cooldown;
     }
 
+    private final double range;
+
+    public final double getRange() {
+
+        return range;
+    }
+
+    private final double detectionRange;
+
+    public final double getDetectionRange() {
+
+        return detectionRange;
+    }
+
     private final ImmutableList<TRScript> conditions;
 
     public final ImmutableList<TRScript> getConditions() {
@@ -61,6 +79,8 @@ public abstract class AssetInteractionSchema {
         position = Vector3f.ZERO;
         duration = 0.0;
         cooldown = 0.0;
+        range = DEFAULT_RANGE;
+        detectionRange = DEFAULT_DETECTION_RANGE;
         conditions = new ImmutableList<>();
         event = new ImmutableList<>();
     }
@@ -82,6 +102,14 @@ public abstract class AssetInteractionSchema {
         TracedEntry<Double> cooldownEntry = json.getAsDouble("cooldown", true, 0.0, num -> 0.0 <= num);
         cooldown = cooldownEntry.getValue();
 
+        TracedEntry<Double> rangeEntry = json.getAsDouble("range", true, DEFAULT_RANGE, num -> 0.0 <= num);
+        range = rangeEntry.getValue();
+
+        // The interaction cannot be detected from further than it can be performed.
+        TracedEntry<Double> detectionRangeEntry = json.getAsDouble("detectionRange", true,
+                Math.max(range, DEFAULT_DETECTION_RANGE), num -> range <= num);
+        detectionRange = detectionRangeEntry.getValue();
+
         conditions = json.get("conditions", List.of(json.arrayCase(entry -> {
 
             ArrayList<TRScript> conditionsList = new ArrayList<>();
@@ -27,6 +27,7 @@ import com.transcendruins.utilities.exceptions.LoggedException;
 import com.transcendruins.utilities.exceptions.propertyexceptions.referenceexceptions.UnexpectedValueException;
 import com.transcendruins.utilities.immutable.ImmutableMap;
 import com.transcendruins.utilities.json.TracedEntry;
+import com.transcendruins.utilities.random.DeterministicRandom;
 import com.transcendruins.world.World;
 
 public final class OperatorSet {
@@ -377,18 +378,21 @@ public final class OperatorSet {
 
             entry("random", (args, asset) -> {
 
+                // Draw from the world so that scripts replay deterministically.
+                double random = DeterministicRandom.toDouble(World.getWorld().getRandom().next());
+
                 return switch (args.size()) {
 
                 case 2 -> {
 
                     double first = args.get(0).evaluateDouble(asset);
 
-                    yield first + Math.random() * (args.get(1).evaluateDouble(asset) - first);
+                    yield first + random * (args.get(1).evaluateDouble(asset) - first);
                 }
 
-                case 1 -> Math.random() * args.get(0).evaluateDouble(asset);
+                case 1 -> random * args.get(0).evaluateDouble(asset);
 
-                default -> Math.random();
+                default -> random;
                 };
             }, argsLength -> argsLength > 2),
 
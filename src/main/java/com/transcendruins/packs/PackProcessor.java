@@ -32,6 +32,8 @@ import com.transcendruins.utilities.exceptions.propertyexceptions.identifierexce
 import com.transcendruins.utilities.files.TracedPath;
 import com.transcendruins.utilities.immutable.ImmutableMap;
 import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
 
 /**
  * <code>PackProcessor</code>: A class which processes individual packs in a
@@ -43,6 +45,18 @@ public final class PackProcessor {
 
     public static final TracedPath LIBRARY_PACKS_DIRECTORY = TracedPath.LIBRARY_DIRECTORY.extend("packs");
 
+    /**
+     * <code>LatencyHistogram</code>: The time taken to process a root directory of
+     * packs. This must be initialized before the <code>PACK_PROCESSOR</code>
+     * field, which processes on creation.
+     */
+    private static final LatencyHistogram PROCESS_TIME = MetricsRegistry.getRegistry().histogram("packs.process");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken to parse a single content pack.
+     */
+    private static final LatencyHistogram PARSE_TIME = MetricsRegistry.getRegistry().histogram("packs.parse");
+
     /**
      * <code>HashMap&lt;Identifier, PackSchema&gt;</code>: The set of all content
      * pack identifiers which have been entered into the processor.
@@ -95,6 +109,8 @@ public final class PackProcessor {
      */
     public synchronized void process(TracedPath root) {
 
+        long start = System.nanoTime();
+
         TracedPath resourcePath = root.extend("resources");
         List<? extends TracedPath> resourcePaths = resourcePath.listDirectories(TracedPath.RESOURCE_PACK);
 
@@ -116,6 +132,8 @@ public final class PackProcessor {
             validate();
             compile();
         }
+
+        PROCESS_TIME.recordSince(start);
     }
 
     /**
@@ -143,7 +161,10 @@ public final class PackProcessor {
 
         try {
 
+            long start = System.nanoTime();
             PackSchema pack = new PackSchema(path);
+            PARSE_TIME.recordSince(start);
+
             Identifier identifier = pack.getIdentifier();
 
             if (processed.containsKey(identifier)) {
@@ -16,9 +16,16 @@
 
 package com.transcendruins.packs.content;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,6 +36,7 @@ import com.transcendruins.assets.catalogue.AssetCatalogue;
 import com.transcendruins.packs.Pack;
 import com.transcendruins.resources.ResourceSet;
 import com.transcendruins.utilities.exceptions.propertyexceptions.referenceexceptions.ReferenceWithoutDefinitionException;
+import com.transcendruins.utilities.files.TracedPath;
 import com.transcendruins.utilities.immutable.ImmutableMap;
 import com.transcendruins.utilities.immutable.ImmutableSet;
 import com.transcendruins.utilities.json.TracedEntry;
@@ -76,6 +84,30 @@ public final class ContentPack extends Pack {
         return PACKS.getOrDefault(id.toGeneric(), new HashMap<>()).get(id);
     }
 
+    /**
+     * Retrieves a pack by the string representation of its identifier.
+     * 
+     * @param identifier <code>String</code>: The identifier of the pack, as
+     *                   produced by <code>Identifier.toString()</code>.
+     * @return <code>ContentPack</code>: The retrieved pack, or <code>null</code>
+     *         if no pack has the identifier.
+     */
+    public static ContentPack getPack(String identifier) {
+
+        for (HashMap<Identifier, ContentPack> packs : PACKS.values()) {
+
+            for (ContentPack pack : packs.values()) {
+
+                if (pack.getIdentifier().toString().equals(identifier)) {
+
+                    return pack;
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * <code>ImmutableMap&lt;AssetType, ImmutableSet&lt;Identifier&gt;&gt;</code>:
      * The set of all asset dependencies referenced by this <code>ContentPack</code>
@@ -215,6 +247,49 @@ public final class ContentPack extends Pack {
         return catalogue;
     }
 
+    /**
+     * <code>String</code>: The content hash of this <code>ContentPack</code>
+     * instance, or <code>null</code> if it has not been computed yet.
+     */
+    private String contentHash;
+
+    /**
+     * Retrieves the content hash of this <code>ContentPack</code> instance, which
+     * is a hash of the path and bytes of every file beneath its root. The hash is
+     * computed on the first call and reused afterwards, as the files of a loaded
+     * pack do not change.
+     * 
+     * @return <code>String</code>: The content hash, or <code>null</code> if it
+     *         could not be computed.
+     */
+    public synchronized String getContentHash() {
+
+        if (contentHash == null) {
+
+            try {
+
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+                TracedPath root = getRoot();
+                List<TracedPath> files = new ArrayList<>(root.listRecursiveFiles());
+                files.sort(Comparator.comparing(file -> file.toString(root)));
+
+                for (TracedPath file : files) {
+
+                    digest.update(file.toString(root).getBytes(StandardCharsets.UTF_8));
+                    digest.update(file.getBytes());
+                }
+
+                contentHash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+
+                System.out.println(e);
+            }
+        }
+
+        return contentHash;
+    }
+
     /**
      * Creates a new instance of the <code>ContentPack</code> class using the
      * directory to its root folder.
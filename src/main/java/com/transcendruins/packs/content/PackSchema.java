@@ -36,6 +36,7 @@ import com.transcendruins.utilities.json.TracedArray;
 import com.transcendruins.utilities.json.TracedDictionary;
 import com.transcendruins.utilities.json.TracedEntry;
 import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.metrics.AssetParseEvent;
 
 /**
  * <code>PackSchema</code>: A class representing the parsed JSON information of
@@ -211,15 +212,22 @@ public final class PackSchema extends Pack {
         TracedPath extended = root.extend(assetType.toString());
         HashMap<Identifier, AssetSchema> schemaMap = extended.listRecursiveFiles(TracedPath.JSON).stream().map(path -> {
 
+            AssetParseEvent event = new AssetParseEvent();
+            event.begin();
+
+            AssetSchema schema;
             try {
 
                 // Attempt to create the schema.
-                return assetType.createSchema(path);
+                schema = assetType.createSchema(path);
             } catch (LoggedException e) {
 
                 // If the schema could not be built, return an empty value.
-                return null;
+                schema = null;
             }
+
+            event.commit(getIdentifier(), assetType, path, schema != null ? schema.getIdentifier() : null);
+            return schema;
         }).filter(Objects::nonNull) // Remove all null values.
                 .collect(Collectors.toMap( // Map the schemas.
                         AssetSchema::getIdentifier, // Retrieve the identifier.
@@ -0,0 +1,260 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+/**
+ * <code>FrameCapture</code>: A class which encodes captured frames to disk on a
+ * pool of background threads, so that capturing does not stall the thread
+ * which produced the frames. The encoder threads do not keep the process
+ * alive, so queued frames are only certain to be written once the
+ * <code>close</code> method has returned.
+ */
+public final class FrameCapture implements AutoCloseable {
+
+    /**
+     * <code>OverflowPolicy</code>: An enum class representing how a capture
+     * should behave when its queue is full.
+     */
+    public static enum OverflowPolicy {
+
+        /**
+         * <code>OverflowPolicy</code>: Discards the submitted frame.
+         */
+        DROP,
+
+        /**
+         * <code>OverflowPolicy</code>: Waits until the queue has room for the
+         * submitted frame.
+         */
+        BLOCK
+    }
+
+    /**
+     * <code>CaptureRequest</code>: A record representing a frame waiting to be
+     * encoded.
+     *
+     * @param image <code>BufferedImage</code>: The frame to encode.
+     * @param file  <code>File</code>: The file to write the frame to.
+     */
+    private static final record CaptureRequest(BufferedImage image, File file) {
+    }
+
+    /**
+     * <code>long</code>: The number of milliseconds an encoder waits for a frame
+     * before checking whether the capture has been closed.
+     */
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * <code>ArrayBlockingQueue&lt;CaptureRequest&gt;</code>: The frames waiting to
+     * be encoded.
+     */
+    private final ArrayBlockingQueue<CaptureRequest> queue;
+
+    /**
+     * <code>OverflowPolicy</code>: How this <code>FrameCapture</code> instance
+     * behaves when its queue is full.
+     */
+    private final OverflowPolicy policy;
+
+    /**
+     * <code>ExecutorService</code>: The encoder threads of this
+     * <code>FrameCapture</code> instance.
+     */
+    private final ExecutorService encoders;
+
+    /**
+     * <code>boolean</code>: Whether or not this <code>FrameCapture</code> instance
+     * has stopped accepting frames.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * <code>AtomicLong</code>: The number of frames which have been written.
+     */
+    private final AtomicLong written = new AtomicLong();
+
+    /**
+     * Retrieves the number of frames which have been written by this
+     * <code>FrameCapture</code> instance.
+     *
+     * @return <code>long</code>: The number of written frames.
+     */
+    public final long getWritten() {
+
+        return written.get();
+    }
+
+    /**
+     * <code>AtomicLong</code>: The number of frames which have been discarded,
+     * either because the queue was full or because they failed to encode.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Retrieves the number of frames which have been discarded by this
+     * <code>FrameCapture</code> instance.
+     *
+     * @return <code>long</code>: The number of discarded frames.
+     */
+    public final long getDropped() {
+
+        return dropped.get();
+    }
+
+    /**
+     * Creates a new instance of the <code>FrameCapture</code> class.
+     *
+     * @param capacity <code>int</code>: The number of frames which may wait to be
+     *                 encoded at once.
+     * @param threads  <code>int</code>: The number of encoder threads.
+     * @param policy   <code>OverflowPolicy</code>: How to behave when the queue
+     *                 is full.
+     */
+    public FrameCapture(int capacity, int threads, OverflowPolicy policy) {
+
+        queue = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+
+        encoders = Executors.newFixedThreadPool(threads, runnable -> {
+
+            Thread thread = new Thread(runnable, "FrameCapture");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+
+            return thread;
+        });
+
+        for (int i = 0; i < threads; i++) {
+
+            encoders.execute(this::encode);
+        }
+    }
+
+    /**
+     * Submits a frame to be encoded. The frame must not be modified after it has
+     * been submitted.
+     *
+     * @param image <code>BufferedImage</code>: The frame to encode.
+     * @param file  <code>File</code>: The PNG file to write the frame to.
+     * @return <code>boolean</code>: Whether or not the frame was accepted.
+     */
+    public final boolean submit(BufferedImage image, File file) {
+
+        if (closed) {
+
+            return false;
+        }
+
+        CaptureRequest request = new CaptureRequest(image, file);
+
+        boolean accepted = switch (policy) {
+
+        case DROP -> queue.offer(request);
+
+        case BLOCK -> {
+
+            try {
+
+                queue.put(request);
+                yield true;
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                yield false;
+            }
+        }
+        };
+
+        if (!accepted) {
+
+            dropped.incrementAndGet();
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Encodes queued frames until this <code>FrameCapture</code> instance is
+     * closed and its queue is empty.
+     */
+    private void encode() {
+
+        while (!closed || !queue.isEmpty()) {
+
+            CaptureRequest request;
+            try {
+
+                request = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+
+                return;
+            }
+
+            if (request == null) {
+
+                continue;
+            }
+
+            File file = request.file();
+            File parent = file.getParentFile();
+            if (parent != null) {
+
+                parent.mkdirs();
+            }
+
+            try {
+
+                ImageIO.write(request.image(), "png", file);
+                written.incrementAndGet();
+            } catch (IOException e) {
+
+                dropped.incrementAndGet();
+                System.out.println(e);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting frames and waits for the queued frames to be written.
+     */
+    @Override
+    public final void close() {
+
+        closed = true;
+        encoders.shutdown();
+
+        try {
+
+            encoders.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+}
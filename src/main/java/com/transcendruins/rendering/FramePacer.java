@@ -0,0 +1,96 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <code>FramePacer</code>: A class which paces a presentation loop to a fixed
+ * frame rate. Frames are scheduled against absolute deadlines, so a late frame
+ * shortens the wait before the next frame rather than shifting every frame
+ * after it.
+ */
+public final class FramePacer {
+
+    /**
+     * <code>long</code>: The number of nanoseconds before a deadline at which the
+     * pacer stops parking and yields instead, since parking may overshoot.
+     */
+    private static final long SPIN_NANOS = 1_000_000;
+
+    /**
+     * <code>long</code>: The length of a single frame in nanoseconds, or
+     * <code>0</code> if the frame rate is uncapped.
+     */
+    private final long period;
+
+    /**
+     * <code>long</code>: The time at which the next frame should begin.
+     */
+    private long deadline = -1;
+
+    /**
+     * Creates a new instance of the <code>FramePacer</code> class.
+     *
+     * @param fps <code>int</code>: The maximum number of frames per second, or
+     *            <code>0</code> to leave the frame rate uncapped.
+     */
+    public FramePacer(int fps) {
+
+        period = fps > 0 ? 1_000_000_000L / fps : 0;
+    }
+
+    /**
+     * Waits until the next frame should begin.
+     */
+    public final void await() {
+
+        if (period == 0) {
+
+            Thread.yield();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (deadline == -1) {
+
+            deadline = now;
+        }
+
+        deadline += period;
+
+        // If the loop has fallen more than a frame behind, skip the missed frames
+        // instead of rushing to catch up.
+        if (now - deadline > period) {
+
+            deadline = now;
+            return;
+        }
+
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+
+            if (remaining > SPIN_NANOS) {
+
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
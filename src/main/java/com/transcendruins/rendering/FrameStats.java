@@ -0,0 +1,113 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.util.Arrays;
+
+/**
+ * <code>FrameStats</code>: A class which records the most recent frame times
+ * of a presentation loop.
+ */
+public final class FrameStats {
+
+    /**
+     * <code>long[]</code>: The recorded frame times in nanoseconds, used as a ring
+     * buffer.
+     */
+    private final long[] samples;
+
+    /**
+     * <code>int</code>: The number of frames which have been recorded, capped at
+     * the length of the <code>samples</code> field.
+     */
+    private int count;
+
+    /**
+     * <code>int</code>: The index which the next frame time will be written to.
+     */
+    private int next;
+
+    /**
+     * Creates a new instance of the <code>FrameStats</code> class.
+     *
+     * @param capacity <code>int</code>: The number of frame times to retain.
+     */
+    public FrameStats(int capacity) {
+
+        samples = new long[capacity];
+    }
+
+    /**
+     * Records the time taken by a single frame.
+     *
+     * @param nanos <code>long</code>: The frame time in nanoseconds.
+     */
+    public final synchronized void record(long nanos) {
+
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * Resets all recorded frame times of this <code>FrameStats</code> instance.
+     */
+    public final synchronized void reset() {
+
+        count = 0;
+        next = 0;
+    }
+
+    /**
+     * Summarizes the recorded frame times of this <code>FrameStats</code>
+     * instance.
+     *
+     * @return <code>String</code>: The average frame rate alongside the average,
+     *         median, 95th percentile, 99th percentile and maximum frame times in
+     *         milliseconds.
+     */
+    @Override
+    public final synchronized String toString() {
+
+        if (count == 0) {
+
+            return "No frames recorded";
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        double average = Arrays.stream(sorted).average().orElse(0);
+
+        return String.format("%.1f fps | avg %.2f ms | p50 %.2f ms | p95 %.2f ms | p99 %.2f ms | max %.2f ms",
+                1e9 / average, average / 1e6, percentile(sorted, 0.5) / 1e6, percentile(sorted, 0.95) / 1e6,
+                percentile(sorted, 0.99) / 1e6, sorted[count - 1] / 1e6);
+    }
+
+    /**
+     * Retrieves a percentile from a sorted array of frame times.
+     *
+     * @param sorted   <code>long[]</code>: The sorted frame times.
+     * @param fraction <code>double</code>: The percentile to retrieve, between
+     *                 <code>0</code> and <code>1</code>.
+     * @return <code>long</code>: The retrieved frame time.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,144 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+
+/**
+ * <code>MetricsOverlay</code>: A class which draws the metrics of a
+ * <code>MetricsRegistry</code> instance over a frame as a debug panel. The
+ * metrics are only summarized a few times a second, so drawing the panel every
+ * frame stays cheap.
+ */
+public final class MetricsOverlay {
+
+    /**
+     * <code>long</code>: The number of nanoseconds between refreshes of the
+     * panel.
+     */
+    private static final long REFRESH_INTERVAL = 500_000_000L;
+
+    /**
+     * <code>Font</code>: The font of the panel.
+     */
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    /**
+     * <code>int</code>: The padding, in pixels, between the panel edge and its
+     * text.
+     */
+    private static final int PADDING = 6;
+
+    /**
+     * <code>Color</code>: The background color of the panel.
+     */
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+
+    /**
+     * <code>MetricsRegistry</code>: The registry to display.
+     */
+    private final MetricsRegistry registry;
+
+    /**
+     * <code>List&lt;String&gt;</code>: The most recently summarized lines of the
+     * panel.
+     */
+    private List<String> lines = List.of();
+
+    /**
+     * <code>long</code>: The time at which the panel was last refreshed, or
+     * <code>-1</code> if it has not been refreshed.
+     */
+    private long lastRefresh = -1;
+
+    /**
+     * Creates a new instance of the <code>MetricsOverlay</code> class.
+     * 
+     * @param registry <code>MetricsRegistry</code>: The registry to display.
+     */
+    public MetricsOverlay(MetricsRegistry registry) {
+
+        this.registry = registry;
+    }
+
+    /**
+     * Draws the panel of this <code>MetricsOverlay</code> instance in the top left
+     * corner of a frame.
+     * 
+     * @param g2d <code>Graphics2D</code>: The graphics of the frame to draw onto.
+     */
+    public final void draw(Graphics2D g2d) {
+
+        long now = System.nanoTime();
+        if (lastRefresh == -1 || now - lastRefresh >= REFRESH_INTERVAL) {
+
+            refresh();
+            lastRefresh = now;
+        }
+
+        g2d.setFont(FONT);
+        FontMetrics metrics = g2d.getFontMetrics();
+
+        int width = 0;
+        for (String line : lines) {
+
+            width = Math.max(width, metrics.stringWidth(line));
+        }
+
+        int lineHeight = metrics.getHeight();
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(0, 0, width + PADDING * 2, lineHeight * lines.size() + PADDING * 2);
+
+        g2d.setColor(Color.WHITE);
+        int y = PADDING + metrics.getAscent();
+        for (String line : lines) {
+
+            g2d.drawString(line, PADDING, y);
+            y += lineHeight;
+        }
+    }
+
+    /**
+     * Summarizes the metrics of the registry into the lines of the panel.
+     */
+    private void refresh() {
+
+        Map<String, String> description = registry.describe();
+
+        int nameWidth = 0;
+        for (String name : description.keySet()) {
+
+            nameWidth = Math.max(nameWidth, name.length());
+        }
+
+        ArrayList<String> refreshed = new ArrayList<>(description.size());
+        for (Map.Entry<String, String> entry : description.entrySet()) {
+
+            refreshed.add(String.format("%-" + nameWidth + "s  %s", entry.getKey(), entry.getValue()));
+        }
+
+        lines = refreshed;
+    }
+}
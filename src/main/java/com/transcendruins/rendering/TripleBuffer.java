@@ -0,0 +1,100 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <code>TripleBuffer&lt;T&gt;</code>: A class which hands values from a single
+ * writer thread to a single reader thread without either thread blocking. The
+ * writer fills a back slot while the reader holds a front slot, and the two
+ * exchange slots through a shared middle slot, so the reader always sees the
+ * most recent value which was completely published.
+ *
+ * @param <T> The type of the published values.
+ */
+public final class TripleBuffer<T> {
+
+    /**
+     * <code>int</code>: The flag set on the middle slot index when it holds a
+     * value which the reader has not yet taken.
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * <code>int</code>: The mask which extracts a slot index from the middle
+     * slot index.
+     */
+    private static final int INDEX = 3;
+
+    /**
+     * <code>Object[]</code>: The three slots of this <code>TripleBuffer</code>
+     * instance. Slot contents are made visible by the exchange of the middle slot
+     * index, so the slots themselves need no synchronization.
+     */
+    private final Object[] slots = new Object[3];
+
+    /**
+     * <code>AtomicInteger</code>: The index of the middle slot, combined with the
+     * <code>FRESH</code> flag.
+     */
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    /**
+     * <code>int</code>: The index of the slot owned by the writer.
+     */
+    private int back = 0;
+
+    /**
+     * <code>int</code>: The index of the slot owned by the reader.
+     */
+    private int front = 2;
+
+    /**
+     * Publishes a value to the reader of this <code>TripleBuffer</code> instance.
+     * This may only be called by the writer thread.
+     *
+     * @param value <code>T</code>: The value to publish.
+     */
+    public final void publish(T value) {
+
+        slots[back] = value;
+        back = middle.getAndSet(back | FRESH) & INDEX;
+
+        // The slot handed back may hold a value the reader has already discarded.
+        slots[back] = null;
+    }
+
+    /**
+     * Retrieves the most recently published value of this
+     * <code>TripleBuffer</code> instance. This may only be called by the reader
+     * thread.
+     *
+     * @return <code>T</code>: The latest value, or <code>null</code> if no value
+     *         has been published.
+     */
+    @SuppressWarnings("unchecked")
+    public final T latest() {
+
+        if ((middle.get() & FRESH) != 0) {
+
+            front = middle.getAndSet(front) & INDEX;
+        }
+
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,384 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.jme3.app.Application;
+import com.jme3.app.SimpleApplication;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.material.Material;
+import com.jme3.material.RenderState;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.Renderer;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.shape.Quad;
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture;
+import com.jme3.texture.Texture2D;
+import com.jme3.texture.image.ColorSpace;
+import com.jme3.util.BufferUtils;
+import com.transcendruins.world.World;
+
+/**
+ * <code>UiOverlayState</code>: An app state which composites the UI of a player
+ * over the 3D scene. Each frame, the UI is compared against the previous frame
+ * in tiles, and only the damaged regions are uploaded into the overlay texture.
+ */
+public final class UiOverlayState extends BaseAppState {
+
+    /**
+     * <code>int</code>: The width and height, in pixels, of the tiles which the UI
+     * is compared in.
+     */
+    public static final int DAMAGE_TILE_SIZE = 64;
+
+    /**
+     * <code>double</code>: The fraction of the screen which, once damaged, will be
+     * uploaded as a single region rather than as separate regions.
+     */
+    private static final double FULL_UPLOAD_RATIO = 0.6;
+
+    /**
+     * <code>World</code>: The world to render the UI from.
+     */
+    private final World world;
+
+    /**
+     * <code>long</code>: The ID of the player whose UI is rendered.
+     */
+    private final long playerId;
+
+    /**
+     * <code>Geometry</code>: The quad which the UI is drawn onto.
+     */
+    private Geometry overlay;
+
+    /**
+     * <code>Texture2D</code>: The texture which the UI is uploaded into.
+     */
+    private Texture2D texture;
+
+    /**
+     * <code>int</code>: The width of the overlay texture.
+     */
+    private int width;
+
+    /**
+     * <code>int</code>: The height of the overlay texture.
+     */
+    private int height;
+
+    /**
+     * <code>int[]</code>: The pixels of the most recently uploaded UI frame, or
+     * <code>null</code> if the texture contents are not yet known.
+     */
+    private int[] previous;
+
+    /**
+     * <code>BufferedImage</code>: The image used to convert UI frames which are
+     * not stored as <code>TYPE_INT_ARGB</code>.
+     */
+    private BufferedImage converted;
+
+    /**
+     * <code>ByteBuffer</code>: The direct buffer which damaged regions are packed
+     * into before being uploaded. This buffer is reused between frames and only
+     * reallocated when it is too small.
+     */
+    private ByteBuffer staging;
+
+    /**
+     * <code>ArrayList&lt;Rectangle&gt;</code>: The damaged regions waiting to be
+     * uploaded, in the order they were packed into the <code>staging</code>
+     * field.
+     */
+    private final ArrayList<Rectangle> damaged = new ArrayList<>();
+
+    /**
+     * Creates a new instance of the <code>UiOverlayState</code> class.
+     *
+     * @param world    <code>World</code>: The world to render the UI from.
+     * @param playerId <code>long</code>: The ID of the player whose UI is
+     *                 rendered.
+     */
+    public UiOverlayState(World world, long playerId) {
+
+        this.world = world;
+        this.playerId = playerId;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+        Material material = new Material(app.getAssetManager(), "Common/MatDefs/Misc/Unshaded.j3md");
+        material.getAdditionalRenderState().setBlendMode(RenderState.BlendMode.Alpha);
+
+        overlay = new Geometry("UiOverlay");
+        overlay.setMaterial(material);
+        overlay.setQueueBucket(RenderQueue.Bucket.Gui);
+
+        resize(app.getCamera().getWidth(), app.getCamera().getHeight());
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+        if (staging != null) {
+
+            BufferUtils.destroyDirectBuffer(staging);
+            staging = null;
+        }
+
+        previous = null;
+        converted = null;
+        damaged.clear();
+    }
+
+    @Override
+    protected void onEnable() {
+
+        ((SimpleApplication) getApplication()).getGuiNode().attachChild(overlay);
+    }
+
+    @Override
+    protected void onDisable() {
+
+        overlay.removeFromParent();
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        Camera camera = getApplication().getCamera();
+        if (camera.getWidth() != width || camera.getHeight() != height) {
+
+            resize(camera.getWidth(), camera.getHeight());
+        }
+
+        BufferedImage render = world.renderUi(playerId);
+        if (render == null || render.getWidth() != width || render.getHeight() != height) {
+
+            return;
+        }
+
+        collectDamage(getPixels(render));
+    }
+
+    @Override
+    public void render(RenderManager renderManager) {
+
+        if (damaged.isEmpty()) {
+
+            return;
+        }
+
+        Renderer renderer = renderManager.getRenderer();
+
+        int offset = 0;
+        for (Rectangle region : damaged) {
+
+            int length = region.width * region.height * 4;
+            Image source = new Image(Image.Format.RGBA8, region.width, region.height, staging.slice(offset, length),
+                    ColorSpace.Linear);
+
+            renderer.modifyTexture(texture, source, region.x, region.y);
+            offset += length;
+        }
+
+        damaged.clear();
+    }
+
+    /**
+     * Resizes the overlay of this <code>UiOverlayState</code> instance to match
+     * the screen. The texture is reallocated and will be fully uploaded on the
+     * next frame.
+     *
+     * @param width  <code>int</code>: The new width of the screen.
+     * @param height <code>int</code>: The new height of the screen.
+     */
+    private void resize(int width, int height) {
+
+        this.width = width;
+        this.height = height;
+
+        world.setScreenSize(playerId, width, height);
+
+        // The texture is allocated without data, since the first frame replaces it.
+        texture = new Texture2D(new Image(Image.Format.RGBA8, width, height, null, ColorSpace.Linear));
+        texture.setMagFilter(Texture.MagFilter.Nearest);
+        texture.setMinFilter(Texture.MinFilter.NearestNoMipMaps);
+        overlay.getMaterial().setTexture("ColorMap", texture);
+
+        // Flip the texture coordinates so the first row of the texture is the top of
+        // the screen, matching the row order of the UI.
+        overlay.setMesh(new Quad(width, height, true));
+
+        previous = null;
+        damaged.clear();
+    }
+
+    /**
+     * Retrieves the pixels of a UI frame, converting the frame if it is not stored
+     * as <code>TYPE_INT_ARGB</code>.
+     *
+     * @param render <code>BufferedImage</code>: The UI frame to read.
+     * @return <code>int[]</code>: The pixels of the frame, in row order.
+     */
+    private int[] getPixels(BufferedImage render) {
+
+        if (render.getType() != BufferedImage.TYPE_INT_ARGB) {
+
+            if (converted == null || converted.getWidth() != width || converted.getHeight() != height) {
+
+                converted = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            }
+
+            Graphics2D g2d = converted.createGraphics();
+            g2d.drawImage(render, 0, 0, null);
+            g2d.dispose();
+
+            render = converted;
+        }
+
+        return ((DataBufferInt) render.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Compares a UI frame against the previous frame and packs each damaged region
+     * into the staging buffer.
+     *
+     * @param pixels <code>int[]</code>: The pixels of the UI frame.
+     */
+    private void collectDamage(int[] pixels) {
+
+        damaged.clear();
+
+        if (previous == null) {
+
+            previous = new int[width * height];
+            damaged.add(new Rectangle(0, 0, width, height));
+        } else {
+
+            int damagedArea = 0;
+
+            for (int tileY = 0; tileY < height; tileY += DAMAGE_TILE_SIZE) {
+
+                int tileHeight = Math.min(DAMAGE_TILE_SIZE, height - tileY);
+
+                // Adjacent damaged tiles in the same row are merged into a single region.
+                int runStart = -1;
+                for (int tileX = 0; tileX <= width; tileX += DAMAGE_TILE_SIZE) {
+
+                    boolean dirty = tileX < width
+                            && isDamaged(pixels, tileX, tileY, Math.min(DAMAGE_TILE_SIZE, width - tileX), tileHeight);
+
+                    if (dirty && runStart == -1) {
+
+                        runStart = tileX;
+                    } else if (!dirty && runStart != -1) {
+
+                        int runEnd = Math.min(tileX, width);
+                        damaged.add(new Rectangle(runStart, tileY, runEnd - runStart, tileHeight));
+                        damagedArea += (runEnd - runStart) * tileHeight;
+                        runStart = -1;
+                    }
+                }
+            }
+
+            if (damagedArea > width * height * FULL_UPLOAD_RATIO) {
+
+                damaged.clear();
+                damaged.add(new Rectangle(0, 0, width, height));
+            }
+        }
+
+        if (damaged.isEmpty()) {
+
+            return;
+        }
+
+        int length = 0;
+        for (Rectangle region : damaged) {
+
+            length += region.width * region.height * 4;
+        }
+
+        if (staging == null || staging.capacity() < length) {
+
+            if (staging != null) {
+
+                BufferUtils.destroyDirectBuffer(staging);
+            }
+
+            staging = BufferUtils.createByteBuffer(width * height * 4);
+        }
+
+        // Writing big-endian integers lays out each pixel as RGBA bytes.
+        IntBuffer stagingPixels = staging.clear().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+        for (Rectangle region : damaged) {
+
+            for (int y = region.y; y < region.y + region.height; y++) {
+
+                int rowStart = y * width + region.x;
+                for (int i = rowStart; i < rowStart + region.width; i++) {
+
+                    int argb = pixels[i];
+                    stagingPixels.put((argb << 8) | (argb >>> 24));
+                }
+
+                System.arraycopy(pixels, rowStart, previous, rowStart, region.width);
+            }
+        }
+    }
+
+    /**
+     * Determines whether a tile of a UI frame differs from the previous frame.
+     *
+     * @param pixels     <code>int[]</code>: The pixels of the UI frame.
+     * @param tileX      <code>int</code>: The X coordinate of the tile.
+     * @param tileY      <code>int</code>: The Y coordinate of the tile.
+     * @param tileWidth  <code>int</code>: The width of the tile.
+     * @param tileHeight <code>int</code>: The height of the tile.
+     * @return <code>boolean</code>: Whether or not any pixel in the tile has
+     *         changed.
+     */
+    private boolean isDamaged(int[] pixels, int tileX, int tileY, int tileWidth, int tileHeight) {
+
+        for (int y = tileY; y < tileY + tileHeight; y++) {
+
+            int rowStart = y * width + tileX;
+            if (Arrays.mismatch(pixels, rowStart, rowStart + tileWidth, previous, rowStart,
+                    rowStart + tileWidth) != -1) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
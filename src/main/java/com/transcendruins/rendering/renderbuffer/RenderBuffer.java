@@ -27,6 +27,22 @@ public final class RenderBuffer {
         models = new ArrayList<>();
     }
 
+    RenderBuffer(List<Vector3f> vertices, List<ModelData> models) {
+
+        this.vertices = new ArrayList<>(vertices);
+        this.models = new ArrayList<>(models);
+    }
+
+    final List<Vector3f> getVertices() {
+
+        return vertices;
+    }
+
+    final List<ModelData> getModels() {
+
+        return models;
+    }
+
     public RenderBuffer(ModelAssetInstance asset, List<Vector3f> vertices, List<Vector2f> uvs, List<Integer> indices,
             BufferedImage texture, int textureWidth, int textureHeight, RenderMaterialInstance renderMaterial,
             List<LightData> lights) {
@@ -45,13 +61,13 @@ public final class RenderBuffer {
                 renderMaterial.createMaterialData(texture, textureWidth, textureHeight), lights));
     }
 
-    public final synchronized void append(RenderBuffer buffer) {
+    public final void append(RenderBuffer buffer) {
 
         vertices.addAll(buffer.vertices);
         models.addAll(buffer.models);
     }
 
-    public final synchronized void append(List<RenderBuffer> buffers) {
+    public final void append(List<RenderBuffer> buffers) {
 
         buffers.stream().forEach(buffer -> {
 
@@ -60,12 +76,12 @@ public final class RenderBuffer {
         });
     }
 
-    public final synchronized void transform(BoneActor boneActor, Vector3f pivotPoint) {
+    public final void transform(BoneActor boneActor, Vector3f pivotPoint) {
 
         vertices.stream().forEach(vertex -> boneActor.transform(vertex, pivotPoint));
     }
 
-    public final synchronized RenderPacket getRenderPacket(AssetManager assetManager) {
+    public final RenderPacket getRenderPacket(AssetManager assetManager) {
 
         int offset = 0;
         Vector3f[] vertexArray = vertices.toArray(Vector3f[]::new);
@@ -0,0 +1,166 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering.renderbuffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.jme3.math.Vector3f;
+import com.transcendruins.assets.modelassets.ModelAssetInstance;
+
+/**
+ * <code>RenderSnapshot</code>: A class representing the polygons visible to a
+ * player at the end of a single tick. Snapshots are never modified once they
+ * have been created, so the render thread may read them while the host thread
+ * runs the following tick.
+ */
+public final class RenderSnapshot {
+
+    /**
+     * <code>ModelRange</code>: A record representing where the vertices of a
+     * model are stored in a snapshot.
+     *
+     * @param offset      <code>int</code>: The index of the first vertex.
+     * @param vertexCount <code>int</code>: The number of vertices.
+     */
+    private static final record ModelRange(int offset, int vertexCount) {
+    }
+
+    /**
+     * <code>long</code>: The tick at the end of which this
+     * <code>RenderSnapshot</code> instance was taken.
+     */
+    private final long tick;
+
+    /**
+     * Retrieves the tick at the end of which this <code>RenderSnapshot</code>
+     * instance was taken.
+     *
+     * @return <code>long</code>: The <code>tick</code> field of this
+     *         <code>RenderSnapshot</code> instance.
+     */
+    public final long getTick() {
+
+        return tick;
+    }
+
+    /**
+     * <code>long</code>: The value of <code>System.nanoTime()</code> when this
+     * <code>RenderSnapshot</code> instance was taken.
+     */
+    private final long nanos;
+
+    /**
+     * Retrieves the value of <code>System.nanoTime()</code> when this
+     * <code>RenderSnapshot</code> instance was taken.
+     *
+     * @return <code>long</code>: The <code>nanos</code> field of this
+     *         <code>RenderSnapshot</code> instance.
+     */
+    public final long getNanos() {
+
+        return nanos;
+    }
+
+    /**
+     * <code>Vector3f[]</code>: The vertices of every model in this
+     * <code>RenderSnapshot</code> instance, in model order.
+     */
+    private final Vector3f[] vertices;
+
+    /**
+     * <code>List&lt;ModelData&gt;</code>: The models of this
+     * <code>RenderSnapshot</code> instance.
+     */
+    private final List<ModelData> models;
+
+    /**
+     * Creates a new instance of the <code>RenderSnapshot</code> class. The buffer
+     * is taken over by the snapshot and must not be used afterwards.
+     *
+     * @param tick   <code>long</code>: The tick at the end of which the snapshot
+     *               was taken.
+     * @param nanos  <code>long</code>: The value of <code>System.nanoTime()</code>
+     *               when the snapshot was taken.
+     * @param buffer <code>RenderBuffer</code>: The polygons to capture.
+     */
+    public RenderSnapshot(long tick, long nanos, RenderBuffer buffer) {
+
+        this.tick = tick;
+        this.nanos = nanos;
+
+        vertices = buffer.getVertices().toArray(Vector3f[]::new);
+        models = List.copyOf(buffer.getModels());
+    }
+
+    /**
+     * Creates a render buffer which blends an earlier snapshot into this
+     * <code>RenderSnapshot</code> instance. Models are matched by asset, and a
+     * model which did not exist in the earlier snapshot, or whose vertex count
+     * has changed, is drawn as it is in this snapshot.
+     *
+     * @param previous <code>RenderSnapshot</code>: The earlier snapshot, or
+     *                 <code>null</code> if there is none.
+     * @param alpha    <code>float</code>: How far to blend from the earlier
+     *                 snapshot to this snapshot, between <code>0</code> and
+     *                 <code>1</code>.
+     * @return <code>RenderBuffer</code>: The blended polygons, which the caller
+     *         may freely modify.
+     */
+    public final RenderBuffer interpolate(RenderSnapshot previous, float alpha) {
+
+        HashMap<ModelAssetInstance, ModelRange> previousRanges = new HashMap<>();
+        if (previous != null && alpha < 1) {
+
+            int offset = 0;
+            for (ModelData model : previous.models) {
+
+                previousRanges.putIfAbsent(model.asset(), new ModelRange(offset, model.getVertexCount()));
+                offset += model.getVertexCount();
+            }
+        }
+
+        ArrayList<Vector3f> blended = new ArrayList<>(vertices.length);
+
+        int offset = 0;
+        for (ModelData model : models) {
+
+            int vertexCount = model.getVertexCount();
+
+            ModelRange range = previousRanges.get(model.asset());
+            if (range == null || range.vertexCount() != vertexCount) {
+
+                for (int i = 0; i < vertexCount; i++) {
+
+                    blended.add(vertices[offset + i].clone());
+                }
+            } else {
+
+                for (int i = 0; i < vertexCount; i++) {
+
+                    blended.add(new Vector3f().interpolateLocal(previous.vertices[range.offset() + i],
+                            vertices[offset + i], alpha));
+                }
+            }
+
+            offset += vertexCount;
+        }
+
+        return new RenderBuffer(blended, models);
+    }
+}
@@ -0,0 +1,88 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.rendering.renderbuffer;
+
+import com.transcendruins.rendering.TripleBuffer;
+
+/**
+ * <code>SnapshotInterpolator</code>: A class which reads the render snapshots
+ * published for a player and blends the latest two, so that motion stays
+ * smooth when frames are presented faster than the simulation ticks. Each
+ * instance must only be used by a single render thread.
+ */
+public final class SnapshotInterpolator {
+
+    /**
+     * <code>TripleBuffer&lt;RenderSnapshot&gt;</code>: The buffer which the
+     * snapshots are published to.
+     */
+    private final TripleBuffer<RenderSnapshot> snapshots;
+
+    /**
+     * <code>RenderSnapshot</code>: The most recent snapshot which has been read.
+     */
+    private RenderSnapshot latest;
+
+    /**
+     * <code>RenderSnapshot</code>: The snapshot which was read before the
+     * <code>latest</code> field.
+     */
+    private RenderSnapshot previous;
+
+    /**
+     * Creates a new instance of the <code>SnapshotInterpolator</code> class.
+     *
+     * @param snapshots <code>TripleBuffer&lt;RenderSnapshot&gt;</code>: The
+     *                  buffer to read snapshots from.
+     */
+    public SnapshotInterpolator(TripleBuffer<RenderSnapshot> snapshots) {
+
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Retrieves the polygons to present for the current frame. Rendering trails
+     * the simulation by one tick, blending from the previous snapshot towards
+     * the latest snapshot over the time which separated them.
+     *
+     * @return <code>RenderBuffer</code>: The blended polygons.
+     */
+    public final RenderBuffer getPolygons() {
+
+        RenderSnapshot snapshot = snapshots.latest();
+        if (snapshot == null) {
+
+            return new RenderBuffer();
+        }
+
+        if (snapshot != latest) {
+
+            previous = latest;
+            latest = snapshot;
+        }
+
+        if (previous == null) {
+
+            return latest.interpolate(null, 1);
+        }
+
+        long interval = latest.getNanos() - previous.getNanos();
+        float alpha = interval <= 0 ? 1 : Math.min(1, (float) (System.nanoTime() - latest.getNanos()) / interval);
+
+        return latest.interpolate(previous, alpha);
+    }
+}
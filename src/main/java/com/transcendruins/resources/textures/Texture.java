@@ -19,8 +19,6 @@ package com.transcendruins.resources.textures;
 import java.awt.Color;
 import java.util.Map;
 
-import javax.swing.ImageIcon;
-
 import com.transcendruins.utilities.exceptions.LoggedException;
 import com.transcendruins.utilities.files.TracedPath;
 import com.transcendruins.utilities.json.TracedDictionary;
@@ -59,17 +57,16 @@ public final class Texture {
     }
 
     /**
-     * Retrieves a texture from the available paths of this <code>Texture</code>
-     * instance.
+     * Retrieves the file of a texture from the available paths of this
+     * <code>Texture</code> instance.
      * 
      * @param random <code>long</code>: The random id key to use.
      * @param paths  <code>Map&lt;String, TracedPath&gt;</code>: The supplied paths.
-     * @return <code>StoredTexture</code>: The retrieved texture.
+     * @return <code>TracedPath</code>: The file of the retrieved texture, or
+     *         <code>null</code> if it is not one of the supplied paths.
      */
-    public final ImageIcon getTexture(long random, Map<String, TracedPath> paths) {
-
-        String path = entries.get(random);
+    public final TracedPath getPath(long random, Map<String, TracedPath> paths) {
 
-        return paths.containsKey(path) ? paths.get(path).retrieveImage() : null;
+        return paths.get(entries.get(random));
     }
 }
@@ -22,6 +22,7 @@ import java.text.SimpleDateFormat;
 
 import com.transcendruins.utilities.files.ExternalPath;
 import com.transcendruins.utilities.files.TracedPath;
+import com.transcendruins.utilities.metrics.LoggedExceptionEvent;
 
 /**
  * <code>LoggedException</code>: A general exception which logs a message and a
@@ -83,11 +84,16 @@ public class LoggedException extends Exception {
      */
     public LoggedException(TracedPath path, String message, String errorCode) {
 
+        LoggedExceptionEvent event = new LoggedExceptionEvent();
+        event.begin();
+
         this.path = path;
         this.message = message;
         this.errorCode = errorCode;
 
         print();
+
+        event.commit(errorCode, path, message);
     }
 
     /**
@@ -0,0 +1,83 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>AssetParseEvent</code>: A flight recorder event spanning the parsing of
+ * a single asset schema from a pack.
+ */
+@Name("com.transcendruins.AssetParse")
+@Label("Asset Parse")
+@Category({ "Transcend Ruins", "Packs" })
+@Description("The parsing of a single asset schema from a pack")
+public final class AssetParseEvent extends Event {
+
+    /**
+     * <code>String</code>: The identifier of the pack containing the asset.
+     */
+    @Label("Pack")
+    private String pack;
+
+    /**
+     * <code>String</code>: The type of the parsed asset.
+     */
+    @Label("Asset Type")
+    private String assetType;
+
+    /**
+     * <code>String</code>: The path of the parsed asset.
+     */
+    @Label("Path")
+    private String path;
+
+    /**
+     * <code>String</code>: The identifier of the parsed asset, or
+     * <code>null</code> if the asset could not be parsed.
+     */
+    @Label("Asset")
+    private String asset;
+
+    /**
+     * Ends this <code>AssetParseEvent</code> instance and commits it if it is
+     * enabled and passes the recording threshold.
+     * 
+     * @param pack      <code>Object</code>: The identifier of the pack containing
+     *                  the asset.
+     * @param assetType <code>Object</code>: The type of the parsed asset.
+     * @param path      <code>Object</code>: The path of the parsed asset.
+     * @param asset     <code>Object</code>: The identifier of the parsed asset, or
+     *                  <code>null</code> if the asset could not be parsed.
+     */
+    public final void commit(Object pack, Object assetType, Object path, Object asset) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.pack = String.valueOf(pack);
+            this.assetType = String.valueOf(assetType);
+            this.path = String.valueOf(path);
+            this.asset = asset == null ? null : asset.toString();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <code>Counter</code>: A class representing a monotonically increasing count
+ * which may be incremented from any thread without contention.
+ */
+public final class Counter {
+
+    /**
+     * <code>LongAdder</code>: The count of this <code>Counter</code> instance.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increments this <code>Counter</code> instance by one.
+     */
+    public final void increment() {
+
+        count.increment();
+    }
+
+    /**
+     * Adds to this <code>Counter</code> instance.
+     * 
+     * @param amount <code>long</code>: The amount to add.
+     */
+    public final void add(long amount) {
+
+        count.add(amount);
+    }
+
+    /**
+     * Retrieves the count of this <code>Counter</code> instance.
+     * 
+     * @return <code>long</code>: The current count.
+     */
+    public final long get() {
+
+        return count.sum();
+    }
+}
@@ -0,0 +1,350 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <code>LatencyHistogram</code>: A class which records latencies into
+ * logarithmic buckets, each of which is split into linear sub-buckets, so that
+ * every recorded value keeps a fixed relative precision. Recording is a few
+ * atomic increments and never allocates. Latencies are kept over a sliding
+ * window of between one and two <code>window</code> lengths, so that old
+ * outliers eventually leave the percentiles. Windows are rotated by whichever
+ * call first sees that the current window has ended, so a histogram which is
+ * recorded to but rarely summarized still forgets its old latencies.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * <code>int</code>: The number of bits of precision kept for each value. Each
+     * power of two is split into <code>2^(SUB_BITS - 1)</code> sub-buckets, which
+     * bounds the relative error at about 3%.
+     */
+    static final int SUB_BITS = 6;
+
+    /**
+     * <code>int</code>: The number of values below which every value has its own
+     * bucket.
+     */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * <code>int</code>: The number of sub-buckets in each power of two above
+     * <code>SUB_COUNT</code>.
+     */
+    private static final int HALF_COUNT = SUB_COUNT >> 1;
+
+    /**
+     * <code>int</code>: The highest power of two which may be recorded. Larger
+     * values are clamped into the last bucket.
+     */
+    private static final int MAX_MAGNITUDE = 42;
+
+    /**
+     * <code>long</code>: The largest value which may be recorded.
+     */
+    static final long MAX_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    /**
+     * <code>int</code>: The total number of buckets.
+     */
+    static final int BUCKETS = SUB_COUNT + (MAX_MAGNITUDE - SUB_BITS + 1) * HALF_COUNT;
+
+    /**
+     * <code>Snapshot</code>: A record representing the recorded latencies of a
+     * <code>LatencyHistogram</code> instance at a point in time, in nanoseconds.
+     * 
+     * @param count <code>long</code>: The number of recorded latencies.
+     * @param mean  <code>double</code>: The mean latency.
+     * @param p50   <code>long</code>: The median latency.
+     * @param p95   <code>long</code>: The 95th percentile latency.
+     * @param p99   <code>long</code>: The 99th percentile latency.
+     * @param max   <code>long</code>: The maximum latency.
+     */
+    public static final record Snapshot(long count, double mean, long p50, long p95, long p99, long max) {
+
+        /**
+         * <code>Snapshot</code>: A snapshot with no recorded latencies.
+         */
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+
+        @Override
+        public final String toString() {
+
+            return String.format("n %d | avg %.2f ms | p50 %.2f ms | p95 %.2f ms | p99 %.2f ms | max %.2f ms", count,
+                    mean / 1e6, p50 / 1e6, p95 / 1e6, p99 / 1e6, max / 1e6);
+        }
+    }
+
+    /**
+     * <code>Window</code>: A class representing the latencies recorded during a
+     * single window.
+     */
+    private static final class Window {
+
+        /**
+         * <code>AtomicLongArray</code>: The number of latencies in each bucket.
+         */
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        /**
+         * <code>AtomicLong</code>: The number of recorded latencies.
+         */
+        private final AtomicLong count = new AtomicLong();
+
+        /**
+         * <code>AtomicLong</code>: The sum of the recorded latencies.
+         */
+        private final AtomicLong sum = new AtomicLong();
+
+        /**
+         * <code>AtomicLong</code>: The maximum recorded latency.
+         */
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Clears every latency recorded in this <code>Window</code> instance.
+         */
+        private void clear() {
+
+            for (int i = 0; i < BUCKETS; i++) {
+
+                buckets.set(i, 0);
+            }
+
+            count.set(0);
+            sum.set(0);
+            max.set(0);
+        }
+    }
+
+    /**
+     * <code>long</code>: The length of each window, in nanoseconds.
+     */
+    private final long window;
+
+    /**
+     * <code>Window</code>: The window which latencies are currently recorded to.
+     */
+    private volatile Window current = new Window();
+
+    /**
+     * <code>Window</code>: The most recently completed window.
+     */
+    private volatile Window previous = new Window();
+
+    /**
+     * <code>long</code>: The time at which the current window ends.
+     */
+    private volatile long windowEnd;
+
+    /**
+     * Creates a new instance of the <code>LatencyHistogram</code> class.
+     * 
+     * @param window <code>long</code>: The length of each window, in
+     *               nanoseconds.
+     */
+    public LatencyHistogram(long window) {
+
+        this.window = window;
+        windowEnd = System.nanoTime() + window;
+    }
+
+    /**
+     * Records a latency.
+     * 
+     * @param nanos <code>long</code>: The latency to record, in nanoseconds.
+     */
+    public final void record(long nanos) {
+
+        record(nanos, System.nanoTime());
+    }
+
+    /**
+     * Records a latency, rotating the windows first if the current window has
+     * ended.
+     * 
+     * @param nanos <code>long</code>: The latency to record, in nanoseconds.
+     * @param now   <code>long</code>: The current time, in nanoseconds.
+     */
+    private void record(long nanos, long now) {
+
+        if (now - windowEnd >= 0) {
+
+            rotate(now);
+        }
+
+        long value = Math.clamp(nanos, 0, MAX_VALUE);
+        Window target = current;
+
+        target.buckets.incrementAndGet(getIndex(value));
+        target.count.incrementAndGet();
+        target.sum.addAndGet(value);
+
+        if (value > target.max.get()) {
+
+            target.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since an earlier call to
+     * <code>System.nanoTime()</code>.
+     * 
+     * @param start <code>long</code>: The time at which the measured work began.
+     * @return <code>long</code>: The current time, so that consecutive phases can
+     *         be measured without reading the clock twice.
+     */
+    public final long recordSince(long start) {
+
+        long now = System.nanoTime();
+        record(now - start, now);
+
+        return now;
+    }
+
+    /**
+     * Summarizes the latencies recorded during the current and previous windows
+     * of this <code>LatencyHistogram</code> instance.
+     * 
+     * @return <code>Snapshot</code>: The summarized latencies.
+     */
+    public final Snapshot snapshot() {
+
+        Window first;
+        Window second;
+
+        synchronized (this) {
+
+            rotate(System.nanoTime());
+
+            first = previous;
+            second = current;
+        }
+
+        long count = first.count.get() + second.count.get();
+        if (count == 0) {
+
+            return Snapshot.EMPTY;
+        }
+
+        long[] merged = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+
+            merged[i] = first.buckets.get(i) + second.buckets.get(i);
+        }
+
+        long max = Math.max(first.max.get(), second.max.get());
+        double mean = (double) (first.sum.get() + second.sum.get()) / count;
+
+        return new Snapshot(count, mean, getPercentile(merged, count, 0.5, max),
+                getPercentile(merged, count, 0.95, max), getPercentile(merged, count, 0.99, max), max);
+    }
+
+    /**
+     * Rotates the windows of this <code>LatencyHistogram</code> instance if the
+     * current window has ended, retiring the previous window.
+     * 
+     * @param now <code>long</code>: The current time, in nanoseconds.
+     */
+    private synchronized void rotate(long now) {
+
+        // Another thread may have rotated the windows while this one waited.
+        if (now - windowEnd < 0) {
+
+            return;
+        }
+
+        // Latencies recorded into the retired window while it is cleared are lost,
+        // which is an acceptable price for recording without a lock.
+        Window retired = previous;
+        retired.clear();
+
+        previous = current;
+        current = retired;
+        windowEnd = now + window;
+    }
+
+    /**
+     * Retrieves a percentile from a set of buckets.
+     * 
+     * @param buckets  <code>long[]</code>: The number of latencies in each bucket.
+     * @param count    <code>long</code>: The total number of latencies.
+     * @param fraction <code>double</code>: The percentile to retrieve, between
+     *                 <code>0</code> and <code>1</code>.
+     * @param max      <code>long</code>: The maximum recorded latency, which
+     *                 bounds the result.
+     * @return <code>long</code>: The highest value of the bucket containing the
+     *         percentile.
+     */
+    private static long getPercentile(long[] buckets, long count, double fraction, long max) {
+
+        long target = Math.max(1, (long) Math.ceil(fraction * count));
+
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+
+            seen += buckets[i];
+            if (seen >= target) {
+
+                return Math.min(getHighestValue(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Retrieves the bucket which a value is recorded into.
+     * 
+     * @param value <code>long</code>: The value, between <code>0</code> and
+     *              <code>MAX_VALUE</code>.
+     * @return <code>int</code>: The index of the bucket.
+     */
+    static int getIndex(long value) {
+
+        if (value < SUB_COUNT) {
+
+            return (int) value;
+        }
+
+        // Drop the low bits so that the value keeps SUB_BITS bits of precision.
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (int) (value >>> shift) - HALF_COUNT;
+    }
+
+    /**
+     * Retrieves the highest value which is recorded into a bucket.
+     * 
+     * @param index <code>int</code>: The index of the bucket.
+     * @return <code>long</code>: The highest value of the bucket.
+     */
+    static long getHighestValue(int index) {
+
+        if (index < SUB_COUNT) {
+
+            return index;
+        }
+
+        int shift = (index - SUB_COUNT) / HALF_COUNT + 1;
+        long sub = (index - SUB_COUNT) % HALF_COUNT + HALF_COUNT;
+
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,73 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>LocationGenerateEvent</code>: A flight recorder event spanning the
+ * generation of the areas of a location.
+ */
+@Name("com.transcendruins.LocationGenerate")
+@Label("Location Generate")
+@Category({ "Transcend Ruins", "Generation" })
+@Description("The generation of the areas of a location")
+public final class LocationGenerateEvent extends Event {
+
+    /**
+     * <code>String</code>: The key of the generated location.
+     */
+    @Label("Location")
+    private String location;
+
+    /**
+     * <code>long</code>: The seed which the areas were generated from.
+     */
+    @Label("Seed")
+    private long seed;
+
+    /**
+     * <code>int</code>: The number of generated areas.
+     */
+    @Label("Areas")
+    private int areas;
+
+    /**
+     * Ends this <code>LocationGenerateEvent</code> instance and commits it if it
+     * is enabled and passes the recording threshold.
+     * 
+     * @param location <code>String</code>: The key of the generated location.
+     * @param seed     <code>long</code>: The seed which the areas were generated
+     *                 from.
+     * @param areas    <code>int</code>: The number of generated areas.
+     */
+    public final void commit(String location, long seed, int areas) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.location = location;
+            this.seed = seed;
+            this.areas = areas;
+            commit();
+        }
+    }
+}
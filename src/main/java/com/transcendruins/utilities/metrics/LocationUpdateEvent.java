@@ -0,0 +1,65 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>LocationUpdateEvent</code>: A flight recorder event spanning the update
+ * of a single location during a tick.
+ */
+@Name("com.transcendruins.LocationUpdate")
+@Label("Location Update")
+@Category({ "Transcend Ruins", "World" })
+@Description("The update of a single active location during a tick")
+public final class LocationUpdateEvent extends Event {
+
+    /**
+     * <code>String</code>: The key of the updated location.
+     */
+    @Label("Location")
+    private String location;
+
+    /**
+     * <code>int</code>: The number of players in the updated location.
+     */
+    @Label("Players")
+    private int players;
+
+    /**
+     * Ends this <code>LocationUpdateEvent</code> instance and commits it if it is
+     * enabled and passes the recording threshold.
+     * 
+     * @param location <code>String</code>: The key of the updated location.
+     * @param players  <code>int</code>: The number of players in the updated
+     *                 location.
+     */
+    public final void commit(String location, int players) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.location = location;
+            this.players = players;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <code>LoggedExceptionEvent</code>: A flight recorder event spanning the
+ * creation and logging of a logged exception.
+ */
+@Name("com.transcendruins.LoggedException")
+@Label("Logged Exception")
+@Category({ "Transcend Ruins", "Errors" })
+@Description("The creation and logging of a logged exception")
+@StackTrace(true)
+public final class LoggedExceptionEvent extends Event {
+
+    /**
+     * <code>String</code>: The error code of the exception.
+     */
+    @Label("Error Code")
+    private String errorCode;
+
+    /**
+     * <code>String</code>: The path which the exception was raised for.
+     */
+    @Label("Path")
+    private String path;
+
+    /**
+     * <code>String</code>: The message of the exception.
+     */
+    @Label("Message")
+    private String message;
+
+    /**
+     * Ends this <code>LoggedExceptionEvent</code> instance and commits it if it
+     * is enabled and passes the recording threshold.
+     * 
+     * @param errorCode <code>String</code>: The error code of the exception.
+     * @param path      <code>Object</code>: The path which the exception was
+     *                  raised for.
+     * @param message   <code>String</code>: The message of the exception.
+     */
+    public final void commit(String errorCode, Object path, String message) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.errorCode = errorCode;
+            this.path = String.valueOf(path);
+            this.message = message;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+
+/**
+ * <code>MetricsMBean</code>: A class which publishes the metrics of a
+ * <code>MetricsRegistry</code> instance as read-only JMX attributes. Each
+ * latency histogram is published as one attribute per statistic, in
+ * milliseconds.
+ */
+final class MetricsMBean implements DynamicMBean {
+
+    /**
+     * <code>Statistic</code>: A record representing a statistic published for each
+     * latency histogram.
+     * 
+     * @param suffix <code>String</code>: The suffix appended to the name of the
+     *               histogram.
+     * @param value  <code>ToDoubleFunction&lt;LatencyHistogram.Snapshot&gt;</code>:
+     *               The function which reads the statistic from a snapshot.
+     */
+    private static final record Statistic(String suffix, ToDoubleFunction<LatencyHistogram.Snapshot> value) {
+    }
+
+    /**
+     * <code>List&lt;Statistic&gt;</code>: The statistics published for each
+     * latency histogram.
+     */
+    private static final List<Statistic> STATISTICS = List.of(new Statistic(".count", snapshot -> snapshot.count()),
+            new Statistic(".meanMs", snapshot -> snapshot.mean() / 1e6),
+            new Statistic(".p50Ms", snapshot -> snapshot.p50() / 1e6),
+            new Statistic(".p95Ms", snapshot -> snapshot.p95() / 1e6),
+            new Statistic(".p99Ms", snapshot -> snapshot.p99() / 1e6),
+            new Statistic(".maxMs", snapshot -> snapshot.max() / 1e6));
+
+    /**
+     * <code>MetricsRegistry</code>: The registry to publish.
+     */
+    private final MetricsRegistry registry;
+
+    /**
+     * Creates a new instance of the <code>MetricsMBean</code> class.
+     * 
+     * @param registry <code>MetricsRegistry</code>: The registry to publish.
+     */
+    MetricsMBean(MetricsRegistry registry) {
+
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+
+        Counter counter = registry.getCounters().get(attribute);
+        if (counter != null) {
+
+            return counter.get();
+        }
+
+        DoubleSupplier gauge = registry.getGauges().get(attribute);
+        if (gauge != null) {
+
+            return MetricsRegistry.read(gauge);
+        }
+
+        for (Statistic statistic : STATISTICS) {
+
+            if (!attribute.endsWith(statistic.suffix())) {
+
+                continue;
+            }
+
+            String name = attribute.substring(0, attribute.length() - statistic.suffix().length());
+            LatencyHistogram histogram = registry.getHistograms().get(name);
+            if (histogram != null) {
+
+                return statistic.value().applyAsDouble(histogram.snapshot());
+            }
+        }
+
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+
+            try {
+
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException _) {
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature)
+            throws MBeanException, ReflectionException {
+
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+
+        // Metrics are created on first use, so the attributes are listed on each call.
+        ArrayList<MBeanAttributeInfo> attributes = new ArrayList<>();
+
+        for (String name : registry.getCounters().keySet()) {
+
+            attributes.add(new MBeanAttributeInfo(name, "long", "Counter", true, false, false));
+        }
+
+        for (String name : registry.getGauges().keySet()) {
+
+            attributes.add(new MBeanAttributeInfo(name, "double", "Gauge", true, false, false));
+        }
+
+        for (String name : registry.getHistograms().keySet()) {
+
+            for (Statistic statistic : STATISTICS) {
+
+                attributes.add(new MBeanAttributeInfo(name + statistic.suffix(), "double", "Latency histogram",
+                        true, false, false));
+            }
+        }
+
+        return new MBeanInfo(MetricsRegistry.class.getName(), "Engine metrics",
+                attributes.toArray(MBeanAttributeInfo[]::new), null, null, null);
+    }
+}
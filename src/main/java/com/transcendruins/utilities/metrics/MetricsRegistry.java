@@ -0,0 +1,217 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * <code>MetricsRegistry</code>: A class which holds the named counters, gauges
+ * and latency histograms of the engine. Metrics are created on first use and
+ * live for the rest of the program, and the registry is published over JMX
+ * under the <code>com.transcendruins:type=Metrics</code> name.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * <code>String</code>: The JMX name which the registry is published under.
+     */
+    public static final String OBJECT_NAME = "com.transcendruins:type=Metrics";
+
+    /**
+     * <code>long</code>: The length of the window which latency percentiles are
+     * calculated over, in nanoseconds.
+     */
+    private static final long WINDOW = Long.getLong("transcendruins.metrics.window", 60) * 1_000_000_000L;
+
+    /**
+     * The static <code>MetricsRegistry</code> instance which all metrics are
+     * recorded to.
+     */
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    /**
+     * Retrieves the metrics registry.
+     * 
+     * @return <code>MetricsRegistry</code>: The <code>REGISTRY</code> field.
+     */
+    public static MetricsRegistry getRegistry() {
+
+        return REGISTRY;
+    }
+
+    /**
+     * <code>ConcurrentSkipListMap&lt;String, Counter&gt;</code>: The counters of
+     * this <code>MetricsRegistry</code> instance, sorted by name.
+     */
+    private final ConcurrentSkipListMap<String, Counter> counters = new ConcurrentSkipListMap<>();
+
+    /**
+     * <code>ConcurrentSkipListMap&lt;String, DoubleSupplier&gt;</code>: The gauges
+     * of this <code>MetricsRegistry</code> instance, sorted by name.
+     */
+    private final ConcurrentSkipListMap<String, DoubleSupplier> gauges = new ConcurrentSkipListMap<>();
+
+    /**
+     * <code>ConcurrentSkipListMap&lt;String, LatencyHistogram&gt;</code>: The
+     * latency histograms of this <code>MetricsRegistry</code> instance, sorted by
+     * name.
+     */
+    private final ConcurrentSkipListMap<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates a new instance of the <code>MetricsRegistry</code> class and
+     * publishes it over JMX.
+     */
+    private MetricsRegistry() {
+
+        gauge("jvm.heapUsedMb",
+                () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (double) (1 << 20));
+
+        try {
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this),
+                    new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+
+            // Metrics are still recorded if they cannot be published.
+            System.out.println(e);
+        }
+    }
+
+    /**
+     * Retrieves a counter, creating it if it does not exist.
+     * 
+     * @param name <code>String</code>: The name of the counter.
+     * @return <code>Counter</code>: The retrieved counter.
+     */
+    public final Counter counter(String name) {
+
+        return counters.computeIfAbsent(name, _ -> new Counter());
+    }
+
+    /**
+     * Retrieves a latency histogram, creating it if it does not exist.
+     * 
+     * @param name <code>String</code>: The name of the histogram.
+     * @return <code>LatencyHistogram</code>: The retrieved histogram.
+     */
+    public final LatencyHistogram histogram(String name) {
+
+        return histograms.computeIfAbsent(name, _ -> new LatencyHistogram(WINDOW));
+    }
+
+    /**
+     * Sets a gauge, replacing any gauge with the same name.
+     * 
+     * @param name  <code>String</code>: The name of the gauge.
+     * @param value <code>DoubleSupplier</code>: The function which reads the
+     *              value of the gauge.
+     */
+    public final void gauge(String name, DoubleSupplier value) {
+
+        gauges.put(name, value);
+    }
+
+    /**
+     * Retrieves the counters of this <code>MetricsRegistry</code> instance.
+     * 
+     * @return <code>SortedMap&lt;String, Counter&gt;</code>: The counters, sorted
+     *         by name.
+     */
+    public final SortedMap<String, Counter> getCounters() {
+
+        return Collections.unmodifiableSortedMap(counters);
+    }
+
+    /**
+     * Retrieves the gauges of this <code>MetricsRegistry</code> instance.
+     * 
+     * @return <code>SortedMap&lt;String, DoubleSupplier&gt;</code>: The gauges,
+     *         sorted by name.
+     */
+    public final SortedMap<String, DoubleSupplier> getGauges() {
+
+        return Collections.unmodifiableSortedMap(gauges);
+    }
+
+    /**
+     * Retrieves the latency histograms of this <code>MetricsRegistry</code>
+     * instance.
+     * 
+     * @return <code>SortedMap&lt;String, LatencyHistogram&gt;</code>: The
+     *         histograms, sorted by name.
+     */
+    public final SortedMap<String, LatencyHistogram> getHistograms() {
+
+        return Collections.unmodifiableSortedMap(histograms);
+    }
+
+    /**
+     * Reads the value of a gauge.
+     * 
+     * @param gauge <code>DoubleSupplier</code>: The gauge to read.
+     * @return <code>double</code>: The value of the gauge, or <code>NaN</code> if
+     *         it could not be read.
+     */
+    static double read(DoubleSupplier gauge) {
+
+        try {
+
+            return gauge.getAsDouble();
+        } catch (RuntimeException e) {
+
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Summarizes every metric of this <code>MetricsRegistry</code> instance.
+     * 
+     * @return <code>SortedMap&lt;String, String&gt;</code>: The summary of each
+     *         metric, sorted by name.
+     */
+    public final SortedMap<String, String> describe() {
+
+        TreeMap<String, String> description = new TreeMap<>();
+
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+
+            description.put(entry.getKey(), Long.toString(entry.getValue().get()));
+        }
+
+        for (Map.Entry<String, DoubleSupplier> entry : gauges.entrySet()) {
+
+            description.put(entry.getKey(), String.format("%.1f", read(entry.getValue())));
+        }
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+
+            description.put(entry.getKey(), entry.getValue().snapshot().toString());
+        }
+
+        return description;
+    }
+}
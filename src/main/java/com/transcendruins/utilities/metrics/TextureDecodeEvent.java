@@ -0,0 +1,93 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>TextureDecodeEvent</code>: A flight recorder event spanning the
+ * decoding of a texture file. Decoded files are cached, so the event is only
+ * recorded the first time each file is requested.
+ */
+@Name("com.transcendruins.TextureDecode")
+@Label("Texture Decode")
+@Category({ "Transcend Ruins", "Resources" })
+@Description("The decoding of a texture file")
+public final class TextureDecodeEvent extends Event {
+
+    /**
+     * <code>String</code>: The key of the texture which requested the file.
+     */
+    @Label("Texture")
+    private String texture;
+
+    /**
+     * <code>String</code>: The path of the decoded file.
+     */
+    @Label("Path")
+    private String path;
+
+    /**
+     * <code>int</code>: The width of the decoded texture, or <code>-1</code> if
+     * the texture could not be decoded.
+     */
+    @Label("Width")
+    private int width;
+
+    /**
+     * <code>int</code>: The height of the decoded texture, or <code>-1</code> if
+     * the texture could not be decoded.
+     */
+    @Label("Height")
+    private int height;
+
+    /**
+     * <code>boolean</code>: Whether or not the file could not be decoded.
+     */
+    @Label("Missing")
+    private boolean missing;
+
+    /**
+     * Ends this <code>TextureDecodeEvent</code> instance and commits it if it is
+     * enabled and passes the recording threshold.
+     * 
+     * @param texture <code>String</code>: The key of the texture which requested
+     *                the file.
+     * @param path    <code>String</code>: The path of the decoded file.
+     * @param width   <code>int</code>: The width of the decoded texture.
+     * @param height  <code>int</code>: The height of the decoded texture.
+     * @param missing <code>boolean</code>: Whether or not the file could not be
+     *                decoded.
+     */
+    public final void commit(String texture, String path, int width, int height, boolean missing) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.texture = texture;
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.missing = missing;
+            commit();
+        }
+    }
+}
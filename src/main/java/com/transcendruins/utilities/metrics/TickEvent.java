@@ -0,0 +1,73 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>TickEvent</code>: A flight recorder event spanning a single tick of the
+ * host of a world.
+ */
+@Name("com.transcendruins.Tick")
+@Label("Tick")
+@Category({ "Transcend Ruins", "World" })
+@Description("A single tick of the world host")
+public final class TickEvent extends Event {
+
+    /**
+     * <code>long</code>: The number of ticks which had run before this tick.
+     */
+    @Label("Tick")
+    private long tick;
+
+    /**
+     * <code>int</code>: The number of players in the world.
+     */
+    @Label("Players")
+    private int players;
+
+    /**
+     * <code>int</code>: The number of locations in the world.
+     */
+    @Label("Locations")
+    private int locations;
+
+    /**
+     * Ends this <code>TickEvent</code> instance and commits it if it is enabled
+     * and passes the recording threshold.
+     * 
+     * @param tick      <code>long</code>: The number of ticks which had run before
+     *                  this tick.
+     * @param players   <code>int</code>: The number of players in the world.
+     * @param locations <code>int</code>: The number of locations in the world.
+     */
+    public final void commit(long tick, int players, int locations) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.tick = tick;
+            this.players = players;
+            this.locations = locations;
+            commit();
+        }
+    }
+}
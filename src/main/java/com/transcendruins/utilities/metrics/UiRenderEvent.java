@@ -0,0 +1,90 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <code>UiRenderEvent</code>: A flight recorder event spanning the rendering of
+ * the UI of a player.
+ */
+@Name("com.transcendruins.UiRender")
+@Label("UI Render")
+@Category({ "Transcend Ruins", "Rendering" })
+@Description("The rendering of the UI of a player")
+public final class UiRenderEvent extends Event {
+
+    /**
+     * <code>long</code>: The ID of the player whose UI was rendered.
+     */
+    @Label("Player")
+    private long player;
+
+    /**
+     * <code>String</code>: The location of the player, or <code>null</code> if
+     * the player is on the global map.
+     */
+    @Label("Location")
+    private String location;
+
+    /**
+     * <code>int</code>: The number of rendered panels.
+     */
+    @Label("Panels")
+    private int panels;
+
+    /**
+     * <code>int</code>: The width of the rendered UI.
+     */
+    @Label("Width")
+    private int width;
+
+    /**
+     * <code>int</code>: The height of the rendered UI.
+     */
+    @Label("Height")
+    private int height;
+
+    /**
+     * Ends this <code>UiRenderEvent</code> instance and commits it if it is
+     * enabled and passes the recording threshold.
+     * 
+     * @param player   <code>long</code>: The ID of the player whose UI was
+     *                 rendered.
+     * @param location <code>String</code>: The location of the player.
+     * @param panels   <code>int</code>: The number of rendered panels.
+     * @param width    <code>int</code>: The width of the rendered UI.
+     * @param height   <code>int</code>: The height of the rendered UI.
+     */
+    public final void commit(long player, String location, int panels, int width, int height) {
+
+        end();
+        if (shouldCommit()) {
+
+            this.player = player;
+            this.location = location;
+            this.panels = panels;
+            this.width = width;
+            this.height = height;
+            commit();
+        }
+    }
+}
@@ -38,7 +38,7 @@ public final class DeterministicRandom {
      * @return <code>long</code>: The <code>state</code> field of this
      *         <code>DeterministicRandom</code> instance.
      */
-    public final long getState() {
+    public final synchronized long getState() {
 
         return state;
     }
@@ -59,13 +59,33 @@ public final class DeterministicRandom {
      * 
      * @return <code>long</code>: The produced value.
      */
-    public final long next() {
+    public final synchronized long next() {
 
         Random r = new Random(state);
         state = r.nextLong(); // update state
         return state;
     }
 
+    /**
+     * Derives an independent random number generator from the current state of
+     * this <code>DeterministicRandom</code> instance. The derived generator
+     * depends only on the current state and the stream index, so a set of
+     * streams produces the same values regardless of the order or the thread
+     * they are used on. Deriving does not update the state.
+     * 
+     * @param stream <code>long</code>: The index of the stream to derive.
+     * @return <code>DeterministicRandom</code>: The derived generator.
+     */
+    public final synchronized DeterministicRandom derive(long stream) {
+
+        // Mix the state and the stream index using the SplitMix64 finalizer.
+        long z = state + (stream + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return new DeterministicRandom(z ^ (z >>> 31));
+    }
+
     /**
      * Retrieves a random element from a list using this
      * <code>DeterministicRandom</code> instance.
@@ -0,0 +1,311 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.utilities.time;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * <code>TimerWheel</code>: A class representing a hierarchical timer wheel.
+ * Timers are bucketed by their deadline into wheels of increasing coarseness,
+ * and are moved into finer wheels as their deadline approaches, so advancing
+ * the wheel only touches the timers which are due rather than every pending
+ * timer.
+ */
+public final class TimerWheel {
+
+    /**
+     * <code>int</code>: The number of bits of the tick index consumed by each
+     * wheel.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * <code>int</code>: The number of slots in each wheel.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * <code>int</code>: The mask which retrieves the slot of a tick in a wheel.
+     */
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /**
+     * <code>int</code>: The number of wheels. Timers further away than the last
+     * wheel can hold are kept in an overflow list.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * <code>Timer</code>: A class representing a task scheduled on a
+     * <code>TimerWheel</code> instance.
+     */
+    public static final class Timer {
+
+        /**
+         * <code>long</code>: The time at which this <code>Timer</code> instance is
+         * due, in milliseconds.
+         */
+        private final long deadline;
+
+        /**
+         * Retrieves the time at which this <code>Timer</code> instance is due.
+         * 
+         * @return <code>long</code>: The <code>deadline</code> field of this
+         *         <code>Timer</code> instance.
+         */
+        public final long getDeadline() {
+
+            return deadline;
+        }
+
+        /**
+         * <code>long</code>: The order in which this <code>Timer</code> instance
+         * was scheduled, used to run timers with the same deadline in order.
+         */
+        private final long sequence;
+
+        /**
+         * <code>Runnable</code>: The task to run once this <code>Timer</code>
+         * instance is due.
+         */
+        private final Runnable task;
+
+        /**
+         * <code>boolean</code>: Whether or not this <code>Timer</code> instance has
+         * been cancelled.
+         */
+        private volatile boolean cancelled = false;
+
+        /**
+         * Cancels this <code>Timer</code> instance. Cancelled timers are discarded
+         * when they become due rather than being searched for.
+         */
+        public final void cancel() {
+
+            cancelled = true;
+        }
+
+        /**
+         * Creates a new instance of the <code>Timer</code> class.
+         * 
+         * @param deadline <code>long</code>: The time at which the timer is due.
+         * @param sequence <code>long</code>: The order in which the timer was
+         *                 scheduled.
+         * @param task     <code>Runnable</code>: The task to run.
+         */
+        private Timer(long deadline, long sequence, Runnable task) {
+
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+
+    /**
+     * <code>long</code>: The number of milliseconds covered by a single tick.
+     */
+    private final long resolution;
+
+    /**
+     * <code>ArrayList&lt;ArrayList&lt;ArrayList&lt;Timer&gt;&gt;&gt;</code>: The
+     * slots of each wheel, from finest to coarsest.
+     */
+    private final ArrayList<ArrayList<ArrayList<Timer>>> wheels = new ArrayList<>(LEVELS);
+
+    /**
+     * <code>ArrayList&lt;Timer&gt;</code>: The timers which are too far away to be
+     * held by any wheel.
+     */
+    private final ArrayList<Timer> overflow = new ArrayList<>();
+
+    /**
+     * <code>long</code>: The next tick to be processed.
+     */
+    private long current;
+
+    /**
+     * <code>int</code>: The number of timers held by this <code>TimerWheel</code>
+     * instance, including cancelled timers which have not yet been discarded.
+     */
+    private int size = 0;
+
+    /**
+     * <code>long</code>: The number of timers which have been scheduled.
+     */
+    private long scheduled = 0;
+
+    /**
+     * Creates a new instance of the <code>TimerWheel</code> class.
+     * 
+     * @param resolution <code>long</code>: The number of milliseconds covered by
+     *                   a single tick.
+     * @param now        <code>long</code>: The current time in milliseconds.
+     */
+    public TimerWheel(long resolution, long now) {
+
+        this.resolution = resolution;
+        current = now / resolution;
+
+        for (int level = 0; level < LEVELS; level++) {
+
+            ArrayList<ArrayList<Timer>> wheel = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+
+                wheel.add(new ArrayList<>());
+            }
+
+            wheels.add(wheel);
+        }
+    }
+
+    /**
+     * Schedules a task on this <code>TimerWheel</code> instance. Tasks whose
+     * deadline has already passed are run by the next call to the
+     * <code>advance</code> method.
+     * 
+     * @param deadline <code>long</code>: The time at which to run the task, in
+     *                 milliseconds.
+     * @param task     <code>Runnable</code>: The task to run.
+     * @return <code>Timer</code>: The scheduled timer, which may be cancelled.
+     */
+    public final synchronized Timer schedule(long deadline, Runnable task) {
+
+        Timer timer = new Timer(deadline, scheduled++, task);
+        insert(timer);
+        size++;
+
+        return timer;
+    }
+
+    /**
+     * Places a timer into the wheel which matches how far away its deadline is.
+     * 
+     * @param timer <code>Timer</code>: The timer to place.
+     */
+    private void insert(Timer timer) {
+
+        // Deadlines are rounded up, so a timer is never run before it is due.
+        long tick = Math.max(Math.ceilDiv(timer.deadline, resolution), current);
+        long delta = tick - current;
+
+        for (int level = 0; level < LEVELS; level++) {
+
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+
+                wheels.get(level).get((int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK).add(timer);
+                return;
+            }
+        }
+
+        overflow.add(timer);
+    }
+
+    /**
+     * Advances this <code>TimerWheel</code> instance to the current time, running
+     * every task which has become due. Tasks are run in order of their deadlines,
+     * outside of the lock of the wheel, so they may schedule further tasks.
+     * 
+     * @param now <code>long</code>: The current time in milliseconds.
+     */
+    public final void advance(long now) {
+
+        ArrayList<Timer> due = new ArrayList<>();
+
+        synchronized (this) {
+
+            long target = now / resolution;
+
+            while (current <= target) {
+
+                // With nothing scheduled, there is nothing to cascade either.
+                if (size == 0) {
+
+                    current = target + 1;
+                    break;
+                }
+
+                int slot = (int) current & SLOT_MASK;
+                if (slot == 0) {
+
+                    cascade(1);
+                }
+
+                ArrayList<Timer> timers = wheels.get(0).get(slot);
+                if (!timers.isEmpty()) {
+
+                    timers.sort(Comparator.comparingLong((Timer timer) -> timer.deadline)
+                            .thenComparingLong(timer -> timer.sequence));
+                    due.addAll(timers);
+
+                    size -= timers.size();
+                    timers.clear();
+                }
+
+                current++;
+            }
+        }
+
+        for (Timer timer : due) {
+
+            if (!timer.cancelled) {
+
+                timer.task.run();
+            }
+        }
+    }
+
+    /**
+     * Moves the timers of the current slot of a wheel into finer wheels. If the
+     * current slot is the first slot of the wheel, the coarser wheels are
+     * cascaded first, so that their timers are distributed along with it.
+     * 
+     * @param level <code>int</code>: The wheel to cascade from.
+     */
+    private void cascade(int level) {
+
+        if (level == LEVELS) {
+
+            // Overflowed timers are re-placed every time the coarsest wheel turns.
+            ArrayList<Timer> timers = new ArrayList<>(overflow);
+            overflow.clear();
+            timers.forEach(this::insert);
+
+            return;
+        }
+
+        int slot = (int) (current >>> (SLOT_BITS * level)) & SLOT_MASK;
+        if (slot == 0) {
+
+            cascade(level + 1);
+        }
+
+        ArrayList<Timer> timers = wheels.get(level).set(slot, new ArrayList<>());
+        for (Timer timer : timers) {
+
+            // Cancelled timers are discarded here rather than carried down the wheels.
+            if (timer.cancelled) {
+
+                size--;
+            } else {
+
+                insert(timer);
+            }
+        }
+    }
+}
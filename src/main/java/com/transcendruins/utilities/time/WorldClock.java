@@ -0,0 +1,250 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.utilities.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>WorldClock</code>: A class representing a monotonic clock which the
+ * timers of a world are driven by. The clock can be replaced so that tests and
+ * benchmarks can run the world in accelerated or frozen time.
+ */
+public abstract class WorldClock {
+
+    /**
+     * <code>WorldClock</code>: The clock which runs in real time.
+     */
+    public static final WorldClock SYSTEM = new ScaledClock(1.0);
+
+    /**
+     * <code>long</code>: The wall-clock time, in milliseconds since the epoch, at
+     * which this <code>WorldClock</code> instance read <code>0</code>.
+     */
+    private final long originEpochMillis;
+
+    /**
+     * Retrieves the wall-clock time at which this <code>WorldClock</code>
+     * instance read <code>0</code>.
+     * 
+     * @return <code>long</code>: The <code>originEpochMillis</code> field of this
+     *         <code>WorldClock</code> instance.
+     */
+    public final long getOriginEpochMillis() {
+
+        return originEpochMillis;
+    }
+
+    /**
+     * Creates a new instance of the <code>WorldClock</code> class which reads
+     * <code>0</code> at the current wall-clock time.
+     */
+    protected WorldClock() {
+
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a new instance of the <code>WorldClock</code> class.
+     * 
+     * @param originEpochMillis <code>long</code>: The wall-clock time, in
+     *                          milliseconds since the epoch, at which the clock
+     *                          reads <code>0</code>.
+     */
+    protected WorldClock(long originEpochMillis) {
+
+        this.originEpochMillis = originEpochMillis;
+    }
+
+    /**
+     * Retrieves the current time of this <code>WorldClock</code> instance. The
+     * time never decreases.
+     * 
+     * @return <code>long</code>: The number of milliseconds since this
+     *         <code>WorldClock</code> instance was created.
+     */
+    public abstract long millis();
+
+    /**
+     * Notifies this <code>WorldClock</code> instance that the host of its world
+     * is starting a tick. Most clocks ignore this.
+     */
+    public void tick() {
+    }
+
+    /**
+     * Converts a wall-clock timestamp into the time of this
+     * <code>WorldClock</code> instance.
+     * 
+     * @param time <code>ZonedDateTime</code>: The timestamp to convert.
+     * @return <code>long</code>: The time in milliseconds at which this
+     *         <code>WorldClock</code> instance will reach the timestamp.
+     */
+    public final long toMillis(ZonedDateTime time) {
+
+        return time.toInstant().toEpochMilli() - originEpochMillis;
+    }
+
+    /**
+     * Converts the current time of this <code>WorldClock</code> instance into a
+     * wall-clock timestamp.
+     * 
+     * @return <code>ZonedDateTime</code>: The current timestamp.
+     */
+    public final ZonedDateTime getDateTime() {
+
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(originEpochMillis + millis()), ZoneId.systemDefault());
+    }
+
+    /**
+     * <code>ScaledClock</code>: A clock which runs at a fixed multiple of real
+     * time.
+     */
+    public static final class ScaledClock extends WorldClock {
+
+        /**
+         * <code>double</code>: The number of milliseconds which pass on this
+         * <code>ScaledClock</code> instance for every real millisecond.
+         */
+        private final double rate;
+
+        /**
+         * <code>long</code>: The value of <code>System.nanoTime()</code> when this
+         * <code>ScaledClock</code> instance was created.
+         */
+        private final long originNanos = System.nanoTime();
+
+        /**
+         * Creates a new instance of the <code>ScaledClock</code> class.
+         * 
+         * @param rate <code>double</code>: The number of milliseconds which pass on
+         *             the clock for every real millisecond.
+         */
+        public ScaledClock(double rate) {
+
+            this.rate = rate;
+        }
+
+        @Override
+        public final long millis() {
+
+            return (long) ((System.nanoTime() - originNanos) * rate / 1_000_000);
+        }
+    }
+
+    /**
+     * <code>TickClock</code>: A clock which reads another clock once at the start
+     * of every tick and holds that reading until the next tick, so that every
+     * read made during a tick sees the same time.
+     */
+    public static final class TickClock extends WorldClock {
+
+        /**
+         * <code>WorldClock</code>: The clock which is read at the start of every
+         * tick.
+         */
+        private final WorldClock source;
+
+        /**
+         * <code>long</code>: The reading of the source clock at the start of the
+         * current tick.
+         */
+        private volatile long time;
+
+        /**
+         * Creates a new instance of the <code>TickClock</code> class.
+         * 
+         * @param source <code>WorldClock</code>: The clock to read at the start of
+         *               every tick.
+         */
+        public TickClock(WorldClock source) {
+
+            super(source.getOriginEpochMillis());
+
+            this.source = source;
+            time = source.millis();
+        }
+
+        @Override
+        public final long millis() {
+
+            return time;
+        }
+
+        @Override
+        public final void tick() {
+
+            time = Math.max(time, source.millis());
+        }
+    }
+
+    /**
+     * <code>ManualClock</code>: A clock which only advances when it is told to.
+     */
+    public static final class ManualClock extends WorldClock {
+
+        /**
+         * <code>AtomicLong</code>: The current time of this
+         * <code>ManualClock</code> instance in milliseconds.
+         */
+        private final AtomicLong time = new AtomicLong();
+
+        /**
+         * Creates a new instance of the <code>ManualClock</code> class which reads
+         * <code>0</code> at the current wall-clock time.
+         */
+        public ManualClock() {
+        }
+
+        /**
+         * Creates a new instance of the <code>ManualClock</code> class.
+         * 
+         * @param originEpochMillis <code>long</code>: The wall-clock time, in
+         *                          milliseconds since the epoch, at which the
+         *                          clock reads <code>0</code>.
+         */
+        public ManualClock(long originEpochMillis) {
+
+            super(originEpochMillis);
+        }
+
+        @Override
+        public final long millis() {
+
+            return time.get();
+        }
+
+        /**
+         * Advances this <code>ManualClock</code> instance.
+         * 
+         * @param millis <code>long</code>: The number of milliseconds to advance
+         *               by, which must not be negative.
+         */
+        public final void advance(long millis) {
+
+            if (millis < 0) {
+
+                throw new IllegalArgumentException("A clock cannot move backwards.");
+            }
+
+            time.addAndGet(millis);
+        }
+    }
+}
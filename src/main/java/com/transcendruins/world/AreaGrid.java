@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.transcendruins.assets.layouts.placement.GenerationPlacement;
 import com.transcendruins.assets.layouts.placement.GenerationShapeInstance;
@@ -41,8 +42,12 @@ import com.transcendruins.rendering.RenderInstance;
 import com.transcendruins.rendering.renderbuffer.RenderBuffer;
 import com.transcendruins.utilities.metadata.Identifier;
 import com.transcendruins.utilities.random.DeterministicRandom;
+import com.transcendruins.utilities.time.TimerWheel.Timer;
 import com.transcendruins.world.calls.AttackCall;
 import com.transcendruins.world.calls.InteractionCall;
+import com.transcendruins.world.pathfinding.FlowField;
+import com.transcendruins.world.pathfinding.NavigationGrid;
+import com.transcendruins.world.visibility.LineOfSight;
 
 /**
  * <code>AreaGrid</code>: A class representing a grid of tiles which a location
@@ -115,6 +120,138 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         return tiles[i];
     }
 
+    /**
+     * <code>NavigationGrid</code>: The walkability of this <code>AreaGrid</code>
+     * instance, or <code>null</code> if no path has been requested yet.
+     */
+    private NavigationGrid navigation;
+
+    /**
+     * Retrieves the walkability of this <code>AreaGrid</code> instance, building it
+     * if it has not been built or the bounds have changed since it was built.
+     * 
+     * @return <code>NavigationGrid</code>: The <code>navigation</code> field of
+     *         this <code>AreaGrid</code> instance.
+     */
+    public final NavigationGrid getNavigation() {
+
+        if (navigation == null || navigation.getWidth() != bounds.width
+                || navigation.getLength() != bounds.height) {
+
+            navigation = new NavigationGrid(this);
+        }
+
+        return navigation;
+    }
+
+    /**
+     * Retrieves the shared flow field toward the tile an asset stands on.
+     * 
+     * @param target <code>PrimaryAssetInstance</code>: The asset to walk toward,
+     *               such as a player or an interaction point.
+     * @return <code>FlowField</code>: The flow field toward the asset.
+     */
+    public final FlowField getFlowField(PrimaryAssetInstance target) {
+
+        Rectangle targetBounds = target.getTileBounds();
+        return getNavigation().getFlowField((int) targetBounds.getCenterX(), (int) targetBounds.getCenterY());
+    }
+
+    /**
+     * Notifies this <code>AreaGrid</code> instance that the walkability of one of
+     * its tiles has changed, so that only the affected paths are rebuilt.
+     * 
+     * @param index <code>int</code>: The index of the changed tile.
+     */
+    public final void updateTile(int index) {
+
+        if (navigation != null) {
+
+            navigation.updateTile(index % bounds.width, index / bounds.width);
+        }
+
+        if (lineOfSight != null) {
+
+            lineOfSight.updateTile(index % bounds.width, index / bounds.width);
+        }
+    }
+
+    /**
+     * <code>LineOfSight</code>: The occupancy of this <code>AreaGrid</code>
+     * instance used for sight queries, or <code>null</code> if no sight query has
+     * been made yet.
+     */
+    private LineOfSight lineOfSight;
+
+    /**
+     * Retrieves the occupancy of this <code>AreaGrid</code> instance used for
+     * sight queries, building it if it has not been built or the bounds have
+     * changed since it was built.
+     * 
+     * @return <code>LineOfSight</code>: The <code>lineOfSight</code> field of this
+     *         <code>AreaGrid</code> instance.
+     */
+    public final LineOfSight getLineOfSight() {
+
+        if (lineOfSight == null || lineOfSight.getWidth() != bounds.width
+                || lineOfSight.getLength() != bounds.height) {
+
+            lineOfSight = new LineOfSight(this);
+        }
+
+        return lineOfSight;
+    }
+
+    /**
+     * <code>double</code>: The time, in seconds, of the most recent update of this
+     * <code>AreaGrid</code> instance, which identifies the current tick.
+     */
+    private double tickTime = Double.NaN;
+
+    /**
+     * Determines whether or not an asset has an unobstructed line of sight to
+     * another asset. The result is cached for the remainder of the tick.
+     * 
+     * @param viewer <code>PrimaryAssetInstance</code>: The asset to look from.
+     * @param target <code>PrimaryAssetInstance</code>: The asset to look at.
+     * @return <code>boolean</code>: Whether or not the target can be seen.
+     */
+    public final boolean canSee(PrimaryAssetInstance viewer, PrimaryAssetInstance target) {
+
+        Rectangle viewerBounds = viewer.getTileBounds();
+        Rectangle targetBounds = target.getTileBounds();
+
+        return getLineOfSight().canSee(tickTime, (int) viewerBounds.getCenterX(), (int) viewerBounds.getCenterY(),
+                (int) targetBounds.getCenterX(), (int) targetBounds.getCenterY());
+    }
+
+    /**
+     * Determines whether or not each of a set of assets has an unobstructed line of
+     * sight to a single target, such as every entity in range of a player. The
+     * results are cached for the remainder of the tick.
+     * 
+     * @param viewers <code>List&lt;? extends PrimaryAssetInstance&gt;</code>: The
+     *                assets to look from.
+     * @param target  <code>PrimaryAssetInstance</code>: The asset to look at.
+     * @return <code>boolean[]</code>: Whether or not each viewer can see the
+     *         target.
+     */
+    public final boolean[] canSee(List<? extends PrimaryAssetInstance> viewers, PrimaryAssetInstance target) {
+
+        int[] viewerX = new int[viewers.size()];
+        int[] viewerZ = new int[viewers.size()];
+        for (int i = 0; i < viewerX.length; i++) {
+
+            Rectangle viewerBounds = viewers.get(i).getTileBounds();
+            viewerX[i] = (int) viewerBounds.getCenterX();
+            viewerZ[i] = (int) viewerBounds.getCenterY();
+        }
+
+        Rectangle targetBounds = target.getTileBounds();
+        return getLineOfSight().canSee(tickTime, viewerX, viewerZ, (int) targetBounds.getCenterX(),
+                (int) targetBounds.getCenterY());
+    }
+
     /**
      * Retrieves a region of tiles from this <code>AreaGrid</code> instance.
      * 
@@ -335,6 +472,49 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         return Stream.concat(elements.stream(), entities.stream());
     }
 
+    /**
+     * Retrieves a checksum of the simulation state of this <code>AreaGrid</code>
+     * instance: the identifier, position and rotation of each asset, along with
+     * the target and attack state of each entity. Replays compare it against the
+     * recorded checksum to find the tick at which they diverge.
+     * 
+     * @return <code>long</code>: The checksum of this <code>AreaGrid</code>
+     *         instance.
+     */
+    public final long getChecksum() {
+
+        long checksum = bounds.width * 31L + bounds.height;
+
+        for (PrimaryAssetInstance asset : getAssets().toList()) {
+
+            checksum = checksum * 31 + asset.getIdentifier().toString().hashCode();
+            checksum = checksum * 31 + asset.getRandomId();
+
+            Vector3f position = asset.getPosition();
+            checksum = checksum * 31 + Float.floatToIntBits(position.x);
+            checksum = checksum * 31 + Float.floatToIntBits(position.y);
+            checksum = checksum * 31 + Float.floatToIntBits(position.z);
+
+            Quaternion rotation = asset.getRotation();
+            checksum = checksum * 31 + Float.floatToIntBits(rotation.getX());
+            checksum = checksum * 31 + Float.floatToIntBits(rotation.getY());
+            checksum = checksum * 31 + Float.floatToIntBits(rotation.getZ());
+            checksum = checksum * 31 + Float.floatToIntBits(rotation.getW());
+
+            if (asset instanceof EntityInstance entity) {
+
+                AttackCall attackCall = entity.getAttackCall();
+                EntityInstance target = attackCall == null ? null : attackCall.target();
+
+                checksum = checksum * 31 + (target == null ? 0 : target.getRandomId());
+                checksum = checksum * 31 + (entity.getAttackLocked() ? 1 : 0);
+                checksum = checksum * 31 + (entity.alive() ? 1 : 0);
+            }
+        }
+
+        return checksum;
+    }
+
     /**
      * Creates a new instance of the <code>AreaGrid</code> class with a single
      * asset.
@@ -374,7 +554,7 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         this.spawn = (spawn == null) ? GenerationPlacement.DEFAULT : spawn;
 
         tiles = new AreaTile[bounds.width * bounds.height];
-        Arrays.setAll(tiles, _ -> new AreaTile());
+        Arrays.setAll(tiles, i -> new AreaTile(this, i));
     }
 
     /**
@@ -402,6 +582,7 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         }
 
         getAssets().forEach(asset -> asset.rotate(direction, bounds.width, bounds.height));
+        getAssets().forEach(this::updateInteraction);
 
         // TODO Rotate terrain texture, height map, etc.
     }
@@ -467,7 +648,11 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         }
 
         elements.add(element);
+        element.setAreaGrid(this);
         element.updateArea(this);
+
+        updateInteraction(element);
+        wake(element);
     }
 
     /**
@@ -483,8 +668,14 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         }
 
         elements.remove(element);
+        element.setAreaGrid(null);
         element.clearTiles();
 
+        if (interactionIndex != null) {
+
+            interactionIndex.remove(element);
+        }
+
         removeTag(element);
     }
 
@@ -505,7 +696,11 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         }
 
         entities.add(entity);
+        entity.setAreaGrid(this);
         entity.updateArea(this);
+
+        updateInteraction(entity);
+        wake(entity);
     }
 
     /**
@@ -521,12 +716,34 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         }
 
         entities.remove(entity);
+        entity.setAreaGrid(null);
+        targeting.remove(entity);
+
+        // Attacks between the entity and the rest of this area end once it leaves, since
+        // an entity in another area may be updated by another location at the same time.
+        entity.setAttack(null);
+        for (EntityInstance other : entities) {
+
+            AttackCall attackCall = other.getAttackCall();
+            if (attackCall != null && attackCall.target() == entity) {
+
+                other.setAttack(null);
+                other.requestRetarget();
+            }
+        }
+
+        if (interactionIndex != null) {
+
+            interactionIndex.remove(entity);
+        }
 
         removeTag(entity);
     }
 
     public final void updateEntity(EntityInstance entity) {
 
+        updateInteraction(entity);
+
         // TODO update entity bounds
     }
 
@@ -574,23 +791,15 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
             }
         } else {
 
-            HashSet<ElementInstance> overlappedElements = new HashSet<>();
-
             for (int x = 0; x < assetBounds.width; x++) {
 
                 for (int z = 0; z < assetBounds.height; z++) {
 
                     AreaTile tile = getTile(assetBounds.x + x, assetBounds.y + z);
 
-                    for (ElementInstance intersectElement : tile.getElements()) {
-
-                        if (overlappedElements.contains(intersectElement)) {
+                    // TODO Operate on overlapped elements
+                    if (!tile.getElements().isEmpty()) {
 
-                            continue;
-                        }
-                        overlappedElements.add(intersectElement);
-
-                        // TODO Operate on overlapped elements
                         return false;
                     }
                 }
@@ -626,7 +835,13 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         Rectangle assetBounds = asset.getTileBoundsAt(0, 0);
         GenerationShapeInstance spawnShape = spawn.generateShape(this, assetBounds.width, assetBounds.height, random);
 
-        return spawnShape.getPoint(p -> canAddAt(asset, p.x, p.y), random);
+        long point = spawnShape.getPoint((x, z) -> canAddAt(asset, x, z), random);
+        if (point == GenerationShapeInstance.NONE) {
+
+            return null;
+        }
+
+        return new Point(GenerationShapeInstance.getX(point), GenerationShapeInstance.getZ(point));
     }
 
     /**
@@ -674,148 +889,398 @@ public final class AreaGrid implements PlacementArea, RenderInstance {
         return random.next(options);
     }
 
+    /**
+     * <code>InteractionIndex</code>: The interaction anchors of the assets in this
+     * <code>AreaGrid</code> instance, or <code>null</code> if no interaction has
+     * been requested yet.
+     */
+    private InteractionIndex interactionIndex;
+
+    /**
+     * Retrieves the interaction anchors of the assets in this
+     * <code>AreaGrid</code> instance, building them if they have not been built or
+     * the bounds have changed since they were built.
+     * 
+     * @return <code>InteractionIndex</code>: The <code>interactionIndex</code>
+     *         field of this <code>AreaGrid</code> instance.
+     */
+    public final InteractionIndex getInteractionIndex() {
+
+        if (interactionIndex == null || interactionIndex.getWidth() != bounds.width
+                || interactionIndex.getLength() != bounds.height) {
+
+            interactionIndex = new InteractionIndex(bounds.width, bounds.height);
+            getAssets().forEach(interactionIndex::refresh);
+        }
+
+        return interactionIndex;
+    }
+
+    /**
+     * Recomputes the interaction anchors of an asset after its interactions have
+     * changed.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to refresh.
+     */
+    public final void updateInteraction(PrimaryAssetInstance asset) {
+
+        if (interactionIndex != null) {
+
+            interactionIndex.refresh(asset);
+        }
+    }
+
     /**
      * Retrieves the nearest interaction target of a player.
      * 
      * @param player <code>Player</code>: The player whose interaction to check.
-     * @param time   <code>long</code>: The current timestamp in milliseconds.
      * 
      * @return <code>InteractionCall</code>: The interaction, player, and target
      *         asset bundled together.
      */
-    public final InteractionCall getNearestInteraction(Player player, long time) {
+    public final InteractionCall getNearestInteraction(Player player) {
 
-        HashSet<PrimaryAssetInstance> assets = new HashSet<>();
+        return player.getInteractionCandidates().getNearest(getInteractionIndex(), player.getEntity());
+    }
+
+    /**
+     * Retrieves the nearest attack target of an entity.
+     * 
+     * @param entity <code>EntityInstance</code>: The entity whose attack to check.
+     * 
+     * @return <code>AttackCall</code>: The attacm, entity, and target bundled
+     *         together.
+     */
+    public final AttackCall getNearestTarget(EntityInstance entity) {
 
-        EntityInstance playerEntity = player.getEntity();
-        Vector3f position = playerEntity.getPosition();
-        double x = position.getX() / World.UNIT_TILE;
-        double y = position.getY() / World.UNIT_TILE;
+        double range = entity.getDetectionRange();
 
-        double range = player.getInteractionDetectionRange();
-        if (range < 0) {
+        AttackInstance attackData = entity.getAttack();
+        if (attackData == null) {
 
             return null;
         }
 
-        double sqr_r = range * range;
+        Vector3f position = entity.getPosition();
 
-        // Handle tiles (elements).
-        for (int i = Math.max(0, (int) Math.ceil(x - range)); i <= Math.floor(x + range) && i < bounds.width; i++) {
+        double sqr_r = range * range * World.UNIT_TILE * World.UNIT_TILE;
 
-            double x_offset = i - range;
+        double distance_sqr = Double.POSITIVE_INFINITY;
+        AttackCall attack = null;
 
-            double y_range = Math.sqrt(sqr_r - x_offset * x_offset);
+        // Candidates are checked in the order of the entities list, so that ties in
+        // distance are broken the same way on every run.
+        // TODO: implement entity quadtree separation.
+        for (EntityInstance assetOption : entities) {
 
-            for (int j = Math.max(0, (int) Math.ceil(y - y_range)); j <= Math.floor(y + y_range)
-                    && j < bounds.height; j++) {
+            if (assetOption == entity) {
 
-                AreaTile tile = getTile(i, j);
-                assets.addAll(tile.getElements());
+                continue;
+            }
+
+            Vector3f displacement = assetOption.getPosition().subtract(position);
+            double newDist_sqr = displacement.dot(displacement);
+
+            if (newDist_sqr <= sqr_r && newDist_sqr < distance_sqr) {
+
+                distance_sqr = newDist_sqr;
+                attack = new AttackCall(attackData, assetOption, entity.getMainhandItem());
             }
         }
 
-        // Handle quadtrees (entities).
-        // TODO: implement entity quadtree separation.
-        assets.addAll(entities);
+        return attack;
+    }
 
-        assets.remove(playerEntity);
+    /**
+     * <code>int</code>: The chunk size which the chunk state of this
+     * <code>AreaGrid</code> instance was allocated for, or <code>0</code> if it
+     * has not been allocated.
+     */
+    private int chunkSize = 0;
 
-        double distance_sqr = Double.POSITIVE_INFINITY;
-        InteractionCall interaction = null;
+    /**
+     * <code>int</code>: The number of chunks along the X axis of this
+     * <code>AreaGrid</code> instance.
+     */
+    private int chunksX;
 
-        sqr_r *= World.UNIT_TILE * World.UNIT_TILE;
+    /**
+     * <code>int</code>: The number of chunks along the Z axis of this
+     * <code>AreaGrid</code> instance.
+     */
+    private int chunksZ;
 
-        for (PrimaryAssetInstance assetOption : assets) {
+    /**
+     * <code>double[]</code>: The time, in seconds, at which each chunk was last
+     * updated.
+     */
+    private double[] chunkUpdated;
 
-            for (AssetInteractionInstance interactionOption : assetOption.getInteraction()) {
+    /**
+     * <code>boolean[]</code>: Whether or not each chunk has been woken and should
+     * be fully updated on the next tick, regardless of its level of detail.
+     */
+    private boolean[] chunkWoken;
 
-                if (!interactionOption.passes(assetOption)) {
+    /**
+     * <code>SimulationLod.Detail[]</code>: The level of detail which each chunk
+     * was simulated at during the most recent tick.
+     */
+    private SimulationLod.Detail[] chunkDetail;
 
-                    continue;
-                }
+    /**
+     * <code>boolean[]</code>: Whether or not each chunk is updated during the
+     * current tick.
+     */
+    private boolean[] chunkDue;
 
-                Vector3f displacement = interactionOption.getPosition(assetOption.getRotation(),
-                        assetOption.getPosition().subtract(position));
-                double newDist_sqr = displacement.dot(displacement);
+    /**
+     * <code>boolean[]</code>: Whether or not each chunk evaluates targeting and
+     * animation during the current tick.
+     */
+    private boolean[] chunkFull;
 
-                if (newDist_sqr <= sqr_r && newDist_sqr < distance_sqr) {
+    /**
+     * Allocates the chunk state of this <code>AreaGrid</code> instance if the chunk
+     * size or bounds have changed. Every chunk starts woken, so that the first
+     * update after allocation brings every asset up to date.
+     * 
+     * @param size <code>int</code>: The width and length, in tiles, of each chunk.
+     */
+    private void prepareChunks(int size) {
 
-                    distance_sqr = newDist_sqr;
-                    interaction = new InteractionCall(interactionOption, assetOption);
-                }
-            }
+        int newChunksX = Math.max(1, Math.ceilDiv(bounds.width, size));
+        int newChunksZ = Math.max(1, Math.ceilDiv(bounds.height, size));
+        if (size == chunkSize && newChunksX == chunksX && newChunksZ == chunksZ) {
+
+            return;
         }
 
-        return interaction;
+        chunkSize = size;
+        chunksX = newChunksX;
+        chunksZ = newChunksZ;
+
+        int chunks = chunksX * chunksZ;
+        chunkUpdated = new double[chunks];
+        chunkWoken = new boolean[chunks];
+        Arrays.fill(chunkWoken, true);
+        chunkDetail = new SimulationLod.Detail[chunks];
+        Arrays.fill(chunkDetail, SimulationLod.Detail.FULL);
+        chunkDue = new boolean[chunks];
+        chunkFull = new boolean[chunks];
     }
 
     /**
-     * Retrieves the nearest attack target of an entity.
+     * Retrieves the chunk which a tile falls into, clamped to the bounds of this
+     * <code>AreaGrid</code> instance.
      * 
-     * @param entity <code>EntityInstance</code>: The entity whose attack to check.
+     * @param tileX <code>int</code>: The X coordinate of the tile.
+     * @param tileZ <code>int</code>: The Z coordinate of the tile.
+     * @return <code>int</code>: The index of the chunk.
+     */
+    private int getChunk(int tileX, int tileZ) {
+
+        int chunkX = Math.clamp(Math.floorDiv(tileX, chunkSize), 0, chunksX - 1);
+        int chunkZ = Math.clamp(Math.floorDiv(tileZ, chunkSize), 0, chunksZ - 1);
+
+        return chunkZ * chunksX + chunkX;
+    }
+
+    /**
+     * Retrieves the chunk which the center of an asset falls into.
      * 
-     * @return <code>AttackCall</code>: The attacm, entity, and target bundled
-     *         together.
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to locate.
+     * @return <code>int</code>: The index of the chunk.
      */
-    public final AttackCall getNearestTarget(EntityInstance entity) {
+    private int getChunk(PrimaryAssetInstance asset) {
 
-        double range = entity.getDetectionRange();
+        Rectangle assetBounds = asset.getTileBounds();
+        return getChunk((int) assetBounds.getCenterX(), (int) assetBounds.getCenterY());
+    }
 
-        AttackInstance attackData = entity.getAttack();
-        if (attackData == null) {
+    /**
+     * Wakes the chunk containing a tile, so that it is fully updated on the next
+     * tick regardless of its distance from players.
+     * 
+     * @param tileX <code>int</code>: The X coordinate of the tile.
+     * @param tileZ <code>int</code>: The Z coordinate of the tile.
+     */
+    public final void wake(int tileX, int tileZ) {
 
-            return null;
+        // Chunks which have not been allocated yet will start woken.
+        if (chunkSize == 0) {
+
+            return;
         }
 
-        Vector3f position = entity.getPosition();
+        chunkWoken[getChunk(tileX, tileZ)] = true;
+    }
 
-        double sqr_r = range * range * World.UNIT_TILE * World.UNIT_TILE;
+    /**
+     * Wakes the chunk containing an asset, so that it is fully updated on the next
+     * tick regardless of its distance from players.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to wake.
+     */
+    public final void wake(PrimaryAssetInstance asset) {
 
-        HashSet<EntityInstance> assets = new HashSet<>();
+        if (chunkSize == 0) {
 
-        // Handle quadtrees (entities).
-        // TODO: implement entity quadtree separation.
-        assets.addAll(entities);
+            return;
+        }
 
-        assets.remove(entity);
+        chunkWoken[getChunk(asset)] = true;
+    }
 
-        double distance_sqr = Double.POSITIVE_INFINITY;
-        AttackCall attack = null;
+    /**
+     * Determines whether or not the chunk containing an asset has been woken since
+     * it was last updated.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to check.
+     * @return <code>boolean</code>: Whether or not the chunk will be fully updated
+     *         on the next tick because it was woken.
+     */
+    final boolean isWoken(PrimaryAssetInstance asset) {
 
-        for (EntityInstance assetOption : assets) {
+        return chunkSize == 0 || chunkWoken[getChunk(asset)];
+    }
 
-            Vector3f displacement = assetOption.getPosition().subtract(position);
-            double newDist_sqr = displacement.dot(displacement);
+    /**
+     * Schedules the chunk containing an asset to be woken at a specific time.
+     * Timers run on the host before any location takes its turn, so the chunk is
+     * woken before the tick in which it is due.
+     * 
+     * @param asset    <code>PrimaryAssetInstance</code>: The asset to wake.
+     * @param deadline <code>long</code>: The time of the world clock at which to
+     *                 wake the asset.
+     * @return <code>Timer</code>: The scheduled timer, which may be cancelled.
+     */
+    public final Timer wakeAt(PrimaryAssetInstance asset, long deadline) {
 
-            if (newDist_sqr <= sqr_r && newDist_sqr < distance_sqr) {
+        return asset.getWorld().getTimers().schedule(deadline, () -> wake(asset));
+    }
 
-                distance_sqr = newDist_sqr;
-                attack = new AttackCall(attackData, assetOption, entity.getMainhandItem());
-            }
+    /**
+     * Retrieves the level of detail which the chunk containing an asset was
+     * simulated at during the most recent tick.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to check.
+     * @return <code>SimulationLod.Detail</code>: The level of detail of the asset.
+     */
+    public final SimulationLod.Detail getDetail(PrimaryAssetInstance asset) {
+
+        if (chunkSize == 0) {
+
+            return SimulationLod.Detail.FULL;
         }
 
-        return attack;
+        return chunkDetail[getChunk(asset)];
     }
 
     /**
-     * Updates all assets in this <code>AreaGrid</code> instance.
+     * <code>TargetScheduler</code>: The scheduler which spreads the retargeting of
+     * the entities in this <code>AreaGrid</code> instance over several ticks.
+     */
+    private final TargetScheduler targeting = new TargetScheduler();
+
+    /**
+     * Updates the assets in this <code>AreaGrid</code> instance according to their
+     * distance from the observing players. Chunks are updated every tick, at a
+     * reduced rate, or not at all depending on the level of detail policy. A
+     * woken chunk is always fully updated, and since every update is evaluated
+     * against the time since the world was created, its assets resume in a
+     * consistent state.
      * 
-     * @param time <code>double</code>: The current time in seconds.
+     * @param time      <code>double</code>: The current time in seconds.
+     * @param observers <code>List&lt;EntityInstance&gt;</code>: The entities of
+     *                  the players in this <code>AreaGrid</code> instance.
+     * @param lod       <code>SimulationLod</code>: The level of detail policy to
+     *                  apply.
      */
-    public final void update(double time) {
+    public final void update(double time, List<EntityInstance> observers, SimulationLod lod) {
+
+        tickTime = time;
+        prepareChunks(lod.chunkSize());
+
+        int[] observerX = new int[observers.size()];
+        int[] observerZ = new int[observers.size()];
+        for (int i = 0; i < observers.size(); i++) {
+
+            int chunk = getChunk(observers.get(i));
+            observerX[i] = chunk % chunksX;
+            observerZ[i] = chunk / chunksX;
+        }
+
+        for (int chunk = 0; chunk < chunkDetail.length; chunk++) {
+
+            int chunkX = chunk % chunksX;
+            int chunkZ = chunk / chunksX;
+
+            int distance = Integer.MAX_VALUE;
+            for (int i = 0; i < observerX.length; i++) {
+
+                distance = Math.min(distance,
+                        Math.max(Math.abs(chunkX - observerX[i]), Math.abs(chunkZ - observerZ[i])));
+            }
+
+            SimulationLod.Detail detail = lod.getDetail(distance);
+            chunkDetail[chunk] = detail;
+
+            boolean woken = chunkWoken[chunk];
+            chunkWoken[chunk] = false;
+
+            chunkDue[chunk] = woken || switch (detail) {
+
+            case FULL -> true;
+
+            case REDUCED -> time - chunkUpdated[chunk] >= lod.reducedInterval();
+
+            case SLEEPING -> false;
+            };
+            chunkFull[chunk] = woken || detail == SimulationLod.Detail.FULL;
 
-        elements.forEach(element -> element.update(time));
-        entities.forEach(entity -> {
+            if (chunkDue[chunk]) {
 
+                chunkUpdated[chunk] = time;
+            }
+        }
+
+        for (ElementInstance element : elements) {
+
+            int chunk = getChunk(element);
+            if (chunkDue[chunk]) {
+
+                element.setAnimated(chunkFull[chunk]);
+                element.update(time);
+            }
+        }
+
+        for (EntityInstance entity : entities) {
+
+            int chunk = getChunk(entity);
+            if (!chunkDue[chunk]) {
+
+                continue;
+            }
+
+            entity.setAnimated(chunkFull[chunk]);
             entity.update(time);
 
-            // If the entity does not have an attack locked, check for a new option.
-            if (!entity.getAttackLocked()) {
+            // Entities may have moved or turned, which moves their interaction anchors.
+            updateInteraction(entity);
+
+            // Entities whose target has become invalid are retargeted ahead of the
+            // rotation.
+            if (chunkFull[chunk] && !entity.getAttackLocked() && entity.needsRetarget()) {
 
-                entity.setAttack(getNearestTarget(entity));
+                targeting.request(entity);
             }
-        });
+        }
+
+        // Only entities without an attack locked, simulated in full detail, may
+        // check for a new option.
+        targeting.run(entities, entity -> !entity.getAttackLocked() && chunkFull[getChunk(entity)],
+                entity -> entity.setAttack(getNearestTarget(entity)));
     }
 
     /**
@@ -22,16 +22,36 @@ import com.transcendruins.assets.modelassets.elements.ElementInstance;
 
 public final class AreaTile {
 
+    /**
+     * <code>AreaGrid</code>: The area which this <code>AreaTile</code> instance
+     * belongs to.
+     */
+    private final AreaGrid area;
+
+    /**
+     * <code>int</code>: The index of this <code>AreaTile</code> instance within
+     * its area.
+     */
+    private final int index;
+
     private final LinkedHashSet<ElementInstance> elements = new LinkedHashSet<>();
 
     public final void addElement(ElementInstance element) {
 
-        elements.add(element);
+        // Notify the area when the tile stops being walkable.
+        if (elements.add(element) && elements.size() == 1) {
+
+            area.updateTile(index);
+        }
     }
 
     public final void removeElement(ElementInstance element) {
 
-        elements.remove(element);
+        // Notify the area when the tile becomes walkable.
+        if (elements.remove(element) && elements.isEmpty()) {
+
+            area.updateTile(index);
+        }
     }
 
     public final LinkedHashSet<ElementInstance> getElements() {
@@ -39,6 +59,26 @@ public final class AreaTile {
         return new LinkedHashSet<>(elements);
     }
 
-    public AreaTile() {
+    /**
+     * Determines whether or not this <code>AreaTile</code> instance can be walked
+     * on.
+     * 
+     * @return <code>boolean</code>: Whether or not the tile has no elements.
+     */
+    public final boolean isWalkable() {
+
+        return elements.isEmpty();
+    }
+
+    /**
+     * Creates a new instance of the <code>AreaTile</code> class.
+     * 
+     * @param area  <code>AreaGrid</code>: The area which the tile belongs to.
+     * @param index <code>int</code>: The index of the tile within its area.
+     */
+    public AreaTile(AreaGrid area, int index) {
+
+        this.area = area;
+        this.index = index;
     }
 }
@@ -0,0 +1,136 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+
+import com.jme3.math.Vector3f;
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+import com.transcendruins.assets.modelassets.primaryassets.interaction.AssetInteractionInstance;
+import com.transcendruins.world.InteractionIndex.Anchor;
+import com.transcendruins.world.calls.InteractionCall;
+
+/**
+ * <code>InteractionCandidates</code>: A class representing the interaction
+ * anchors near a single player. The candidates are only collected again when
+ * the player crosses a tile boundary or an anchor near the player changes, and
+ * each tick only the candidates are checked for the nearest interaction.
+ */
+public final class InteractionCandidates {
+
+    /**
+     * <code>InteractionIndex</code>: The index which the candidates were collected
+     * from.
+     */
+    private InteractionIndex index;
+
+    /**
+     * <code>int</code>: The X coordinate of the tile the candidates were collected
+     * around.
+     */
+    private int tileX;
+
+    /**
+     * <code>int</code>: The Z coordinate of the tile the candidates were collected
+     * around.
+     */
+    private int tileZ;
+
+    /**
+     * <code>int</code>: The radius, in tiles, which the candidates were collected
+     * from.
+     */
+    private int radius;
+
+    /**
+     * <code>int</code>: The clock of the index when the candidates were
+     * collected.
+     */
+    private int clock;
+
+    /**
+     * <code>ArrayList&lt;Anchor&gt;</code>: The collected candidates.
+     */
+    private final ArrayList<Anchor> anchors = new ArrayList<>();
+
+    /**
+     * Retrieves the nearest interaction which a player can detect, collecting the
+     * candidates again if they are out of date.
+     * 
+     * @param index  <code>InteractionIndex</code>: The index of the area the
+     *               player is in.
+     * @param entity <code>EntityInstance</code>: The entity of the player.
+     * @return <code>InteractionCall</code>: The nearest interaction and its target
+     *         asset, or <code>null</code> if there is none in range.
+     */
+    public final InteractionCall getNearest(InteractionIndex index, EntityInstance entity) {
+
+        Vector3f position = entity.getPosition();
+        int newTileX = (int) Math.floor(position.x / World.UNIT_TILE);
+        int newTileZ = (int) Math.floor(position.z / World.UNIT_TILE);
+
+        // One extra tile covers the offset of the player within their tile.
+        int newRadius = (int) Math.ceil(index.getMaxDetectionRange()) + 1;
+
+        if (index != this.index || newTileX != tileX || newTileZ != tileZ || newRadius != radius
+                || index.changedSince(clock, tileX, tileZ, radius)) {
+
+            this.index = index;
+            tileX = newTileX;
+            tileZ = newTileZ;
+            radius = newRadius;
+            clock = index.getClock();
+
+            anchors.clear();
+            index.collect(tileX, tileZ, radius, entity, anchors);
+        }
+
+        double nearest = Double.POSITIVE_INFINITY;
+        InteractionCall interaction = null;
+
+        for (Anchor anchor : anchors) {
+
+            AssetInteractionInstance option = anchor.interaction();
+
+            float dx = anchor.x() - position.x;
+            float dy = anchor.y() - position.y;
+            float dz = anchor.z() - position.z;
+            double distanceSqr = dx * dx + dy * dy + dz * dz;
+
+            double range = option.getDetectionRange() * World.UNIT_TILE;
+            if (distanceSqr > range * range || distanceSqr >= nearest || !option.passes(anchor.asset())) {
+
+                continue;
+            }
+
+            nearest = distanceSqr;
+            interaction = new InteractionCall(option, anchor.asset());
+        }
+
+        return interaction;
+    }
+
+    /**
+     * Discards the collected candidates, such as when the player leaves the area.
+     */
+    public final void clear() {
+
+        index = null;
+        anchors.clear();
+    }
+}
@@ -0,0 +1,345 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.transcendruins.assets.modelassets.primaryassets.PrimaryAssetInstance;
+import com.transcendruins.assets.modelassets.primaryassets.interaction.AssetInteractionInstance;
+import com.transcendruins.utilities.immutable.ImmutableList;
+
+/**
+ * <code>InteractionIndex</code>: A class which buckets the interaction anchor
+ * points of the assets in an area by the tile they fall on. Anchors are only
+ * recomputed when the position, rotation or interactions of their asset
+ * change, and each change stamps the tiles it touched, so that players can
+ * tell whether anything near them has changed.
+ */
+public final class InteractionIndex {
+
+    /**
+     * <code>Anchor</code>: A record representing the world position of a single
+     * interaction of an asset.
+     * 
+     * @param asset       <code>PrimaryAssetInstance</code>: The asset which the
+     *                    interaction belongs to.
+     * @param interaction <code>AssetInteractionInstance</code>: The interaction.
+     * @param x           <code>float</code>: The X coordinate of the anchor.
+     * @param y           <code>float</code>: The Y coordinate of the anchor.
+     * @param z           <code>float</code>: The Z coordinate of the anchor.
+     */
+    public static final record Anchor(PrimaryAssetInstance asset, AssetInteractionInstance interaction, float x,
+            float y, float z) {
+    }
+
+    /**
+     * <code>IndexedAsset</code>: A record representing the state of an asset when
+     * its anchors were last computed.
+     * 
+     * @param interaction <code>ImmutableList&lt;AssetInteractionInstance&gt;</code>:
+     *                    The interactions of the asset.
+     * @param position    <code>Vector3f</code>: The position of the asset.
+     * @param rotation    <code>Quaternion</code>: The rotation of the asset.
+     * @param anchors     <code>Anchor[]</code>: The anchors of the asset.
+     * @param tiles       <code>int[]</code>: The tile which each anchor is
+     *                    bucketed in.
+     */
+    private static final record IndexedAsset(ImmutableList<AssetInteractionInstance> interaction, Vector3f position,
+            Quaternion rotation, Anchor[] anchors, int[] tiles) {
+    }
+
+    /**
+     * <code>int</code>: The width, in tiles, of this <code>InteractionIndex</code>
+     * instance.
+     */
+    private final int width;
+
+    /**
+     * Retrieves the width, in tiles, of this <code>InteractionIndex</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The <code>width</code> field of this
+     *         <code>InteractionIndex</code> instance.
+     */
+    public final int getWidth() {
+
+        return width;
+    }
+
+    /**
+     * <code>int</code>: The length, in tiles, of this
+     * <code>InteractionIndex</code> instance.
+     */
+    private final int length;
+
+    /**
+     * Retrieves the length, in tiles, of this <code>InteractionIndex</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The <code>length</code> field of this
+     *         <code>InteractionIndex</code> instance.
+     */
+    public final int getLength() {
+
+        return length;
+    }
+
+    /**
+     * <code>HashMap&lt;Integer, ArrayList&lt;Anchor&gt;&gt;</code>: The anchors
+     * bucketed by the index of the tile they fall on. Anchors outside of the area
+     * are clamped to its nearest tile.
+     */
+    private final HashMap<Integer, ArrayList<Anchor>> buckets = new HashMap<>();
+
+    /**
+     * <code>IdentityHashMap&lt;PrimaryAssetInstance, IndexedAsset&gt;</code>: The
+     * indexed state of each asset.
+     */
+    private final IdentityHashMap<PrimaryAssetInstance, IndexedAsset> assets = new IdentityHashMap<>();
+
+    /**
+     * <code>int[]</code>: The value of the <code>clock</code> field when each tile
+     * was last changed.
+     */
+    private final int[] stamps;
+
+    /**
+     * <code>int</code>: The number of changes made to this
+     * <code>InteractionIndex</code> instance.
+     */
+    private int clock = 0;
+
+    /**
+     * Retrieves the number of changes made to this <code>InteractionIndex</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The <code>clock</code> field of this
+     *         <code>InteractionIndex</code> instance.
+     */
+    public final int getClock() {
+
+        return clock;
+    }
+
+    /**
+     * <code>double</code>: The largest detection range, in tiles, of any anchor
+     * which has been indexed.
+     */
+    private double maxDetectionRange = 0;
+
+    /**
+     * Retrieves the largest detection range, in tiles, of any anchor which has
+     * been indexed.
+     * 
+     * @return <code>double</code>: The <code>maxDetectionRange</code> field of
+     *         this <code>InteractionIndex</code> instance.
+     */
+    public final double getMaxDetectionRange() {
+
+        return maxDetectionRange;
+    }
+
+    /**
+     * Creates a new, empty instance of the <code>InteractionIndex</code> class.
+     * 
+     * @param width  <code>int</code>: The width, in tiles, of the area.
+     * @param length <code>int</code>: The length, in tiles, of the area.
+     */
+    public InteractionIndex(int width, int length) {
+
+        this.width = width;
+        this.length = length;
+
+        stamps = new int[width * length];
+    }
+
+    /**
+     * Recomputes the anchors of an asset if its position, rotation or interactions
+     * have changed since it was last indexed.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to refresh.
+     */
+    public final void refresh(PrimaryAssetInstance asset) {
+
+        ImmutableList<AssetInteractionInstance> interaction = asset.getInteraction();
+        IndexedAsset indexed = assets.get(asset);
+
+        // Assets without interactions are never indexed.
+        if (indexed == null && (interaction == null || interaction.isEmpty())) {
+
+            return;
+        }
+
+        Vector3f position = asset.getPosition();
+        Quaternion rotation = asset.getRotation();
+        if (indexed != null && indexed.interaction() == interaction && indexed.position().equals(position)
+                && indexed.rotation().equals(rotation)) {
+
+            return;
+        }
+
+        remove(asset);
+
+        if (interaction == null || interaction.isEmpty()) {
+
+            return;
+        }
+
+        Anchor[] anchors = new Anchor[interaction.size()];
+        int[] tiles = new int[anchors.length];
+        for (int i = 0; i < anchors.length; i++) {
+
+            AssetInteractionInstance option = interaction.get(i);
+            Vector3f anchor = option.getPosition(rotation, position);
+
+            anchors[i] = new Anchor(asset, option, anchor.x, anchor.y, anchor.z);
+            tiles[i] = getTile(anchor.x, anchor.z);
+
+            buckets.computeIfAbsent(tiles[i], _ -> new ArrayList<>()).add(anchors[i]);
+            stamp(tiles[i]);
+
+            maxDetectionRange = Math.max(maxDetectionRange, option.getDetectionRange());
+        }
+
+        assets.put(asset, new IndexedAsset(interaction, position, rotation, anchors, tiles));
+    }
+
+    /**
+     * Removes the anchors of an asset from this <code>InteractionIndex</code>
+     * instance.
+     * 
+     * @param asset <code>PrimaryAssetInstance</code>: The asset to remove.
+     */
+    public final void remove(PrimaryAssetInstance asset) {
+
+        IndexedAsset indexed = assets.remove(asset);
+        if (indexed == null) {
+
+            return;
+        }
+
+        for (int i = 0; i < indexed.anchors().length; i++) {
+
+            ArrayList<Anchor> bucket = buckets.get(indexed.tiles()[i]);
+            bucket.remove(indexed.anchors()[i]);
+            if (bucket.isEmpty()) {
+
+                buckets.remove(indexed.tiles()[i]);
+            }
+
+            stamp(indexed.tiles()[i]);
+        }
+    }
+
+    /**
+     * Records a change to a tile.
+     * 
+     * @param tile <code>int</code>: The index of the changed tile.
+     */
+    private void stamp(int tile) {
+
+        stamps[tile] = ++clock;
+    }
+
+    /**
+     * Retrieves the tile which a world position falls on, clamped to the bounds of
+     * this <code>InteractionIndex</code> instance.
+     * 
+     * @param x <code>float</code>: The X coordinate of the position.
+     * @param z <code>float</code>: The Z coordinate of the position.
+     * @return <code>int</code>: The index of the tile.
+     */
+    private int getTile(float x, float z) {
+
+        int tileX = Math.clamp((int) Math.floor(x / World.UNIT_TILE), 0, width - 1);
+        int tileZ = Math.clamp((int) Math.floor(z / World.UNIT_TILE), 0, length - 1);
+
+        return tileX + tileZ * width;
+    }
+
+    /**
+     * Determines whether or not any tile within a radius of a tile has changed
+     * since a point in time.
+     * 
+     * @param since  <code>int</code>: The value of the <code>clock</code> field to
+     *               check against.
+     * @param tileX  <code>int</code>: The X coordinate of the center tile.
+     * @param tileZ  <code>int</code>: The Z coordinate of the center tile.
+     * @param radius <code>int</code>: The radius, in tiles, to check.
+     * @return <code>boolean</code>: Whether or not any tile has changed.
+     */
+    public final boolean changedSince(int since, int tileX, int tileZ, int radius) {
+
+        if (since == clock) {
+
+            return false;
+        }
+
+        for (int z = Math.max(0, tileZ - radius); z <= Math.min(length - 1, tileZ + radius); z++) {
+
+            for (int x = Math.max(0, tileX - radius); x <= Math.min(width - 1, tileX + radius); x++) {
+
+                if (stamps[x + z * width] > since) {
+
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects the anchors which fall on the tiles within a radius of a tile.
+     * 
+     * @param tileX   <code>int</code>: The X coordinate of the center tile.
+     * @param tileZ   <code>int</code>: The Z coordinate of the center tile.
+     * @param radius  <code>int</code>: The radius, in tiles, to collect from.
+     * @param exclude <code>PrimaryAssetInstance</code>: An asset whose anchors
+     *                should not be collected.
+     * @param anchors <code>ArrayList&lt;Anchor&gt;</code>: The list to collect the
+     *                anchors into.
+     */
+    public final void collect(int tileX, int tileZ, int radius, PrimaryAssetInstance exclude,
+            ArrayList<Anchor> anchors) {
+
+        for (int z = Math.max(0, tileZ - radius); z <= Math.min(length - 1, tileZ + radius); z++) {
+
+            for (int x = Math.max(0, tileX - radius); x <= Math.min(width - 1, tileX + radius); x++) {
+
+                ArrayList<Anchor> bucket = buckets.get(x + z * width);
+                if (bucket == null) {
+
+                    continue;
+                }
+
+                for (Anchor anchor : bucket) {
+
+                    if (anchor.asset() != exclude) {
+
+                        anchors.add(anchor);
+                    }
+                }
+            }
+        }
+    }
+}
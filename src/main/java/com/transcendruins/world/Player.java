@@ -23,6 +23,10 @@ import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import com.jme3.math.Vector3f;
 import com.transcendruins.assets.assets.AssetPresets;
@@ -35,7 +39,12 @@ import com.transcendruins.assets.modelassets.entities.EntityInstance;
 import com.transcendruins.assets.modelassets.primaryassets.PrimaryAssetInstance;
 import com.transcendruins.assets.modelassets.primaryassets.interaction.AssetInteractionInstance;
 import com.transcendruins.assets.modelassets.primaryassets.inventory.InventoryInstance;
+import com.transcendruins.rendering.TripleBuffer;
+import com.transcendruins.rendering.renderbuffer.RenderSnapshot;
 import com.transcendruins.resources.styles.Style;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+import com.transcendruins.utilities.metrics.UiRenderEvent;
 import com.transcendruins.utilities.random.DeterministicRandom;
 import com.transcendruins.world.calls.InteractionCall;
 
@@ -45,6 +54,11 @@ import com.transcendruins.world.calls.InteractionCall;
  */
 public final class Player {
 
+    /**
+     * <code>LatencyHistogram</code>: The time taken to render the UI of a player.
+     */
+    private static final LatencyHistogram UI_RENDER = MetricsRegistry.getRegistry().histogram("ui.render");
+
     /**
      * <code>long</code>: The ID of this <code>Player</code> instance.
      */
@@ -83,6 +97,45 @@ public final class Player {
         return entity;
     }
 
+    /**
+     * <code>TripleBuffer&lt;RenderSnapshot&gt;</code>: The render snapshots
+     * published for this <code>Player</code> instance at the end of each tick.
+     */
+    private final TripleBuffer<RenderSnapshot> renderSnapshots = new TripleBuffer<>();
+
+    /**
+     * <code>boolean</code>: Whether or not a renderer has requested the render
+     * snapshots of this <code>Player</code> instance. Snapshots are only
+     * published once requested, so hosts without a renderer do not build them.
+     */
+    private volatile boolean rendered = false;
+
+    /**
+     * Retrieves the render snapshots of this <code>Player</code> instance, which
+     * starts their publication.
+     * 
+     * @return <code>TripleBuffer&lt;RenderSnapshot&gt;</code>: The
+     *         <code>renderSnapshots</code> field of this <code>Player</code>
+     *         instance.
+     */
+    public final TripleBuffer<RenderSnapshot> getRenderSnapshots() {
+
+        rendered = true;
+        return renderSnapshots;
+    }
+
+    /**
+     * Determines whether or not a renderer has requested the render snapshots of
+     * this <code>Player</code> instance.
+     * 
+     * @return <code>boolean</code>: The <code>rendered</code> field of this
+     *         <code>Player</code> instance.
+     */
+    public final boolean isRendered() {
+
+        return rendered;
+    }
+
     /**
      * <code>Object</code>: The synchronization lock used when modifying location
      * fields.
@@ -747,24 +800,64 @@ public final class Player {
     }
 
     /**
-     * Renders the current state of the UI.
+     * <code>int</code>: The number of threads which UI panels are painted on, set
+     * by the <code>transcendruins.uiPaintThreads</code> property.
+     */
+    private static final int PAINT_THREADS = Math.max(1, Integer.getInteger("transcendruins.uiPaintThreads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+
+    /**
+     * <code>ExecutorService</code>: The pool which UI panels are painted on, so
+     * that painting does not compete with the common pool.
+     */
+    private static final ExecutorService PAINT_EXECUTOR = Executors.newFixedThreadPool(PAINT_THREADS, runnable -> {
+
+        Thread thread = new Thread(runnable, "UiPaint");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    /**
+     * <code>Object</code>: The lock held while the UI is painted. The panels
+     * recycle their surfaces between frames, so only one frame of this
+     * <code>Player</code> instance may be painted at a time. This is separate from
+     * the <code>UI_LOCK</code> lock, so the UI can be updated while it is painted.
+     */
+    private final Object PAINT_LOCK = new Object();
+
+    /**
+     * Renders the current state of the UI. The layout of every panel is captured
+     * while the UI is locked, then the panels are painted from the captured layout
+     * in parallel and layered in panel order once the lock has been released.
      * 
      * @return <code>BufferedImage</code>: The outputs from all active interfaces
      *         layered into a single image.
      */
     public final BufferedImage renderUi() {
 
+        long start = System.nanoTime();
+
+        UiRenderEvent event = new UiRenderEvent();
+        event.begin();
+
+        int width;
+        int height;
+        List<Supplier<BufferedImage>> panels;
+
         synchronized (UI_LOCK) {
 
-            BufferedImage render = new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = render.createGraphics();
+            width = screenWidth;
+            height = screenHeight;
 
             for (InterfaceInstance panel : uiPanels) {
 
                 resizePanel(panel);
-                g2d.drawImage(panel.render(), 0, 0, null);
             }
 
+            // Capture the layout so that it cannot change while painting.
+            panels = uiPanels.stream().map(InterfaceInstance::snapshot).toList();
+
             // If the event was a 'click', draw the pressed state first and then release for
             // next frame.
             if (mouseJustPressed && mouseJustReleased) {
@@ -775,35 +868,59 @@ public final class Player {
 
             mouseJustPressed = false;
             mouseJustReleased = false;
+        }
+
+        BufferedImage render = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        synchronized (PAINT_LOCK) {
+
+            List<BufferedImage> layers;
+            if (panels.size() > 1) {
+
+                // Panels do not share any surfaces, so they can be painted independently.
+                // Every panel is submitted before any is joined, and the joined list keeps
+                // the order of the panels.
+                List<CompletableFuture<BufferedImage>> painting = panels.stream()
+                        .map(panel -> CompletableFuture.supplyAsync(panel, PAINT_EXECUTOR)).toList();
+                layers = painting.stream().map(CompletableFuture::join).toList();
+            } else {
+
+                layers = panels.stream().map(Supplier::get).toList();
+            }
+
+            Graphics2D g2d = render.createGraphics();
+
+            for (BufferedImage layer : layers) {
+
+                g2d.drawImage(layer, 0, 0, null);
+            }
 
-            return render;
+            g2d.dispose();
         }
+
+        UI_RENDER.recordSince(start);
+        event.commit(randomId, onGlobalMap() ? null : getLocation(), panels.size(), width, height);
+        return render;
     }
 
     /**
-     * <code>double</code>: The maximum interaction detection range of this
+     * <code>InteractionCandidates</code>: The interactions near this
      * <code>Player</code> instance.
      */
-    private final double interactionDetectionRange = 4.5;
+    private final InteractionCandidates interactionCandidates = new InteractionCandidates();
 
     /**
-     * Retrieves the maximum interaction interaction range of this
-     * <code>Player</code> instance.
+     * Retrieves the interactions near this <code>Player</code> instance.
      * 
-     * @return <code>double</code>: The <code>interactionDetectionRange</code> field
-     *         of this <code>Player</code> instance.
+     * @return <code>InteractionCandidates</code>: The
+     *         <code>interactionCandidates</code> field of this <code>Player</code>
+     *         instance.
      */
-    public final double getInteractionDetectionRange() {
+    public final InteractionCandidates getInteractionCandidates() {
 
-        return interactionDetectionRange;
+        return interactionCandidates;
     }
 
-    /**
-     * <code>double</code>: The maximum interaction range of this
-     * <code>Player</code> instance.
-     */
-    private final double interactionRange = 2.5;
-
     /**
      * <code>InteractionCall</code>: The current interaction context of this
      * <code>Player</code> instance.
@@ -890,7 +1007,7 @@ public final class Player {
         // interact range.
         if (interactStart == -1) {
 
-            double range = interactionRange * World.UNIT_TILE;
+            double range = interactInstance.getRange() * World.UNIT_TILE;
 
             Vector3f displacement = entity.getPosition().subtract(interactCall.target().getPosition());
             double r_sqr = displacement.dot(displacement);
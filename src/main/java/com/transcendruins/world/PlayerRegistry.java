@@ -0,0 +1,276 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * <code>PlayerRegistry</code>: A class which maps player IDs to players. The
+ * registry publishes an immutable snapshot every time a player is added or
+ * removed, so lookups from any thread take no lock and allocate nothing, and a
+ * snapshot taken at the start of a tick stays the same until the tick ends.
+ */
+public final class PlayerRegistry {
+
+    /**
+     * <code>long</code>: The multiplier which spreads player IDs across the
+     * slots of a snapshot.
+     */
+    private static final long SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * <code>Snapshot</code>: A class representing the players of a registry at a
+     * single point in time, stored in an open addressing table keyed by the
+     * primitive player ID.
+     */
+    public static final class Snapshot implements Iterable<Player> {
+
+        /**
+         * <code>long[]</code>: The player ID stored in each slot.
+         */
+        private final long[] keys;
+
+        /**
+         * <code>Player[]</code>: The player stored in each slot, or
+         * <code>null</code> if the slot is empty.
+         */
+        private final Player[] slots;
+
+        /**
+         * <code>int</code>: The number of bits which a spread player ID is shifted
+         * by to find its first slot.
+         */
+        private final int shift;
+
+        /**
+         * <code>long[]</code>: The player IDs of this <code>Snapshot</code>
+         * instance in the order they were added.
+         */
+        private final long[] playerIds;
+
+        /**
+         * <code>Player[]</code>: The players of this <code>Snapshot</code>
+         * instance in the order they were added.
+         */
+        private final Player[] players;
+
+        /**
+         * Creates a new instance of the <code>Snapshot</code> class.
+         *
+         * @param playerIds <code>long[]</code>: The IDs of the players to store.
+         * @param players   <code>Player[]</code>: The players to store, in the
+         *                  order they were added.
+         */
+        private Snapshot(long[] playerIds, Player[] players) {
+
+            this.playerIds = playerIds;
+            this.players = players;
+
+            // Keep the table at most half full so probe sequences stay short.
+            int capacity = Integer.highestOneBit(Math.max(2, players.length * 2 - 1)) << 1;
+            keys = new long[capacity];
+            slots = new Player[capacity];
+            shift = 64 - Integer.numberOfTrailingZeros(capacity);
+
+            for (int i = 0; i < players.length; i++) {
+
+                int slot = find(playerIds[i]);
+                keys[slot] = playerIds[i];
+                slots[slot] = players[i];
+            }
+        }
+
+        /**
+         * Finds the slot which holds a player ID, or the empty slot where it
+         * would be stored.
+         *
+         * @param playerId <code>long</code>: The player ID to find.
+         * @return <code>int</code>: The index of the slot.
+         */
+        private int find(long playerId) {
+
+            int mask = slots.length - 1;
+            int slot = (int) ((playerId * SPREAD) >>> shift);
+            while (slots[slot] != null && keys[slot] != playerId) {
+
+                slot = (slot + 1) & mask;
+            }
+
+            return slot;
+        }
+
+        /**
+         * Retrieves a player from this <code>Snapshot</code> instance.
+         *
+         * @param playerId <code>long</code>: The ID of the player to retrieve.
+         * @return <code>Player</code>: The retrieved player, or <code>null</code>
+         *         if there is no player with the ID.
+         */
+        public final Player get(long playerId) {
+
+            return slots[find(playerId)];
+        }
+
+        /**
+         * Determines whether or not this <code>Snapshot</code> instance contains
+         * a player.
+         *
+         * @param playerId <code>long</code>: The ID of the player to check.
+         * @return <code>boolean</code>: Whether or not the player exists.
+         */
+        public final boolean contains(long playerId) {
+
+            return get(playerId) != null;
+        }
+
+        /**
+         * Retrieves the number of players in this <code>Snapshot</code> instance.
+         *
+         * @return <code>int</code>: The number of players.
+         */
+        public final int size() {
+
+            return players.length;
+        }
+
+        @Override
+        public final Iterator<Player> iterator() {
+
+            return Arrays.asList(players).iterator();
+        }
+    }
+
+    /**
+     * <code>Snapshot</code>: The current snapshot of this
+     * <code>PlayerRegistry</code> instance.
+     */
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new Player[0]);
+
+    /**
+     * Retrieves the current snapshot of this <code>PlayerRegistry</code>
+     * instance, which is not affected by players added or removed afterwards.
+     *
+     * @return <code>Snapshot</code>: The <code>snapshot</code> field of this
+     *         <code>PlayerRegistry</code> instance.
+     */
+    public final Snapshot snapshot() {
+
+        return snapshot;
+    }
+
+    /**
+     * Retrieves a player from this <code>PlayerRegistry</code> instance.
+     *
+     * @param playerId <code>long</code>: The ID of the player to retrieve.
+     * @return <code>Player</code>: The retrieved player, or <code>null</code> if
+     *         there is no player with the ID.
+     */
+    public final Player get(long playerId) {
+
+        return snapshot.get(playerId);
+    }
+
+    /**
+     * Determines whether or not this <code>PlayerRegistry</code> instance contains
+     * a player.
+     *
+     * @param playerId <code>long</code>: The ID of the player to check.
+     * @return <code>boolean</code>: Whether or not the player exists.
+     */
+    public final boolean contains(long playerId) {
+
+        return snapshot.contains(playerId);
+    }
+
+    /**
+     * Retrieves the number of players in this <code>PlayerRegistry</code>
+     * instance.
+     *
+     * @return <code>int</code>: The number of players.
+     */
+    public final int size() {
+
+        return snapshot.size();
+    }
+
+    /**
+     * Adds a player to this <code>PlayerRegistry</code> instance, publishing a
+     * new snapshot.
+     *
+     * @param playerId <code>long</code>: The ID of the player to add.
+     * @param player   <code>Player</code>: The player to add.
+     * @return <code>boolean</code>: Whether or not the player was added, which is
+     *         <code>false</code> if a player with the same ID already exists.
+     */
+    public final synchronized boolean add(long playerId, Player player) {
+
+        Snapshot current = snapshot;
+        if (current.contains(playerId)) {
+
+            return false;
+        }
+
+        int size = current.size();
+
+        long[] playerIds = Arrays.copyOf(current.playerIds, size + 1);
+        playerIds[size] = playerId;
+
+        Player[] players = Arrays.copyOf(current.players, size + 1);
+        players[size] = player;
+
+        snapshot = new Snapshot(playerIds, players);
+        return true;
+    }
+
+    /**
+     * Removes a player from this <code>PlayerRegistry</code> instance, publishing
+     * a new snapshot. The remaining players keep the order they were added in.
+     *
+     * @param playerId <code>long</code>: The ID of the player to remove.
+     * @return <code>Player</code>: The removed player, or <code>null</code> if
+     *         there is no player with the ID.
+     */
+    public final synchronized Player remove(long playerId) {
+
+        Snapshot current = snapshot;
+        Player removed = current.get(playerId);
+        if (removed == null) {
+
+            return null;
+        }
+
+        int size = current.size();
+
+        long[] playerIds = new long[size - 1];
+        Player[] players = new Player[size - 1];
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+
+            if (current.playerIds[i] != playerId) {
+
+                playerIds[count] = current.playerIds[i];
+                players[count] = current.players[i];
+                count++;
+            }
+        }
+
+        snapshot = new Snapshot(playerIds, players);
+        return removed;
+    }
+}
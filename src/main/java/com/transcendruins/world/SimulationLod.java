@@ -0,0 +1,117 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world;
+
+/**
+ * <code>SimulationLod</code>: A record representing the policy which decides
+ * how often each chunk of an area is simulated, based on its distance from the
+ * nearest player. Chunks near a player are simulated every tick, chunks further
+ * away are simulated at a reduced rate without targeting or animation, and the
+ * remaining chunks sleep until they are woken.
+ * 
+ * @param chunkSize       <code>int</code>: The width and length, in tiles, of
+ *                        each chunk.
+ * @param fullRange       <code>int</code>: The distance, in chunks, within which
+ *                        chunks are simulated every tick.
+ * @param reducedRange    <code>int</code>: The distance, in chunks, within which
+ *                        chunks are simulated at a reduced rate. Chunks beyond
+ *                        this distance sleep.
+ * @param reducedInterval <code>double</code>: The number of seconds between the
+ *                        updates of a chunk simulated at a reduced rate.
+ */
+public final record SimulationLod(int chunkSize, int fullRange, int reducedRange, double reducedInterval) {
+
+    /**
+     * <code>SimulationLod</code>: The default policy, which may be configured
+     * using system properties.
+     */
+    public static final SimulationLod DEFAULT = new SimulationLod(
+            Integer.getInteger("transcendruins.lod.chunkSize", 16), Integer.getInteger("transcendruins.lod.fullRange", 2),
+            Integer.getInteger("transcendruins.lod.reducedRange", 4),
+            Integer.getInteger("transcendruins.lod.reducedIntervalMillis", 250) / 1000.0);
+
+    /**
+     * <code>SimulationLod</code>: A policy which simulates every chunk every tick,
+     * regardless of its distance from players.
+     */
+    public static final SimulationLod FULL = new SimulationLod(16, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+    /**
+     * <code>Detail</code>: An enum class representing the level at which a chunk
+     * is simulated.
+     */
+    public static enum Detail {
+
+        /**
+         * <code>Detail</code>: The chunk is simulated every tick, including targeting
+         * and animation.
+         */
+        FULL,
+
+        /**
+         * <code>Detail</code>: The chunk is simulated at a reduced rate, without
+         * targeting or animation.
+         */
+        REDUCED,
+
+        /**
+         * <code>Detail</code>: The chunk is not simulated until it is woken.
+         */
+        SLEEPING
+    }
+
+    /**
+     * Creates a new instance of the <code>SimulationLod</code> class.
+     * 
+     * @param chunkSize       <code>int</code>: The width and length, in tiles, of
+     *                        each chunk.
+     * @param fullRange       <code>int</code>: The distance, in chunks, within
+     *                        which chunks are simulated every tick.
+     * @param reducedRange    <code>int</code>: The distance, in chunks, within
+     *                        which chunks are simulated at a reduced rate.
+     * @param reducedInterval <code>double</code>: The number of seconds between
+     *                        the updates of a chunk simulated at a reduced rate.
+     * @throws IllegalArgumentException Thrown if the chunk size is not positive or
+     *                                  the ranges are out of order.
+     */
+    public SimulationLod {
+
+        if (chunkSize <= 0 || fullRange < 0 || reducedRange < fullRange || reducedInterval < 0) {
+
+            throw new IllegalArgumentException("Invalid simulation level of detail.");
+        }
+    }
+
+    /**
+     * Determines the level at which a chunk should be simulated.
+     * 
+     * @param distance <code>int</code>: The distance, in chunks, between the chunk
+     *                 and the nearest player, or <code>Integer.MAX_VALUE</code> if
+     *                 there are no players in the area.
+     * @return <code>Detail</code>: The level of detail of the chunk.
+     */
+    public final Detail getDetail(int distance) {
+
+        if (distance <= fullRange) {
+
+            return Detail.FULL;
+        }
+
+        return distance <= reducedRange ? Detail.REDUCED : Detail.SLEEPING;
+    }
+}
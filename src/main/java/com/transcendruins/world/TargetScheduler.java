@@ -0,0 +1,147 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+
+/**
+ * <code>TargetScheduler</code>: A class which spreads the retargeting of the
+ * entities in an area over several ticks. Each tick, the next bucket of
+ * entities is retargeted in round-robin order, and entities whose target has
+ * become invalid are retargeted ahead of the rotation. Work which exceeds the
+ * budget of a tick is deferred to the next tick. The budget is counted in
+ * candidate evaluations rather than time, so the same ticks retarget the same
+ * entities on every machine.
+ */
+public final class TargetScheduler {
+
+    /**
+     * <code>int</code>: The number of ticks over which every entity is retargeted
+     * once.
+     */
+    public static final int BUCKETS = Math.max(1, Integer.getInteger("transcendruins.targeting.buckets", 8));
+
+    /**
+     * <code>int</code>: The maximum number of candidate targets which may be
+     * evaluated while retargeting entities during a single tick. At least one
+     * entity is retargeted each tick, however large the area.
+     */
+    public static final int BUDGET_EVALUATIONS = Math.max(1,
+            Integer.getInteger("transcendruins.targeting.budgetEvaluations", 16384));
+
+    /**
+     * <code>LinkedHashSet&lt;EntityInstance&gt;</code>: The entities which have
+     * requested to be retargeted ahead of the rotation, in the order of their
+     * requests.
+     */
+    private final LinkedHashSet<EntityInstance> requested = new LinkedHashSet<>();
+
+    /**
+     * <code>int</code>: The index of the next entity in the rotation.
+     */
+    private int cursor = 0;
+
+    /**
+     * Requests for an entity to be retargeted ahead of the rotation.
+     * 
+     * @param entity <code>EntityInstance</code>: The entity to retarget.
+     */
+    public final void request(EntityInstance entity) {
+
+        requested.add(entity);
+    }
+
+    /**
+     * Removes an entity from this <code>TargetScheduler</code> instance.
+     * 
+     * @param entity <code>EntityInstance</code>: The entity to remove.
+     */
+    public final void remove(EntityInstance entity) {
+
+        requested.remove(entity);
+    }
+
+    /**
+     * Retargets the requested entities followed by the next bucket of the
+     * rotation, stopping once the evaluation budget has been spent.
+     * 
+     * @param entities <code>List&lt;EntityInstance&gt;</code>: The entities in the
+     *                 rotation. Retargeting an entity evaluates every other entity
+     *                 as a candidate.
+     * @param eligible <code>Predicate&lt;EntityInstance&gt;</code>: Whether or not
+     *                 an entity may be retargeted during this tick.
+     * @param retarget <code>Consumer&lt;EntityInstance&gt;</code>: The action
+     *                 which retargets an entity.
+     */
+    public final void run(List<EntityInstance> entities, Predicate<EntityInstance> eligible,
+            Consumer<EntityInstance> retarget) {
+
+        int size = entities.size();
+        int cost = Math.max(1, size - 1);
+
+        // The number of entities which fit within the budget, counting the first
+        // entity even if it alone exceeds it.
+        int remaining = Math.max(1, BUDGET_EVALUATIONS / cost);
+
+        Iterator<EntityInstance> requestIterator = requested.iterator();
+        while (requestIterator.hasNext()) {
+
+            if (remaining == 0) {
+
+                return;
+            }
+
+            EntityInstance entity = requestIterator.next();
+            requestIterator.remove();
+
+            if (eligible.test(entity)) {
+
+                retarget.accept(entity);
+                remaining--;
+            }
+        }
+
+        int quota = Math.ceilDiv(size, BUCKETS);
+        for (int i = 0; i < quota; i++) {
+
+            // The remainder of the bucket is deferred to the next tick.
+            if (remaining == 0) {
+
+                return;
+            }
+
+            if (cursor >= size) {
+
+                cursor = 0;
+            }
+
+            EntityInstance entity = entities.get(cursor++);
+            if (eligible.test(entity)) {
+
+                retarget.accept(entity);
+                remaining--;
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package com.transcendruins.world;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -24,9 +26,19 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,7 +65,10 @@ import com.transcendruins.assets.recipes.RecipeContext;
 import com.transcendruins.assets.recipes.RecipeInstance;
 import com.transcendruins.packs.content.ContentPack;
 import com.transcendruins.packs.resources.ResourcePack;
+import com.transcendruins.rendering.FrameStats;
+import com.transcendruins.rendering.TripleBuffer;
 import com.transcendruins.rendering.renderbuffer.RenderBuffer;
+import com.transcendruins.rendering.renderbuffer.RenderSnapshot;
 import com.transcendruins.resources.ResourceSet;
 import com.transcendruins.resources.languages.Language;
 import com.transcendruins.resources.sounds.Sound;
@@ -65,8 +80,19 @@ import com.transcendruins.utilities.files.TracedPath;
 import com.transcendruins.utilities.immutable.ImmutableList;
 import com.transcendruins.utilities.immutable.ImmutableMap;
 import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.metrics.Counter;
+import com.transcendruins.utilities.metrics.LatencyHistogram;
+import com.transcendruins.utilities.metrics.LocationUpdateEvent;
+import com.transcendruins.utilities.metrics.MetricsRegistry;
+import com.transcendruins.utilities.metrics.TextureDecodeEvent;
+import com.transcendruins.utilities.metrics.TickEvent;
 import com.transcendruins.utilities.random.DeterministicRandom;
 import com.transcendruins.utilities.sound.StoredSound;
+import com.transcendruins.utilities.time.TimerWheel;
+import com.transcendruins.utilities.time.WorldClock;
+import com.transcendruins.world.journal.InputJournal;
+import com.transcendruins.world.journal.InputType;
+import com.transcendruins.world.journal.JournalEntry;
 
 /**
  * <code>World</code>: A class representing a loaded world environment.
@@ -161,15 +187,106 @@ public final class World extends PropertyHolder {
      */
     private final DeterministicRandom random;
 
+    /**
+     * <code>ThreadLocal&lt;DeterministicRandom&gt;</code>: The random number
+     * generator bound to the current thread, which replaces the
+     * <code>random</code> field while generating content in parallel.
+     */
+    private final ThreadLocal<DeterministicRandom> boundRandom = new ThreadLocal<>();
+
     /**
      * Retreives the random number generater of this <code>World</code> instance.
+     * If a random number generator has been bound to the current thread, it is
+     * retrieved instead.
      * 
      * @return <code>DeterministicRandom</code>: The <code>random</code> field of
-     *         this <code>World</code> instance.
+     *         this <code>World</code> instance, or the generator bound to the
+     *         current thread.
      */
     public final DeterministicRandom getRandom() {
 
-        return random;
+        DeterministicRandom bound = boundRandom.get();
+        return bound != null ? bound : random;
+    }
+
+    /**
+     * Retrieves a fingerprint of the random number generators of this
+     * <code>World</code> instance and each of its locations. Locations draw from
+     * their own generators while taking their turns, so the world generator alone
+     * does not reflect the simulation.
+     * 
+     * @return <code>long</code>: The combined random number generator state.
+     */
+    public final long getRandomState() {
+
+        long state = random.getState();
+        for (GlobalLocationInstance location : new TreeMap<>(locations).values()) {
+
+            state = state * 31 + location.getSimulationRandom().getState();
+        }
+
+        return state;
+    }
+
+    /**
+     * Retrieves a checksum of the simulation state of this <code>World</code>
+     * instance: its random number generators, the contents of each location and
+     * where each player is. Journals record it after every tick so that a replay
+     * can report the first tick at which it diverges.
+     * 
+     * @return <code>long</code>: The checksum of this <code>World</code> instance.
+     */
+    public final long getChecksum() {
+
+        long checksum = getRandomState();
+        for (GlobalLocationInstance location : new TreeMap<>(locations).values()) {
+
+            checksum = checksum * 31 + location.getChecksum();
+        }
+
+        // Players are unordered, so their states are summed.
+        long playerChecksum = 0;
+        for (Player player : players.snapshot()) {
+
+            long state = player.getEntity().getRandomId();
+            state = state * 31 + Objects.hashCode(player.getLocation());
+            state = state * 31 + (player.onGlobalMap() ? 1 : 0);
+
+            playerChecksum += state;
+        }
+
+        return checksum * 31 + playerChecksum;
+    }
+
+    /**
+     * Runs a task with a random number generator bound to the current thread, so
+     * that every asset created by the task draws from it rather than from the
+     * shared world random number generator.
+     * 
+     * @param <K>    The type returned by the task.
+     * @param random <code>DeterministicRandom</code>: The random number generator
+     *               to bind.
+     * @param task   <code>Supplier&lt;K&gt;</code>: The task to run.
+     * @return <code>K</code>: The result of the task.
+     */
+    public final <K> K withRandom(DeterministicRandom random, Supplier<K> task) {
+
+        DeterministicRandom previous = boundRandom.get();
+        boundRandom.set(random);
+
+        try {
+
+            return task.get();
+        } finally {
+
+            if (previous == null) {
+
+                boundRandom.remove();
+            } else {
+
+                boundRandom.set(previous);
+            }
+        }
     }
 
     /**
@@ -407,13 +524,55 @@ public final class World extends PropertyHolder {
      */
     public final ImageIcon getTexture(String texture, long random) {
 
-        if (!containsTexture(texture)) {
+        TracedPath path = containsTexture(texture) ? textures.get(texture).getPath(random, texturePaths) : null;
+        ImageIcon icon = path != null ? decodeTexture(texture, path) : null;
 
-            return DataConstants.MISSING_TEXTURE.retrieveImage();
+        if (icon == null) {
+
+            icon = decodeTexture(texture, DataConstants.MISSING_TEXTURE);
         }
 
-        ImageIcon icon = textures.get(texture).getTexture(random, texturePaths);
-        return icon != null ? icon : DataConstants.MISSING_TEXTURE.retrieveImage();
+        return icon;
+    }
+
+    /**
+     * <code>DecodedTexture</code>: A record representing the result of decoding a
+     * texture file.
+     * 
+     * @param icon <code>ImageIcon</code>: The decoded image, or <code>null</code>
+     *             if the file could not be decoded.
+     */
+    private static final record DecodedTexture(ImageIcon icon) {
+    }
+
+    /**
+     * <code>ConcurrentHashMap&lt;TracedPath, DecodedTexture&gt;</code>: The texture
+     * files which have been decoded since the resources were last applied.
+     */
+    private final ConcurrentHashMap<TracedPath, DecodedTexture> decodedTextures = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the image of a texture file, decoding it only the first time it is
+     * requested.
+     * 
+     * @param texture <code>String</code>: The texture key which requested the file.
+     * @param path    <code>TracedPath</code>: The file to decode.
+     * @return <code>ImageIcon</code>: The decoded image, or <code>null</code> if
+     *         the file could not be decoded.
+     */
+    private ImageIcon decodeTexture(String texture, TracedPath path) {
+
+        return decodedTextures.computeIfAbsent(path, _ -> {
+
+            TextureDecodeEvent event = new TextureDecodeEvent();
+            event.begin();
+
+            ImageIcon icon = path.retrieveImage();
+
+            event.commit(texture, path.toString(), icon != null ? icon.getIconWidth() : -1,
+                    icon != null ? icon.getIconHeight() : -1, icon == null);
+            return new DecodedTexture(icon);
+        }).icon();
     }
 
     private StyleSet style;
@@ -437,7 +596,27 @@ public final class World extends PropertyHolder {
      */
     public static final World createWorld(List<ContentPack> packs, List<ResourcePack> resources, long seed) {
 
-        return world = new World(packs, resources, seed);
+        return createWorld(packs, resources, seed, WorldClock.SYSTEM);
+    }
+
+    /**
+     * Creates a new instance of the <code>World</code> class driven by a specific
+     * clock and assigns it to the <code>world</code> field.
+     * 
+     * @param packs     <code>List&lt;Pack&gt;</code>: The packs used to create the
+     *                  new <code>World</code> instance.
+     * @param resources <code>List&lt;Resource&gt;</code>: The resources used to
+     *                  create the new <code>World</code> instance.
+     * @param seed      <code>long</code>: The seed used to create the new
+     *                  <code>World</code> instance.
+     * @param clock     <code>WorldClock</code>: The clock which the timers of the
+     *                  new <code>World</code> instance are driven by.
+     * @return <code>World</code>: The generated world.
+     */
+    public static final World createWorld(List<ContentPack> packs, List<ResourcePack> resources, long seed,
+            WorldClock clock) {
+
+        return world = new World(packs, resources, seed, clock);
     }
 
     /**
@@ -448,12 +627,17 @@ public final class World extends PropertyHolder {
      * @param resources <code>List&lt;Resource&gt;</code>: The resources used to
      *                  create this <code>World</code> instance.
      * @param seed      <code>long</code>: The seed to create the world using.
+     * @param clock     <code>WorldClock</code>: The clock which the timers of this
+     *                  <code>World</code> instance are driven by.
      */
-    private World(List<ContentPack> packs, List<ResourcePack> resources, long seed) {
+    private World(List<ContentPack> packs, List<ResourcePack> resources, long seed, WorldClock clock) {
 
         this.seed = seed;
         random = new DeterministicRandom(seed);
 
+        this.clock = clock;
+        timers = new TimerWheel(TIMER_RESOLUTION, clock.millis());
+
         HashMap<AssetType, ImmutableMap<Identifier, AssetSchema>> assetsMap = AssetType.createAssetMap(type -> {
 
             return new ImmutableMap<>(packs.stream().map(pack -> pack.getAssets().get(type)) // Retrieve the map of
@@ -488,6 +672,7 @@ public final class World extends PropertyHolder {
 
         textures = compile(resources, set -> set.getTextures().getTextures());
         texturePaths = compile(resources, set -> set.getTextures().getPaths());
+        decodedTextures.clear();
 
         style = createStyle(resources.stream());
     }
@@ -511,21 +696,17 @@ public final class World extends PropertyHolder {
                 .filter(entry -> entry.getValue().getTriggerType() == LocationTriggerType.AUTOMATIC)
                 .map(Map.Entry::getKey).toList());
 
-        // Create all of the locations that do not have an implicit start time.
-        List<String> newLocations = queuedLocations.stream()
-                .filter(location -> locationSchemas.get(location).getDuration().getStartTimestamp() == null).toList();
-        queuedLocations.removeAll(newLocations);
+        // Create all of the locations that do not have an implicit start time, and
+        // schedule the rest to be created when they start.
+        for (String location : List.copyOf(queuedLocations)) {
 
-        if (!newLocations.isEmpty()) {
+            ZonedDateTime start = locationSchemas.get(location).getDuration().getStartTimestamp();
+            if (start == null) {
 
-            synchronized (LOCATION_LOCK) {
-
-                for (String location : newLocations) {
+                startLocation(location);
+            } else {
 
-                    GlobalLocationSchema schema = locationSchemas.get(location);
-                    GlobalLocationInstance instance = new GlobalLocationInstance(schema, this);
-                    locations.put(location, instance);
-                }
+                timers.schedule(clock.toMillis(start), () -> startLocation(location));
             }
         }
 
@@ -580,6 +761,69 @@ public final class World extends PropertyHolder {
     private long simulationRate = 40;
     private long tickNs = simulationRate > 0 ? 1_000_000_000l / simulationRate : 0;
 
+    /**
+     * <code>int</code>: The number of tick times used to calculate tick
+     * statistics.
+     */
+    private static final int STATS_TICKS = 2400;
+
+    /**
+     * <code>FrameStats</code>: The most recent tick times of the host of this
+     * <code>World</code> instance, excluding the time spent waiting for the next
+     * tick.
+     */
+    private final FrameStats tickStats = new FrameStats(STATS_TICKS);
+
+    /**
+     * Retrieves the most recent tick times of the host of this <code>World</code>
+     * instance.
+     * 
+     * @return <code>FrameStats</code>: The <code>tickStats</code> field of this
+     *         <code>World</code> instance.
+     */
+    public final FrameStats getTickStats() {
+
+        return tickStats;
+    }
+
+    /**
+     * <code>LatencyHistogram</code>: The total time taken by each tick of the
+     * host.
+     */
+    private static final LatencyHistogram TICK_TOTAL = MetricsRegistry.getRegistry().histogram("tick.total");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken by each tick to run due
+     * timers and apply generated areas.
+     */
+    private static final LatencyHistogram TICK_EXPIRY = MetricsRegistry.getRegistry().histogram("tick.expiry");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken by each tick to update the
+     * active locations.
+     */
+    private static final LatencyHistogram TICK_LOCATIONS = MetricsRegistry.getRegistry()
+            .histogram("tick.locations");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken by each tick to find the
+     * nearest interaction of every player.
+     */
+    private static final LatencyHistogram TICK_INTERACTIONS = MetricsRegistry.getRegistry()
+            .histogram("tick.interactions");
+
+    /**
+     * <code>LatencyHistogram</code>: The time taken by each tick to update the UI
+     * of every player.
+     */
+    private static final LatencyHistogram TICK_UI = MetricsRegistry.getRegistry().histogram("tick.ui");
+
+    /**
+     * <code>Counter</code>: The number of ticks which took longer than the
+     * simulation rate allows.
+     */
+    private static final Counter TICK_OVERRUNS = MetricsRegistry.getRegistry().counter("tick.overruns");
+
     /**
      * <code>long</code>: The time of creation of this <code>World</code> instance.
      */
@@ -594,7 +838,7 @@ public final class World extends PropertyHolder {
      */
     public final long getRuntimeMillis() {
 
-        return active ? System.currentTimeMillis() - timeOfCreation : 0;
+        return active ? clock.millis() - timeOfCreation : 0;
     }
 
     /**
@@ -609,28 +853,241 @@ public final class World extends PropertyHolder {
         return getRuntimeMillis() / 1000.0;
     }
 
+    /**
+     * <code>long</code>: The number of milliseconds covered by a single tick of
+     * the timer wheel, matching the simulation rate.
+     */
+    private static final long TIMER_RESOLUTION = 25;
+
+    /**
+     * <code>WorldClock</code>: The clock which the timers of this
+     * <code>World</code> instance are driven by.
+     */
+    private final WorldClock clock;
+
+    /**
+     * Retrieves the clock which the timers of this <code>World</code> instance are
+     * driven by.
+     * 
+     * @return <code>WorldClock</code>: The <code>clock</code> field of this
+     *         <code>World</code> instance.
+     */
+    public final WorldClock getClock() {
+
+        return clock;
+    }
+
+    /**
+     * <code>TimerWheel</code>: The timers of this <code>World</code> instance,
+     * which are advanced by the host once per tick.
+     */
+    private final TimerWheel timers;
+
+    /**
+     * Retrieves the timers of this <code>World</code> instance. Scheduled tasks
+     * are run on the host thread.
+     * 
+     * @return <code>TimerWheel</code>: The <code>timers</code> field of this
+     *         <code>World</code> instance.
+     */
+    public final TimerWheel getTimers() {
+
+        return timers;
+    }
+
     private final HashSet<String> queuedLocations = new HashSet<>();
 
-    private final LinkedHashMap<String, GlobalLocationInstance> locations = new LinkedHashMap<>();
+    /**
+     * <code>ImmutableMap&lt;String, GlobalLocationInstance&gt;</code>: The
+     * locations of this <code>World</code> instance. Locations are rarely started
+     * or expired, so each change publishes a new copy of the map while holding
+     * the <code>LOCATION_LOCK</code> field, and readers never lock.
+     */
+    private volatile ImmutableMap<String, GlobalLocationInstance> locations = new ImmutableMap<>();
 
     public final GlobalLocationInstance getLocation(String location) {
 
+        return locations.get(location);
+    }
+
+    public final Map<String, LocationRender> getLocationRenders() {
+
+        return locations.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getRender()));
+    }
+
+    private final Object LOCATION_LOCK = new Object();
+
+    /**
+     * Creates a queued location of this <code>World</code> instance.
+     * 
+     * @param location <code>String</code>: The key of the location to create.
+     */
+    private void startLocation(String location) {
+
         synchronized (LOCATION_LOCK) {
 
-            return locations.get(location);
+            if (!queuedLocations.remove(location)) {
+
+                return;
+            }
+
+            GlobalLocationSchema schema = locationSchemas.get(location);
+            GlobalLocationInstance instance = new GlobalLocationInstance(location, schema, this);
+
+            LinkedHashMap<String, GlobalLocationInstance> updated = new LinkedHashMap<>(locations);
+            updated.put(location, instance);
+            locations = new ImmutableMap<>(updated);
         }
     }
 
-    public final Map<String, LocationRender> getLocationRenders() {
+    /**
+     * Removes a location from this <code>World</code> instance if it has expired.
+     * 
+     * @param location <code>GlobalLocationInstance</code>: The location to check.
+     */
+    public final void expireLocation(GlobalLocationInstance location) {
 
         synchronized (LOCATION_LOCK) {
 
-            return locations.entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getRender()));
+            if (location.expired(clock.millis())) {
+
+                LinkedHashMap<String, GlobalLocationInstance> updated = new LinkedHashMap<>(locations);
+                updated.values().remove(location);
+                locations = new ImmutableMap<>(updated);
+            }
         }
     }
 
-    private final Object LOCATION_LOCK = new Object();
+    /**
+     * <code>ExecutorService</code>: The pool which location areas are generated
+     * on, so that generation does not stall the host.
+     */
+    private final ExecutorService generationExecutor = Executors
+            .newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+
+                Thread thread = new Thread(runnable, "AreaGeneration");
+                thread.setDaemon(true);
+
+                return thread;
+            });
+
+    /**
+     * <code>int</code>: The number of threads which locations take their turns on,
+     * set by the <code>transcendruins.locationThreads</code> property.
+     */
+    private static final int LOCATION_THREADS = Math.max(1,
+            Integer.getInteger("transcendruins.locationThreads", Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * <code>ExecutorService</code>: The pool which locations take their turns on.
+     * Each location runs at most one turn at a time, so the thread running its
+     * turn is the only writer of its areas and players.
+     */
+    private final ExecutorService locationExecutor = Executors.newFixedThreadPool(LOCATION_THREADS, runnable -> {
+
+        Thread thread = new Thread(runnable, "LocationTurn");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    /**
+     * Retrieves the pool which location areas are generated on.
+     * 
+     * @return <code>ExecutorService</code>: The <code>generationExecutor</code>
+     *         field of this <code>World</code> instance.
+     */
+    public final ExecutorService getGenerationExecutor() {
+
+        return generationExecutor;
+    }
+
+    /**
+     * <code>SimulationLod</code>: The policy which decides how often each chunk of
+     * an active area is simulated.
+     */
+    private volatile SimulationLod simulationLod = SimulationLod.DEFAULT;
+
+    /**
+     * Retrieves the policy which decides how often each chunk of an active area is
+     * simulated.
+     * 
+     * @return <code>SimulationLod</code>: The <code>simulationLod</code> field of
+     *         this <code>World</code> instance.
+     */
+    public final SimulationLod getSimulationLod() {
+
+        return simulationLod;
+    }
+
+    /**
+     * Sets the policy which decides how often each chunk of an active area is
+     * simulated.
+     * 
+     * @param simulationLod <code>SimulationLod</code>: The policy to apply.
+     */
+    public final void setSimulationLod(SimulationLod simulationLod) {
+
+        this.simulationLod = simulationLod;
+    }
+
+    /**
+     * Starts generating a location in the background in anticipation of a player
+     * entering it.
+     * 
+     * @param location <code>String</code>: The key of the location to prefetch.
+     */
+    public final void prefetchLocation(String location) {
+
+        if (queue(InputType.PREFETCH_LOCATION, 0, 0, 0, location)) {
+
+            return;
+        }
+
+        GlobalLocationInstance locationInstance = getLocation(location);
+        if (locationInstance != null) {
+
+            locationInstance.prefetch();
+        }
+    }
+
+    /**
+     * Cancels the background generation of a location if no player has claimed
+     * it.
+     * 
+     * @param location <code>String</code>: The key of the location whose prefetch
+     *                 to cancel.
+     */
+    public final void cancelPrefetch(String location) {
+
+        if (queue(InputType.CANCEL_PREFETCH, 0, 0, 0, location)) {
+
+            return;
+        }
+
+        GlobalLocationInstance locationInstance = getLocation(location);
+        if (locationInstance != null) {
+
+            locationInstance.cancelPrefetch();
+        }
+    }
+
+    /**
+     * Determines whether or not a player is waiting for their location to finish
+     * generating.
+     * 
+     * @param playerId <code>long</code>: The ID of the player to check.
+     * @return <code>boolean</code>: Whether or not the player is loading.
+     */
+    public final boolean isLoading(long playerId) {
+
+        return Boolean.TRUE.equals(playerFunction(playerId, player -> {
+
+            GlobalLocationInstance location = getLocation(player.getLocation());
+            return location != null && location.isLoading(player);
+        }));
+    }
 
     public final List<TerrainRender> getTerrainRenders() {
 
@@ -639,33 +1096,52 @@ public final class World extends PropertyHolder {
 
     private final LinkedHashMap<String, GlobalEventInstance> events = new LinkedHashMap<>();
 
-    private final HashMap<Long, Player> players = new HashMap<>();
-
-    private final Object PLAYER_LOCK = new Object();
+    /**
+     * <code>PlayerRegistry</code>: The players of this <code>World</code>
+     * instance, which may be looked up from any thread without locking.
+     */
+    private final PlayerRegistry players = new PlayerRegistry();
 
-    public final boolean addPlayer(long playerId) {
+    public final CompletableFuture<Boolean> addPlayer(long playerId) {
 
         return addPlayer(playerId, defaultLocation);
     }
 
-    public final boolean addPlayer(long playerId, String location) {
+    /**
+     * Adds a player to this <code>World</code> instance. While the host is
+     * running, the player is added at the start of the next tick.
+     * 
+     * @param playerId <code>long</code>: The ID of the player to add.
+     * @param location <code>String</code>: The key of the location to add the
+     *                 player to.
+     * @return <code>CompletableFuture&lt;Boolean&gt;</code>: Whether or not the
+     *         player was added, completed once the input has been applied.
+     */
+    public final CompletableFuture<Boolean> addPlayer(long playerId, String location) {
 
-        // If there is already a player with the same id, do not add.
-        synchronized (PLAYER_LOCK) {
+        CompletableFuture<Boolean> added = new CompletableFuture<>();
+        JournalEntry.Input input = new JournalEntry.Input(InputType.ADD_PLAYER, playerId, 0, 0, location);
 
-            if (players.containsKey(playerId)) {
+        if (!queue(input, () -> added.complete(add(playerId, location)), added)) {
 
-                return false;
-            }
+            added.complete(add(playerId, location));
         }
 
-        GlobalLocationInstance locationInstance;
-        synchronized (LOCATION_LOCK) {
+        return added;
+    }
 
-            location = locations.containsKey(location) ? location : defaultLocation;
-            locationInstance = locations.get(location);
+    private boolean add(long playerId, String location) {
+
+        // If there is already a player with the same id, do not add.
+        if (players.contains(playerId)) {
+
+            return false;
         }
 
+        ImmutableMap<String, GlobalLocationInstance> currentLocations = locations;
+        location = currentLocations.containsKey(location) ? location : defaultLocation;
+        GlobalLocationInstance locationInstance = currentLocations.get(location);
+
         if (locationInstance == null) {
 
             return false;
@@ -682,10 +1158,7 @@ public final class World extends PropertyHolder {
         }
 
         player.setGlobalMapCoordinates(locationInstance.getCoordinates());
-        synchronized (PLAYER_LOCK) {
-
-            players.put(playerId, player);
-        }
+        players.add(playerId, player);
 
         player.setLocation(location);
 
@@ -694,80 +1167,130 @@ public final class World extends PropertyHolder {
             enterLocation(player, locationInstance);
         } else {
 
-            exitLocation(playerId);
+            exitLocation(player);
         }
 
         return true;
     }
 
-    public final boolean travel(long playerId, String location) {
+    /**
+     * Moves a player to a location. While the host is running, the player is
+     * moved at the start of the next tick.
+     * 
+     * @param playerId <code>long</code>: The ID of the player to move.
+     * @param location <code>String</code>: The key of the location to move the
+     *                 player to.
+     * @return <code>CompletableFuture&lt;Boolean&gt;</code>: Whether or not the
+     *         player arrived, completed once the input has been applied.
+     */
+    public final CompletableFuture<Boolean> travel(long playerId, String location) {
 
-        return playerFunction(playerId, player -> travel(player, location, null));
-    }
+        CompletableFuture<Boolean> travelled = new CompletableFuture<>();
+        JournalEntry.Input input = new JournalEntry.Input(InputType.TRAVEL, playerId, 0, 0, location);
 
-    public final boolean travel(Player player, String location, PlayerSpawn spawn) {
+        if (!queue(input, () -> travelled.complete(move(playerId, location)), travelled)) {
 
-        synchronized (LOCATION_LOCK) {
+            travelled.complete(move(playerId, location));
+        }
 
-            // If a location is not specified, assume the current location.
-            if (location == null) {
+        return travelled;
+    }
 
-                location = player.getLocation();
+    private boolean move(long playerId, String location) {
 
-                // If neither the current nor previous location exists, halt.
-                if (!locations.containsKey(location)) {
+        return Boolean.TRUE.equals(playerFunction(playerId, player -> move(player, location, null)));
+    }
 
-                    if (location != null) {
+    /**
+     * Moves a player to a location. Travel reaches beyond the location taking its
+     * turn, so when called during a turn the player is moved once every location
+     * has finished.
+     * 
+     * @param player   <code>Player</code>: The player to move.
+     * @param location <code>String</code>: The key of the location to move the
+     *                 player to, or <code>null</code> to return to the current
+     *                 location.
+     * @param spawn    <code>PlayerSpawn</code>: The spawn to place the player at,
+     *                 or <code>null</code> to place them anywhere.
+     * @return <code>CompletableFuture&lt;Boolean&gt;</code>: Whether or not the
+     *         player arrived, completed once the player has been moved.
+     */
+    public final CompletableFuture<Boolean> travel(Player player, String location, PlayerSpawn spawn) {
 
-                        player.setLocation(null);
-                    }
-                    return false;
-                }
-            } else {
+        GlobalLocationInstance actor = GlobalLocationInstance.getActor();
+        if (actor != null) {
 
-                // If the new location does not exist, halt.
-                if (!locations.containsKey(location)) {
+            CompletableFuture<Boolean> travelled = new CompletableFuture<>();
+            actor.post(_ -> travelled.complete(move(player, location, spawn)));
+            return travelled;
+        }
 
-                    return false;
-                }
-            }
+        return CompletableFuture.completedFuture(move(player, location, spawn));
+    }
+
+    private boolean move(Player player, String location, PlayerSpawn spawn) {
+
+        ImmutableMap<String, GlobalLocationInstance> currentLocations = locations;
+
+        // If a location is not specified, assume the current location.
+        if (location == null) {
 
-            // If the current location is new, exit the old location.
-            String prevLocation = player.getLocation();
-            if (!location.equals(prevLocation)) {
+            location = player.getLocation();
 
-                if (prevLocation != null) {
+            // If neither the current nor previous location exists, halt.
+            if (!currentLocations.containsKey(location)) {
 
-                    locations.get(prevLocation).remove(player);
+                if (location != null) {
+
+                    player.setLocation(null);
                 }
+                return false;
+            }
+        } else {
+
+            // If the new location does not exist, halt.
+            if (!currentLocations.containsKey(location)) {
 
-                player.setLocation(location);
+                return false;
             }
+        }
+
+        // If the current location is new, exit the old location.
+        String prevLocation = player.getLocation();
+        if (!location.equals(prevLocation)) {
 
-            GlobalLocationInstance locationInstance = locations.get(location);
-            if (locationInstance.add(player, spawn)) {
+            if (prevLocation != null) {
 
-                player.setGlobalMapCoordinates(locationInstance.getCoordinates());
-                return true;
+                currentLocations.get(prevLocation).remove(player);
             }
 
-            return false;
+            player.setLocation(location);
         }
+
+        GlobalLocationInstance locationInstance = currentLocations.get(location);
+        if (locationInstance.add(player, spawn)) {
+
+            player.setGlobalMapCoordinates(locationInstance.getCoordinates());
+            return true;
+        }
+
+        return false;
     }
 
     public final void enterLocation(long playerId) {
 
-        playerConsumer(playerId, player -> {
+        if (queue(InputType.ENTER_LOCATION, playerId, 0, 0, null)) {
 
-            GlobalLocationInstance location;
-            synchronized (LOCATION_LOCK) {
+            return;
+        }
 
-                String locationKey = player.getLocation();
-                if (locationKey == null || !locations.containsKey(locationKey)) {
+        playerConsumer(playerId, player -> {
 
-                    return;
-                }
-                location = locations.get(locationKey);
+            String locationKey = player.getLocation();
+            GlobalLocationInstance location = locationKey == null ? null : locations.get(locationKey);
+            if (location == null) {
+
+                return;
             }
 
             enterLocation(player, location);
@@ -788,33 +1311,97 @@ public final class World extends PropertyHolder {
 
     public final void exitLocation(long playerId) {
 
-        playerConsumer(playerId, player -> {
+        if (queue(InputType.EXIT_LOCATION, playerId, 0, 0, null)) {
 
-            synchronized (LOCATION_LOCK) {
+            return;
+        }
 
-                String locationKey = player.getLocation();
-                if (locationKey != null && locations.containsKey(locationKey)) {
+        playerConsumer(playerId, this::exitLocation);
+    }
 
-                    GlobalLocationInstance location = locations.get(locationKey);
-                    location.exit(player);
-                }
-            }
+    private void exitLocation(Player player) {
 
-            player.enterGlobalMap();
-            player.setPanels(globalOverlays.values());
-        });
+        String locationKey = player.getLocation();
+        GlobalLocationInstance location = locationKey == null ? null : locations.get(locationKey);
+        if (location != null) {
+
+            location.exit(player);
+        }
+
+        player.enterGlobalMap();
+        player.setPanels(globalOverlays.values());
     }
 
     public final void setScreenSize(long playerId, int width, int height) {
 
+        if (queue(InputType.SCREEN_SIZE, playerId, width, height, null)) {
+
+            return;
+        }
+
         playerConsumer(playerId, player -> player.setScreenSize(width, height));
     }
 
     public final void setMousePosition(long playerId, int x, int y) {
 
+        if (queue(InputType.MOUSE_POSITION, playerId, x, y, null)) {
+
+            return;
+        }
+
         playerConsumer(playerId, player -> player.setMousePosition(x, y));
     }
 
+    public final void setMousePress(long playerId, boolean pressed) {
+
+        if (queue(InputType.MOUSE_PRESS, playerId, pressed ? 1 : 0, 0, null)) {
+
+            return;
+        }
+
+        playerConsumer(playerId, player -> player.setMousePress(pressed));
+    }
+
+    public final void mouseScroll(long playerId, int dx, int dy) {
+
+        if (queue(InputType.MOUSE_SCROLL, playerId, dx, dy, null)) {
+
+            return;
+        }
+
+        playerConsumer(playerId, player -> player.mouseScroll(dx, dy));
+    }
+
+    public final void openInventory(long playerId) {
+
+        if (queue(InputType.OPEN_INVENTORY, playerId, 0, 0, null)) {
+
+            return;
+        }
+
+        playerConsumer(playerId, player -> player.displayInventory(player.getEntity()));
+    }
+
+    public final void interact(long playerId) {
+
+        if (queue(InputType.INTERACT, playerId, 0, 0, null)) {
+
+            return;
+        }
+
+        playerConsumer(playerId, Player::interact);
+    }
+
+    public final void attack(long playerId, boolean attack) {
+
+        if (queue(InputType.ATTACK, playerId, attack ? 1 : 0, 0, null)) {
+
+            return;
+        }
+
+        playerConsumer(playerId, player -> player.attack(attack));
+    }
+
     public final BufferedImage renderUi(long playerId) {
 
         return playerFunction(playerId, Player::renderUi);
@@ -822,6 +1409,11 @@ public final class World extends PropertyHolder {
 
     public final void openMenu(long playerId, String menu) {
 
+        if (queue(InputType.OPEN_MENU, playerId, 0, 0, menu)) {
+
+            return;
+        }
+
         if (!menus.containsKey(menu)) {
 
             return;
@@ -836,6 +1428,11 @@ public final class World extends PropertyHolder {
 
     public final void closeMenu(long playerId) {
 
+        if (queue(InputType.CLOSE_MENU, playerId, 0, 0, null)) {
+
+            return;
+        }
+
         playerConsumer(playerId, player -> {
 
             if (player.onGlobalMap()) {
@@ -868,20 +1465,24 @@ public final class World extends PropertyHolder {
         return playerFunction(playerId, player -> player.getEntity().getInventory().consume(item));
     }
 
-    public final RenderBuffer getPolygons(long playerId) {
+    /**
+     * Retrieves the render snapshots which the host publishes for a player at the
+     * end of every tick. The snapshots should be read by a single render thread,
+     * usually through a <code>SnapshotInterpolator</code>, which never waits on
+     * the host.
+     * 
+     * @param playerId <code>long</code>: The ID of the player.
+     * @return <code>TripleBuffer&lt;RenderSnapshot&gt;</code>: The snapshots of
+     *         the player, or <code>null</code> if the player does not exist.
+     */
+    public final TripleBuffer<RenderSnapshot> getRenderSnapshots(long playerId) {
 
-        return playerFunction(playerId, player -> getLocation(player.getLocation()).getPolygons(player));
+        return playerFunction(playerId, Player::getRenderSnapshots);
     }
 
     public final <K> K playerFunction(long playerId, Function<Player, K> operator) {
 
-        Player player;
-
-        synchronized (PLAYER_LOCK) {
-
-            player = players.get(playerId);
-        }
-
+        Player player = players.get(playerId);
         if (player == null) {
 
             return null;
@@ -892,49 +1493,322 @@ public final class World extends PropertyHolder {
 
     public final void playerConsumer(long playerId, Consumer<Player> operator) {
 
-        Player player;
+        Player player = players.get(playerId);
+        if (player == null) {
+
+            return;
+        }
+
+        operator.accept(player);
+    }
 
-        synchronized (PLAYER_LOCK) {
+    /**
+     * <code>InputJournal</code>: The journal which the inputs of this
+     * <code>World</code> instance are recorded to, or <code>null</code> if inputs
+     * are not being recorded.
+     */
+    private volatile InputJournal journal = null;
 
-            player = players.get(playerId);
+    /**
+     * <code>int</code>: The number of ticks between the checksums written to the
+     * journal, set by the <code>transcendruins.journal.checksumInterval</code>
+     * property. Each checksum covers the whole world, so writing one every tick
+     * would cost as much as the tick itself in a large world.
+     */
+    private static final int CHECKSUM_INTERVAL = Math.max(1,
+            Integer.getInteger("transcendruins.journal.checksumInterval", 20));
+
+    /**
+     * Starts recording the inputs of this <code>World</code> instance to a
+     * journal. Recording must start before the host does, and the world should
+     * have been created with a <code>TickClock</code> so that every read of the
+     * clock during a tick can be reproduced.
+     * 
+     * @param file  <code>Path</code>: The file to record to.
+     * @param packs <code>List&lt;ContentPack&gt;</code>: The packs which this
+     *              <code>World</code> instance was created from.
+     * @throws IOException Thrown if the journal could not be created.
+     */
+    public final synchronized void startJournal(Path file, List<ContentPack> packs) throws IOException {
+
+        if (active) {
+
+            throw new IllegalStateException("Inputs must be recorded from before the host starts.");
         }
 
-        if (player == null) {
+        endJournal();
+        journal = new InputJournal(file, seed, clock.getOriginEpochMillis(), clock.millis(),
+                InputJournal.hashPacks(packs));
+    }
 
-            return;
+    /**
+     * Stops recording the inputs of this <code>World</code> instance, ending the
+     * journal with a fingerprint of the current state.
+     */
+    public final synchronized void endJournal() {
+
+        if (journal != null) {
+
+            journal.end(ticks, getRandomState(), getChecksum());
+            journal = null;
         }
+    }
 
-        operator.accept(player);
+    /**
+     * <code>ConcurrentLinkedQueue&lt;QueuedInput&gt;</code>: The inputs which are
+     * waiting to be applied at the start of the next tick. Input threads only
+     * ever append to this queue, so they never wait on a tick in progress, and
+     * the host applies the inputs in the order they were made.
+     */
+    private final ConcurrentLinkedQueue<QueuedInput> inputs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * <code>Object</code>: The lock which orders the queueing of inputs against
+     * the host ending, so that no input is queued after the host has drained the
+     * queue for the last time.
+     */
+    private final Object INPUT_LOCK = new Object();
+
+    /**
+     * <code>QueuedInput</code>: A record representing an input waiting to be
+     * applied.
+     * 
+     * @param input  <code>JournalEntry.Input</code>: The input, as it is recorded.
+     * @param action <code>Runnable</code>: The action which applies the input.
+     * @param result <code>CompletableFuture&lt;?&gt;</code>: The future which the
+     *               action completes, or <code>null</code> if the caller does not
+     *               wait on the input.
+     */
+    private static final record QueuedInput(JournalEntry.Input input, Runnable action, CompletableFuture<?> result) {
+
+        /**
+         * Rejects this <code>QueuedInput</code> instance without applying it,
+         * completing its future exceptionally.
+         */
+        private void reject() {
+
+            if (result != null) {
+
+                result.completeExceptionally(
+                        new IllegalStateException("The world host ended before the input was applied."));
+            }
+        }
+    }
+
+    /**
+     * Queues an input to be applied at the start of the next tick of this
+     * <code>World</code> instance. Inputs made while running a tick are caused by
+     * the tick itself, so they are applied immediately, or posted if made during
+     * the turn of a location, and reproduced by the replay rather than recorded.
+     * Inputs made before the host starts are applied and recorded immediately,
+     * and inputs made after it has ended are rejected.
+     * 
+     * @param type     <code>InputType</code>: The kind of input.
+     * @param playerId <code>long</code>: The ID of the player.
+     * @param x        <code>int</code>: The first integer argument.
+     * @param y        <code>int</code>: The second integer argument.
+     * @param text     <code>String</code>: The string argument.
+     * @return <code>boolean</code>: Whether or not the input was queued, in which
+     *         case the caller must not apply it.
+     */
+    private boolean queue(InputType type, long playerId, int x, int y, String text) {
+
+        JournalEntry.Input input = new JournalEntry.Input(type, playerId, x, y, text);
+        return queue(input, () -> input.apply(this), null);
+    }
+
+    /**
+     * Queues an input to be applied at the start of the next tick of this
+     * <code>World</code> instance, using an action which reports the result of the
+     * input back to the caller through a future. If the host ends before the
+     * input is applied, the future is completed exceptionally instead.
+     * 
+     * @param input  <code>JournalEntry.Input</code>: The input, as it is recorded.
+     * @param action <code>Runnable</code>: The action which applies the input.
+     * @param result <code>CompletableFuture&lt;?&gt;</code>: The future which the
+     *               action completes, or <code>null</code> if the caller does not
+     *               wait on the input.
+     * @return <code>boolean</code>: Whether or not the input was queued or
+     *         rejected, in which case the caller must not apply it.
+     */
+    private boolean queue(JournalEntry.Input input, Runnable action, CompletableFuture<?> result) {
+
+        // Inputs made by a location during its turn are caused by the tick, but may
+        // reach beyond the location, so they are posted rather than applied.
+        GlobalLocationInstance actor = GlobalLocationInstance.getActor();
+        if (actor != null) {
+
+            actor.post(_ -> action.run());
+            return true;
+        }
+
+        if (Thread.currentThread() == tickThread) {
+
+            return false;
+        }
+        if (active || ended) {
+
+            QueuedInput queued = new QueuedInput(input, action, result);
+            synchronized (INPUT_LOCK) {
+
+                if (active) {
+
+                    inputs.add(queued);
+                    return true;
+                }
+            }
+
+            queued.reject();
+            return true;
+        }
+
+        InputJournal currentJournal = journal;
+        if (currentJournal != null) {
+
+            currentJournal.input(input);
+        }
+
+        return false;
+    }
+
+    /**
+     * Applies every queued input of this <code>World</code> instance. Each input
+     * is recorded as it is applied, so the journal holds the inputs of a tick in
+     * the order the host applied them. This must be called from the tick thread.
+     * 
+     * @param currentJournal <code>InputJournal</code>: The journal to record to,
+     *                       or <code>null</code> if inputs are not being
+     *                       recorded.
+     */
+    private void drainInputs(InputJournal currentJournal) {
+
+        QueuedInput queued;
+        while ((queued = inputs.poll()) != null) {
+
+            if (currentJournal != null) {
+
+                currentJournal.input(queued.input());
+            }
+
+            queued.action().run();
+        }
     }
 
-    private boolean active = false;
+    private volatile boolean active = false;
+
+    /**
+     * <code>boolean</code>: Whether or not the host of this <code>World</code>
+     * instance has ended, after which inputs are rejected rather than applied.
+     */
+    private volatile boolean ended = false;
 
     private Thread host = null;
 
-    public final synchronized void startHost() {
+    /**
+     * <code>long</code>: The number of ticks which have been run by the host of
+     * this <code>World</code> instance.
+     */
+    private long ticks = 0;
+
+    /**
+     * Retrieves the number of ticks which have been run by the host of this
+     * <code>World</code> instance.
+     * 
+     * @return <code>long</code>: The <code>ticks</code> field of this
+     *         <code>World</code> instance.
+     */
+    public final synchronized long getTicks() {
+
+        return ticks;
+    }
+
+    /**
+     * <code>Thread</code>: The thread which is currently running a tick, or
+     * <code>null</code> if no tick is running. Inputs made by this thread are
+     * caused by the tick itself, so they are applied immediately and not
+     * journaled.
+     */
+    private volatile Thread tickThread = null;
+
+    public final void startHost() {
+
+        startHost(true);
+    }
+
+    /**
+     * Starts the host of this <code>World</code> instance.
+     * 
+     * @param threaded <code>boolean</code>: Whether the host should run ticks on
+     *                 its own thread at the simulation rate, or whether ticks will
+     *                 be run by calling the <code>step</code> method.
+     */
+    public final synchronized void startHost(boolean threaded) {
 
-        timeOfCreation = System.currentTimeMillis();
+        timeOfCreation = clock.millis();
+        ended = false;
         active = true;
 
-        host = new Thread(this::host);
-        host.start();
+        MetricsRegistry metrics = MetricsRegistry.getRegistry();
+        metrics.gauge("world.players", () -> players.size());
+        metrics.gauge("world.locations", () -> locations.size());
+
+        if (threaded) {
+
+            host = new Thread(this::host);
+            host.start();
+        }
     }
 
+    /**
+     * Ends the host of this <code>World</code> instance. Inputs which are still
+     * queued are never applied, so they are rejected, as is every input made
+     * afterward.
+     */
     public final synchronized void endHost() {
 
-        active = false;
+        synchronized (INPUT_LOCK) {
+
+            active = false;
+            ended = true;
+        }
+
         host = null;
+
+        QueuedInput queued;
+        while ((queued = inputs.poll()) != null) {
+
+            queued.reject();
+        }
     }
 
-    private void host() {
+    /**
+     * Runs a single tick of a host which was started without its own thread. Only
+     * the generated areas of the listed locations are applied, once they have
+     * finished generating, so that a replay applies areas on the same ticks as
+     * the session it was recorded from.
+     * 
+     * @param applied <code>List&lt;String&gt;</code>: The keys of the locations
+     *                whose generated areas to apply this tick.
+     */
+    public final synchronized void step(List<String> applied) {
+
+        if (!active || host != null) {
 
-        int frame = 0;
+            throw new IllegalStateException("The world host is not being stepped manually.");
+        }
+
+        tick(System.nanoTime(), applied);
+    }
+
+    private void host() {
 
         while (true) {
 
             long start = System.nanoTime();
-            long startMs = System.currentTimeMillis();
 
+            // The monitor is held for the whole tick so that the journal is never
+            // started or ended part way through a tick, and so that the host cannot
+            // be ended or stepped while a tick is running.
             synchronized (this) {
 
                 if (!active) {
@@ -942,91 +1816,242 @@ public final class World extends PropertyHolder {
                     break;
                 }
 
-                long time = System.currentTimeMillis();
-                double runtime = getRuntimeSeconds();
+                tick(start, null);
+            }
 
-                ZonedDateTime now = ZonedDateTime.now();
+            if (simulationRate > 0 && System.nanoTime() - start > tickNs) {
 
-                List<String> expiredLocations = locations.entrySet().stream()
-                        .filter(entry -> entry.getValue().expired(now)).map(Map.Entry::getKey).toList();
-                locations.keySet().removeAll(expiredLocations);
+                TICK_OVERRUNS.increment();
+            }
 
-                List<String> newLocations = queuedLocations.stream().filter(
-                        location -> !now.isBefore(locationSchemas.get(location).getDuration().getStartTimestamp()))
-                        .toList();
-                queuedLocations.removeAll(newLocations);
+            synchronized (FRAMERATE_LOCK) {
 
-                for (String location : newLocations) {
+                if (simulationRate > 0) {
 
-                    GlobalLocationSchema schema = locationSchemas.get(location);
-                    GlobalLocationInstance instance = new GlobalLocationInstance(schema, this);
-                    locations.put(location, instance);
+                    while (tickNs + start - System.nanoTime() > 0) {
+                    }
                 }
+            }
+        }
+    }
 
-                // Retrieve the active locations.
-                Set<String> activeLocations = players.values().stream().map(Player::getLocation)
-                        .collect(Collectors.toSet());
+    /**
+     * Takes the turns of a set of locations, running them in parallel on the
+     * location pool when there is more than one, and waits for every turn to end.
+     * 
+     * @param actors  <code>List&lt;GlobalLocationInstance&gt;</code>: The
+     *                locations whose turns to take.
+     * @param runtime <code>double</code>: The current time in seconds.
+     */
+    private void takeTurns(List<GlobalLocationInstance> actors, double runtime) {
 
-                // Update the active locations.
-                for (String location : activeLocations) {
+        if (actors.size() < 2 || LOCATION_THREADS < 2) {
 
-                    locations.get(location).update(runtime);
-                }
+            for (GlobalLocationInstance actor : actors) {
+
+                takeTurn(actor, runtime);
+            }
+
+            return;
+        }
+
+        ArrayList<Future<?>> turns = new ArrayList<>(actors.size());
+        for (GlobalLocationInstance actor : actors) {
+
+            turns.add(locationExecutor.submit(() -> takeTurn(actor, runtime)));
+        }
+
+        for (Future<?> turn : turns) {
+
+            try {
+
+                turn.get();
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+
+                System.out.println(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Takes the turn of a single location.
+     * 
+     * @param actor   <code>GlobalLocationInstance</code>: The location whose turn
+     *                to take.
+     * @param runtime <code>double</code>: The current time in seconds.
+     */
+    private static void takeTurn(GlobalLocationInstance actor, double runtime) {
+
+        LocationUpdateEvent updateEvent = new LocationUpdateEvent();
+        updateEvent.begin();
+
+        actor.turn(runtime);
+
+        updateEvent.commit(actor.getKey(), actor.getPlayerCount());
+    }
+
+    /**
+     * Runs a single tick of this <code>World</code> instance. This must be called
+     * while holding the monitor of this <code>World</code> instance, which guards
+     * the journal, the host state and the tick count. Recording a journal ends
+     * with a checksum of the whole world, and a replay steps the host between
+     * ticks, so neither may happen while a tick is running. Input threads never
+     * take the monitor, as their inputs are queued rather than applied.
+     * 
+     * @param start   <code>long</code>: The time, in nanoseconds, at which the
+     *                tick started.
+     * @param applied <code>List&lt;String&gt;</code>: The keys of the locations
+     *                whose generated areas to apply, or <code>null</code> to
+     *                apply every location which has finished generating.
+     */
+    private void tick(long start, List<String> applied) {
+
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        tickThread = Thread.currentThread();
+        try {
+
+            clock.tick();
+
+            InputJournal currentJournal = journal;
+            if (currentJournal != null) {
+
+                currentJournal.tick(clock.millis());
+            }
 
-                // Update the UIs and recompute interacts.
-                for (Player player : players.values()) {
+            // Apply the inputs which arrived since the previous tick, after which the
+            // players are fixed for the rest of the tick.
+            drainInputs(currentJournal);
+            PlayerRegistry.Snapshot tickPlayers = players.snapshot();
 
-                    String playerLocation = player.getLocation();
-                    boolean inLocation = !player.onGlobalMap() && locations.containsKey(playerLocation);
+            double runtime = getRuntimeSeconds();
 
-                    if (inLocation) {
+            // Start, expire and reset any locations whose timers are due.
+            timers.advance(clock.millis());
 
-                        GlobalLocationInstance location = locations.get(playerLocation);
-                        AreaGrid area = location.getArea(player);
+            // Locations are only started and expired by timers, so the locations are
+            // fixed for the rest of the tick.
+            ImmutableMap<String, GlobalLocationInstance> tickLocations = locations;
 
-                        player.setInteraction(area.getNearestInteraction(player, time));
-                    } else {
+            // Apply any areas which have finished generating since the previous tick.
+            if (applied == null) {
 
-                        player.setInteraction(null);
+                for (GlobalLocationInstance location : tickLocations.values()) {
+
+                    if (location.poll() && currentJournal != null) {
+
+                        currentJournal.areasApplied(location.getKey());
                     }
+                }
+            } else {
+
+                for (String location : applied) {
 
-                    player.update(runtime);
+                    GlobalLocationInstance locationInstance = tickLocations.get(location);
+                    if (locationInstance != null) {
+
+                        locationInstance.awaitGeneration();
+                        locationInstance.poll();
+                    }
                 }
             }
 
-            synchronized (FRAMERATE_LOCK) {
+            long phase = TICK_EXPIRY.recordSince(start);
 
-                if (simulationRate > 0) {
+            // Retrieve the active locations in key order so that the messages they post
+            // are delivered in the same order every run.
+            TreeSet<String> activeLocations = new TreeSet<>();
+            for (Player player : tickPlayers) {
 
-                    while (tickNs + start - System.nanoTime() > 0) {
-                    }
+                String location = player.getLocation();
+                if (location != null) {
+
+                    activeLocations.add(location);
                 }
             }
 
-            // System.out.println("Frame " + frame++ + " : " + (System.currentTimeMillis() -
-            // startMs) + "ms");
-        }
-    }
+            List<GlobalLocationInstance> actors = activeLocations.stream().map(tickLocations::get)
+                    .filter(Objects::nonNull).toList();
 
-    public static final class StopWatch {
+            // Each location takes its turn in parallel, and then the messages posted
+            // during the turns are delivered while no location is running.
+            takeTurns(actors, runtime);
+            for (GlobalLocationInstance actor : actors) {
 
-        private long start = -1;
+                actor.deliver();
+            }
 
-        public final void start() {
+            phase = TICK_LOCATIONS.recordSince(phase);
 
-            start = System.currentTimeMillis();
-        }
+            // The interaction scan and UI update alternate per player, so each is
+            // accumulated and recorded once per tick.
+            long interactionNanos = 0;
+            long uiNanos = 0;
 
-        public final void stop(Object message) {
+            // Update the UIs and recompute interacts.
+            for (Player player : tickPlayers) {
 
-            if (start == -1) {
+                String playerLocation = player.getLocation();
+                boolean inLocation = !player.onGlobalMap() && tickLocations.containsKey(playerLocation);
 
-                return;
+                if (inLocation) {
+
+                    GlobalLocationInstance location = tickLocations.get(playerLocation);
+                    AreaGrid area = location.getArea(player);
+
+                    // Players who are still loading have no area to interact with.
+                    player.setInteraction(area == null ? null : area.getNearestInteraction(player));
+                } else {
+
+                    player.getInteractionCandidates().clear();
+                    player.setInteraction(null);
+                }
+
+                long scanned = System.nanoTime();
+                interactionNanos += scanned - phase;
+
+                player.update(runtime);
+
+                phase = System.nanoTime();
+                uiNanos += phase - scanned;
+            }
+
+            TICK_INTERACTIONS.record(interactionNanos);
+            TICK_UI.record(uiNanos);
+
+            // Publish what each rendered player can see now that the tick is complete.
+            long published = System.nanoTime();
+            for (Player player : tickPlayers) {
+
+                if (!player.isRendered()) {
+
+                    continue;
+                }
+
+                GlobalLocationInstance location = player.onGlobalMap() ? null
+                        : tickLocations.get(player.getLocation());
+                RenderBuffer polygons = location == null ? new RenderBuffer() : location.getPolygons(player);
+
+                player.getRenderSnapshots().publish(new RenderSnapshot(ticks, published, polygons));
             }
 
-            long end = System.currentTimeMillis();
-            System.out.println(message + " : " + (end - start));
-            start = -1;
+            if (currentJournal != null && ticks % CHECKSUM_INTERVAL == 0) {
+
+                currentJournal.checksum(getChecksum());
+            }
+        } finally {
+
+            tickThread = null;
         }
+
+        tickEvent.commit(ticks++, players.size(), locations.size());
+
+        long tickNanos = System.nanoTime() - start;
+        tickStats.record(tickNanos);
+        TICK_TOTAL.record(tickNanos);
     }
 }
@@ -0,0 +1,277 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.transcendruins.packs.content.ContentPack;
+
+/**
+ * <code>InputJournal</code>: A class which records the seed, pack hashes, tick
+ * times and player inputs of a world to a compact binary journal, so that the
+ * session can be replayed exactly. Entries are written in the order they occur,
+ * so every input is tagged by the tick it followed.
+ */
+public final class InputJournal implements AutoCloseable {
+
+    /**
+     * <code>PackHash</code>: A record representing the content hash of a pack
+     * which a journal was recorded with.
+     *
+     * @param pack <code>String</code>: The identifier of the pack.
+     * @param hash <code>String</code>: The hash of the files of the pack.
+     */
+    public static final record PackHash(String pack, String hash) {
+    }
+
+    /**
+     * <code>DataOutputStream</code>: The stream which entries are written to.
+     */
+    private final DataOutputStream out;
+
+    /**
+     * <code>long</code>: The time of the world clock at the previous tick, which
+     * tick times are written relative to.
+     */
+    private long previousMillis;
+
+    /**
+     * <code>boolean</code>: Whether or not this <code>InputJournal</code> instance
+     * has been closed.
+     */
+    private boolean closed = false;
+
+    /**
+     * Creates a new instance of the <code>InputJournal</code> class and writes the
+     * journal header.
+     * 
+     * @param file              <code>Path</code>: The file to write to.
+     * @param seed              <code>long</code>: The seed of the world.
+     * @param originEpochMillis <code>long</code>: The wall-clock time at which the
+     *                          world clock read <code>0</code>.
+     * @param startMillis       <code>long</code>: The time of the world clock when
+     *                          recording started.
+     * @param packs             <code>List&lt;PackHash&gt;</code>: The hashes of
+     *                          the packs of the world.
+     * @throws IOException Thrown if the file could not be written to.
+     */
+    public InputJournal(Path file, long seed, long originEpochMillis, long startMillis, List<PackHash> packs)
+            throws IOException {
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+
+            Files.createDirectories(parent);
+        }
+
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+
+        out.writeInt(JournalFormat.MAGIC);
+        out.writeLong(seed);
+        out.writeLong(originEpochMillis);
+        out.writeLong(startMillis);
+
+        JournalFormat.writeVarLong(out, packs.size());
+        for (PackHash pack : packs) {
+
+            JournalFormat.writeString(out, pack.pack());
+            JournalFormat.writeString(out, pack.hash());
+        }
+
+        previousMillis = startMillis;
+    }
+
+    /**
+     * Records the start of a tick.
+     * 
+     * @param millis <code>long</code>: The time of the world clock at the start of
+     *               the tick.
+     */
+    public final synchronized void tick(long millis) {
+
+        write(() -> {
+
+            out.writeByte(JournalFormat.TICK);
+            JournalFormat.writeVarLong(out, millis - previousMillis);
+            previousMillis = millis;
+        });
+    }
+
+    /**
+     * Records the generated areas of a location being applied.
+     * 
+     * @param location <code>String</code>: The key of the location.
+     */
+    public final synchronized void areasApplied(String location) {
+
+        write(() -> {
+
+            out.writeByte(JournalFormat.AREAS_APPLIED);
+            JournalFormat.writeString(out, location);
+        });
+    }
+
+    /**
+     * Records a player input.
+     * 
+     * @param input <code>JournalEntry.Input</code>: The input to record.
+     */
+    public final synchronized void input(JournalEntry.Input input) {
+
+        write(() -> {
+
+            InputType type = input.type();
+
+            out.writeByte(JournalFormat.INPUT);
+            out.writeByte(type.ordinal());
+            JournalFormat.writeVarLong(out, input.playerId());
+
+            if (type.getArguments() > 0) {
+
+                JournalFormat.writeVarLong(out, input.x());
+            }
+
+            if (type.getArguments() > 1) {
+
+                JournalFormat.writeVarLong(out, input.y());
+            }
+
+            if (type.hasText()) {
+
+                JournalFormat.writeString(out, input.text());
+            }
+        });
+    }
+
+    /**
+     * Records the checksum of the simulation state at the end of a tick. The
+     * host only records a checksum every few ticks, so a replay can only narrow a
+     * divergence down to the interval between them.
+     * 
+     * @param checksum <code>long</code>: The checksum of the world.
+     */
+    public final synchronized void checksum(long checksum) {
+
+        write(() -> {
+
+            out.writeByte(JournalFormat.CHECKSUM);
+            out.writeLong(checksum);
+        });
+    }
+
+    /**
+     * Records the end of the journal and closes it.
+     * 
+     * @param ticks       <code>long</code>: The number of ticks which were run.
+     * @param randomState <code>long</code>: The combined state of the random
+     *                    number generators of the world and its locations.
+     * @param checksum    <code>long</code>: The checksum of the world.
+     */
+    public final synchronized void end(long ticks, long randomState, long checksum) {
+
+        write(() -> {
+
+            out.writeByte(JournalFormat.END);
+            JournalFormat.writeVarLong(out, ticks);
+            out.writeLong(randomState);
+            out.writeLong(checksum);
+        });
+
+        close();
+    }
+
+    @Override
+    public final synchronized void close() {
+
+        if (closed) {
+
+            return;
+        }
+
+        closed = true;
+        try {
+
+            out.close();
+        } catch (IOException e) {
+
+            System.out.println(e);
+        }
+    }
+
+    /**
+     * <code>EntryWriter</code>: An interface representing the encoding of a
+     * single entry.
+     */
+    @FunctionalInterface
+    private static interface EntryWriter {
+
+        /**
+         * Writes the entry.
+         * 
+         * @throws IOException Thrown if the entry could not be written.
+         */
+        void write() throws IOException;
+    }
+
+    /**
+     * Writes an entry unless this <code>InputJournal</code> instance has been
+     * closed. A journal which fails to write is closed rather than interrupting
+     * the world.
+     * 
+     * @param entry <code>EntryWriter</code>: The entry to write.
+     */
+    private void write(EntryWriter entry) {
+
+        if (closed) {
+
+            return;
+        }
+
+        try {
+
+            entry.write();
+        } catch (IOException e) {
+
+            System.out.println(e);
+            close();
+        }
+    }
+
+    /**
+     * Retrieves the content hashes of a set of packs, so that a replay can verify
+     * it is running against the same content.
+     * 
+     * @param packs <code>List&lt;ContentPack&gt;</code>: The packs to hash.
+     * @return <code>List&lt;PackHash&gt;</code>: The hash of each pack, in order.
+     */
+    public static List<PackHash> hashPacks(List<ContentPack> packs) {
+
+        ArrayList<PackHash> hashes = new ArrayList<>();
+        for (ContentPack pack : packs) {
+
+            hashes.add(new PackHash(pack.getIdentifier().toString(), pack.getContentHash()));
+        }
+
+        return hashes;
+    }
+}
@@ -0,0 +1,149 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+/**
+ * <code>InputType</code>: An enum class representing the kinds of player input
+ * which can be recorded to an input journal.
+ */
+public enum InputType {
+
+    /**
+     * <code>InputType</code>: Adds a player to a location of the world.
+     */
+    ADD_PLAYER(0, true),
+
+    /**
+     * <code>InputType</code>: Travels a player to a location.
+     */
+    TRAVEL(0, true),
+
+    /**
+     * <code>InputType</code>: Enters a player into their current location.
+     */
+    ENTER_LOCATION(0, false),
+
+    /**
+     * <code>InputType</code>: Exits a player to the global map.
+     */
+    EXIT_LOCATION(0, false),
+
+    /**
+     * <code>InputType</code>: Resizes the screen of a player.
+     */
+    SCREEN_SIZE(2, false),
+
+    /**
+     * <code>InputType</code>: Moves the mouse of a player.
+     */
+    MOUSE_POSITION(2, false),
+
+    /**
+     * <code>InputType</code>: Presses or releases the mouse of a player.
+     */
+    MOUSE_PRESS(1, false),
+
+    /**
+     * <code>InputType</code>: Scrolls the mouse of a player.
+     */
+    MOUSE_SCROLL(2, false),
+
+    /**
+     * <code>InputType</code>: Opens a menu for a player.
+     */
+    OPEN_MENU(0, true),
+
+    /**
+     * <code>InputType</code>: Closes the menu of a player.
+     */
+    CLOSE_MENU(0, false),
+
+    /**
+     * <code>InputType</code>: Opens the inventory of a player.
+     */
+    OPEN_INVENTORY(0, false),
+
+    /**
+     * <code>InputType</code>: Interacts with the nearest interaction of a player.
+     */
+    INTERACT(0, false),
+
+    /**
+     * <code>InputType</code>: Starts or stops the attack of a player.
+     */
+    ATTACK(1, false),
+
+    /**
+     * <code>InputType</code>: Starts generating a location in anticipation of a
+     * player entering it.
+     */
+    PREFETCH_LOCATION(0, true),
+
+    /**
+     * <code>InputType</code>: Cancels the background generation of a location.
+     */
+    CANCEL_PREFETCH(0, true);
+
+    /**
+     * <code>int</code>: The number of integer arguments of this
+     * <code>InputType</code> instance.
+     */
+    private final int arguments;
+
+    /**
+     * Retrieves the number of integer arguments of this <code>InputType</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The <code>arguments</code> field of this
+     *         <code>InputType</code> instance.
+     */
+    public final int getArguments() {
+
+        return arguments;
+    }
+
+    /**
+     * <code>boolean</code>: Whether or not this <code>InputType</code> instance
+     * carries a string argument.
+     */
+    private final boolean text;
+
+    /**
+     * Retrieves whether or not this <code>InputType</code> instance carries a
+     * string argument.
+     * 
+     * @return <code>boolean</code>: The <code>text</code> field of this
+     *         <code>InputType</code> instance.
+     */
+    public final boolean hasText() {
+
+        return text;
+    }
+
+    /**
+     * Creates a new instance of the <code>InputType</code> class.
+     * 
+     * @param arguments <code>int</code>: The number of integer arguments.
+     * @param text      <code>boolean</code>: Whether or not a string argument is
+     *                  carried.
+     */
+    private InputType(int arguments, boolean text) {
+
+        this.arguments = arguments;
+        this.text = text;
+    }
+}
@@ -0,0 +1,123 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+import com.transcendruins.world.World;
+
+/**
+ * <code>JournalEntry</code>: An interface representing a single entry of an
+ * input journal.
+ */
+public sealed interface JournalEntry {
+
+    /**
+     * <code>Tick</code>: A record representing the start of a tick of the host.
+     *
+     * @param millis <code>long</code>: The time of the world clock at the start
+     *               of the tick.
+     */
+    public static final record Tick(long millis) implements JournalEntry {
+    }
+
+    /**
+     * <code>AreasApplied</code>: A record representing the generated areas of a
+     * location being applied during a tick.
+     *
+     * @param location <code>String</code>: The key of the location.
+     */
+    public static final record AreasApplied(String location) implements JournalEntry {
+    }
+
+    /**
+     * <code>Input</code>: A record representing a single player input.
+     *
+     * @param type     <code>InputType</code>: The kind of input.
+     * @param playerId <code>long</code>: The ID of the player.
+     * @param x        <code>int</code>: The first integer argument, or
+     *                 <code>0</code> if unused.
+     * @param y        <code>int</code>: The second integer argument, or
+     *                 <code>0</code> if unused.
+     * @param text     <code>String</code>: The string argument, or
+     *                 <code>null</code> if unused.
+     */
+    public static final record Input(InputType type, long playerId, int x, int y, String text)
+            implements JournalEntry {
+
+        /**
+         * Applies this <code>Input</code> instance to a world.
+         * 
+         * @param world <code>World</code>: The world to apply to.
+         */
+        public final void apply(World world) {
+
+            switch (type) {
+
+            case ADD_PLAYER -> world.addPlayer(playerId, text);
+
+            case TRAVEL -> world.travel(playerId, text);
+
+            case ENTER_LOCATION -> world.enterLocation(playerId);
+
+            case EXIT_LOCATION -> world.exitLocation(playerId);
+
+            case SCREEN_SIZE -> world.setScreenSize(playerId, x, y);
+
+            case MOUSE_POSITION -> world.setMousePosition(playerId, x, y);
+
+            case MOUSE_PRESS -> world.setMousePress(playerId, x != 0);
+
+            case MOUSE_SCROLL -> world.mouseScroll(playerId, x, y);
+
+            case OPEN_MENU -> world.openMenu(playerId, text);
+
+            case CLOSE_MENU -> world.closeMenu(playerId);
+
+            case OPEN_INVENTORY -> world.openInventory(playerId);
+
+            case INTERACT -> world.interact(playerId);
+
+            case ATTACK -> world.attack(playerId, x != 0);
+
+            case PREFETCH_LOCATION -> world.prefetchLocation(text);
+
+            case CANCEL_PREFETCH -> world.cancelPrefetch(text);
+            }
+        }
+    }
+
+    /**
+     * <code>Checksum</code>: A record representing the checksum of the simulation
+     * state at the end of a tick of the host. Checksums are only recorded every
+     * few ticks, at the interval the host was configured with.
+     *
+     * @param checksum <code>long</code>: The checksum of the world.
+     */
+    public static final record Checksum(long checksum) implements JournalEntry {
+    }
+
+    /**
+     * <code>End</code>: A record representing the end of a journal, alongside a
+     * fingerprint of the state of the world which a replay should reproduce.
+     *
+     * @param ticks       <code>long</code>: The number of ticks which were run.
+     * @param randomState <code>long</code>: The combined state of the random
+     *                    number generators of the world and its locations.
+     * @param checksum    <code>long</code>: The checksum of the world.
+     */
+    public static final record End(long ticks, long randomState, long checksum) implements JournalEntry {
+    }
+}
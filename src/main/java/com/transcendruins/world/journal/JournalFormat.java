@@ -0,0 +1,152 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <code>JournalFormat</code>: A class containing the constants and primitive
+ * encodings of the binary input journal format. Integers are written as
+ * variable-length zig-zag values, since most of them are small deltas.
+ */
+final class JournalFormat {
+
+    /**
+     * <code>int</code>: The magic number which every journal begins with. Its
+     * last byte is the format version, so journals of older versions are
+     * rejected.
+     */
+    static final int MAGIC = 0x54524A32;
+
+    /**
+     * <code>byte</code>: The opcode of a <code>Tick</code> entry.
+     */
+    static final byte TICK = 0;
+
+    /**
+     * <code>byte</code>: The opcode of an <code>AreasApplied</code> entry.
+     */
+    static final byte AREAS_APPLIED = 1;
+
+    /**
+     * <code>byte</code>: The opcode of an <code>Input</code> entry.
+     */
+    static final byte INPUT = 2;
+
+    /**
+     * <code>byte</code>: The opcode of an <code>End</code> entry.
+     */
+    static final byte END = 3;
+
+    /**
+     * <code>byte</code>: The opcode of a <code>Checksum</code> entry.
+     */
+    static final byte CHECKSUM = 4;
+
+    /**
+     * Writes a variable-length signed integer.
+     * 
+     * @param out   <code>DataOutput</code>: The output to write to.
+     * @param value <code>long</code>: The value to write.
+     * @throws IOException Thrown if the output could not be written to.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+
+        out.writeByte((int) zigZag);
+    }
+
+    /**
+     * Reads a variable-length signed integer.
+     * 
+     * @param in <code>DataInput</code>: The input to read from.
+     * @return <code>long</code>: The read value.
+     * @throws IOException Thrown if the input could not be read from.
+     */
+    static long readVarLong(DataInput in) throws IOException {
+
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+
+            int b = in.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+
+        throw new IOException("Malformed variable-length integer.");
+    }
+
+    /**
+     * Writes a string which may be <code>null</code>.
+     * 
+     * @param out   <code>DataOutput</code>: The output to write to.
+     * @param value <code>String</code>: The value to write.
+     * @throws IOException Thrown if the output could not be written to.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+
+        if (value == null) {
+
+            writeVarLong(out, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string which may be <code>null</code>.
+     * 
+     * @param in <code>DataInput</code>: The input to read from.
+     * @return <code>String</code>: The read value.
+     * @throws IOException Thrown if the input could not be read from.
+     */
+    static String readString(DataInput in) throws IOException {
+
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+
+            return null;
+        }
+
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Prevents the <code>JournalFormat</code> class from being instantiated.
+     */
+    private JournalFormat() {
+    }
+}
@@ -0,0 +1,201 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.transcendruins.world.journal.InputJournal.PackHash;
+
+/**
+ * <code>JournalReader</code>: A class which reads the entries of an input
+ * journal in the order they were recorded.
+ */
+public final class JournalReader implements AutoCloseable {
+
+    /**
+     * <code>DataInputStream</code>: The stream which entries are read from.
+     */
+    private final DataInputStream in;
+
+    /**
+     * <code>long</code>: The seed of the recorded world.
+     */
+    private final long seed;
+
+    /**
+     * Retrieves the seed of the recorded world.
+     * 
+     * @return <code>long</code>: The <code>seed</code> field of this
+     *         <code>JournalReader</code> instance.
+     */
+    public final long getSeed() {
+
+        return seed;
+    }
+
+    /**
+     * <code>long</code>: The wall-clock time at which the clock of the recorded
+     * world read <code>0</code>.
+     */
+    private final long originEpochMillis;
+
+    /**
+     * Retrieves the wall-clock time at which the clock of the recorded world read
+     * <code>0</code>.
+     * 
+     * @return <code>long</code>: The <code>originEpochMillis</code> field of this
+     *         <code>JournalReader</code> instance.
+     */
+    public final long getOriginEpochMillis() {
+
+        return originEpochMillis;
+    }
+
+    /**
+     * <code>long</code>: The time of the world clock when recording started.
+     */
+    private final long startMillis;
+
+    /**
+     * Retrieves the time of the world clock when recording started.
+     * 
+     * @return <code>long</code>: The <code>startMillis</code> field of this
+     *         <code>JournalReader</code> instance.
+     */
+    public final long getStartMillis() {
+
+        return startMillis;
+    }
+
+    /**
+     * <code>List&lt;PackHash&gt;</code>: The hashes of the packs of the recorded
+     * world.
+     */
+    private final List<PackHash> packs;
+
+    /**
+     * Retrieves the hashes of the packs of the recorded world.
+     * 
+     * @return <code>List&lt;PackHash&gt;</code>: The <code>packs</code> field of
+     *         this <code>JournalReader</code> instance.
+     */
+    public final List<PackHash> getPacks() {
+
+        return packs;
+    }
+
+    /**
+     * <code>long</code>: The time of the world clock at the most recently read
+     * tick.
+     */
+    private long previousMillis;
+
+    /**
+     * Creates a new instance of the <code>JournalReader</code> class and reads the
+     * journal header.
+     * 
+     * @param file <code>Path</code>: The journal to read.
+     * @throws IOException Thrown if the file could not be read or is not a
+     *                     journal.
+     */
+    public JournalReader(Path file) throws IOException {
+
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+
+        if (in.readInt() != JournalFormat.MAGIC) {
+
+            in.close();
+            throw new IOException(file + " is not an input journal.");
+        }
+
+        seed = in.readLong();
+        originEpochMillis = in.readLong();
+        startMillis = in.readLong();
+
+        int packCount = (int) JournalFormat.readVarLong(in);
+        ArrayList<PackHash> packList = new ArrayList<>(packCount);
+        for (int i = 0; i < packCount; i++) {
+
+            packList.add(new PackHash(JournalFormat.readString(in), JournalFormat.readString(in)));
+        }
+
+        packs = List.copyOf(packList);
+        previousMillis = startMillis;
+    }
+
+    /**
+     * Reads the next entry of the journal.
+     * 
+     * @return <code>JournalEntry</code>: The read entry, or <code>null</code> if
+     *         the journal has ended. A journal which was not closed by its
+     *         recorder ends without an <code>End</code> entry.
+     * @throws IOException Thrown if the journal could not be read.
+     */
+    public final JournalEntry next() throws IOException {
+
+        int opcode;
+        try {
+
+            opcode = in.readByte();
+        } catch (EOFException e) {
+
+            return null;
+        }
+
+        return switch (opcode) {
+
+        case JournalFormat.TICK -> {
+
+            previousMillis += JournalFormat.readVarLong(in);
+            yield new JournalEntry.Tick(previousMillis);
+        }
+
+        case JournalFormat.AREAS_APPLIED -> new JournalEntry.AreasApplied(JournalFormat.readString(in));
+
+        case JournalFormat.INPUT -> {
+
+            InputType type = InputType.values()[in.readUnsignedByte()];
+            long playerId = JournalFormat.readVarLong(in);
+
+            int x = type.getArguments() > 0 ? (int) JournalFormat.readVarLong(in) : 0;
+            int y = type.getArguments() > 1 ? (int) JournalFormat.readVarLong(in) : 0;
+            String text = type.hasText() ? JournalFormat.readString(in) : null;
+
+            yield new JournalEntry.Input(type, playerId, x, y, text);
+        }
+
+        case JournalFormat.CHECKSUM -> new JournalEntry.Checksum(in.readLong());
+
+        case JournalFormat.END -> new JournalEntry.End(JournalFormat.readVarLong(in), in.readLong(), in.readLong());
+
+        default -> throw new IOException("Unknown journal entry " + opcode + ".");
+        };
+    }
+
+    @Override
+    public final void close() throws IOException {
+
+        in.close();
+    }
+}
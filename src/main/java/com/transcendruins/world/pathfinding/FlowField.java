@@ -0,0 +1,308 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world.pathfinding;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+
+import com.transcendruins.world.pathfinding.NavigationGrid.Entrance;
+
+/**
+ * <code>FlowField</code>: A class representing the cost of walking from every
+ * tile of an area to a shared goal, along with the direction to walk in. The
+ * cost of each entrance is first planned over the abstract graph of the
+ * navigation grid, and the costs of individual tiles are only computed for the
+ * clusters which are queried, so a field over a large area stays cheap when its
+ * followers are close together.
+ */
+public final class FlowField {
+
+    /**
+     * <code>LocalField</code>: A record representing the tile costs of a single
+     * cluster.
+     * 
+     * @param clusterVersion <code>int</code>: The version of the cluster which the
+     *                       costs were computed against.
+     * @param seeds          <code>int[]</code>: The seed tiles which the costs
+     *                       were computed from.
+     * @param costs          <code>int[]</code>: The cost of each tile in the
+     *                       cluster.
+     */
+    private static final record LocalField(int clusterVersion, int[] seeds, int[] costs) {
+    }
+
+    /**
+     * <code>EntranceStep</code>: A record representing an entrance waiting to be
+     * expanded while planning over the abstract graph.
+     * 
+     * @param entrance <code>Entrance</code>: The entrance to expand.
+     * @param cost     <code>int</code>: The cost of the entrance.
+     */
+    private static final record EntranceStep(Entrance entrance, int cost) {
+    }
+
+    /**
+     * <code>NavigationGrid</code>: The grid which this <code>FlowField</code>
+     * instance covers.
+     */
+    private final NavigationGrid grid;
+
+    /**
+     * <code>int</code>: The X coordinate of the goal tile.
+     */
+    private final int goalX;
+
+    /**
+     * <code>int</code>: The Z coordinate of the goal tile.
+     */
+    private final int goalZ;
+
+    /**
+     * <code>int</code>: The version of the grid which this <code>FlowField</code>
+     * instance was last planned against.
+     */
+    private int version = -1;
+
+    /**
+     * <code>IdentityHashMap&lt;Entrance, Integer&gt;</code>: The cost of walking
+     * from each reachable entrance to the goal.
+     */
+    private final IdentityHashMap<Entrance, Integer> entranceCosts = new IdentityHashMap<>();
+
+    /**
+     * <code>LocalField[]</code>: The tile costs of each cluster, or
+     * <code>null</code> for clusters which have not been queried.
+     */
+    private final LocalField[] local;
+
+    /**
+     * Creates a new instance of the <code>FlowField</code> class.
+     * 
+     * @param grid  <code>NavigationGrid</code>: The grid to cover.
+     * @param goalX <code>int</code>: The X coordinate of the goal tile.
+     * @param goalZ <code>int</code>: The Z coordinate of the goal tile.
+     */
+    FlowField(NavigationGrid grid, int goalX, int goalZ) {
+
+        this.grid = grid;
+        this.goalX = goalX;
+        this.goalZ = goalZ;
+
+        local = new LocalField[grid.getClusters()];
+    }
+
+    /**
+     * Replans this <code>FlowField</code> instance if the abstract graph of the
+     * grid has been rebuilt. Clusters whose walkability and seeds are unchanged
+     * keep their tile costs.
+     */
+    final void update() {
+
+        if (version == grid.getVersion()) {
+
+            return;
+        }
+
+        version = grid.getVersion();
+        plan();
+
+        for (int cluster = 0; cluster < local.length; cluster++) {
+
+            LocalField field = local[cluster];
+            if (field != null && (field.clusterVersion() != grid.getClusterVersion(cluster)
+                    || !Arrays.equals(field.seeds(), getSeeds(cluster)))) {
+
+                local[cluster] = null;
+            }
+        }
+    }
+
+    /**
+     * Plans the cost of every entrance of the grid to the goal over the abstract
+     * graph, starting from the entrances of the cluster containing the goal.
+     */
+    private void plan() {
+
+        entranceCosts.clear();
+
+        if (!grid.isWalkable(goalX, goalZ)) {
+
+            return;
+        }
+
+        int goalCluster = grid.getCluster(goalX, goalZ);
+        int[] goalCosts = grid.integrate(goalCluster, new int[] { goalX, goalZ, 0 });
+
+        int clusterX = grid.getClusterX(goalCluster);
+        int clusterZ = grid.getClusterZ(goalCluster);
+        int clusterWidth = grid.getClusterWidth(goalCluster);
+
+        PriorityQueue<EntranceStep> frontier = new PriorityQueue<>(
+                (a, b) -> Integer.compare(a.cost(), b.cost()));
+        for (Entrance entrance : grid.getEntrances(goalCluster)) {
+
+            int cost = goalCosts[(entrance.x - clusterX) + (entrance.z - clusterZ) * clusterWidth];
+            if (cost != NavigationGrid.UNREACHABLE) {
+
+                frontier.add(new EntranceStep(entrance, cost));
+            }
+        }
+
+        while (!frontier.isEmpty()) {
+
+            EntranceStep step = frontier.poll();
+            Entrance entrance = step.entrance();
+            if (entranceCosts.containsKey(entrance)) {
+
+                continue;
+            }
+
+            entranceCosts.put(entrance, step.cost());
+
+            if (!entranceCosts.containsKey(entrance.partner)) {
+
+                frontier.add(new EntranceStep(entrance.partner, step.cost() + NavigationGrid.STRAIGHT_COST));
+            }
+
+            for (int i = 0; i < entrance.neighbours.length; i++) {
+
+                if (!entranceCosts.containsKey(entrance.neighbours[i])) {
+
+                    frontier.add(new EntranceStep(entrance.neighbours[i], step.cost() + entrance.costs[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the seed tiles of a cluster, which are its reachable entrances and,
+     * if the cluster contains the goal, the goal itself.
+     * 
+     * @param cluster <code>int</code>: The cluster whose seeds to retrieve.
+     * @return <code>int[]</code>: The seed tiles, as consecutive triples of X
+     *         coordinate, Z coordinate, and starting cost.
+     */
+    private int[] getSeeds(int cluster) {
+
+        Entrance[] entrances = grid.getEntrances(cluster);
+        int[] seeds = new int[(entrances.length + 1) * 3];
+        int count = 0;
+
+        if (grid.isWalkable(goalX, goalZ) && grid.getCluster(goalX, goalZ) == cluster) {
+
+            seeds[count++] = goalX;
+            seeds[count++] = goalZ;
+            seeds[count++] = 0;
+        }
+
+        for (Entrance entrance : entrances) {
+
+            Integer cost = entranceCosts.get(entrance);
+            if (cost != null) {
+
+                seeds[count++] = entrance.x;
+                seeds[count++] = entrance.z;
+                seeds[count++] = cost;
+            }
+        }
+
+        return Arrays.copyOf(seeds, count);
+    }
+
+    /**
+     * Retrieves the cost of walking from a tile to the goal of this
+     * <code>FlowField</code> instance.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>int</code>: The cost of the tile, or
+     *         <code>NavigationGrid.UNREACHABLE</code> if the goal cannot be
+     *         reached from it.
+     */
+    public final int getCost(int x, int z) {
+
+        if (!grid.isWalkable(x, z)) {
+
+            return NavigationGrid.UNREACHABLE;
+        }
+
+        int cluster = grid.getCluster(x, z);
+
+        LocalField field = local[cluster];
+        if (field == null) {
+
+            int[] seeds = getSeeds(cluster);
+            field = new LocalField(grid.getClusterVersion(cluster), seeds, grid.integrate(cluster, seeds));
+            local[cluster] = field;
+        }
+
+        return field.costs()[(x - grid.getClusterX(cluster))
+                + (z - grid.getClusterZ(cluster)) * grid.getClusterWidth(cluster)];
+    }
+
+    /**
+     * Determines whether or not the goal of this <code>FlowField</code> instance
+     * can be reached from a tile.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>boolean</code>: Whether or not the goal can be reached.
+     */
+    public final boolean isReachable(int x, int z) {
+
+        return getCost(x, z) != NavigationGrid.UNREACHABLE;
+    }
+
+    /**
+     * Retrieves the next tile to walk to from a tile toward the goal of this
+     * <code>FlowField</code> instance.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>Point</code>: The next tile, or <code>null</code> if the tile
+     *         is the goal or the goal cannot be reached from it.
+     */
+    public final Point getNext(int x, int z) {
+
+        int cost = getCost(x, z);
+        if (cost == 0 || cost == NavigationGrid.UNREACHABLE) {
+
+            return null;
+        }
+
+        Point next = null;
+        for (int[] move : NavigationGrid.MOVES) {
+
+            if (!grid.canMove(x, z, move[0], move[1])) {
+
+                continue;
+            }
+
+            int nextCost = getCost(x + move[0], z + move[1]);
+            if (nextCost < cost) {
+
+                cost = nextCost;
+                next = new Point(x + move[0], z + move[1]);
+            }
+        }
+
+        return next;
+    }
+}
@@ -0,0 +1,735 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.transcendruins.world.AreaGrid;
+import com.transcendruins.world.AreaTile;
+
+/**
+ * <code>NavigationGrid</code>: A class representing the walkability of an area,
+ * divided into square clusters. Adjacent clusters are joined by entrances, and
+ * the entrances of each cluster are linked by the cost of walking between them,
+ * forming an abstract graph which long routes are planned over. Flow fields
+ * toward shared goals are cached, and when the walkability of a tile changes
+ * only its cluster and the entrances bordering it are rebuilt.
+ */
+public final class NavigationGrid {
+
+    /**
+     * <code>int</code>: The width and length, in tiles, of each cluster.
+     */
+    public static final int CLUSTER_SIZE = 16;
+
+    /**
+     * <code>int</code>: The cost of moving to an orthogonally adjacent tile.
+     */
+    public static final int STRAIGHT_COST = 10;
+
+    /**
+     * <code>int</code>: The cost of moving to a diagonally adjacent tile.
+     */
+    public static final int DIAGONAL_COST = 14;
+
+    /**
+     * <code>int</code>: The cost of a tile from which the goal cannot be reached.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * <code>int</code>: The maximum number of flow fields which are cached at
+     * once.
+     */
+    private static final int MAX_FIELDS = 32;
+
+    /**
+     * <code>int[][]</code>: The offsets and costs of the moves from a tile to each
+     * of its neighbours. Orthogonal moves are listed first.
+     */
+    static final int[][] MOVES = { { 1, 0, STRAIGHT_COST }, { -1, 0, STRAIGHT_COST }, { 0, 1, STRAIGHT_COST },
+            { 0, -1, STRAIGHT_COST }, { 1, 1, DIAGONAL_COST }, { 1, -1, DIAGONAL_COST }, { -1, 1, DIAGONAL_COST },
+            { -1, -1, DIAGONAL_COST } };
+
+    /**
+     * <code>Entrance</code>: A class representing a walkable tile on the border of
+     * a cluster which leads into an adjacent cluster.
+     */
+    static final class Entrance {
+
+        /**
+         * <code>int</code>: The X coordinate of the tile of this
+         * <code>Entrance</code> instance.
+         */
+        final int x;
+
+        /**
+         * <code>int</code>: The Z coordinate of the tile of this
+         * <code>Entrance</code> instance.
+         */
+        final int z;
+
+        /**
+         * <code>int</code>: The cluster which this <code>Entrance</code> instance
+         * belongs to.
+         */
+        final int cluster;
+
+        /**
+         * <code>Entrance</code>: The entrance directly across the border from this
+         * <code>Entrance</code> instance.
+         */
+        Entrance partner;
+
+        /**
+         * <code>Entrance[]</code>: The other entrances of the same cluster which can
+         * be reached from this <code>Entrance</code> instance.
+         */
+        Entrance[] neighbours = new Entrance[0];
+
+        /**
+         * <code>int[]</code>: The cost of walking to each of the entrances in the
+         * <code>neighbours</code> field.
+         */
+        int[] costs = new int[0];
+
+        /**
+         * Creates a new instance of the <code>Entrance</code> class.
+         * 
+         * @param x       <code>int</code>: The X coordinate of the tile.
+         * @param z       <code>int</code>: The Z coordinate of the tile.
+         * @param cluster <code>int</code>: The cluster of the tile.
+         */
+        Entrance(int x, int z, int cluster) {
+
+            this.x = x;
+            this.z = z;
+            this.cluster = cluster;
+        }
+    }
+
+    /**
+     * <code>AreaGrid</code>: The area which this <code>NavigationGrid</code>
+     * instance describes.
+     */
+    private final AreaGrid area;
+
+    /**
+     * <code>int</code>: The width, in tiles, of this <code>NavigationGrid</code>
+     * instance.
+     */
+    private final int width;
+
+    /**
+     * Retrieves the width, in tiles, of this <code>NavigationGrid</code> instance.
+     * 
+     * @return <code>int</code>: The <code>width</code> field of this
+     *         <code>NavigationGrid</code> instance.
+     */
+    public final int getWidth() {
+
+        return width;
+    }
+
+    /**
+     * <code>int</code>: The length, in tiles, of this <code>NavigationGrid</code>
+     * instance.
+     */
+    private final int length;
+
+    /**
+     * Retrieves the length, in tiles, of this <code>NavigationGrid</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The <code>length</code> field of this
+     *         <code>NavigationGrid</code> instance.
+     */
+    public final int getLength() {
+
+        return length;
+    }
+
+    /**
+     * <code>int</code>: The number of clusters along the X axis.
+     */
+    private final int clustersX;
+
+    /**
+     * <code>int</code>: The number of clusters along the Z axis.
+     */
+    private final int clustersZ;
+
+    /**
+     * <code>boolean[]</code>: Whether or not each tile can be walked on.
+     */
+    private final boolean[] walkable;
+
+    /**
+     * <code>int[]</code>: The number of times the walkability of each cluster has
+     * changed.
+     */
+    private final int[] clusterVersions;
+
+    /**
+     * <code>ArrayList&lt;ArrayList&lt;Entrance&gt;&gt;</code>: The entrances on
+     * the border between each cluster and the cluster to its positive X side.
+     */
+    private final ArrayList<ArrayList<Entrance>> borderX;
+
+    /**
+     * <code>ArrayList&lt;ArrayList&lt;Entrance&gt;&gt;</code>: The entrances on
+     * the border between each cluster and the cluster to its positive Z side.
+     */
+    private final ArrayList<ArrayList<Entrance>> borderZ;
+
+    /**
+     * <code>Entrance[][]</code>: The entrances belonging to each cluster.
+     */
+    private final Entrance[][] entrances;
+
+    /**
+     * <code>boolean[]</code>: Whether or not the walkability of each cluster has
+     * changed since the abstract graph was last rebuilt.
+     */
+    private final boolean[] dirty;
+
+    /**
+     * <code>boolean</code>: Whether or not any cluster is dirty.
+     */
+    private boolean anyDirty = false;
+
+    /**
+     * <code>int</code>: The number of times the abstract graph of this
+     * <code>NavigationGrid</code> instance has been rebuilt.
+     */
+    private int version = 0;
+
+    /**
+     * <code>LinkedHashMap&lt;Long, FlowField&gt;</code>: The cached flow fields,
+     * keyed by their goal tile, in order of access.
+     */
+    private final LinkedHashMap<Long, FlowField> fields = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, FlowField> eldest) {
+
+            return size() > MAX_FIELDS;
+        }
+    };
+
+    /**
+     * Creates a new instance of the <code>NavigationGrid</code> class from the
+     * tiles of an area.
+     * 
+     * @param area <code>AreaGrid</code>: The area to describe.
+     */
+    public NavigationGrid(AreaGrid area) {
+
+        this.area = area;
+
+        width = area.getWidth();
+        length = area.getLength();
+
+        clustersX = Math.max(1, Math.ceilDiv(width, CLUSTER_SIZE));
+        clustersZ = Math.max(1, Math.ceilDiv(length, CLUSTER_SIZE));
+
+        walkable = new boolean[width * length];
+        for (int z = 0; z < length; z++) {
+
+            for (int x = 0; x < width; x++) {
+
+                walkable[x + z * width] = readTile(x, z);
+            }
+        }
+
+        int clusters = clustersX * clustersZ;
+        clusterVersions = new int[clusters];
+        dirty = new boolean[clusters];
+        entrances = new Entrance[clusters][];
+
+        borderX = new ArrayList<>(clusters);
+        borderZ = new ArrayList<>(clusters);
+        for (int cluster = 0; cluster < clusters; cluster++) {
+
+            borderX.add(buildBorder(cluster, true));
+            borderZ.add(buildBorder(cluster, false));
+        }
+
+        for (int cluster = 0; cluster < clusters; cluster++) {
+
+            linkCluster(cluster);
+        }
+    }
+
+    /**
+     * Reads whether or not a tile of the area can be walked on.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>boolean</code>: Whether or not the tile is empty.
+     */
+    private boolean readTile(int x, int z) {
+
+        AreaTile tile = area.getTile(x, z);
+        return tile != null && tile.isWalkable();
+    }
+
+    /**
+     * Determines whether or not a tile can be walked on.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>boolean</code>: Whether or not the tile is within the bounds
+     *         of this <code>NavigationGrid</code> instance and can be walked on.
+     */
+    public final boolean isWalkable(int x, int z) {
+
+        return 0 <= x && x < width && 0 <= z && z < length && walkable[x + z * width];
+    }
+
+    /**
+     * Re-reads the walkability of a tile after its contents have changed. If the
+     * walkability changed, the cluster of the tile is rebuilt the next time a
+     * flow field is requested.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     */
+    public final void updateTile(int x, int z) {
+
+        if (x < 0 || x >= width || z < 0 || z >= length) {
+
+            return;
+        }
+
+        boolean tileWalkable = readTile(x, z);
+        if (walkable[x + z * width] == tileWalkable) {
+
+            return;
+        }
+
+        walkable[x + z * width] = tileWalkable;
+
+        dirty[getCluster(x, z)] = true;
+        anyDirty = true;
+    }
+
+    /**
+     * Retrieves the number of times the abstract graph of this
+     * <code>NavigationGrid</code> instance has been rebuilt.
+     * 
+     * @return <code>int</code>: The <code>version</code> field of this
+     *         <code>NavigationGrid</code> instance.
+     */
+    final int getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Retrieves the number of times the walkability of a cluster has changed.
+     * 
+     * @param cluster <code>int</code>: The cluster to check.
+     * @return <code>int</code>: The version of the cluster.
+     */
+    final int getClusterVersion(int cluster) {
+
+        return clusterVersions[cluster];
+    }
+
+    /**
+     * Retrieves the number of clusters in this <code>NavigationGrid</code>
+     * instance.
+     * 
+     * @return <code>int</code>: The number of clusters.
+     */
+    final int getClusters() {
+
+        return entrances.length;
+    }
+
+    /**
+     * Retrieves the entrances belonging to a cluster.
+     * 
+     * @param cluster <code>int</code>: The cluster whose entrances to retrieve.
+     * @return <code>Entrance[]</code>: The retrieved entrances.
+     */
+    final Entrance[] getEntrances(int cluster) {
+
+        return entrances[cluster];
+    }
+
+    /**
+     * Retrieves the cluster which a tile falls into.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>int</code>: The index of the cluster.
+     */
+    final int getCluster(int x, int z) {
+
+        return (z / CLUSTER_SIZE) * clustersX + x / CLUSTER_SIZE;
+    }
+
+    /**
+     * Retrieves the X coordinate of the first tile of a cluster.
+     * 
+     * @param cluster <code>int</code>: The cluster to check.
+     * @return <code>int</code>: The X coordinate.
+     */
+    final int getClusterX(int cluster) {
+
+        return (cluster % clustersX) * CLUSTER_SIZE;
+    }
+
+    /**
+     * Retrieves the Z coordinate of the first tile of a cluster.
+     * 
+     * @param cluster <code>int</code>: The cluster to check.
+     * @return <code>int</code>: The Z coordinate.
+     */
+    final int getClusterZ(int cluster) {
+
+        return (cluster / clustersX) * CLUSTER_SIZE;
+    }
+
+    /**
+     * Retrieves the width, in tiles, of a cluster. Clusters along the edge of the
+     * area may be narrower than the <code>CLUSTER_SIZE</code> field.
+     * 
+     * @param cluster <code>int</code>: The cluster to check.
+     * @return <code>int</code>: The width of the cluster.
+     */
+    final int getClusterWidth(int cluster) {
+
+        return Math.min(CLUSTER_SIZE, width - getClusterX(cluster));
+    }
+
+    /**
+     * Retrieves the length, in tiles, of a cluster. Clusters along the edge of the
+     * area may be shorter than the <code>CLUSTER_SIZE</code> field.
+     * 
+     * @param cluster <code>int</code>: The cluster to check.
+     * @return <code>int</code>: The length of the cluster.
+     */
+    final int getClusterLength(int cluster) {
+
+        return Math.min(CLUSTER_SIZE, length - getClusterZ(cluster));
+    }
+
+    /**
+     * Retrieves the flow field toward a goal tile, computing it if it is not
+     * cached. Any clusters whose walkability has changed are rebuilt first.
+     * 
+     * @param goalX <code>int</code>: The X coordinate of the goal tile.
+     * @param goalZ <code>int</code>: The Z coordinate of the goal tile.
+     * @return <code>FlowField</code>: The flow field toward the goal.
+     */
+    public final FlowField getFlowField(int goalX, int goalZ) {
+
+        refresh();
+
+        FlowField field = fields.computeIfAbsent(((long) goalX << 32) | (goalZ & 0xFFFFFFFFL),
+                _ -> new FlowField(this, goalX, goalZ));
+        field.update();
+
+        return field;
+    }
+
+    /**
+     * Rebuilds the borders and entrance links of every dirty cluster, along with
+     * the links of the clusters which share a border with them.
+     */
+    private void refresh() {
+
+        if (!anyDirty) {
+
+            return;
+        }
+
+        boolean[] relink = new boolean[dirty.length];
+        for (int cluster = 0; cluster < dirty.length; cluster++) {
+
+            if (!dirty[cluster]) {
+
+                continue;
+            }
+
+            dirty[cluster] = false;
+            clusterVersions[cluster]++;
+            relink[cluster] = true;
+
+            int clusterX = cluster % clustersX;
+            int clusterZ = cluster / clustersX;
+
+            borderX.set(cluster, buildBorder(cluster, true));
+            borderZ.set(cluster, buildBorder(cluster, false));
+
+            if (clusterX > 0) {
+
+                borderX.set(cluster - 1, buildBorder(cluster - 1, true));
+                relink[cluster - 1] = true;
+            }
+
+            if (clusterX < clustersX - 1) {
+
+                relink[cluster + 1] = true;
+            }
+
+            if (clusterZ > 0) {
+
+                borderZ.set(cluster - clustersX, buildBorder(cluster - clustersX, false));
+                relink[cluster - clustersX] = true;
+            }
+
+            if (clusterZ < clustersZ - 1) {
+
+                relink[cluster + clustersX] = true;
+            }
+        }
+
+        for (int cluster = 0; cluster < relink.length; cluster++) {
+
+            if (relink[cluster]) {
+
+                linkCluster(cluster);
+            }
+        }
+
+        anyDirty = false;
+        version++;
+    }
+
+    /**
+     * Builds the entrances on the border between a cluster and the cluster after
+     * it. Each contiguous run of tiles which are walkable on both sides of the
+     * border produces a pair of entrances at the middle of the run.
+     * 
+     * @param cluster <code>int</code>: The cluster whose border to build.
+     * @param alongX  <code>boolean</code>: Whether to build the border with the
+     *                next cluster along the X axis, rather than the Z axis.
+     * @return <code>ArrayList&lt;Entrance&gt;</code>: The entrances on the border,
+     *         from both sides.
+     */
+    private ArrayList<Entrance> buildBorder(int cluster, boolean alongX) {
+
+        ArrayList<Entrance> border = new ArrayList<>();
+
+        int clusterX = cluster % clustersX;
+        int clusterZ = cluster / clustersX;
+        if (alongX ? clusterX == clustersX - 1 : clusterZ == clustersZ - 1) {
+
+            return border;
+        }
+
+        int neighbour = alongX ? cluster + 1 : cluster + clustersX;
+        int span = alongX ? getClusterLength(cluster) : getClusterWidth(cluster);
+
+        // The tile on this side of the border and the step across it.
+        int startX = alongX ? getClusterX(cluster) + CLUSTER_SIZE - 1 : getClusterX(cluster);
+        int startZ = alongX ? getClusterZ(cluster) : getClusterZ(cluster) + CLUSTER_SIZE - 1;
+        int acrossX = alongX ? 1 : 0;
+        int acrossZ = alongX ? 0 : 1;
+
+        int runStart = -1;
+        for (int i = 0; i <= span; i++) {
+
+            int x = startX + (alongX ? 0 : i);
+            int z = startZ + (alongX ? i : 0);
+
+            boolean open = i < span && isWalkable(x, z) && isWalkable(x + acrossX, z + acrossZ);
+            if (open && runStart == -1) {
+
+                runStart = i;
+            } else if (!open && runStart != -1) {
+
+                int middle = (runStart + i - 1) / 2;
+                int entranceX = startX + (alongX ? 0 : middle);
+                int entranceZ = startZ + (alongX ? middle : 0);
+
+                Entrance near = new Entrance(entranceX, entranceZ, cluster);
+                Entrance far = new Entrance(entranceX + acrossX, entranceZ + acrossZ, neighbour);
+                near.partner = far;
+                far.partner = near;
+
+                border.add(near);
+                border.add(far);
+
+                runStart = -1;
+            }
+        }
+
+        return border;
+    }
+
+    /**
+     * Collects the entrances of a cluster from its four borders and links each
+     * entrance to the other entrances it can reach within the cluster.
+     * 
+     * @param cluster <code>int</code>: The cluster to link.
+     */
+    private void linkCluster(int cluster) {
+
+        ArrayList<Entrance> clusterEntrances = new ArrayList<>();
+        List<ArrayList<Entrance>> borders = new ArrayList<>(
+                List.of(borderX.get(cluster), borderZ.get(cluster)));
+
+        if (cluster % clustersX > 0) {
+
+            borders.add(borderX.get(cluster - 1));
+        }
+
+        if (cluster / clustersX > 0) {
+
+            borders.add(borderZ.get(cluster - clustersX));
+        }
+
+        for (ArrayList<Entrance> border : borders) {
+
+            for (Entrance entrance : border) {
+
+                if (entrance.cluster == cluster) {
+
+                    clusterEntrances.add(entrance);
+                }
+            }
+        }
+
+        Entrance[] linked = clusterEntrances.toArray(Entrance[]::new);
+        entrances[cluster] = linked;
+
+        int clusterX = getClusterX(cluster);
+        int clusterZ = getClusterZ(cluster);
+        int clusterWidth = getClusterWidth(cluster);
+
+        for (Entrance entrance : linked) {
+
+            int[] costs = integrate(cluster, new int[] { entrance.x, entrance.z, 0 });
+
+            ArrayList<Entrance> neighbours = new ArrayList<>();
+            ArrayList<Integer> neighbourCosts = new ArrayList<>();
+            for (Entrance other : linked) {
+
+                int cost = costs[(other.x - clusterX) + (other.z - clusterZ) * clusterWidth];
+                if (other != entrance && cost != UNREACHABLE) {
+
+                    neighbours.add(other);
+                    neighbourCosts.add(cost);
+                }
+            }
+
+            entrance.neighbours = neighbours.toArray(Entrance[]::new);
+            entrance.costs = neighbourCosts.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Computes the cost of walking from every tile of a cluster to the nearest of
+     * a set of seed tiles, without leaving the cluster. Diagonal moves are only
+     * allowed when both of the orthogonal tiles they pass are walkable.
+     * 
+     * @param cluster <code>int</code>: The cluster to search.
+     * @param seeds   <code>int[]</code>: The seed tiles, as consecutive triples of
+     *                X coordinate, Z coordinate, and starting cost.
+     * @return <code>int[]</code>: The cost of each tile of the cluster in row
+     *         order, or <code>UNREACHABLE</code> for tiles which cannot reach any
+     *         seed.
+     */
+    final int[] integrate(int cluster, int[] seeds) {
+
+        int clusterX = getClusterX(cluster);
+        int clusterZ = getClusterZ(cluster);
+        int clusterWidth = getClusterWidth(cluster);
+        int clusterLength = getClusterLength(cluster);
+
+        int[] costs = new int[clusterWidth * clusterLength];
+        Arrays.fill(costs, UNREACHABLE);
+
+        // Each entry packs the cost above the local index, so entries order by cost.
+        PriorityQueue<Long> frontier = new PriorityQueue<>();
+        for (int i = 0; i + 2 < seeds.length; i += 3) {
+
+            int local = (seeds[i] - clusterX) + (seeds[i + 1] - clusterZ) * clusterWidth;
+            if (seeds[i + 2] < costs[local]) {
+
+                costs[local] = seeds[i + 2];
+                frontier.add(((long) seeds[i + 2] << 32) | local);
+            }
+        }
+
+        while (!frontier.isEmpty()) {
+
+            long entry = frontier.poll();
+            int cost = (int) (entry >>> 32);
+            int local = (int) entry;
+            if (cost > costs[local]) {
+
+                continue;
+            }
+
+            int localX = local % clusterWidth;
+            int localZ = local / clusterWidth;
+
+            for (int[] move : MOVES) {
+
+                int nextX = localX + move[0];
+                int nextZ = localZ + move[1];
+                if (nextX < 0 || nextX >= clusterWidth || nextZ < 0 || nextZ >= clusterLength
+                        || !canMove(clusterX + localX, clusterZ + localZ, move[0], move[1])) {
+
+                    continue;
+                }
+
+                int next = nextX + nextZ * clusterWidth;
+                int nextCost = cost + move[2];
+                if (nextCost < costs[next]) {
+
+                    costs[next] = nextCost;
+                    frontier.add(((long) nextCost << 32) | next);
+                }
+            }
+        }
+
+        return costs;
+    }
+
+    /**
+     * Determines whether or not a move between two adjacent tiles is possible.
+     * Diagonal moves may not cut across the corner of an unwalkable tile.
+     * 
+     * @param x  <code>int</code>: The X coordinate of the starting tile.
+     * @param z  <code>int</code>: The Z coordinate of the starting tile.
+     * @param dx <code>int</code>: The X offset of the move.
+     * @param dz <code>int</code>: The Z offset of the move.
+     * @return <code>boolean</code>: Whether or not the move is possible.
+     */
+    final boolean canMove(int x, int z, int dx, int dz) {
+
+        if (!isWalkable(x + dx, z + dz)) {
+
+            return false;
+        }
+
+        return dx == 0 || dz == 0 || isWalkable(x + dx, z) && isWalkable(x, z + dz);
+    }
+}
@@ -0,0 +1,348 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world.visibility;
+
+import java.util.HashMap;
+
+import com.transcendruins.world.AreaGrid;
+import com.transcendruins.world.AreaTile;
+
+/**
+ * <code>LineOfSight</code>: A class which answers raycast and line of sight
+ * queries over the tiles of an area. Occupied tiles are stored in a bitmap and
+ * rays are stepped through it one tile boundary at a time, so the cost of a
+ * query depends only on its length. Line of sight results are cached until the
+ * next tick or until the occupancy of the area changes.
+ */
+public final class LineOfSight {
+
+    /**
+     * <code>RaycastHit</code>: A record representing the first occupied tile
+     * along a ray.
+     * 
+     * @param x        <code>int</code>: The X coordinate of the tile.
+     * @param z        <code>int</code>: The Z coordinate of the tile.
+     * @param distance <code>double</code>: The distance, in tiles, from the start
+     *                 of the ray to where it entered the tile.
+     */
+    public static final record RaycastHit(int x, int z, double distance) {
+    }
+
+    /**
+     * <code>SightKey</code>: A record representing the pair of tiles of a cached
+     * line of sight result, each packed into a <code>long</code>.
+     * 
+     * @param from <code>long</code>: The lesser of the two tiles.
+     * @param to   <code>long</code>: The greater of the two tiles.
+     */
+    private static final record SightKey(long from, long to) {
+    }
+
+    /**
+     * <code>double</code>: The largest difference, as a fraction of the ray,
+     * between the crossings of an X and a Z boundary for the ray to be treated as
+     * passing through their corner. This absorbs the rounding of the crossings,
+     * which otherwise differs between the two directions of a ray.
+     */
+    private static final double CORNER_EPSILON = 1e-9;
+
+    /**
+     * <code>AreaGrid</code>: The area which this <code>LineOfSight</code> instance
+     * describes.
+     */
+    private final AreaGrid area;
+
+    /**
+     * <code>int</code>: The width, in tiles, of this <code>LineOfSight</code>
+     * instance.
+     */
+    private final int width;
+
+    /**
+     * Retrieves the width, in tiles, of this <code>LineOfSight</code> instance.
+     * 
+     * @return <code>int</code>: The <code>width</code> field of this
+     *         <code>LineOfSight</code> instance.
+     */
+    public final int getWidth() {
+
+        return width;
+    }
+
+    /**
+     * <code>int</code>: The length, in tiles, of this <code>LineOfSight</code>
+     * instance.
+     */
+    private final int length;
+
+    /**
+     * Retrieves the length, in tiles, of this <code>LineOfSight</code> instance.
+     * 
+     * @return <code>int</code>: The <code>length</code> field of this
+     *         <code>LineOfSight</code> instance.
+     */
+    public final int getLength() {
+
+        return length;
+    }
+
+    /**
+     * <code>long[]</code>: The occupancy bitmap, with one bit per tile in row
+     * order.
+     */
+    private final long[] occupied;
+
+    /**
+     * <code>HashMap&lt;SightKey, Boolean&gt;</code>: The line of sight results of
+     * the current tick, keyed by the pair of tiles which were checked.
+     */
+    private final HashMap<SightKey, Boolean> cache = new HashMap<>();
+
+    /**
+     * <code>double</code>: The tick which the <code>cache</code> field belongs
+     * to.
+     */
+    private double cacheTime = Double.NaN;
+
+    /**
+     * Creates a new instance of the <code>LineOfSight</code> class from the tiles
+     * of an area.
+     * 
+     * @param area <code>AreaGrid</code>: The area to describe.
+     */
+    public LineOfSight(AreaGrid area) {
+
+        this.area = area;
+
+        width = area.getWidth();
+        length = area.getLength();
+
+        occupied = new long[Math.ceilDiv(width * length, Long.SIZE)];
+        for (int z = 0; z < length; z++) {
+
+            for (int x = 0; x < width; x++) {
+
+                setOccupied(x + z * width, !area.getTile(x, z).isWalkable());
+            }
+        }
+    }
+
+    /**
+     * Sets a single bit of the occupancy bitmap.
+     * 
+     * @param index        <code>int</code>: The index of the tile.
+     * @param tileOccupied <code>boolean</code>: Whether or not the tile is
+     *                     occupied.
+     */
+    private void setOccupied(int index, boolean tileOccupied) {
+
+        if (tileOccupied) {
+
+            occupied[index >>> 6] |= 1L << index;
+        } else {
+
+            occupied[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Determines whether or not a tile blocks sight. Tiles outside of the area
+     * always block sight.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     * @return <code>boolean</code>: Whether or not the tile is occupied.
+     */
+    public final boolean isOccupied(int x, int z) {
+
+        if (x < 0 || x >= width || z < 0 || z >= length) {
+
+            return true;
+        }
+
+        int index = x + z * width;
+        return (occupied[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Re-reads the occupancy of a tile after its contents have changed, discarding
+     * any cached results.
+     * 
+     * @param x <code>int</code>: The X coordinate of the tile.
+     * @param z <code>int</code>: The Z coordinate of the tile.
+     */
+    public final void updateTile(int x, int z) {
+
+        if (x < 0 || x >= width || z < 0 || z >= length) {
+
+            return;
+        }
+
+        AreaTile tile = area.getTile(x, z);
+        setOccupied(x + z * width, !tile.isWalkable());
+        cache.clear();
+    }
+
+    /**
+     * Casts a ray through the tiles of this <code>LineOfSight</code> instance and
+     * retrieves the first occupied tile it enters. The tiles which the ray starts
+     * and ends in are not checked, since they usually hold the viewer and target
+     * themselves.
+     * 
+     * @param fromX <code>double</code>: The X coordinate, in tiles, to cast from.
+     * @param fromZ <code>double</code>: The Z coordinate, in tiles, to cast from.
+     * @param toX   <code>double</code>: The X coordinate, in tiles, to cast to.
+     * @param toZ   <code>double</code>: The Z coordinate, in tiles, to cast to.
+     * @return <code>RaycastHit</code>: The first occupied tile, or
+     *         <code>null</code> if the ray is unobstructed.
+     */
+    public final RaycastHit raycast(double fromX, double fromZ, double toX, double toZ) {
+
+        int x = (int) Math.floor(fromX);
+        int z = (int) Math.floor(fromZ);
+        int endX = (int) Math.floor(toX);
+        int endZ = (int) Math.floor(toZ);
+
+        double dx = toX - fromX;
+        double dz = toZ - fromZ;
+        double distance = Math.sqrt(dx * dx + dz * dz);
+
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+
+        // The fraction of the ray covered by crossing a whole tile along each axis.
+        double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dx);
+        double deltaZ = dz == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dz);
+
+        // The fraction of the ray at which the next tile boundary along each axis is
+        // crossed.
+        double nextX = dx == 0 ? Double.POSITIVE_INFINITY
+                : (stepX > 0 ? Math.floor(fromX) + 1 - fromX : fromX - Math.floor(fromX)) * deltaX;
+        double nextZ = dz == 0 ? Double.POSITIVE_INFINITY
+                : (stepZ > 0 ? Math.floor(fromZ) + 1 - fromZ : fromZ - Math.floor(fromZ)) * deltaZ;
+
+        while (x != endX || z != endZ) {
+
+            double entered;
+            if (Math.abs(nextX - nextZ) <= CORNER_EPSILON) {
+
+                // The ray passes through a corner, so it touches both tiles beside the corner.
+                // Checking both keeps the ray symmetric in either direction.
+                entered = nextX;
+                if (entered > 1) {
+
+                    break;
+                }
+
+                if ((x + stepX != endX || z != endZ) && isOccupied(x + stepX, z)) {
+
+                    return new RaycastHit(x + stepX, z, entered * distance);
+                }
+
+                if ((x != endX || z + stepZ != endZ) && isOccupied(x, z + stepZ)) {
+
+                    return new RaycastHit(x, z + stepZ, entered * distance);
+                }
+
+                x += stepX;
+                z += stepZ;
+                nextX += deltaX;
+                nextZ += deltaZ;
+            } else if (nextX < nextZ) {
+
+                entered = nextX;
+                x += stepX;
+                nextX += deltaX;
+            } else {
+
+                entered = nextZ;
+                z += stepZ;
+                nextZ += deltaZ;
+            }
+
+            // Rounding may overshoot the end of the ray.
+            if (entered > 1) {
+
+                break;
+            }
+
+            if ((x != endX || z != endZ) && isOccupied(x, z)) {
+
+                return new RaycastHit(x, z, entered * distance);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Determines whether or not there is an unobstructed line of sight between
+     * the centers of two tiles. Results are cached for the remainder of the tick.
+     * 
+     * @param time  <code>double</code>: The current time in seconds, which
+     *              identifies the tick.
+     * @param fromX <code>int</code>: The X coordinate of the tile to look from.
+     * @param fromZ <code>int</code>: The Z coordinate of the tile to look from.
+     * @param toX   <code>int</code>: The X coordinate of the tile to look at.
+     * @param toZ   <code>int</code>: The Z coordinate of the tile to look at.
+     * @return <code>boolean</code>: Whether or not the line of sight is clear.
+     */
+    public final boolean canSee(double time, int fromX, int fromZ, int toX, int toZ) {
+
+        if (time != cacheTime) {
+
+            cache.clear();
+            cacheTime = time;
+        }
+
+        // Sight is symmetric, so both directions share a single entry. The ray is always
+        // cast from the lesser tile so rounding cannot make the directions disagree.
+        long from = ((long) fromX << 32) | (fromZ & 0xFFFFFFFFL);
+        long to = ((long) toX << 32) | (toZ & 0xFFFFFFFFL);
+        SightKey key = from < to ? new SightKey(from, to) : new SightKey(to, from);
+
+        return cache.computeIfAbsent(key, _ -> raycast((int) (key.from() >> 32) + 0.5, (int) key.from() + 0.5,
+                (int) (key.to() >> 32) + 0.5, (int) key.to() + 0.5) == null);
+    }
+
+    /**
+     * Determines whether or not each of a set of tiles has an unobstructed line of
+     * sight to a single target tile.
+     * 
+     * @param time    <code>double</code>: The current time in seconds, which
+     *                identifies the tick.
+     * @param viewerX <code>int[]</code>: The X coordinates of the tiles to look
+     *                from.
+     * @param viewerZ <code>int[]</code>: The Z coordinates of the tiles to look
+     *                from.
+     * @param toX     <code>int</code>: The X coordinate of the tile to look at.
+     * @param toZ     <code>int</code>: The Z coordinate of the tile to look at.
+     * @return <code>boolean[]</code>: Whether or not each viewer can see the
+     *         target.
+     */
+    public final boolean[] canSee(double time, int[] viewerX, int[] viewerZ, int toX, int toZ) {
+
+        boolean[] visible = new boolean[viewerX.length];
+        for (int i = 0; i < visible.length; i++) {
+
+            visible[i] = canSee(time, viewerX[i], viewerZ[i], toX, toZ);
+        }
+
+        return visible;
+    }
+}
@@ -0,0 +1,238 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+import com.transcendruins.assets.modelassets.ModelAssetInstance;
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+import com.transcendruins.assets.statecontrollers.StateControllerInstance;
+import com.transcendruins.world.AreaGrid;
+import com.transcendruins.world.Player;
+import com.transcendruins.world.World;
+
+/**
+ * Allocation budget tests for the tick loop. A fixed scenario is run headless
+ * on the test thread, which stands in for the host thread, and the bytes
+ * allocated per tick by each subsystem are compared against the budgets
+ * recorded in <code>allocation-budgets.properties</code>. Run with
+ * <code>-Dtranscendruins.allocation.record=true</code> to print the measured
+ * allocation rates when a budget needs to be re-recorded.
+ */
+class AllocationBudgetTest {
+
+    /**
+     * <code>int</code>: The number of ticks run before measuring, so that the
+     * measured ticks see compiled code and warmed caches.
+     */
+    private static final int WARMUP_TICKS = Integer.getInteger("transcendruins.allocation.warmup", 200);
+
+    /**
+     * <code>int</code>: The number of measured ticks.
+     */
+    private static final int TICKS = Integer.getInteger("transcendruins.allocation.ticks", 400);
+
+    /**
+     * <code>double</code>: The number of seconds of world time which pass each
+     * tick.
+     */
+    private static final double TICK_SECONDS = 1.0 / 60;
+
+    /**
+     * <code>String</code>: The subsystem which updates the assets and chunks of an
+     * area. This includes the asset updates, and thus the state controllers.
+     */
+    private static final String AREA_UPDATE = "areaUpdate";
+
+    /**
+     * <code>String</code>: The subsystem which advances the state controllers of
+     * the assets of an area and evaluates their poses, measured without the rest
+     * of the area update.
+     */
+    private static final String STATE_CONTROLLERS = "stateControllers";
+
+    /**
+     * <code>String</code>: The subsystem which updates the UI of the player.
+     */
+    private static final String UI_UPDATE = "uiUpdate";
+
+    /**
+     * <code>String</code>: The subsystem which generates the polygons of an area.
+     */
+    private static final String POLYGONS = "polygons";
+
+    /**
+     * <code>ThreadMXBean</code>: The bean used to read the bytes allocated by the
+     * test thread.
+     */
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * <code>Map&lt;String, Long&gt;</code>: The measured bytes allocated per tick
+     * by each subsystem.
+     */
+    private static final Map<String, Long> measured = new LinkedHashMap<>();
+
+    /**
+     * <code>Properties</code>: The recorded budgets, in bytes per tick.
+     */
+    private static final Properties budgets = new Properties();
+
+    /**
+     * Builds the scenario world and measures the allocation of each subsystem.
+     */
+    @BeforeAll
+    static void measure() throws IOException {
+
+        try (InputStream stream = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+
+            assertNotNull(stream, "The allocation budgets are missing.");
+            budgets.load(stream);
+        }
+
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "Thread allocation measurement is not supported.");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        World world = ScenarioFixture.getWorld();
+        Player player = ScenarioFixture.getPlayer();
+        AreaGrid area = ScenarioFixture.getArea();
+
+        List<EntityInstance> observers = List.of(player.getEntity());
+        List<StateControllerInstance> controllers = new ArrayList<>();
+        area.getAssets().map(ModelAssetInstance::getStateController).filter(controller -> controller != null)
+                .forEach(controllers::add);
+
+        long[] totals = new long[4];
+        double time = world.getRuntimeSeconds();
+        for (int tick = -WARMUP_TICKS; tick < TICKS; tick++) {
+
+            time += TICK_SECONDS;
+            boolean record = tick >= 0;
+
+            long start = allocatedBytes();
+            area.update(time, observers, world.getSimulationLod());
+
+            long areaDone = allocatedBytes();
+            player.update(time);
+
+            long uiDone = allocatedBytes();
+            area.getPolygons();
+
+            long polygonsDone = allocatedBytes();
+            if (record) {
+
+                totals[0] += areaDone - start;
+                totals[2] += uiDone - areaDone;
+                totals[3] += polygonsDone - uiDone;
+            }
+        }
+
+        // The area update already advances the state controllers, so they are measured
+        // in a scenario of their own rather than a second time within the same tick.
+        for (int tick = -WARMUP_TICKS; tick < TICKS; tick++) {
+
+            time += TICK_SECONDS;
+            boolean record = tick >= 0;
+
+            long start = allocatedBytes();
+            for (StateControllerInstance controller : controllers) {
+
+                controller.update(time);
+                controller.evaluatePose();
+            }
+
+            if (record) {
+
+                totals[1] += allocatedBytes() - start;
+            }
+        }
+
+        measured.put(AREA_UPDATE, totals[0] / TICKS);
+        measured.put(STATE_CONTROLLERS, totals[1] / TICKS);
+        measured.put(UI_UPDATE, totals[2] / TICKS);
+        measured.put(POLYGONS, totals[3] / TICKS);
+
+        if (Boolean.getBoolean("transcendruins.allocation.record")) {
+
+            measured.forEach((subsystem, bytes) -> System.out.println(subsystem + "=" + bytes));
+        }
+    }
+
+    /**
+     * Retrieves the total number of bytes allocated by the test thread.
+     * 
+     * @return <code>long</code>: The allocated bytes.
+     */
+    private static long allocatedBytes() {
+
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /**
+     * Asserts that a subsystem allocated no more than its recorded budget per
+     * tick.
+     * 
+     * @param subsystem <code>String</code>: The subsystem to check.
+     */
+    private static void assertWithinBudget(String subsystem) {
+
+        String budget = budgets.getProperty(subsystem);
+        assertNotNull(budget, "No allocation budget is recorded for " + subsystem + ".");
+
+        long bytes = measured.get(subsystem);
+        long limit = Long.parseLong(budget.trim());
+        assertTrue(bytes <= limit,
+                "%s allocated %d bytes per tick, exceeding its budget of %d bytes.".formatted(subsystem, bytes, limit));
+    }
+
+    @Test
+    void areaUpdateWithinBudget() {
+
+        assertWithinBudget(AREA_UPDATE);
+    }
+
+    @Test
+    void stateControllersWithinBudget() {
+
+        assertWithinBudget(STATE_CONTROLLERS);
+    }
+
+    @Test
+    void uiUpdateWithinBudget() {
+
+        assertWithinBudget(UI_UPDATE);
+    }
+
+    @Test
+    void polygonsWithinBudget() {
+
+        assertWithinBudget(POLYGONS);
+    }
+}
@@ -0,0 +1,184 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.transcendruins.assets.catalogue.locations.GlobalLocationInstance;
+import com.transcendruins.packs.PackProcessor;
+import com.transcendruins.packs.content.ContentPack;
+import com.transcendruins.packs.resources.ResourcePack;
+import com.transcendruins.utilities.files.DataConstants;
+import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.world.AreaGrid;
+import com.transcendruins.world.Player;
+import com.transcendruins.world.World;
+
+/**
+ * <code>ScenarioFixture</code>: A class which builds the scenario world shared
+ * by the tests and benchmarks from the bundled vanilla and example content
+ * packs. The world is built once per JVM and is never hosted, so each test or
+ * benchmark drives it directly from its own thread.
+ */
+public final class ScenarioFixture {
+
+    /**
+     * <code>long</code>: The seed of the scenario world, fixed so that every run
+     * generates the same areas.
+     */
+    public static final long SEED = 645221640l;
+
+    /**
+     * <code>long</code>: The ID of the player which is placed into the scenario
+     * location.
+     */
+    public static final long PLAYER_ID = 0;
+
+    /**
+     * <code>Identifier</code>: The identifier of the bundled example pack.
+     */
+    public static final Identifier EXAMPLE_IDENTIFIER = Identifier.createTestIdentifier("Example:examplePack",
+            new int[] { 1, 0, 0 });
+
+    /**
+     * <code>long</code>: The number of milliseconds to wait for the scenario
+     * location to generate.
+     */
+    private static final long GENERATION_TIMEOUT = 60_000;
+
+    /**
+     * <code>World</code>: The scenario world, or <code>null</code> if it has not
+     * yet been built.
+     */
+    private static World world;
+
+    /**
+     * <code>String</code>: The key of the location which the player has entered.
+     */
+    private static String location;
+
+    /**
+     * Retrieves the scenario world, building it on first use.
+     * 
+     * @return <code>World</code>: The scenario world.
+     */
+    public static synchronized World getWorld() {
+
+        if (world == null) {
+
+            world = createWorld();
+        }
+
+        return world;
+    }
+
+    /**
+     * Retrieves the location which the player of the scenario world has entered.
+     * 
+     * @return <code>GlobalLocationInstance</code>: The entered location.
+     */
+    public static GlobalLocationInstance getLocation() {
+
+        return getWorld().getLocation(location);
+    }
+
+    /**
+     * Retrieves the player of the scenario world.
+     * 
+     * @return <code>Player</code>: The player, who has entered the scenario
+     *         location.
+     */
+    public static Player getPlayer() {
+
+        return getWorld().playerFunction(PLAYER_ID, player -> player);
+    }
+
+    /**
+     * Retrieves the area which the player of the scenario world is in.
+     * 
+     * @return <code>AreaGrid</code>: The area of the player.
+     */
+    public static AreaGrid getArea() {
+
+        return getLocation().getArea(getPlayer());
+    }
+
+    /**
+     * Builds a world from the bundled packs and enters a player into its first
+     * location.
+     * 
+     * @return <code>World</code>: The built world.
+     */
+    private static World createWorld() {
+
+        // Tests and benchmarks run on machines without a display.
+        System.setProperty("java.awt.headless", "true");
+
+        PackProcessor.getProcessor();
+
+        ArrayList<ContentPack> packs = new ArrayList<>();
+        packs.add(ContentPack.getPack(DataConstants.VANILLA_IDENTIFIER));
+        packs.add(ContentPack.getPack(EXAMPLE_IDENTIFIER));
+
+        World.createWorld(packs, new ArrayList<ResourcePack>(), SEED);
+        World created = World.getWorld();
+        created.setLanguage(World.LanguageType.ENGLISH);
+
+        if (!created.addPlayer(PLAYER_ID).join()) {
+
+            throw new IllegalStateException("The scenario player could not be added.");
+        }
+
+        List<String> locations = created.getLocationRenders().keySet().stream().sorted().toList();
+        if (locations.isEmpty()) {
+
+            throw new IllegalStateException("The bundled packs do not define a location.");
+        }
+
+        location = locations.getFirst();
+        created.travel(PLAYER_ID, location);
+        created.enterLocation(PLAYER_ID);
+
+        // Nothing hosts the world, so the generated areas must be applied here.
+        GlobalLocationInstance locationInstance = created.getLocation(location);
+        Player player = created.playerFunction(PLAYER_ID, value -> value);
+
+        long deadline = System.currentTimeMillis() + GENERATION_TIMEOUT;
+        while (player.onGlobalMap() || locationInstance.getArea(player) == null) {
+
+            if (System.currentTimeMillis() > deadline) {
+
+                throw new IllegalStateException("The scenario location " + location + " did not generate.");
+            }
+
+            locationInstance.poll();
+            Thread.onSpinWait();
+        }
+
+        player.setScreenSize(1280, 720);
+        player.update(created.getRuntimeSeconds());
+
+        return created;
+    }
+
+    /**
+     * Prevents the <code>ScenarioFixture</code> class from being instantiated.
+     */
+    private ScenarioFixture() {
+    }
+}
@@ -0,0 +1,96 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.catalogue.locations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.world.World;
+
+/**
+ * Unit tests for the turns of <code>GlobalLocationInstance</code>, during
+ * which a location may only post the operations reaching beyond it to an
+ * outbox which the host delivers once every location has taken its turn.
+ */
+class GlobalLocationActorTest {
+
+    @Test
+    void postedMessagesWaitForDelivery() {
+
+        GlobalLocationInstance location = ScenarioFixture.getLocation();
+        World world = ScenarioFixture.getWorld();
+
+        ArrayList<String> delivered = new ArrayList<>();
+        location.post(target -> {
+
+            assertSame(world, target);
+            delivered.add("first");
+        });
+        location.post(_ -> delivered.add("second"));
+
+        assertTrue(delivered.isEmpty());
+
+        location.deliver();
+        assertEquals(List.of("first", "second"), delivered);
+    }
+
+    @Test
+    void deliveryEmptiesOutbox() {
+
+        GlobalLocationInstance location = ScenarioFixture.getLocation();
+
+        int[] delivered = { 0 };
+        location.post(_ -> delivered[0]++);
+
+        location.deliver();
+        location.deliver();
+        assertEquals(1, delivered[0]);
+    }
+
+    @Test
+    void actorIsOnlyBoundDuringTurn() throws InterruptedException {
+
+        GlobalLocationInstance location = ScenarioFixture.getLocation();
+        World world = ScenarioFixture.getWorld();
+
+        assertNull(GlobalLocationInstance.getActor());
+
+        location.turn(world.getRuntimeSeconds());
+        assertNull(GlobalLocationInstance.getActor());
+
+        // A turn taken on a worker thread releases the actor of that thread as well.
+        GlobalLocationInstance[] seen = { location };
+        Thread thread = new Thread(() -> {
+
+            location.turn(world.getRuntimeSeconds());
+            seen[0] = GlobalLocationInstance.getActor();
+        });
+
+        thread.start();
+        thread.join();
+
+        assertNull(seen[0]);
+        assertNull(GlobalLocationInstance.getActor());
+    }
+}
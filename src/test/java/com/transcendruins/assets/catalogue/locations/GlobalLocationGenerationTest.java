@@ -0,0 +1,114 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.catalogue.locations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.world.World;
+
+/**
+ * Unit tests for the background generation of
+ * <code>GlobalLocationInstance</code>, whose areas are generated off the host
+ * thread and only applied when the host polls for them.
+ */
+class GlobalLocationGenerationTest {
+
+    /**
+     * <code>GlobalLocationInstance</code>: An empty location of the scenario
+     * world, other than the one the scenario player has entered.
+     */
+    private GlobalLocationInstance location;
+
+    /**
+     * Retrieves an empty location and applies any generation which is still in
+     * progress, so that each test starts from a settled location.
+     */
+    @BeforeEach
+    void settle() {
+
+        World world = ScenarioFixture.getWorld();
+        String entered = ScenarioFixture.getLocation().getKey();
+
+        location = world.getLocationRenders().keySet().stream().sorted().filter(key -> !key.equals(entered))
+                .map(world::getLocation).filter(GlobalLocationInstance::isEmpty).findFirst().orElseThrow();
+
+        location.awaitGeneration();
+        location.poll();
+    }
+
+    @Test
+    void generatedAreasApplyOnPoll() {
+
+        boolean[] ran = { false };
+
+        location.generate();
+        assertTrue(location.isGenerating());
+        assertTrue(location.getAreas().isEmpty());
+
+        location.whenGenerated(() -> ran[0] = true);
+        location.awaitGeneration();
+
+        // The areas are ready, but nothing changes until the host applies them.
+        assertFalse(ran[0]);
+        assertTrue(location.getAreas().isEmpty());
+
+        assertTrue(location.poll());
+        assertTrue(ran[0]);
+        assertFalse(location.isGenerating());
+        assertFalse(location.getAreas().isEmpty());
+
+        // Once the areas are available, tasks are run immediately.
+        boolean[] immediate = { false };
+        location.whenGenerated(() -> immediate[0] = true);
+        assertTrue(immediate[0]);
+    }
+
+    @Test
+    void prefetchIsOnlyAppliedOnceClaimed() {
+
+        String area = location.getAreas().getFirst();
+
+        // A cancelled prefetch leaves the current areas in place.
+        location.prefetch();
+        assertFalse(location.isGenerating());
+        location.cancelPrefetch();
+        assertFalse(location.poll());
+        assertTrue(location.getAreas().contains(area));
+
+        location.prefetch();
+        assertFalse(location.isGenerating());
+
+        // An unclaimed prefetch is never applied, however long it runs.
+        boolean[] ran = { false };
+        location.whenGenerated(() -> ran[0] = true);
+        assertTrue(ran[0]);
+        assertFalse(location.poll());
+
+        // Retrieving an area claims the prefetch, which is then applied like any other
+        // generation.
+        location.getArea(area);
+        assertTrue(location.isGenerating());
+
+        location.awaitGeneration();
+        assertTrue(location.poll());
+        assertTrue(location.getAreas().contains(area));
+    }
+}
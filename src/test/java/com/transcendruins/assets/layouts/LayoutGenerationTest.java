@@ -0,0 +1,93 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.layouts;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.AssetType;
+import com.transcendruins.assets.assets.AssetPresets;
+import com.transcendruins.assets.catalogue.locations.GlobalLocationInstance;
+import com.transcendruins.utilities.metadata.Identifier;
+import com.transcendruins.utilities.random.DeterministicRandom;
+import com.transcendruins.world.World;
+
+/**
+ * Unit tests for the parallel generation of <code>LayoutInstance</code>, which
+ * must generate the same areas from the same seed at any thread count.
+ */
+class LayoutGenerationTest {
+
+    /**
+     * <code>String[]</code>: The bundled layouts to generate, which between them
+     * use grid and distribution layouts.
+     */
+    private static final String[] LAYOUTS = { "TranscendRuins:bunkerAlfaMain", "TranscendRuins:bunkerBravoMain",
+            "Example:campfireCircle" };
+
+    /**
+     * <code>int</code>: The number of threads of the parallel generation.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Generates a layout on a pool of a set size, which every parallel stream
+     * within the generation runs on.
+     * 
+     * @param layout  <code>String</code>: The identifier of the layout.
+     * @param seed    <code>long</code>: The seed to generate the layout from.
+     * @param threads <code>int</code>: The number of threads to generate on.
+     * @return <code>long</code>: The checksum of the generated area.
+     */
+    private static long generate(String layout, long seed, int threads)
+            throws InterruptedException, ExecutionException {
+
+        World world = ScenarioFixture.getWorld();
+        GlobalLocationInstance location = ScenarioFixture.getLocation();
+        AssetPresets presets = new AssetPresets(Identifier.createTestIdentifier(layout, null), AssetType.LAYOUT);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+
+            return pool.submit(() -> world.withRandom(new DeterministicRandom(seed),
+                    () -> new LayoutContext(presets, location).instantiate().generate().getChecksum())).get();
+        } finally {
+
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void generationMatchesAtEveryThreadCount() throws InterruptedException, ExecutionException {
+
+        for (String layout : LAYOUTS) {
+
+            for (long seed = 1; seed <= 4; seed++) {
+
+                long sequential = generate(layout, seed, 1);
+                assertEquals(sequential, generate(layout, seed, THREADS), layout + " with seed " + seed);
+
+                // Generating again on the same pool size must also reproduce the area.
+                assertEquals(sequential, generate(layout, seed, 1), layout + " with seed " + seed);
+            }
+        }
+    }
+}
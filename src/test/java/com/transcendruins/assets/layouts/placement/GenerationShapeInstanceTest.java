@@ -0,0 +1,168 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.assets.layouts.placement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.assets.layouts.placement.GenerationShapeInstance.PointFilter;
+import com.transcendruins.assets.layouts.placement.GenerationShapeInstance.SpanGenerationShapeInstance;
+import com.transcendruins.utilities.random.DeterministicRandom;
+
+/**
+ * Unit tests for the placement sampling of <code>GenerationShapeInstance</code>,
+ * which draws candidates by rejection sampling and falls back to an exhaustive
+ * search once the shape is mostly blocked.
+ */
+class GenerationShapeInstanceTest {
+
+    /**
+     * <code>int</code>: The number of points drawn when measuring a
+     * distribution.
+     */
+    private static final int DRAWS = 100_000;
+
+    /**
+     * <code>GenerationDistribution</code>: A distribution whose chance grows
+     * linearly along the X axis, from <code>1</code> at <code>x = 0</code>.
+     */
+    private static final GenerationDistribution LINEAR = new GenerationDistribution() {
+
+        @Override
+        public double getChance(int x, int z, DeterministicRandom random) {
+
+            return x + 1;
+        }
+
+        @Override
+        public double getMaxChance(int minX, int minZ, int maxX, int maxZ) {
+
+            return maxX + 1;
+        }
+    };
+
+    /**
+     * Draws points from a shape and counts how often each column is drawn.
+     * 
+     * @param shape   <code>GenerationShapeInstance</code>: The shape to draw from.
+     * @param filter  <code>PointFilter</code>: The filter of open points.
+     * @param columns <code>int</code>: The number of columns to count.
+     * @param seed    <code>long</code>: The seed of the draws.
+     * @return <code>int[]</code>: The number of draws in each column.
+     */
+    private static int[] countColumns(GenerationShapeInstance shape, PointFilter filter, int columns, long seed) {
+
+        DeterministicRandom random = new DeterministicRandom(seed);
+        int[] counts = new int[columns];
+        for (int i = 0; i < DRAWS; i++) {
+
+            long point = shape.getPoint(filter, random);
+            assertTrue(point != GenerationShapeInstance.NONE);
+            assertTrue(filter.test(GenerationShapeInstance.getX(point), GenerationShapeInstance.getZ(point)));
+
+            counts[GenerationShapeInstance.getX(point)]++;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Asserts that a column was drawn in proportion to its expected share, within
+     * a tolerance far wider than the sampling error of <code>DRAWS</code> draws.
+     * 
+     * @param expected <code>double</code>: The expected share of the draws.
+     * @param count    <code>int</code>: The number of draws in the column.
+     * @param column   <code>int</code>: The column, for the failure message.
+     */
+    private static void assertShare(double expected, int count, int column) {
+
+        double share = (double) count / DRAWS;
+        assertEquals(expected, share, expected * 0.05, "Column " + column);
+    }
+
+    @Test
+    void uniformSamplingCoversShapeEvenly() {
+
+        GenerationShapeInstance shape = new SpanGenerationShapeInstance(GenerationDistribution.UNIFORM, 0, 0, 8, 8,
+                0, 0);
+        int[] counts = countColumns(shape, (_, _) -> true, 8, 11L);
+
+        for (int x = 0; x < 8; x++) {
+
+            assertShare(1.0 / 8, counts[x], x);
+        }
+    }
+
+    @Test
+    void weightedSamplingFollowsDistribution() {
+
+        GenerationShapeInstance shape = new SpanGenerationShapeInstance(LINEAR, 0, 0, 4, 4, 0, 0);
+        int[] counts = countColumns(shape, (_, _) -> true, 4, 12L);
+
+        // The chances of the columns are 1, 2, 3 and 4 out of 10.
+        for (int x = 0; x < 4; x++) {
+
+            assertShare((x + 1) / 10.0, counts[x], x);
+        }
+    }
+
+    @Test
+    void blockedSamplingFallsBackToSearch() {
+
+        GenerationShapeInstance shape = new SpanGenerationShapeInstance(GenerationDistribution.UNIFORM, 0, 0, 64, 64,
+                0, 0);
+
+        // A single open point is almost never drawn at random, so it is only found by
+        // the exhaustive search.
+        DeterministicRandom random = new DeterministicRandom(13L);
+        for (int i = 0; i < 100; i++) {
+
+            assertEquals(GenerationShapeInstance.pack(37, 5),
+                    shape.getPoint((x, z) -> x == 37 && z == 5, random));
+        }
+
+        assertEquals(GenerationShapeInstance.NONE, shape.getPoint((_, _) -> false, random));
+    }
+
+    @Test
+    void searchFollowsDistribution() {
+
+        GenerationShapeInstance shape = new SpanGenerationShapeInstance(LINEAR, 0, 0, 64, 64, 0, 0);
+
+        // Only the first and fourth columns of one row are open, with chances of 1
+        // and 4, so nearly every draw is made by the exhaustive search.
+        int[] counts = countColumns(shape, (x, z) -> z == 9 && (x == 0 || x == 3), 4, 14L);
+
+        assertShare(0.2, counts[0], 0);
+        assertShare(0.8, counts[3], 3);
+    }
+
+    @Test
+    void samplingIsDeterministic() {
+
+        GenerationShapeInstance shape = new SpanGenerationShapeInstance(LINEAR, 0, 0, 16, 16, 0, 0);
+        PointFilter filter = (x, z) -> (x + z) % 3 != 0;
+
+        DeterministicRandom first = new DeterministicRandom(15L);
+        DeterministicRandom second = new DeterministicRandom(15L);
+        for (int i = 0; i < 1_000; i++) {
+
+            assertEquals(shape.getPoint(filter, first), shape.getPoint(filter, second));
+        }
+    }
+}
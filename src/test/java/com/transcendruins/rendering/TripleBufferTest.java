@@ -0,0 +1,122 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.rendering;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the hand-off of values between the writer and reader of
+ * <code>TripleBuffer</code>.
+ */
+class TripleBufferTest {
+
+    /**
+     * <code>int</code>: The number of values published by the concurrent test.
+     */
+    private static final int PUBLISHES = 200_000;
+
+    /**
+     * <code>int</code>: The length of each value published by the concurrent
+     * test, long enough that a partially written value would be noticed.
+     */
+    private static final int VALUE_LENGTH = 64;
+
+    @Test
+    void readerSeesLatestPublishedValue() {
+
+        TripleBuffer<String> buffer = new TripleBuffer<>();
+        assertNull(buffer.latest());
+
+        buffer.publish("first");
+        assertEquals("first", buffer.latest());
+
+        // Reading again without a new publish keeps the same value.
+        assertEquals("first", buffer.latest());
+
+        // Values which are superseded before being read are skipped.
+        buffer.publish("second");
+        buffer.publish("third");
+        buffer.publish("fourth");
+        assertEquals("fourth", buffer.latest());
+        assertEquals("fourth", buffer.latest());
+    }
+
+    @Test
+    void concurrentReaderNeverSeesTornOrOlderValues() throws InterruptedException {
+
+        TripleBuffer<long[]> buffer = new TripleBuffer<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+
+            for (long i = 1; i <= PUBLISHES; i++) {
+
+                long[] value = new long[VALUE_LENGTH];
+                Arrays.fill(value, i);
+                buffer.publish(value);
+            }
+        }, "TripleBufferTest writer");
+
+        Thread reader = new Thread(() -> {
+
+            try {
+
+                long last = 0;
+                while (last < PUBLISHES) {
+
+                    long[] value = buffer.latest();
+                    if (value == null) {
+
+                        continue;
+                    }
+
+                    // Every element of a value was written before it was published.
+                    for (long element : value) {
+
+                        assertEquals(value[0], element, "Value " + value[0] + " was torn");
+                    }
+
+                    assertTrue(value[0] >= last, "Value " + value[0] + " was read after " + last);
+                    last = value[0];
+                }
+            } catch (Throwable e) {
+
+                failure.set(e);
+            }
+        }, "TripleBufferTest reader");
+
+        reader.start();
+        writer.start();
+
+        writer.join(60_000);
+        reader.join(60_000);
+
+        if (failure.get() != null) {
+
+            throw new AssertionError(failure.get());
+        }
+
+        assertEquals(PUBLISHES, buffer.latest()[0]);
+    }
+}
@@ -0,0 +1,171 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.utilities.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the bucket bounds and percentiles of
+ * <code>LatencyHistogram</code>.
+ */
+class LatencyHistogramTest {
+
+    /**
+     * <code>long</code>: A window long enough that no test rotates it.
+     */
+    private static final long LONG_WINDOW = 60_000_000_000L;
+
+    /**
+     * Asserts that a value falls within the bounds of its bucket, and that the
+     * bucket is no wider than the precision of the histogram allows.
+     * 
+     * @param value <code>long</code>: The value to check.
+     */
+    private static void assertBucketed(long value) {
+
+        int index = LatencyHistogram.getIndex(value);
+        long highest = LatencyHistogram.getHighestValue(index);
+        long lowest = index == 0 ? 0 : LatencyHistogram.getHighestValue(index - 1) + 1;
+
+        assertTrue(lowest <= value && value <= highest, value + " is outside of [" + lowest + ", " + highest + "]");
+        assertTrue(highest - lowest <= Math.max(0, lowest >> (LatencyHistogram.SUB_BITS - 1)),
+                "Bucket [" + lowest + ", " + highest + "] is too wide");
+    }
+
+    @Test
+    void bucketsCoverEveryValueContiguously() {
+
+        // Each bucket starts right after the previous one ends.
+        for (int index = 0; index < LatencyHistogram.BUCKETS - 1; index++) {
+
+            long highest = LatencyHistogram.getHighestValue(index);
+            assertEquals(index, LatencyHistogram.getIndex(highest));
+            assertEquals(index + 1, LatencyHistogram.getIndex(highest + 1));
+        }
+
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.getIndex(LatencyHistogram.MAX_VALUE));
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.getHighestValue(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    void valuesStayWithinTheirBucketPrecision() {
+
+        for (long value = 0; value < 10_000; value++) {
+
+            assertBucketed(value);
+        }
+
+        // Values on either side of every power of two.
+        for (int bit = 1; bit < 63 && (1L << bit) <= LatencyHistogram.MAX_VALUE; bit++) {
+
+            assertBucketed((1L << bit) - 1);
+            assertBucketed(1L << bit);
+            assertBucketed(Math.min((1L << bit) + 1, LatencyHistogram.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void percentilesAreWithinPrecision() {
+
+        LatencyHistogram histogram = new LatencyHistogram(LONG_WINDOW);
+        for (long micros = 1; micros <= 1_000; micros++) {
+
+            histogram.record(micros * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1_000, snapshot.count());
+        assertEquals(500_500, snapshot.mean(), 1e-9);
+        assertEquals(1_000_000, snapshot.max());
+
+        // Percentiles report the highest value of their bucket, so they never fall
+        // below the exact percentile and exceed it by at most the bucket precision.
+        long[][] expected = { { snapshot.p50(), 500_000 }, { snapshot.p95(), 950_000 }, { snapshot.p99(), 990_000 } };
+        for (long[] percentile : expected) {
+
+            assertTrue(percentile[0] >= percentile[1], percentile[0] + " is below " + percentile[1]);
+            assertTrue(percentile[0] <= percentile[1] + (percentile[1] >> (LatencyHistogram.SUB_BITS - 1)),
+                    percentile[0] + " is too far above " + percentile[1]);
+        }
+    }
+
+    @Test
+    void percentilesAreBoundedByMaximum() {
+
+        LatencyHistogram histogram = new LatencyHistogram(LONG_WINDOW);
+        histogram.record(1_000_001);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1_000_001, snapshot.p50());
+        assertEquals(1_000_001, snapshot.p99());
+        assertEquals(1_000_001, snapshot.max());
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+
+        LatencyHistogram histogram = new LatencyHistogram(LONG_WINDOW);
+        histogram.record(-5);
+        assertEquals(0, histogram.snapshot().max());
+
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.max());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.p99());
+        assertEquals(0, snapshot.p50());
+    }
+
+    @Test
+    void latenciesLeaveAfterTwoWindows() throws InterruptedException {
+
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        assertEquals(LatencyHistogram.Snapshot.EMPTY, histogram.snapshot());
+
+        histogram.record(1_000);
+
+        // The first rotation keeps the latency in the previous window, and the second
+        // discards it.
+        Thread.sleep(1);
+        assertEquals(1, histogram.snapshot().count());
+
+        Thread.sleep(1);
+        assertEquals(LatencyHistogram.Snapshot.EMPTY, histogram.snapshot());
+    }
+
+    @Test
+    void recordingRotatesWindowsWithoutSnapshots() throws InterruptedException {
+
+        long window = 50_000_000L;
+        LatencyHistogram histogram = new LatencyHistogram(window);
+        histogram.record(5_000_000);
+
+        // Each record after the window has ended rotates it, so the outlier leaves
+        // after two windows even though nothing summarized the histogram.
+        Thread.sleep(window / 1_000_000 + 10);
+        histogram.record(1_000);
+
+        Thread.sleep(window / 1_000_000 + 10);
+        histogram.record(1_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.count());
+        assertEquals(1_000, snapshot.max());
+    }
+}
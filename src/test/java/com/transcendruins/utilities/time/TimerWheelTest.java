@@ -0,0 +1,150 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.utilities.time;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.utilities.time.TimerWheel.Timer;
+
+/**
+ * Unit tests for the cascading and cancellation of <code>TimerWheel</code>.
+ */
+class TimerWheelTest {
+
+    /**
+     * <code>long[]</code>: Deadlines which land in every wheel, on either side of
+     * each wheel boundary, and in the overflow list.
+     */
+    private static final long[] DEADLINES = { 0, 3, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 300_000,
+            16_777_215, 16_777_216, 20_000_000 };
+
+    @Test
+    void timersCascadeInDeadlineOrder() {
+
+        TimerWheel wheel = new TimerWheel(1, 0);
+
+        ArrayList<Long> deadlines = new ArrayList<>();
+        for (long deadline : DEADLINES) {
+
+            deadlines.add(deadline);
+        }
+        Collections.shuffle(deadlines, new Random(5_213L));
+
+        // Each task records its deadline and the time of the advance that ran it.
+        ArrayList<long[]> runs = new ArrayList<>();
+        long[] now = { 0 };
+        for (long deadline : deadlines) {
+
+            wheel.schedule(deadline, () -> runs.add(new long[] { deadline, now[0] }));
+        }
+
+        Random steps = new Random(90_117L);
+        long previous = -1;
+        while (now[0] < 20_000_000) {
+
+            now[0] = Math.min(20_000_000, now[0] + 1 + steps.nextInt(600_000));
+            wheel.advance(now[0]);
+
+            // A timer must be run by the first advance that reaches its deadline.
+            for (long[] run : runs) {
+
+                if (run[1] == now[0]) {
+
+                    assertTrue(run[0] > previous && run[0] <= now[0], "Deadline " + run[0] + " ran at " + now[0]);
+                }
+            }
+
+            previous = now[0];
+        }
+
+        assertEquals(DEADLINES.length, runs.size());
+        for (int i = 0; i < DEADLINES.length; i++) {
+
+            assertEquals(DEADLINES[i], runs.get(i)[0]);
+        }
+    }
+
+    @Test
+    void equalDeadlinesRunInScheduleOrderAcrossWheels() {
+
+        TimerWheel wheel = new TimerWheel(1, 0);
+        ArrayList<String> order = new ArrayList<>();
+
+        // The first timer starts in a coarse wheel and is cascaded down, while the
+        // second is placed straight into the finest wheel.
+        wheel.schedule(5_000, () -> order.add("first"));
+        wheel.advance(4_990);
+        wheel.schedule(5_000, () -> order.add("second"));
+        wheel.schedule(4_999, () -> order.add("earlier"));
+
+        wheel.advance(5_000);
+        assertEquals(List.of("earlier", "first", "second"), order);
+    }
+
+    @Test
+    void cancelledTimersNeverRunFromAnyWheel() {
+
+        TimerWheel wheel = new TimerWheel(1, 0);
+        ArrayList<Long> runs = new ArrayList<>();
+
+        ArrayList<Timer> timers = new ArrayList<>();
+        for (long deadline : DEADLINES) {
+
+            timers.add(wheel.schedule(deadline, () -> runs.add(deadline)));
+        }
+
+        // Half of the timers are cancelled while still in the wheel they were placed
+        // in.
+        ArrayList<Long> expected = new ArrayList<>();
+        for (int i = 0; i < timers.size(); i++) {
+
+            if (i % 2 == 0) {
+
+                timers.get(i).cancel();
+            } else {
+
+                expected.add(DEADLINES[i]);
+            }
+        }
+
+        // The later ones are cancelled after the coarse wheels have begun to cascade
+        // them towards the finest wheel.
+        wheel.advance(270_000);
+        for (int i = 0; i < timers.size(); i++) {
+
+            if (DEADLINES[i] > 270_000 && expected.remove(DEADLINES[i])) {
+
+                timers.get(i).cancel();
+            }
+        }
+
+        wheel.advance(20_000_000);
+        assertEquals(expected, runs);
+
+        // With every remaining timer run or discarded, nothing runs later on.
+        wheel.advance(40_000_000);
+        assertEquals(expected, runs);
+    }
+}
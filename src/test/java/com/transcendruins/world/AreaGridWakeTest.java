@@ -0,0 +1,119 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.modelassets.elements.ElementInstance;
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+import com.transcendruins.assets.modelassets.primaryassets.interaction.AssetInteractionInstance;
+
+/**
+ * Unit tests for the waking of sleeping chunks of <code>AreaGrid</code>. Each
+ * test puts every chunk of the scenario area to sleep by updating it without
+ * any observers, and then checks that an event which the area must simulate
+ * wakes the chunk it happens in.
+ */
+class AreaGridWakeTest {
+
+    /**
+     * <code>World</code>: The scenario world.
+     */
+    private World world;
+
+    /**
+     * <code>AreaGrid</code>: The area which the scenario player is in.
+     */
+    private AreaGrid area;
+
+    /**
+     * Puts every chunk of the scenario area to sleep. The first update without
+     * observers clears the chunks which were woken before it, after which no
+     * chunk is woken until something wakes it.
+     */
+    @BeforeEach
+    void sleep() {
+
+        world = ScenarioFixture.getWorld();
+        area = ScenarioFixture.getArea();
+
+        area.update(world.getRuntimeSeconds(), List.of(), world.getSimulationLod());
+    }
+
+    /**
+     * Retrieves an element of the scenario area which can be interacted with.
+     * 
+     * @return <code>ElementInstance</code>: The retrieved element.
+     */
+    private ElementInstance getInteractiveElement() {
+
+        return area.getAssets().filter(ElementInstance.class::isInstance).map(ElementInstance.class::cast)
+                .filter(element -> element.getInteraction() != null && !element.getInteraction().isEmpty())
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    void sleepingChunkStaysAsleep() {
+
+        EntityInstance entity = ScenarioFixture.getPlayer().getEntity();
+
+        assertFalse(area.isWoken(entity));
+        assertFalse(area.isWoken(getInteractiveElement()));
+    }
+
+    @Test
+    void inflictWakesChunk() {
+
+        EntityInstance entity = ScenarioFixture.getPlayer().getEntity();
+
+        entity.inflict(null);
+        assertTrue(area.isWoken(entity));
+    }
+
+    @Test
+    void interactionWakesChunk() {
+
+        ElementInstance element = getInteractiveElement();
+        AssetInteractionInstance interaction = element.getInteraction().getFirst();
+
+        // The interaction opens the inventory of the element, so it is made by a
+        // stand-in for the scenario player to leave the scenario interface untouched.
+        Player caller = new Player(-1, ScenarioFixture.getPlayer().getEntity());
+
+        interaction.call(element, world.getRuntimeSeconds(), caller);
+        assertTrue(area.isWoken(element));
+    }
+
+    @Test
+    void timerWakesChunkOnceDue() {
+
+        EntityInstance entity = ScenarioFixture.getPlayer().getEntity();
+
+        entity.wakeAfter(0.5);
+        world.getTimers().advance(world.getClock().millis());
+        assertFalse(area.isWoken(entity));
+
+        world.getTimers().advance(world.getClock().millis() + 1000);
+        assertTrue(area.isWoken(entity));
+    }
+}
@@ -0,0 +1,156 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.modelassets.elements.ElementInstance;
+import com.transcendruins.world.InteractionIndex.Anchor;
+
+/**
+ * Unit tests for <code>InteractionIndex</code>, which only recomputes the
+ * interaction anchors of an asset when it has changed and stamps the tiles
+ * each change touches.
+ */
+class InteractionIndexTest {
+
+    /**
+     * <code>AreaGrid</code>: The area which the scenario player is in.
+     */
+    private AreaGrid area;
+
+    /**
+     * <code>ElementInstance</code>: An element of the scenario area which can be
+     * interacted with.
+     */
+    private ElementInstance element;
+
+    /**
+     * <code>InteractionIndex</code>: An empty index the size of the scenario
+     * area.
+     */
+    private InteractionIndex index;
+
+    @BeforeEach
+    void createIndex() {
+
+        area = ScenarioFixture.getArea();
+        element = area.getAssets().filter(ElementInstance.class::isInstance).map(ElementInstance.class::cast)
+                .filter(asset -> asset.getInteraction() != null && !asset.getInteraction().isEmpty()).findFirst()
+                .orElseThrow();
+
+        index = new InteractionIndex(area.getWidth(), area.getLength());
+    }
+
+    /**
+     * Collects every anchor in the index.
+     *
+     * @return <code>ArrayList&lt;Anchor&gt;</code>: The collected anchors.
+     */
+    private ArrayList<Anchor> collectAll() {
+
+        ArrayList<Anchor> anchors = new ArrayList<>();
+        index.collect(0, 0, Math.max(index.getWidth(), index.getLength()), null, anchors);
+
+        return anchors;
+    }
+
+    @Test
+    void refreshIndexesEachInteraction() {
+
+        index.refresh(element);
+
+        ArrayList<Anchor> anchors = collectAll();
+        assertEquals(element.getInteraction().size(), anchors.size());
+        for (Anchor anchor : anchors) {
+
+            assertSame(element, anchor.asset());
+        }
+
+        assertEquals(anchors.size(), index.getClock());
+    }
+
+    @Test
+    void unchangedAssetIsNotRecomputed() {
+
+        index.refresh(element);
+        int clock = index.getClock();
+
+        index.refresh(element);
+        assertEquals(clock, index.getClock());
+        assertEquals(element.getInteraction().size(), collectAll().size());
+    }
+
+    @Test
+    void removeStampsOnlyTilesOfAnchors() {
+
+        index.refresh(element);
+        Anchor anchor = collectAll().getFirst();
+        int tileX = Math.clamp((int) Math.floor(anchor.x() / World.UNIT_TILE), 0, index.getWidth() - 1);
+        int tileZ = Math.clamp((int) Math.floor(anchor.z() / World.UNIT_TILE), 0, index.getLength() - 1);
+
+        int since = index.getClock();
+        assertFalse(index.changedSince(since, tileX, tileZ, 0));
+
+        index.remove(element);
+        assertTrue(index.changedSince(since, tileX, tileZ, 0));
+        assertTrue(collectAll().isEmpty());
+
+        // A tile away from every anchor of the element was left untouched.
+        for (int z = 0; z < index.getLength(); z++) {
+
+            for (int x = 0; x < index.getWidth(); x++) {
+
+                if (!index.changedSince(since, x, z, 0)) {
+
+                    return;
+                }
+            }
+        }
+
+        assertTrue(index.getWidth() * index.getLength() <= element.getInteraction().size());
+    }
+
+    @Test
+    void collectExcludesAsset() {
+
+        index.refresh(element);
+
+        ArrayList<Anchor> anchors = new ArrayList<>();
+        index.collect(0, 0, Math.max(index.getWidth(), index.getLength()), element, anchors);
+        assertTrue(anchors.isEmpty());
+    }
+
+    @Test
+    void areaUpdatesItsIndexIncrementally() {
+
+        InteractionIndex areaIndex = area.getInteractionIndex();
+        int clock = areaIndex.getClock();
+
+        area.updateInteraction(element);
+        assertSame(areaIndex, area.getInteractionIndex());
+        assertEquals(clock, areaIndex.getClock());
+    }
+}
@@ -0,0 +1,214 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the copy-on-write snapshots of <code>PlayerRegistry</code>.
+ */
+class PlayerRegistryTest {
+
+    /**
+     * Creates a player without an entity, which is all the registry needs.
+     * 
+     * @param playerId <code>long</code>: The ID of the player.
+     * @return <code>Player</code>: The created player.
+     */
+    private static Player createPlayer(long playerId) {
+
+        return new Player(playerId, null);
+    }
+
+    /**
+     * Collects the players of a snapshot in iteration order.
+     * 
+     * @param snapshot <code>PlayerRegistry.Snapshot</code>: The snapshot to
+     *                 iterate.
+     * @return <code>List&lt;Player&gt;</code>: The iterated players.
+     */
+    private static List<Player> iterate(PlayerRegistry.Snapshot snapshot) {
+
+        ArrayList<Player> players = new ArrayList<>();
+        for (Player player : snapshot) {
+
+            players.add(player);
+        }
+
+        return players;
+    }
+
+    @Test
+    void addAndRemoveUpdateLookups() {
+
+        PlayerRegistry registry = new PlayerRegistry();
+        Player first = createPlayer(7);
+        Player second = createPlayer(-3);
+
+        assertTrue(registry.add(7, first));
+        assertTrue(registry.add(-3, second));
+        assertFalse(registry.add(7, createPlayer(7)));
+
+        assertSame(first, registry.get(7));
+        assertSame(second, registry.get(-3));
+        assertEquals(2, registry.size());
+
+        assertSame(first, registry.remove(7));
+        assertNull(registry.remove(7));
+        assertNull(registry.get(7));
+        assertFalse(registry.contains(7));
+        assertSame(second, registry.get(-3));
+        assertEquals(1, registry.size());
+
+        // A removed ID may be added again.
+        Player returned = createPlayer(7);
+        assertTrue(registry.add(7, returned));
+        assertSame(returned, registry.get(7));
+    }
+
+    @Test
+    void snapshotsAreUnaffectedByLaterChanges() {
+
+        PlayerRegistry registry = new PlayerRegistry();
+        Player first = createPlayer(1);
+        Player second = createPlayer(2);
+        registry.add(1, first);
+        registry.add(2, second);
+
+        PlayerRegistry.Snapshot before = registry.snapshot();
+        registry.remove(1);
+        registry.add(3, createPlayer(3));
+
+        assertEquals(List.of(first, second), iterate(before));
+        assertSame(first, before.get(1));
+        assertFalse(before.contains(3));
+
+        PlayerRegistry.Snapshot after = registry.snapshot();
+        assertEquals(2, after.size());
+        assertFalse(after.contains(1));
+        assertTrue(after.contains(3));
+    }
+
+    @Test
+    void iterationKeepsOrderAcrossManyRemovals() {
+
+        PlayerRegistry registry = new PlayerRegistry();
+        HashMap<Long, Player> expected = new HashMap<>();
+        ArrayList<Player> order = new ArrayList<>();
+
+        // Widely spread and clustered IDs both collide in the open addressing table.
+        for (long i = 0; i < 1_000; i++) {
+
+            long playerId = i % 2 == 0 ? i : i << 40;
+            Player player = createPlayer(playerId);
+            registry.add(playerId, player);
+            expected.put(playerId, player);
+            order.add(player);
+        }
+
+        for (long i = 0; i < 1_000; i += 3) {
+
+            long playerId = i % 2 == 0 ? i : i << 40;
+            assertSame(expected.remove(playerId), registry.remove(playerId));
+        }
+
+        order.removeIf(player -> !expected.containsValue(player));
+        assertEquals(order, iterate(registry.snapshot()));
+
+        for (long i = 0; i < 1_000; i++) {
+
+            long playerId = i % 2 == 0 ? i : i << 40;
+            assertSame(expected.get(playerId), registry.get(playerId));
+        }
+    }
+
+    @Test
+    void readersSeeConsistentSnapshotsDuringWrites() throws InterruptedException {
+
+        PlayerRegistry registry = new PlayerRegistry();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // The players are created up front so the reader can map each back to its ID.
+        IdentityHashMap<Player, Long> playerIds = new IdentityHashMap<>();
+        Player[] created = new Player[2_000];
+        for (int i = 0; i < created.length; i++) {
+
+            created[i] = createPlayer(i);
+            playerIds.put(created[i], (long) i);
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+
+            try {
+
+                while (writing.get()) {
+
+                    PlayerRegistry.Snapshot snapshot = registry.snapshot();
+
+                    // Every iterated player can be looked up in the same snapshot.
+                    int count = 0;
+                    for (Player player : snapshot) {
+
+                        assertSame(player, snapshot.get(playerIds.get(player)));
+                        count++;
+                    }
+
+                    assertEquals(snapshot.size(), count);
+                }
+            } catch (Throwable e) {
+
+                failure.set(e);
+            }
+        }, "PlayerRegistryTest reader");
+
+        reader.start();
+
+        for (int i = 0; i < created.length; i++) {
+
+            registry.add(i, created[i]);
+            if (i % 2 == 1) {
+
+                registry.remove(i - 1);
+            }
+        }
+
+        writing.set(false);
+        reader.join(60_000);
+
+        if (failure.get() != null) {
+
+            throw new AssertionError(failure.get());
+        }
+
+        assertEquals(1_000, registry.size());
+    }
+}
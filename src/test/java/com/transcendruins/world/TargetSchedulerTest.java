@@ -0,0 +1,130 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+import com.transcendruins.assets.modelassets.entities.EntityInstance;
+
+/**
+ * Unit tests for the round-robin rotation and evaluation budget of
+ * <code>TargetScheduler</code>. The scheduler never reads the entities it
+ * rotates through, so most tests rotate through placeholder entries and only
+ * count how many are retargeted.
+ */
+class TargetSchedulerTest {
+
+    /**
+     * Runs a tick of a scheduler and counts the entities it retargets.
+     *
+     * @param scheduler <code>TargetScheduler</code>: The scheduler to run.
+     * @param size      <code>int</code>: The number of entities in the area.
+     * @return <code>int</code>: The number of retargeted entities.
+     */
+    private static int runTick(TargetScheduler scheduler, int size) {
+
+        List<EntityInstance> entities = Collections.nCopies(size, null);
+        int[] retargeted = { 0 };
+        scheduler.run(entities, _ -> true, _ -> retargeted[0]++);
+
+        return retargeted[0];
+    }
+
+    @Test
+    void smallAreaRetargetsOneBucketPerTick() {
+
+        int size = TargetScheduler.BUCKETS * 2;
+        TargetScheduler scheduler = new TargetScheduler();
+
+        int total = 0;
+        for (int tick = 0; tick < TargetScheduler.BUCKETS; tick++) {
+
+            int retargeted = runTick(scheduler, size);
+            assertEquals(2, retargeted);
+            total += retargeted;
+        }
+
+        // Every entity is retargeted once over a full rotation.
+        assertEquals(size, total);
+    }
+
+    @Test
+    void budgetDefersRemainderOfBucket() {
+
+        int size = 1_000;
+        int perTick = TargetScheduler.BUDGET_EVALUATIONS / (size - 1);
+        TargetScheduler scheduler = new TargetScheduler();
+
+        // The bucket holds more entities than the budget allows, so only as many as
+        // fit are retargeted and the rest wait for the next tick.
+        int bucket = Math.ceilDiv(size, TargetScheduler.BUCKETS);
+        if (perTick < bucket) {
+
+            assertEquals(perTick, runTick(scheduler, size));
+            assertEquals(perTick, runTick(scheduler, size));
+        } else {
+
+            assertEquals(bucket, runTick(scheduler, size));
+        }
+    }
+
+    @Test
+    void oversizedAreaStillRetargetsOneEntity() {
+
+        int size = TargetScheduler.BUDGET_EVALUATIONS * 2 + 1;
+
+        assertEquals(1, runTick(new TargetScheduler(), size));
+    }
+
+    @Test
+    void ineligibleEntitiesDoNotSpendBudget() {
+
+        TargetScheduler scheduler = new TargetScheduler();
+        int[] retargeted = { 0 };
+        scheduler.run(Collections.nCopies(1_000, null), _ -> false, _ -> retargeted[0]++);
+
+        assertEquals(0, retargeted[0]);
+    }
+
+    @Test
+    void requestsAreRetargetedFirstAndOnce() {
+
+        EntityInstance requested = ScenarioFixture.getPlayer().getEntity();
+        List<EntityInstance> entities = Collections.nCopies(TargetScheduler.BUCKETS, null);
+
+        TargetScheduler scheduler = new TargetScheduler();
+        scheduler.request(requested);
+
+        ArrayList<EntityInstance> order = new ArrayList<>();
+        scheduler.run(entities, _ -> true, order::add);
+
+        assertSame(requested, order.getFirst());
+        assertEquals(2, order.size());
+
+        // The request was consumed, so the next tick only rotates.
+        order.clear();
+        scheduler.run(entities, _ -> true, order::add);
+        assertEquals(Collections.singletonList(null), order);
+    }
+}
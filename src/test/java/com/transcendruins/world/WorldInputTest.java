@@ -0,0 +1,84 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.ScenarioFixture;
+
+/**
+ * Unit tests for the input queue of <code>World</code>, which applies the
+ * inputs made while the host is running at the start of the next tick.
+ */
+class WorldInputTest {
+
+    @Test
+    void queuedInputsApplyInOrderAtNextTick() {
+
+        World world = ScenarioFixture.getWorld();
+        world.startHost(false);
+
+        try {
+
+            // Adding the same player twice only succeeds the first time, so the results
+            // reveal the order in which the inputs were applied.
+            ArrayList<String> applied = new ArrayList<>();
+            CompletableFuture<Boolean> first = world.addPlayer(101)
+                    .whenComplete((added, _) -> applied.add("101 " + added));
+            CompletableFuture<Boolean> second = world.addPlayer(102)
+                    .whenComplete((added, _) -> applied.add("102 " + added));
+            CompletableFuture<Boolean> repeat = world.addPlayer(101)
+                    .whenComplete((added, _) -> applied.add("101 " + added));
+
+            assertFalse(first.isDone() || second.isDone() || repeat.isDone());
+            assertNull(world.playerFunction(101, player -> player));
+
+            world.step(List.of());
+
+            assertEquals(List.of("101 true", "102 true", "101 false"), applied);
+            assertTrue(world.playerFunction(101, player -> player) != null);
+        } finally {
+
+            world.endHost();
+        }
+    }
+
+    @Test
+    void endingHostRejectsQueuedAndLaterInputs() {
+
+        World world = ScenarioFixture.getWorld();
+        world.startHost(false);
+
+        CompletableFuture<Boolean> queued = world.addPlayer(103);
+        world.endHost();
+
+        assertTrue(queued.isCompletedExceptionally());
+        assertNull(world.playerFunction(103, player -> player));
+
+        CompletableFuture<Boolean> late = world.addPlayer(104);
+        assertTrue(late.isCompletedExceptionally());
+        assertNull(world.playerFunction(104, player -> player));
+    }
+}
@@ -0,0 +1,210 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.journal;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.HeadlessServer;
+import com.transcendruins.ReplayServer;
+import com.transcendruins.world.journal.InputJournal.PackHash;
+
+/**
+ * Unit tests for <code>InputJournal</code> and <code>JournalReader</code>,
+ * covering the encoding of each entry and the replay of a recorded session.
+ */
+class InputJournalTest {
+
+    /**
+     * <code>List&lt;PackHash&gt;</code>: The pack hashes written to the header of
+     * each journal.
+     */
+    private static final List<PackHash> PACKS = List.of(new PackHash("Vanilla", "0a1b"),
+            new PackHash("Example:examplePack", "2c3d"));
+
+    /**
+     * Reads every entry of a journal.
+     *
+     * @param reader <code>JournalReader</code>: The reader of the journal.
+     * @return <code>List&lt;JournalEntry&gt;</code>: The read entries.
+     * @throws IOException Thrown if the journal could not be read.
+     */
+    private static List<JournalEntry> readAll(JournalReader reader) throws IOException {
+
+        ArrayList<JournalEntry> entries = new ArrayList<>();
+        for (JournalEntry entry = reader.next(); entry != null; entry = reader.next()) {
+
+            entries.add(entry);
+        }
+
+        return entries;
+    }
+
+    @Test
+    void entriesReadBackAsWritten() throws IOException {
+
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+
+            List<JournalEntry> written = List.of(new JournalEntry.Tick(1_050),
+                    new JournalEntry.Input(InputType.ADD_PLAYER, 3, 0, 0, "Example:examplePack"),
+                    new JournalEntry.AreasApplied("location"),
+                    new JournalEntry.Input(InputType.MOUSE_POSITION, 3, -12, 400, null),
+                    new JournalEntry.Input(InputType.MOUSE_PRESS, Long.MAX_VALUE, 1, 0, null),
+                    new JournalEntry.Input(InputType.OPEN_MENU, 3, 0, 0, null), new JournalEntry.Tick(1_050),
+                    new JournalEntry.Tick(1_100), new JournalEntry.Checksum(-7L),
+                    new JournalEntry.End(2, 0x1234_5678_9ABCL, Long.MIN_VALUE));
+
+            InputJournal journal = new InputJournal(file, 42, 1_700_000_000_000L, 1_000, PACKS);
+            for (JournalEntry entry : written) {
+
+                switch (entry) {
+
+                case JournalEntry.Tick tick -> journal.tick(tick.millis());
+                case JournalEntry.AreasApplied areas -> journal.areasApplied(areas.location());
+                case JournalEntry.Input input -> journal.input(input);
+                case JournalEntry.Checksum checksum -> journal.checksum(checksum.checksum());
+                case JournalEntry.End end -> journal.end(end.ticks(), end.randomState(), end.checksum());
+                }
+            }
+
+            try (JournalReader reader = new JournalReader(file)) {
+
+                assertEquals(42, reader.getSeed());
+                assertEquals(1_700_000_000_000L, reader.getOriginEpochMillis());
+                assertEquals(1_000, reader.getStartMillis());
+                assertEquals(PACKS, reader.getPacks());
+
+                assertEquals(written, readAll(reader));
+            }
+        } finally {
+
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void closedJournalIgnoresLaterEntries() throws IOException {
+
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+
+            InputJournal journal = new InputJournal(file, 1, 0, 0, List.of());
+            journal.tick(25);
+            journal.close();
+            journal.tick(50);
+
+            try (JournalReader reader = new JournalReader(file)) {
+
+                assertEquals(List.of(new JournalEntry.Tick(25)), readAll(reader));
+                assertNull(reader.next());
+            }
+        } finally {
+
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readerRejectsOtherFiles() throws IOException {
+
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+
+            Files.writeString(file, "not a journal");
+            assertThrows(IOException.class, () -> new JournalReader(file));
+        } finally {
+
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Runs the main method of a class in a new JVM, since only one world may
+     * exist in each.
+     *
+     * @param main       <code>Class&lt;?&gt;</code>: The class to run.
+     * @param properties <code>List&lt;String&gt;</code>: The system properties to
+     *                   set, as <code>-D</code> arguments.
+     * @param args       <code>String...</code>: The arguments of the program.
+     * @return <code>String</code>: The output of the program.
+     */
+    private static String run(Class<?> main, List<String> properties, String... args)
+            throws IOException, InterruptedException {
+
+        ArrayList<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter("--enable-preview"::equals).toList());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.addAll(properties);
+        command.add(main.getName());
+        command.addAll(List.of(args));
+
+        Path output = Files.createTempFile("journal", ".log");
+        try {
+
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(120, TimeUnit.SECONDS)) {
+
+                process.destroyForcibly();
+            }
+
+            return Files.readString(output, StandardCharsets.UTF_8);
+        } finally {
+
+            Files.deleteIfExists(output);
+        }
+    }
+
+    @Test
+    void recordedSessionReplaysIdentically() throws IOException, InterruptedException {
+
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+
+            // The replay runs its locations on a single thread, so it only reproduces the
+            // session if the simulation does not depend on how the work was scheduled.
+            String recorded = run(HeadlessServer.class,
+                    List.of("-Dtranscendruins.journal=" + file, "-Dtranscendruins.headless.seed=7",
+                            "-Dtranscendruins.headless.players=4", "-Dtranscendruins.headless.seconds=3",
+                            "-Dtranscendruins.headless.actionInterval=50", "-Dtranscendruins.locationThreads=4"));
+            assertTrue(Files.size(file) > 0, recorded);
+
+            String replayed = run(ReplayServer.class, List.of("-Dtranscendruins.locationThreads=1"),
+                    file.toString());
+            assertTrue(replayed.contains("REPRODUCED"), replayed);
+        } finally {
+
+            Files.deleteIfExists(file);
+        }
+    }
+}
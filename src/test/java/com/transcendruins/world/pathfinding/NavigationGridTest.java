@@ -0,0 +1,153 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package com.transcendruins.world.pathfinding;
+
+import java.awt.Dimension;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.world.AreaGrid;
+
+/**
+ * Unit tests for the incremental cluster rebuilds of
+ * <code>NavigationGrid</code> and the flow fields cached on it.
+ */
+class NavigationGridTest {
+
+    /**
+     * <code>int</code>: The width and length of the test area, which spans three
+     * clusters along each axis.
+     */
+    private static final int SIZE = NavigationGrid.CLUSTER_SIZE * 3;
+
+    /**
+     * Toggles whether or not a tile is blocked. A tile is blocked by giving it a
+     * placeholder element, which is all the walkability of a tile reads.
+     * 
+     * @param area <code>AreaGrid</code>: The area to modify.
+     * @param x    <code>int</code>: The X coordinate of the tile.
+     * @param z    <code>int</code>: The Z coordinate of the tile.
+     */
+    private static void toggle(AreaGrid area, int x, int z) {
+
+        if (area.getTile(x, z).isWalkable()) {
+
+            area.getTile(x, z).addElement(null);
+        } else {
+
+            area.getTile(x, z).removeElement(null);
+        }
+    }
+
+    /**
+     * Asserts that a flow field agrees with a flow field toward the same goal on
+     * a grid built from scratch over the same area.
+     * 
+     * @param area  <code>AreaGrid</code>: The area of the field.
+     * @param field <code>FlowField</code>: The field to check.
+     * @param goalX <code>int</code>: The X coordinate of the goal tile.
+     * @param goalZ <code>int</code>: The Z coordinate of the goal tile.
+     */
+    private static void assertMatchesRebuilt(AreaGrid area, FlowField field, int goalX, int goalZ) {
+
+        FlowField rebuilt = new NavigationGrid(area).getFlowField(goalX, goalZ);
+        for (int z = 0; z < SIZE; z++) {
+
+            for (int x = 0; x < SIZE; x++) {
+
+                assertEquals(rebuilt.getCost(x, z), field.getCost(x, z), "(" + x + ", " + z + ")");
+            }
+        }
+    }
+
+    @Test
+    void flowFieldMatchesRebuiltGridAfterClusterChanges() {
+
+        Random random = new Random(61_402_117L);
+        AreaGrid area = new AreaGrid(new Dimension(SIZE, SIZE), null);
+        for (int i = 0; i < SIZE * SIZE / 6; i++) {
+
+            toggle(area, random.nextInt(SIZE), random.nextInt(SIZE));
+        }
+
+        int goalX = SIZE - 5;
+        int goalZ = SIZE - 5;
+        if (!area.getTile(goalX, goalZ).isWalkable()) {
+
+            toggle(area, goalX, goalZ);
+        }
+
+        NavigationGrid grid = area.getNavigation();
+        FlowField field = grid.getFlowField(goalX, goalZ);
+        assertMatchesRebuilt(area, field, goalX, goalZ);
+
+        for (int round = 0; round < 12; round++) {
+
+            // Tiles on the cluster borders change the entrances as well as the costs
+            // inside the cluster.
+            for (int i = 0; i < 6; i++) {
+
+                int x = random.nextBoolean() ? NavigationGrid.CLUSTER_SIZE * (1 + random.nextInt(2)) - random.nextInt(2)
+                        : random.nextInt(SIZE);
+                int z = random.nextInt(SIZE);
+                if (x != goalX || z != goalZ) {
+
+                    toggle(area, x, z);
+                }
+            }
+
+            // The cached field is returned again and brought up to date.
+            assertTrue(field == grid.getFlowField(goalX, goalZ));
+            assertMatchesRebuilt(area, field, goalX, goalZ);
+        }
+    }
+
+    @Test
+    void wallSeversAndRestoresFlowField() {
+
+        AreaGrid area = new AreaGrid(new Dimension(SIZE, SIZE), null);
+        NavigationGrid grid = area.getNavigation();
+
+        FlowField field = grid.getFlowField(SIZE - 1, SIZE - 1);
+        assertTrue(field.isReachable(0, 0));
+
+        // A wall along the first cluster border separates the first column of
+        // clusters from the goal.
+        int wall = NavigationGrid.CLUSTER_SIZE;
+        for (int z = 0; z < SIZE; z++) {
+
+            toggle(area, wall, z);
+        }
+
+        field = grid.getFlowField(SIZE - 1, SIZE - 1);
+        assertFalse(field.isReachable(0, 0));
+        assertTrue(field.isReachable(wall + 1, 0));
+        assertMatchesRebuilt(area, field, SIZE - 1, SIZE - 1);
+
+        // Opening a single gap in a different cluster reconnects them.
+        toggle(area, wall, SIZE / 2);
+
+        field = grid.getFlowField(SIZE - 1, SIZE - 1);
+        assertTrue(field.isReachable(0, 0));
+        assertMatchesRebuilt(area, field, SIZE - 1, SIZE - 1);
+    }
+}
@@ -0,0 +1,161 @@
+/* Copyright 2026 Evan Troxell
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.transcendruins.world.visibility;
+
+import java.awt.Dimension;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.transcendruins.world.AreaGrid;
+
+/**
+ * Unit tests for the raycasts and cached line of sight queries of
+ * <code>LineOfSight</code>.
+ */
+class LineOfSightTest {
+
+    /**
+     * Creates a blank area with a set of blocked tiles. A tile is blocked by
+     * giving it a placeholder element, which is all the occupancy bitmap reads.
+     * 
+     * @param width   <code>int</code>: The width of the area.
+     * @param length  <code>int</code>: The length of the area.
+     * @param blocked <code>int[][]</code>: The X and Z coordinates of each blocked
+     *                tile.
+     * @return <code>AreaGrid</code>: The created area.
+     */
+    private static AreaGrid createArea(int width, int length, int[]... blocked) {
+
+        AreaGrid area = new AreaGrid(new Dimension(width, length), null);
+        for (int[] tile : blocked) {
+
+            block(area, tile[0], tile[1]);
+        }
+
+        return area;
+    }
+
+    /**
+     * Blocks a single tile of an area.
+     * 
+     * @param area <code>AreaGrid</code>: The area to modify.
+     * @param x    <code>int</code>: The X coordinate of the tile.
+     * @param z    <code>int</code>: The Z coordinate of the tile.
+     */
+    private static void block(AreaGrid area, int x, int z) {
+
+        area.getTile(x, z).addElement(null);
+    }
+
+    @Test
+    void diagonalCornerChecksBothNeighbours() {
+
+        // The ray from (0, 0) to (2, 2) passes exactly through the corner at (1, 1),
+        // touching both (1, 0) and (0, 1).
+        for (int[] side : new int[][] { { 1, 0 }, { 0, 1 } }) {
+
+            LineOfSight sight = new LineOfSight(createArea(3, 3, side));
+
+            assertNotNull(sight.raycast(0.5, 0.5, 2.5, 2.5));
+            assertNotNull(sight.raycast(2.5, 2.5, 0.5, 0.5));
+            assertFalse(sight.canSee(0, 0, 0, 2, 2));
+            assertFalse(sight.canSee(1, 2, 2, 0, 0));
+        }
+
+        LineOfSight clear = new LineOfSight(createArea(3, 3, new int[] { 2, 0 }, new int[] { 0, 2 }));
+        assertNull(clear.raycast(0.5, 0.5, 2.5, 2.5));
+        assertTrue(clear.canSee(0, 0, 0, 2, 2));
+    }
+
+    @Test
+    void sightIsSymmetric() {
+
+        Random random = new Random(84_226_311L);
+        int size = 12;
+
+        for (int trial = 0; trial < 8; trial++) {
+
+            AreaGrid area = createArea(size, size);
+            for (int i = 0; i < size * size / 5; i++) {
+
+                int x = random.nextInt(size);
+                int z = random.nextInt(size);
+                if (area.getTile(x, z).isWalkable()) {
+
+                    block(area, x, z);
+                }
+            }
+
+            LineOfSight sight = new LineOfSight(area);
+            for (int from = 0; from < size * size; from++) {
+
+                for (int to = 0; to < size * size; to++) {
+
+                    int fromX = from % size, fromZ = from / size;
+                    int toX = to % size, toZ = to / size;
+
+                    boolean forward = sight.raycast(fromX + 0.5, fromZ + 0.5, toX + 0.5, toZ + 0.5) == null;
+                    boolean backward = sight.raycast(toX + 0.5, toZ + 0.5, fromX + 0.5, fromZ + 0.5) == null;
+                    assertEquals(forward, backward, "(" + fromX + ", " + fromZ + ") to (" + toX + ", " + toZ + ")");
+
+                    // Uncached queries must agree in both directions as well.
+                    assertEquals(sight.canSee(from * size * size + to, fromX, fromZ, toX, toZ),
+                            sight.canSee(-(from * size * size + to) - 1, toX, toZ, fromX, fromZ));
+                }
+            }
+        }
+    }
+
+    @Test
+    void cacheIsInvalidatedByTickAndOccupancy() {
+
+        AreaGrid area = createArea(5, 1);
+        LineOfSight sight = area.getLineOfSight();
+
+        assertTrue(sight.canSee(0, 0, 0, 4, 0));
+
+        // Blocking a tile between the two notifies the line of sight, which discards
+        // its cached results.
+        block(area, 2, 0);
+        assertTrue(sight.isOccupied(2, 0));
+        assertFalse(sight.canSee(0, 0, 0, 4, 0));
+        assertFalse(sight.canSee(0, 4, 0, 0, 0));
+
+        area.getTile(2, 0).removeElement(null);
+        assertTrue(sight.canSee(1, 4, 0, 0, 0));
+    }
+
+    @Test
+    void distantTilesDoNotShareCacheEntries() {
+
+        LineOfSight sight = new LineOfSight(createArea(4, 4));
+
+        // Adjacent tiles can always see each other.
+        assertTrue(sight.canSee(0, 1, 1, 0, 1));
+
+        // A tile 65536 rows further away runs through tiles outside of the area, so
+        // it must not reuse the entry of the adjacent tile.
+        assertFalse(sight.canSee(0, 1, 1, 0, 1 + 65_536));
+        assertFalse(sight.canSee(0, 1 + 65_536, 1, 0, 1));
+    }
+}